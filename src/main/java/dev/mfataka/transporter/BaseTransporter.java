@@ -4,7 +4,26 @@ import java.util.concurrent.TimeUnit;
 
 import org.jetbrains.annotations.NotNull;
 
+import dev.mfataka.transporter.config.CacheConfiguration;
+import dev.mfataka.transporter.config.CircuitBreakerConfiguration;
+import dev.mfataka.transporter.config.CoalescingConfiguration;
+import dev.mfataka.transporter.config.CompressionConfiguration;
+import dev.mfataka.transporter.config.ConcurrencyLimitConfiguration;
+import dev.mfataka.transporter.config.ConnectionPoolConfiguration;
+import dev.mfataka.transporter.config.DeadlineConfiguration;
+import dev.mfataka.transporter.config.DnsResolverConfiguration;
+import dev.mfataka.transporter.config.EventLoopConfiguration;
+import dev.mfataka.transporter.config.HedgingConfiguration;
+import dev.mfataka.transporter.config.Http2Configuration;
+import dev.mfataka.transporter.config.LoadBalancerConfiguration;
+import dev.mfataka.transporter.config.LoggingConfiguration;
+import dev.mfataka.transporter.config.RateLimitConfiguration;
+import dev.mfataka.transporter.config.RetryConfiguration;
+import dev.mfataka.transporter.config.SocketOptionsConfiguration;
+import dev.mfataka.transporter.config.TlsConfiguration;
 import dev.mfataka.transporter.config.TransporterConfiguration;
+import dev.mfataka.transporter.enums.HttpEngine;
+import dev.mfataka.transporter.enums.HttpProtocolMode;
 import dev.mfataka.transporter.model.TransporterClientResolver;
 import dev.mfataka.transporter.imp.TransporterBuilder;
 
@@ -96,6 +115,160 @@ public interface BaseTransporter {
      */
     BaseTransporter withLogger();
 
+    /**
+     * adds {@link  org.zalando.logbook.Logbook} as logger, sampled, narrowed by routes and written off event loops
+     *
+     * @param loggingConfiguration logging mode, sampling rate, routes, body size cap and queue capacity
+     * @return {@link  BaseTransporter} for more config set
+     */
+    BaseTransporter withLogger(@NotNull final LoggingConfiguration loggingConfiguration);
+
+    /**
+     * uses dedicated, named connection pool instead of reactor netty global one
+     *
+     * @param poolConfiguration pool settings
+     * @return {@link  BaseTransporter} for more config set
+     */
+    BaseTransporter withConnectionPool(@NotNull final ConnectionPoolConfiguration poolConfiguration);
+
+    /**
+     * runs client on dedicated event loops with chosen transport (nio, epoll, io_uring)
+     *
+     * @param eventLoopConfiguration event loop settings
+     * @return {@link  BaseTransporter} for more config set
+     */
+    BaseTransporter withEventLoop(@NotNull final EventLoopConfiguration eventLoopConfiguration);
+
+    /**
+     * sets socket options of client connections (TCP_NODELAY, SO_KEEPALIVE, TCP_FASTOPEN_CONNECT, buffer sizes)
+     *
+     * @param socketOptionsConfiguration socket options
+     * @return {@link  BaseTransporter} for more config set
+     */
+    BaseTransporter withSocketOptions(@NotNull final SocketOptionsConfiguration socketOptionsConfiguration);
+
+    /**
+     * sets http protocol of client (HTTP/1.1, h2 over tls, h2c with prior knowledge or ALPN negotiated h2 with HTTP/1.1 fallback)
+     *
+     * @param protocol http protocol mode
+     * @return {@link  BaseTransporter} for more config set
+     */
+    BaseTransporter withProtocol(@NotNull final HttpProtocolMode protocol);
+
+    /**
+     * sets http engine of client, reactor netty, jdk http client or apache http client 5
+     *
+     * @param engine http engine
+     * @return {@link  BaseTransporter} for more config set
+     */
+    BaseTransporter withEngine(@NotNull final HttpEngine engine);
+
+    /**
+     * sets HTTP/2 pool settings, max concurrent streams per connection and connection counts
+     *
+     * @param http2Configuration HTTP/2 settings
+     * @return {@link  BaseTransporter} for more config set
+     */
+    BaseTransporter withHttp2(@NotNull final Http2Configuration http2Configuration);
+
+    /**
+     * spreads requests sent to base url over multiple endpoints with round-robin, power of two choices or least latency strategy
+     *
+     * @param loadBalancerConfiguration endpoints and strategy
+     * @return {@link  BaseTransporter} for more config set
+     */
+    BaseTransporter withLoadBalancer(@NotNull final LoadBalancerConfiguration loadBalancerConfiguration);
+
+    /**
+     * sets default per request deadline (connect, tls, time to first byte and total budget) and deadline header propagation,
+     * single requests can override it with {@code withDeadline} or through reactor context
+     *
+     * @param deadlineConfiguration default deadline settings
+     * @return {@link  BaseTransporter} for more config set
+     */
+    BaseTransporter withDeadline(@NotNull final DeadlineConfiguration deadlineConfiguration);
+
+    /**
+     * guards every target host with circuit breaker, requests to host with open circuit fail fast without acquiring connection
+     *
+     * @param circuitBreakerConfiguration sliding window, thresholds and open duration
+     * @return {@link  BaseTransporter} for more config set
+     */
+    BaseTransporter withCircuitBreaker(@NotNull final CircuitBreakerConfiguration circuitBreakerConfiguration);
+
+    /**
+     * enables retries of idempotent requests with jittered exponential backoff limited by per host retry budget
+     *
+     * @param retryConfiguration retry settings
+     * @return {@link  BaseTransporter} for more config set
+     */
+    BaseTransporter withRetry(@NotNull final RetryConfiguration retryConfiguration);
+
+    /**
+     * holds requests under in-flight limit adapted from observed round-trip latency, requests over the limit wait in bounded queue or fail fast
+     *
+     * @param concurrencyLimitConfiguration limit algorithm, bounds and queue settings
+     * @return {@link  BaseTransporter} for more config set
+     */
+    BaseTransporter withConcurrencyLimit(@NotNull final ConcurrencyLimitConfiguration concurrencyLimitConfiguration);
+
+    /**
+     * limits request rate of transporter and of URL path patterns, request over the rate waits on timer within wait budget or is rejected
+     *
+     * @param rateLimitConfiguration rate, burst, wait budget and route limits
+     * @return {@link  BaseTransporter} for more config set
+     */
+    BaseTransporter withRateLimit(@NotNull final RateLimitConfiguration rateLimitConfiguration);
+
+    /**
+     * lets concurrent identical requests share one upstream exchange and its decoded result
+     *
+     * @param coalescingConfiguration coalesced methods and headers being part of request identity
+     * @return {@link  BaseTransporter} for more config set
+     */
+    BaseTransporter withCoalescing(@NotNull final CoalescingConfiguration coalescingConfiguration);
+
+    /**
+     * caches GET responses in memory following Cache-Control, Expires and validators of responses
+     *
+     * @param cacheConfiguration memory caps and default stale windows
+     * @return {@link  BaseTransporter} for more config set
+     */
+    BaseTransporter withCache(@NotNull final CacheConfiguration cacheConfiguration);
+
+    /**
+     * enables hedging of slow idempotent requests within budget of extra load
+     *
+     * @param hedgingConfiguration hedge delay, budget and hedged methods
+     * @return {@link  BaseTransporter} for more config set
+     */
+    BaseTransporter withHedging(@NotNull final HedgingConfiguration hedgingConfiguration);
+
+    /**
+     * sets response decompression independently of redirects and compression of request bodies above size threshold
+     *
+     * @param compressionConfiguration compression settings
+     * @return {@link  BaseTransporter} for more config set
+     */
+    BaseTransporter withCompression(@NotNull final CompressionConfiguration compressionConfiguration);
+
+    /**
+     * sets caching DNS resolver settings (ttl bounds, negative ttl, query timeout, static hosts, round-robin),
+     * used with {@link TransporterClientResolver#CUSTOM} resolver
+     *
+     * @param dnsResolverConfiguration resolver settings
+     * @return {@link  BaseTransporter} for more config set
+     */
+    BaseTransporter withDnsResolver(@NotNull final DnsResolverConfiguration dnsResolverConfiguration);
+
+    /**
+     * sets TLS engine settings, OpenSSL provider with JDK fallback, session cache size and timeout, session tickets and cipher order
+     *
+     * @param tlsConfiguration TLS settings
+     * @return {@link  BaseTransporter} for more config set
+     */
+    BaseTransporter withTls(@NotNull final TlsConfiguration tlsConfiguration);
+
     /**
      * will set configuration of ssl to trust all certificates
      *
@@ -9,7 +9,26 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import dev.mfataka.transporter.config.ConfigurationResolver;
+import dev.mfataka.transporter.config.CacheConfiguration;
+import dev.mfataka.transporter.config.CircuitBreakerConfiguration;
+import dev.mfataka.transporter.config.CoalescingConfiguration;
+import dev.mfataka.transporter.config.CompressionConfiguration;
+import dev.mfataka.transporter.config.ConcurrencyLimitConfiguration;
+import dev.mfataka.transporter.config.ConnectionPoolConfiguration;
+import dev.mfataka.transporter.config.DeadlineConfiguration;
+import dev.mfataka.transporter.config.DnsResolverConfiguration;
+import dev.mfataka.transporter.config.EventLoopConfiguration;
+import dev.mfataka.transporter.config.HedgingConfiguration;
+import dev.mfataka.transporter.config.Http2Configuration;
+import dev.mfataka.transporter.config.LoadBalancerConfiguration;
+import dev.mfataka.transporter.config.LoggingConfiguration;
+import dev.mfataka.transporter.config.RateLimitConfiguration;
+import dev.mfataka.transporter.config.RetryConfiguration;
+import dev.mfataka.transporter.config.SocketOptionsConfiguration;
+import dev.mfataka.transporter.config.TlsConfiguration;
 import dev.mfataka.transporter.config.TransporterConfiguration;
+import dev.mfataka.transporter.enums.HttpEngine;
+import dev.mfataka.transporter.enums.HttpProtocolMode;
 import dev.mfataka.transporter.imp.DefaultTransporterBuilder;
 import dev.mfataka.transporter.imp.TransporterBuilder;
 import dev.mfataka.transporter.model.TransporterClientResolver;
@@ -58,7 +77,7 @@ public class DefaultBaseTransporter implements BaseTransporter {
     @Override
     public BaseTransporter withTimeOut(long timeOut, @NotNull TimeUnit timeUnit) {
         this.clientConfig.setTimeoutEnabled(true);
-        this.clientConfig.setTimeout(timeUnit.toSeconds(timeOut));
+        this.clientConfig.setTimeout(timeOut);
         this.clientConfig.setTimeUnit(timeUnit);
         return this;
     }
@@ -101,6 +120,120 @@ public class DefaultBaseTransporter implements BaseTransporter {
         return this;
     }
 
+    @Override
+    public BaseTransporter withLogger(@NotNull LoggingConfiguration loggingConfiguration) {
+        this.clientConfig.setLoggerEnabled(true);
+        this.clientConfig.setLogging(loggingConfiguration);
+        return this;
+    }
+
+    @Override
+    public BaseTransporter withConnectionPool(@NotNull ConnectionPoolConfiguration poolConfiguration) {
+        this.clientConfig.setConnectionPool(poolConfiguration);
+        return this;
+    }
+
+    @Override
+    public BaseTransporter withEventLoop(@NotNull EventLoopConfiguration eventLoopConfiguration) {
+        this.clientConfig.setEventLoop(eventLoopConfiguration);
+        return this;
+    }
+
+    @Override
+    public BaseTransporter withSocketOptions(@NotNull SocketOptionsConfiguration socketOptionsConfiguration) {
+        this.clientConfig.setSocketOptions(socketOptionsConfiguration);
+        return this;
+    }
+
+    @Override
+    public BaseTransporter withProtocol(@NotNull HttpProtocolMode protocol) {
+        this.clientConfig.setProtocol(protocol);
+        return this;
+    }
+
+    @Override
+    public BaseTransporter withEngine(@NotNull HttpEngine engine) {
+        this.clientConfig.setEngine(engine);
+        return this;
+    }
+
+    @Override
+    public BaseTransporter withHttp2(@NotNull Http2Configuration http2Configuration) {
+        this.clientConfig.setHttp2(http2Configuration);
+        return this;
+    }
+
+    @Override
+    public BaseTransporter withLoadBalancer(@NotNull LoadBalancerConfiguration loadBalancerConfiguration) {
+        this.clientConfig.setLoadBalancer(loadBalancerConfiguration);
+        return this;
+    }
+
+    @Override
+    public BaseTransporter withDeadline(@NotNull DeadlineConfiguration deadlineConfiguration) {
+        this.clientConfig.setDeadline(deadlineConfiguration);
+        return this;
+    }
+
+    @Override
+    public BaseTransporter withCircuitBreaker(@NotNull CircuitBreakerConfiguration circuitBreakerConfiguration) {
+        this.clientConfig.setCircuitBreaker(circuitBreakerConfiguration);
+        return this;
+    }
+
+    @Override
+    public BaseTransporter withRetry(@NotNull RetryConfiguration retryConfiguration) {
+        this.clientConfig.setRetry(retryConfiguration);
+        return this;
+    }
+
+    @Override
+    public BaseTransporter withConcurrencyLimit(@NotNull ConcurrencyLimitConfiguration concurrencyLimitConfiguration) {
+        this.clientConfig.setConcurrencyLimit(concurrencyLimitConfiguration);
+        return this;
+    }
+
+    @Override
+    public BaseTransporter withRateLimit(@NotNull RateLimitConfiguration rateLimitConfiguration) {
+        this.clientConfig.setRateLimit(rateLimitConfiguration);
+        return this;
+    }
+
+    @Override
+    public BaseTransporter withCoalescing(@NotNull CoalescingConfiguration coalescingConfiguration) {
+        this.clientConfig.setCoalescing(coalescingConfiguration);
+        return this;
+    }
+
+    @Override
+    public BaseTransporter withCache(@NotNull CacheConfiguration cacheConfiguration) {
+        this.clientConfig.setCache(cacheConfiguration);
+        return this;
+    }
+
+    @Override
+    public BaseTransporter withHedging(@NotNull HedgingConfiguration hedgingConfiguration) {
+        this.clientConfig.setHedging(hedgingConfiguration);
+        return this;
+    }
+
+    @Override
+    public BaseTransporter withCompression(@NotNull CompressionConfiguration compressionConfiguration) {
+        this.clientConfig.setCompression(compressionConfiguration);
+        return this;
+    }
+
+    @Override
+    public BaseTransporter withDnsResolver(@NotNull DnsResolverConfiguration dnsResolverConfiguration) {
+        this.clientConfig.setDnsResolver(dnsResolverConfiguration);
+        return this;
+    }
+
+    @Override
+    public BaseTransporter withTls(@NotNull TlsConfiguration tlsConfiguration) {
+        this.clientConfig.setTls(tlsConfiguration);
+        return this;
+    }
 
     @Override
     public BaseTransporter trustAll() {
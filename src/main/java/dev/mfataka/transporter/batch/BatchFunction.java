@@ -0,0 +1,59 @@
+package dev.mfataka.transporter.batch;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.MediaType;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.imp.Transporter;
+
+/**
+ * @author HAMMA FATAKA
+ * loads many keys with one call, keys missing in result are misses, error of returned mono fails every key of batch
+ */
+@FunctionalInterface
+public interface BatchFunction<K, V> {
+
+    Mono<Map<K, BatchResult<V>>> load(@NotNull final List<K> keys);
+
+    /**
+     * batch function of call returning loaded values, each value is matched to its key by key function
+     *
+     * @param call        loads values of given keys
+     * @param keyFunction resolves key of loaded value
+     * @return batch function
+     */
+    static <K, V> BatchFunction<K, V> of(@NotNull final Function<List<K>, Flux<V>> call, @NotNull final Function<V, K> keyFunction) {
+        return keys -> call.apply(keys)
+                .filter(value -> Objects.nonNull(keyFunction.apply(value)))
+                .collectMap(keyFunction, BatchResult::value);
+    }
+
+    /**
+     * batch function posting keys as json array to batch endpoint which answers with json array of values
+     *
+     * @param transporter  transporter sending the batch call, e.g. builder::build
+     * @param url          url of batch endpoint
+     * @param responseType type of single value
+     * @param keyFunction  resolves key of loaded value
+     * @return batch function
+     */
+    static <K, V> BatchFunction<K, V> post(@NotNull final Supplier<Transporter> transporter,
+                                           @NotNull final String url,
+                                           @NotNull final Class<V> responseType,
+                                           @NotNull final Function<V, K> keyFunction) {
+        return of(keys -> transporter.get()
+                .bodyValue(keys)
+                .contentType(MediaType.APPLICATION_JSON)
+                .sendAndReceive(url, TransporterMethod.POST)
+                .fluxData(responseType), keyFunction);
+    }
+}
@@ -0,0 +1,152 @@
+package dev.mfataka.transporter.batch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.NotNull;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.config.BatchConfiguration;
+import dev.mfataka.transporter.metrics.TransporterMetrics;
+
+/**
+ * @author HAMMA FATAKA
+ * collects single key lookups into batch calls. lookups of same key within one batch share one result,
+ * key missing in batch result completes its lookups empty, error of key or of whole batch fails its lookups.
+ * lookup is sent with next batch once subscribed, cancelling lookup does not remove its key from the batch.
+ */
+@Slf4j
+public class BatchLoader<K, V> {
+    private static final String METRICS_PREFIX = "batch.";
+
+    private final BatchFunction<K, V> batchFunction;
+    private final int maxBatchSize;
+    private final Duration window;
+    private final Scheduler scheduler;
+    private final TransporterMetrics metrics;
+    private final String metricsPrefix;
+    private Map<K, Sinks.One<V>> pending = new LinkedHashMap<>();
+    private Disposable scheduledFlush;
+
+    public BatchLoader(@NotNull final BatchConfiguration config,
+                       @NotNull final BatchFunction<K, V> batchFunction,
+                       @NotNull final TransporterMetrics metrics) {
+        this(config, batchFunction, metrics, Schedulers.parallel());
+    }
+
+    public BatchLoader(@NotNull final BatchConfiguration config,
+                       @NotNull final BatchFunction<K, V> batchFunction,
+                       @NotNull final TransporterMetrics metrics,
+                       @NotNull final Scheduler scheduler) {
+        this.batchFunction = batchFunction;
+        this.maxBatchSize = Objects.isNull(config.getMaxBatchSize()) ? BatchConfiguration.DEFAULT_MAX_BATCH_SIZE : config.getMaxBatchSize();
+        this.window = Objects.isNull(config.getWindow()) ? BatchConfiguration.DEFAULT_WINDOW : config.getWindow();
+        this.scheduler = scheduler;
+        this.metrics = metrics;
+        this.metricsPrefix = METRICS_PREFIX + (Objects.isNull(config.getName()) ? BatchConfiguration.DEFAULT_NAME : config.getName()) + ".";
+        metrics.gauge(metricsPrefix + "pending", this::pendingKeys);
+    }
+
+    /**
+     * loads value of key with next batch
+     *
+     * @param key key to load
+     * @return value of key, empty when batch has no value for key
+     */
+    public Mono<V> load(@NotNull final K key) {
+        return Mono.defer(() -> enqueue(key).asMono());
+    }
+
+    /**
+     * loads values of keys, keys may end up in more than one batch when they exceed batch size
+     *
+     * @param keys keys to load
+     * @return values of loaded keys in order of keys, misses are skipped
+     */
+    public Flux<V> loadMany(@NotNull final Iterable<K> keys) {
+        return Flux.fromIterable(keys).flatMapSequential(this::load);
+    }
+
+    /**
+     * sends pending keys right away without waiting for the window to pass
+     */
+    public void flush() {
+        final Map<K, Sinks.One<V>> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            if (Objects.nonNull(scheduledFlush)) {
+                scheduledFlush.dispose();
+                scheduledFlush = null;
+            }
+        }
+        dispatch(batch);
+    }
+
+    public synchronized int pendingKeys() {
+        return pending.size();
+    }
+
+    private Sinks.One<V> enqueue(final K key) {
+        final Sinks.One<V> sink;
+        final boolean full;
+        synchronized (this) {
+            final var existing = pending.get(key);
+            if (Objects.nonNull(existing)) {
+                metrics.increment(metricsPrefix + "deduplicated");
+                return existing;
+            }
+            sink = Sinks.one();
+            pending.put(key, sink);
+            full = pending.size() >= maxBatchSize;
+            if (!full && pending.size() == 1) {
+                scheduledFlush = scheduler.schedule(this::flush, window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full) {
+            flush();
+        }
+        return sink;
+    }
+
+    private void dispatch(final Map<K, Sinks.One<V>> batch) {
+        final var keys = new ArrayList<>(batch.keySet());
+        metrics.increment(metricsPrefix + "calls");
+        metrics.add(metricsPrefix + "keys", keys.size());
+        Mono.defer(() -> batchFunction.load(keys))
+                .defaultIfEmpty(Map.of())
+                .subscribe(results -> batch.forEach((key, sink) -> complete(key, sink, results.get(key))),
+                        e -> {
+                            log.debug("batch call of [{}] keys failed, message [{}]", keys.size(), e.getMessage());
+                            metrics.increment(metricsPrefix + "failed");
+                            batch.values().forEach(sink -> sink.tryEmitError(e));
+                        });
+    }
+
+    private void complete(final K key, final Sinks.One<V> sink, final BatchResult<V> result) {
+        if (Objects.isNull(result) || (!result.isError() && Objects.isNull(result.value()))) {
+            metrics.increment(metricsPrefix + "missed");
+            sink.tryEmitEmpty();
+        } else if (result.isError()) {
+            log.debug("batch lookup of key [{}] failed, message [{}]", key, result.error().getMessage());
+            sink.tryEmitError(result.error());
+        } else {
+            sink.tryEmitValue(result.value());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.mfataka.transporter.batch;
+
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * @author HAMMA FATAKA
+ * outcome of one key of batch call, either its value or its own error, key without result is a miss
+ *
+ * @param value loaded value, null when key failed
+ * @param error error of key, null when key was loaded
+ */
+public record BatchResult<V>(@Nullable V value, @Nullable Throwable error) {
+
+    public static <V> BatchResult<V> value(@NotNull final V value) {
+        return new BatchResult<>(value, null);
+    }
+
+    public static <V> BatchResult<V> error(@NotNull final Throwable error) {
+        return new BatchResult<>(null, error);
+    }
+
+    public boolean isError() {
+        return Objects.nonNull(error);
+    }
+}
@@ -0,0 +1,123 @@
+package dev.mfataka.transporter.blocking;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.http.HttpStatus;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.config.BlockingConfiguration;
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.imp.Transporter;
+import dev.mfataka.transporter.imp.TransporterReceiver;
+import dev.mfataka.transporter.model.TransporterData;
+
+/**
+ * @author HAMMA FATAKA
+ * synchronous view of transporter for servlet stack callers. exchange stays non-blocking on event loops, only caller
+ * thread waits for the result, so a virtual caller thread parks without pinning a platform thread.
+ * calls made on event loop or other non-blocking thread are refused before request is sent.
+ */
+@Slf4j
+public class BlockingTransporter {
+    private static final Executor BOUNDED_ELASTIC = task -> Schedulers.boundedElastic().schedule(task);
+
+    private final Supplier<Transporter> transporters;
+    private final Duration timeout;
+    private final Executor executor;
+    private final boolean virtual;
+
+    public BlockingTransporter(@NotNull final BlockingConfiguration config, @NotNull final Supplier<Transporter> transporters) {
+        this.transporters = transporters;
+        this.timeout = Objects.isNull(config.getTimeout()) ? BlockingConfiguration.DEFAULT_TIMEOUT : config.getTimeout();
+        final var virtualExecutor = config.isVirtualThreads() ? virtualThreadExecutor() : null;
+        this.virtual = Objects.nonNull(virtualExecutor);
+        this.executor = virtual ? virtualExecutor : BOUNDED_ELASTIC;
+    }
+
+    /**
+     * sends request prepared on fresh transporter and waits for its result
+     *
+     * @param request      prepares and sends request, e.g. {@code t -> t.bearerAuth(token).sendAndReceive(url, GET)}
+     * @param responseType type of response body
+     * @return result of request, fail with status 504 when timeout passed
+     * @throws IllegalStateException when called on non-blocking thread
+     */
+    public <T> TransporterData<T> exchange(@NotNull final Function<Transporter, TransporterReceiver> request, @NotNull final Class<T> responseType) {
+        refuseNonBlockingThread();
+        return Mono.defer(() -> request.apply(transporters.get()).transporterData(responseType))
+                .timeout(timeout)
+                .onErrorResume(TimeoutException.class, e -> Mono.just(TransporterData.failWithStatus(
+                        "blocking call did not complete within " + timeout, HttpStatus.GATEWAY_TIMEOUT)))
+                .block();
+    }
+
+    public <T> TransporterData<T> get(@NotNull final String url, @NotNull final Class<T> responseType) {
+        return exchange(transporter -> transporter.sendAndReceive(url, TransporterMethod.GET), responseType);
+    }
+
+    public <T> TransporterData<T> send(@NotNull final String url,
+                                       @NotNull final TransporterMethod method,
+                                       @Nullable final Object body,
+                                       @NotNull final Class<T> responseType) {
+        return exchange(transporter -> {
+            if (Objects.nonNull(body)) {
+                transporter.bodyValue(body);
+            }
+            return transporter.sendAndReceive(url, method);
+        }, responseType);
+    }
+
+    /**
+     * executor for fanning out blocking calls, e.g. {@code CompletableFuture.supplyAsync(() -> blocking.get(..), blocking.executor())},
+     * every task gets its own virtual thread when available, so thousands of concurrent calls do not grow platform thread pool
+     *
+     * @return executor of blocking calls
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * @return whether tasks of {@link #executor()} run on virtual threads
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    private void refuseNonBlockingThread() {
+        if (Schedulers.isInNonBlockingThread()) {
+            throw new IllegalStateException("blocking transporter call is not supported on non-blocking thread ["
+                    + Thread.currentThread().getName() + "], use reactive transporter API instead");
+        }
+    }
+
+    /**
+     * looked up reflectively, library is compiled for java 17 where virtual threads do not exist
+     */
+    @Nullable
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("virtual threads are not available, blocking tasks run on bounded elastic scheduler, message [{}]", e.getMessage());
+            return null;
+        }
+    }
+}
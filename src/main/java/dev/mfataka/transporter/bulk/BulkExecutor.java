@@ -0,0 +1,96 @@
+package dev.mfataka.transporter.bulk;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.config.BulkConfiguration;
+import dev.mfataka.transporter.model.TransporterData;
+
+/**
+ * @author HAMMA FATAKA
+ * runs requests of bulk job with bounded concurrency, each subscription of returned flux is new job with its own progress.
+ * error of one request becomes fail result of that request, so remaining requests of job keep running.
+ */
+@Slf4j
+public class BulkExecutor {
+    private final int maxConcurrency;
+    private final int prefetch;
+    private final boolean ordered;
+
+    /**
+     * @param config             bulk configuration
+     * @param poolMaxConnections max connections of transporter pool, taken as concurrency when configuration has none
+     */
+    public BulkExecutor(@NotNull final BulkConfiguration config, @Nullable final Integer poolMaxConnections) {
+        if (Objects.nonNull(config.getMaxConcurrency())) {
+            this.maxConcurrency = config.getMaxConcurrency();
+        } else {
+            this.maxConcurrency = Objects.isNull(poolMaxConnections) ? BulkConfiguration.DEFAULT_MAX_CONCURRENCY : poolMaxConnections;
+        }
+        this.prefetch = Objects.isNull(config.getPrefetch()) ? BulkConfiguration.DEFAULT_PREFETCH : config.getPrefetch();
+        this.ordered = config.isOrdered();
+    }
+
+    /**
+     * @param requests requests of job
+     * @param exchange sends one request and receives its result
+     * @return results of requests, in order of requests when configured so, as they complete otherwise
+     */
+    public <T> Flux<BulkResult<T>> execute(@NotNull final Flux<BulkRequest> requests,
+                                           @NotNull final Function<BulkRequest, Mono<TransporterData<T>>> exchange) {
+        return Flux.defer(() -> {
+            final var job = new Job();
+            final var indexed = requests.limitRate(prefetch).index();
+            final Function<Tuple2<Long, BulkRequest>, Mono<BulkResult<T>>> send = item ->
+                    job.send(item.getT1(), item.getT2(), exchange);
+            final var results = ordered
+                    ? indexed.flatMapSequential(send, maxConcurrency, 1)
+                    : indexed.flatMap(send, maxConcurrency, 1);
+            return results.doOnComplete(() -> log.debug("bulk job finished, progress [{}]", job.progress()));
+        });
+    }
+
+    private static final class Job {
+        private final long start = System.nanoTime();
+        private final AtomicLong started = new AtomicLong();
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private <T> Mono<BulkResult<T>> send(final long index,
+                                             final BulkRequest request,
+                                             final Function<BulkRequest, Mono<TransporterData<T>>> exchange) {
+            return Mono.defer(() -> {
+                        started.incrementAndGet();
+                        inFlight.incrementAndGet();
+                        return exchange.apply(request);
+                    })
+                    .onErrorResume(e -> Mono.just(TransporterData.fail(e.getMessage(), e)))
+                    .defaultIfEmpty(TransporterData.fail("bulk request returned no result"))
+                    .map(data -> {
+                        inFlight.decrementAndGet();
+                        completed.incrementAndGet();
+                        if (!data.isOkAnd2xxStatus()) {
+                            failed.incrementAndGet();
+                        }
+                        return new BulkResult<>(index, request, data, progress());
+                    });
+        }
+
+        private BulkProgress progress() {
+            return new BulkProgress(started.get(), completed.get(), failed.get(), inFlight.get(), Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package dev.mfataka.transporter.bulk;
+
+import java.time.Duration;
+
+/**
+ * @author HAMMA FATAKA
+ * progress of bulk job at the moment one of its results was emitted
+ *
+ * @param started   requests sent so far
+ * @param completed requests completed so far, failed ones included
+ * @param failed    requests completed without ok 2xx result
+ * @param inFlight  requests sent and not completed yet
+ * @param elapsed   time since job was subscribed
+ */
+public record BulkProgress(long started, long completed, long failed, int inFlight, Duration elapsed) {
+
+    /**
+     * @return completed requests per second since job was subscribed
+     */
+    public double throughput() {
+        final var seconds = elapsed.toNanos() / 1_000_000_000D;
+        return seconds > 0 ? completed / seconds : 0;
+    }
+}
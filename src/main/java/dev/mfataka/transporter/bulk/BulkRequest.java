@@ -0,0 +1,40 @@
+package dev.mfataka.transporter.bulk;
+
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.http.MediaType;
+
+import lombok.Builder;
+
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.model.Deadline;
+
+/**
+ * @author HAMMA FATAKA
+ * descriptor of one request of bulk job, it is sent on its own transporter state, so requests never share headers or body
+ *
+ * @param url         request url, relative to base url of transporter
+ * @param method      request method
+ * @param body        request body, null for request without body
+ * @param contentType content type of body
+ * @param headers     request headers
+ * @param deadline    deadline of request, null takes transporter defaults
+ */
+@Builder(toBuilder = true)
+public record BulkRequest(@NotNull String url,
+                          @NotNull TransporterMethod method,
+                          @Nullable Object body,
+                          @Nullable MediaType contentType,
+                          @Nullable Map<String, String> headers,
+                          @Nullable Deadline deadline) {
+
+    public static BulkRequest of(@NotNull final String url, @NotNull final TransporterMethod method) {
+        return new BulkRequest(url, method, null, null, null, null);
+    }
+
+    public static BulkRequest of(@NotNull final String url, @NotNull final TransporterMethod method, @NotNull final Object body) {
+        return new BulkRequest(url, method, body, null, null, null);
+    }
+}
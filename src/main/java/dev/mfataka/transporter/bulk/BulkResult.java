@@ -0,0 +1,19 @@
+package dev.mfataka.transporter.bulk;
+
+import dev.mfataka.transporter.model.TransporterData;
+
+/**
+ * @author HAMMA FATAKA
+ * result of one request of bulk job, failure of request is kept in its data and never fails the job
+ *
+ * @param index    position of request in source of bulk job
+ * @param request  sent request
+ * @param data     result of request
+ * @param progress progress of job once this result completed
+ */
+public record BulkResult<T>(long index, BulkRequest request, TransporterData<T> data, BulkProgress progress) {
+
+    public boolean isOk() {
+        return data.isOkAnd2xxStatus();
+    }
+}
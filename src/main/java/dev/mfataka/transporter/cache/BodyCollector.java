@@ -0,0 +1,68 @@
+package dev.mfataka.transporter.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.core.io.buffer.DataBuffer;
+
+/**
+ * @author HAMMA FATAKA
+ * copies body of response passing to receiver, gives up once body exceeds limit
+ */
+final class BodyCollector {
+    private static final int INITIAL_CAPACITY = 8 * 1024;
+
+    private final long limit;
+    private final boolean direct;
+    private ByteBuffer buffer;
+    private boolean overflow;
+
+    /**
+     * @param limit          largest body worth collecting
+     * @param expectedLength Content-Length of response, negative when unknown
+     * @param direct         whether body is collected off heap
+     */
+    BodyCollector(final long limit, final long expectedLength, final boolean direct) {
+        this.limit = limit;
+        this.direct = direct;
+        this.buffer = allocate(expectedLength >= 0 ? (int) Math.min(expectedLength, limit) : INITIAL_CAPACITY);
+    }
+
+    void append(final DataBuffer dataBuffer) {
+        if (overflow || Objects.isNull(buffer)) {
+            return;
+        }
+        final var readable = dataBuffer.readableByteCount();
+        if ((long) buffer.position() + readable > limit) {
+            overflow = true;
+            buffer = null;
+            return;
+        }
+        if (buffer.remaining() < readable) {
+            final var grown = allocate((int) Math.min(limit, Math.max((long) buffer.capacity() * 2, (long) buffer.position() + readable)));
+            grown.put(buffer.flip());
+            buffer = grown;
+        }
+        dataBuffer.toByteBuffer(dataBuffer.readPosition(), buffer, buffer.position(), readable);
+        buffer.position(buffer.position() + readable);
+    }
+
+    /**
+     * body can be subscribed again after it was read, e.g. when receiver releases it, only first completion yields body
+     *
+     * @return collected body, empty when body exceeded limit or was already completed
+     */
+    Optional<ByteBuffer> complete() {
+        if (overflow || Objects.isNull(buffer)) {
+            return Optional.empty();
+        }
+        final var collected = buffer.flip();
+        buffer = null;
+        return Optional.of(collected);
+    }
+
+    private ByteBuffer allocate(final int capacity) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+}
@@ -0,0 +1,77 @@
+package dev.mfataka.transporter.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * @author HAMMA FATAKA
+ * parsed Cache-Control directives relevant for private client cache
+ *
+ * @param maxAge               max-age, null when not present
+ * @param noStore              no-store
+ * @param noCache              no-cache, stored response must be revalidated before every use
+ * @param mustRevalidate       must-revalidate, stale response must not be served
+ * @param staleWhileRevalidate stale-while-revalidate, null when not present
+ * @param staleIfError         stale-if-error, null when not present
+ */
+public record CacheDirectives(@Nullable Duration maxAge,
+                              boolean noStore,
+                              boolean noCache,
+                              boolean mustRevalidate,
+                              @Nullable Duration staleWhileRevalidate,
+                              @Nullable Duration staleIfError) {
+
+    public static final CacheDirectives NONE = new CacheDirectives(null, false, false, false, null, null);
+
+    /**
+     * @param headers request or response headers
+     * @return directives of all Cache-Control headers, {@link #NONE} when there is none
+     */
+    public static CacheDirectives of(final HttpHeaders headers) {
+        final List<String> values = headers.getOrEmpty(HttpHeaders.CACHE_CONTROL);
+        if (values.isEmpty()) {
+            return NONE;
+        }
+        Duration maxAge = null;
+        Duration staleWhileRevalidate = null;
+        Duration staleIfError = null;
+        var noStore = false;
+        var noCache = false;
+        var mustRevalidate = false;
+        for (final var value : values) {
+            for (final var directive : value.split(",")) {
+                final var separator = directive.indexOf('=');
+                final var name = (separator < 0 ? directive : directive.substring(0, separator)).trim().toLowerCase(Locale.ROOT);
+                final var argument = separator < 0 ? null : directive.substring(separator + 1).trim().replace("\"", "");
+                switch (name) {
+                    case "max-age" -> maxAge = seconds(argument);
+                    case "no-store" -> noStore = true;
+                    case "no-cache" -> noCache = true;
+                    case "must-revalidate", "proxy-revalidate" -> mustRevalidate = true;
+                    case "stale-while-revalidate" -> staleWhileRevalidate = seconds(argument);
+                    case "stale-if-error" -> staleIfError = seconds(argument);
+                    default -> {
+                    }
+                }
+            }
+        }
+        return new CacheDirectives(maxAge, noStore, noCache, mustRevalidate, staleWhileRevalidate, staleIfError);
+    }
+
+    @Nullable
+    private static Duration seconds(@Nullable final String argument) {
+        if (Objects.isNull(argument)) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(argument)));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package dev.mfataka.transporter.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * @author HAMMA FATAKA
+ * key of cached response, credentials are part of the key so callers never get response of other caller
+ *
+ * @param uri           absolute request uri
+ * @param authorization SHA-256 of Authorization header, null for anonymous request
+ */
+public record CacheKey(String uri, String authorization) {
+
+    /**
+     * @param uri           absolute request uri
+     * @param authorization Authorization header, only its hash is kept, so credentials never reach memory dump or disk tier
+     * @return key of request
+     */
+    public static CacheKey of(@NotNull final String uri, @Nullable final String authorization) {
+        return new CacheKey(uri, Objects.isNull(authorization) ? null : sha256(authorization));
+    }
+
+    /**
+     * @return stable file system friendly name of key
+     */
+    public String fileName() {
+        return sha256(uri + '\n' + authorization);
+    }
+
+    private static String sha256(final String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
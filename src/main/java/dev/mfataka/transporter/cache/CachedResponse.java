@@ -0,0 +1,202 @@
+package dev.mfataka.transporter.cache;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * @author HAMMA FATAKA
+ * stored response with its freshness, body is kept as raw bytes and decoded by every receiver on its own.
+ * body buffer lives on heap, in direct memory or in memory mapped file, depending on cache tier.
+ */
+public final class CachedResponse {
+    private static final Set<String> NOT_UPDATED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.CONTENT_ENCODING.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase()
+    );
+
+    private final int status;
+    private final HttpHeaders headers;
+    private final ByteBuffer body;
+    private final Map<String, String> vary;
+    private final long storedAt;
+    private final CacheDirectives directives;
+    private final Duration freshness;
+    private final AtomicBoolean revalidating = new AtomicBoolean();
+
+    public CachedResponse(final int status,
+                          @NotNull final HttpHeaders headers,
+                          @NotNull final ByteBuffer body,
+                          @NotNull final Map<String, String> vary,
+                          final long storedAt) {
+        this.status = status;
+        this.headers = HttpHeaders.readOnlyHttpHeaders(copy(headers));
+        this.body = body.slice().asReadOnlyBuffer();
+        this.vary = Map.copyOf(vary);
+        this.storedAt = storedAt;
+        this.directives = CacheDirectives.of(headers);
+        this.freshness = freshnessOf(headers, directives);
+    }
+
+    /**
+     * @param notModifiedHeaders headers of 304 response
+     * @param now                time of revalidation in millis
+     * @return entry with headers updated by 304 response and renewed freshness
+     */
+    public CachedResponse revalidated(@NotNull final HttpHeaders notModifiedHeaders, final long now) {
+        final var merged = copy(headers);
+        notModifiedHeaders.forEach((name, values) -> {
+            if (!NOT_UPDATED_HEADERS.contains(name.toLowerCase())) {
+                merged.put(name, new ArrayList<>(values));
+            }
+        });
+        return new CachedResponse(status, merged, body, vary, now);
+    }
+
+    /**
+     * @param storedBody same body held by another cache tier
+     * @return entry with body replaced
+     */
+    public CachedResponse withBody(@NotNull final ByteBuffer storedBody) {
+        return new CachedResponse(status, headers, storedBody, vary, storedAt);
+    }
+
+    /**
+     * @param strategies codecs of transporter
+     * @return response served from cache, body buffer wraps cached bytes without copying them to heap
+     */
+    public ClientResponse toResponse(@NotNull final ExchangeStrategies strategies) {
+        return ClientResponse.create(HttpStatusCode.valueOf(status), strategies)
+                .headers(responseHeaders -> responseHeaders.addAll(headers))
+                .body(Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body.duplicate()))))
+                .build();
+    }
+
+    public boolean isFresh(final long now) {
+        return age(now).compareTo(freshness) < 0;
+    }
+
+    /**
+     * @param window stale window measured from end of freshness
+     * @return whether entry is stale no longer than window and may be served stale at all
+     */
+    public boolean isStaleWithin(@Nullable final Duration window, final long now) {
+        return Objects.nonNull(window) && !directives.mustRevalidate() && age(now).compareTo(freshness.plus(window)) < 0;
+    }
+
+    public boolean matches(@NotNull final Map<String, String> requestVary) {
+        return vary.equals(requestVary);
+    }
+
+    /**
+     * @return estimated memory taken by entry
+     */
+    public long size() {
+        var size = (long) body.remaining();
+        for (final var header : headers.entrySet()) {
+            size += header.getKey().length() * 2L;
+            for (final var value : header.getValue()) {
+                size += value.length() * 2L;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return true when only one caller should revalidate stale entry in background
+     */
+    boolean startRevalidation() {
+        return revalidating.compareAndSet(false, true);
+    }
+
+    void finishRevalidation() {
+        revalidating.set(false);
+    }
+
+    public int status() {
+        return status;
+    }
+
+    public HttpHeaders headers() {
+        return headers;
+    }
+
+    /**
+     * @return read only view of body
+     */
+    public ByteBuffer body() {
+        return body.duplicate();
+    }
+
+    public int bodyLength() {
+        return body.remaining();
+    }
+
+    public Map<String, String> vary() {
+        return vary;
+    }
+
+    public long storedAt() {
+        return storedAt;
+    }
+
+    public CacheDirectives directives() {
+        return directives;
+    }
+
+    public Duration freshness() {
+        return freshness;
+    }
+
+    private Duration age(final long now) {
+        final var initialAge = parseAge(headers.getFirst(HttpHeaders.AGE));
+        return Duration.ofSeconds(initialAge).plusMillis(Math.max(0, now - storedAt));
+    }
+
+    private static Duration freshnessOf(final HttpHeaders headers, final CacheDirectives directives) {
+        if (directives.noCache()) {
+            return Duration.ZERO;
+        }
+        if (Objects.nonNull(directives.maxAge())) {
+            return directives.maxAge();
+        }
+        final var expires = headers.getExpires();
+        if (expires < 0) {
+            return Duration.ZERO;
+        }
+        final var date = headers.getDate();
+        return Duration.ofMillis(Math.max(0, expires - (date < 0 ? System.currentTimeMillis() : date)));
+    }
+
+    private static long parseAge(@Nullable final String age) {
+        if (Objects.isNull(age)) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Long.parseLong(age.trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static HttpHeaders copy(final HttpHeaders headers) {
+        final var copy = new HttpHeaders();
+        headers.forEach((name, values) -> copy.put(name, new ArrayList<>(values)));
+        return copy;
+    }
+}
@@ -0,0 +1,222 @@
+package dev.mfataka.transporter.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+
+import reactor.core.publisher.Mono;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.config.CacheConfiguration;
+import dev.mfataka.transporter.metrics.TransporterMetrics;
+
+/**
+ * @author HAMMA FATAKA
+ * private HTTP cache of GET responses, fresh response is served without request, stale one is revalidated
+ * with If-None-Match / If-Modified-Since, may be served stale while revalidating in background or when origin fails.
+ * successful unsafe request invalidates responses of its uri.
+ */
+@Slf4j
+public class HttpCacheFilter implements ExchangeFilterFunction {
+    private static final String METRICS_PREFIX = "cache.";
+    private static final Set<Integer> CACHEABLE_STATUSES = Set.of(200, 203, 204, 300, 301, 404, 405, 410, 414, 501);
+
+    private final ResponseCache cache;
+    private final CacheConfiguration config;
+    private final TransporterMetrics metrics;
+    private volatile ExchangeStrategies strategies = ExchangeStrategies.withDefaults();
+
+    public HttpCacheFilter(@NotNull final CacheConfiguration config, @NotNull final TransporterMetrics metrics) {
+        this.config = config;
+        this.metrics = metrics;
+        this.cache = new ResponseCache(config, metrics);
+    }
+
+    public ResponseCache getCache() {
+        return cache;
+    }
+
+    @Override
+    @NotNull
+    public Mono<ClientResponse> filter(@NotNull final ClientRequest request, @NotNull final ExchangeFunction next) {
+        if (!HttpMethod.GET.equals(request.method())) {
+            return next.exchange(request).doOnNext(response -> invalidate(request, response));
+        }
+        final var requestDirectives = CacheDirectives.of(request.headers());
+        if (requestDirectives.noStore() || isConditional(request)) {
+            return next.exchange(request);
+        }
+        return Mono.defer(() -> {
+            final var key = CacheKey.of(request.url().toString(), request.headers().getFirst(HttpHeaders.AUTHORIZATION));
+            final var cached = cache.get(key);
+            if (Objects.isNull(cached)) {
+                metrics.increment(METRICS_PREFIX + "miss");
+                return fetch(request, key, null, next);
+            }
+            if (!cached.matches(varyOf(request, cached.headers()))) {
+                metrics.increment(METRICS_PREFIX + "miss");
+                return fetch(request, key, null, next);
+            }
+            final var now = System.currentTimeMillis();
+            final var mustRevalidate = requestDirectives.noCache() || Duration.ZERO.equals(requestDirectives.maxAge());
+            if (!mustRevalidate && cached.isFresh(now)) {
+                metrics.increment(METRICS_PREFIX + "hit");
+                return Mono.just(cached.toResponse(strategies));
+            }
+            if (!mustRevalidate && !cached.directives().noCache() && cached.isStaleWithin(staleWhileRevalidate(cached), now)) {
+                metrics.increment(METRICS_PREFIX + "stale");
+                revalidateInBackground(request, key, cached, next);
+                return Mono.just(cached.toResponse(strategies));
+            }
+            return fetch(request, key, cached, next);
+        });
+    }
+
+    /**
+     * sends request, conditional one when stale entry has validators, and stores cacheable response
+     */
+    private Mono<ClientResponse> fetch(final ClientRequest request,
+                                       final CacheKey key,
+                                       @Nullable final CachedResponse stale,
+                                       final ExchangeFunction next) {
+        final var outgoing = Objects.isNull(stale) ? request : conditional(request, stale);
+        final var exchange = next.exchange(outgoing).flatMap(response -> {
+            if (Objects.nonNull(stale) && response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                final var revalidated = stale.revalidated(response.headers().asHttpHeaders(), System.currentTimeMillis());
+                cache.put(key, revalidated);
+                metrics.increment(METRICS_PREFIX + "revalidated");
+                return response.releaseBody().thenReturn(revalidated.toResponse(strategies));
+            }
+            if (Objects.nonNull(stale) && response.statusCode().is5xxServerError() && canServeStaleIfError(stale)) {
+                metrics.increment(METRICS_PREFIX + "staleIfError");
+                return response.releaseBody().thenReturn(stale.toResponse(strategies));
+            }
+            return store(request, key, response);
+        });
+        if (Objects.isNull(stale)) {
+            return exchange;
+        }
+        return exchange.onErrorResume(e -> canServeStaleIfError(stale), e -> {
+            log.debug("serving stale response of [{}], origin failed with [{}]", key.uri(), e.getMessage());
+            metrics.increment(METRICS_PREFIX + "staleIfError");
+            return Mono.just(stale.toResponse(strategies));
+        });
+    }
+
+    /**
+     * body is copied while it streams to receiver, response is stored once receiver read it completely
+     */
+    private Mono<ClientResponse> store(final ClientRequest request, final CacheKey key, final ClientResponse response) {
+        this.strategies = response.strategies();
+        final var headers = response.headers().asHttpHeaders();
+        if (!isStorable(response.statusCode().value(), headers)) {
+            return Mono.just(response);
+        }
+        final var contentLength = response.headers().contentLength().orElse(-1);
+        if (contentLength >= 0 && !cache.accepts(contentLength)) {
+            return Mono.just(response);
+        }
+        final var status = response.statusCode().value();
+        final var vary = varyOf(request, headers);
+        final var collector = new BodyCollector(cache.maxEntrySize(), contentLength, cache.collectsOffHeap(contentLength));
+        return Mono.just(response.mutate()
+                .body(body -> body
+                        .doOnNext(collector::append)
+                        .doOnComplete(() -> collector.complete()
+                                .filter(collected -> cache.accepts(collected.remaining()))
+                                .ifPresent(collected -> {
+                                    cache.put(key, new CachedResponse(status, headers, collected, vary, System.currentTimeMillis()));
+                                    metrics.increment(METRICS_PREFIX + "stored");
+                                })))
+                .build());
+    }
+
+    private void revalidateInBackground(final ClientRequest request, final CacheKey key, final CachedResponse stale, final ExchangeFunction next) {
+        if (!stale.startRevalidation()) {
+            return;
+        }
+        fetch(request, key, stale, next)
+                .flatMap(ClientResponse::releaseBody)
+                .doFinally(ignored -> stale.finishRevalidation())
+                .subscribe(null, e -> log.debug("background revalidation of [{}] failed, message [{}]", key.uri(), e.getMessage()));
+    }
+
+    private boolean isStorable(final int status, final HttpHeaders headers) {
+        if (!CACHEABLE_STATUSES.contains(status)) {
+            return false;
+        }
+        final var directives = CacheDirectives.of(headers);
+        if (directives.noStore() || headers.getVary().contains("*")) {
+            return false;
+        }
+        final var hasValidator = Objects.nonNull(headers.getETag()) || headers.getLastModified() >= 0;
+        final var hasFreshness = Objects.nonNull(directives.maxAge()) || headers.getExpires() >= 0;
+        return hasValidator || hasFreshness;
+    }
+
+    private boolean canServeStaleIfError(final CachedResponse stale) {
+        return stale.isStaleWithin(staleIfError(stale), System.currentTimeMillis());
+    }
+
+    @Nullable
+    private Duration staleWhileRevalidate(final CachedResponse cached) {
+        final var directive = cached.directives().staleWhileRevalidate();
+        return Objects.nonNull(directive) ? directive : config.getStaleWhileRevalidate();
+    }
+
+    @Nullable
+    private Duration staleIfError(final CachedResponse cached) {
+        final var directive = cached.directives().staleIfError();
+        return Objects.nonNull(directive) ? directive : config.getStaleIfError();
+    }
+
+    private ClientRequest conditional(final ClientRequest request, final CachedResponse stale) {
+        final var etag = stale.headers().getETag();
+        final var lastModified = stale.headers().getFirst(HttpHeaders.LAST_MODIFIED);
+        if (Objects.isNull(etag) && Objects.isNull(lastModified)) {
+            return request;
+        }
+        return ClientRequest.from(request)
+                .headers(headers -> {
+                    if (Objects.nonNull(etag)) {
+                        headers.setIfNoneMatch(etag);
+                    }
+                    if (Objects.nonNull(lastModified)) {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+                    }
+                })
+                .build();
+    }
+
+    private boolean isConditional(final ClientRequest request) {
+        return request.headers().containsKey(HttpHeaders.IF_NONE_MATCH) || request.headers().containsKey(HttpHeaders.IF_MODIFIED_SINCE);
+    }
+
+    private Map<String, String> varyOf(final ClientRequest request, final HttpHeaders responseHeaders) {
+        final Map<String, String> vary = new HashMap<>();
+        for (final var name : responseHeaders.getVary()) {
+            vary.put(name.toLowerCase(), String.join(",", request.headers().getOrEmpty(name)));
+        }
+        return vary;
+    }
+
+    private void invalidate(final ClientRequest request, final ClientResponse response) {
+        if (response.statusCode().value() < 400) {
+            cache.invalidate(request.url().toString());
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package dev.mfataka.transporter.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.config.OffHeapCacheConfiguration;
+import dev.mfataka.transporter.metrics.TransporterMetrics;
+
+/**
+ * @author HAMMA FATAKA
+ * cache tier holding bodies out of java heap. without directory bodies are copied to direct buffers, with directory
+ * every entry is written to its own file and its body is memory mapped. entry file is written to temporary file, forced
+ * to disk and atomically renamed, so a crash leaves either complete entry or temporary file which is dropped on rebuild.
+ */
+@Slf4j
+public class OffHeapResponseStore {
+    private static final String METRICS_PREFIX = "cache.offHeap.";
+    private static final String ENTRY_SUFFIX = ".entry";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int MAGIC = 0x54524348;
+    private static final int VERSION = 1;
+    private static final int PREAMBLE_BYTES = Integer.BYTES * 3;
+
+    private final long threshold;
+    private final long maxBytes;
+    private final long maxEntrySize;
+    @Nullable
+    private final Path directory;
+    private final TransporterMetrics metrics;
+    private final LinkedHashMap<CacheKey, CachedResponse> entries = new LinkedHashMap<>(16, 0.75F, true);
+    private long bytes;
+
+    public OffHeapResponseStore(@NotNull final OffHeapCacheConfiguration config, @NotNull final TransporterMetrics metrics) {
+        this.threshold = Objects.isNull(config.getThreshold()) ? OffHeapCacheConfiguration.DEFAULT_THRESHOLD : config.getThreshold();
+        this.maxBytes = Objects.isNull(config.getMaxBytes()) ? OffHeapCacheConfiguration.DEFAULT_MAX_BYTES : config.getMaxBytes();
+        this.maxEntrySize = Objects.isNull(config.getMaxEntrySize()) ? OffHeapCacheConfiguration.DEFAULT_MAX_ENTRY_SIZE : config.getMaxEntrySize();
+        this.directory = Objects.isNull(config.getDirectory()) ? null : Path.of(config.getDirectory());
+        this.metrics = metrics;
+        metrics.gauge(METRICS_PREFIX + "entries", this::size);
+        metrics.gauge(METRICS_PREFIX + "bytes", this::bytes);
+        if (Objects.nonNull(directory)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * @return whether body of given length belongs to this tier
+     */
+    public boolean holds(final long bodyLength) {
+        return bodyLength >= threshold;
+    }
+
+    public long maxEntrySize() {
+        return maxEntrySize;
+    }
+
+    /**
+     * @return whether stores are written to disk and should not run on event loop
+     */
+    public boolean isPersistent() {
+        return Objects.nonNull(directory);
+    }
+
+    @Nullable
+    public synchronized CachedResponse get(@NotNull final CacheKey key) {
+        return entries.get(key);
+    }
+
+    /**
+     * moves body of response out of heap and stores it
+     *
+     * @param key      cache key
+     * @param response response with body in any buffer
+     */
+    public void put(@NotNull final CacheKey key, @NotNull final CachedResponse response) {
+        final CachedResponse stored;
+        try {
+            stored = Objects.isNull(directory) ? toDirect(response) : write(key, response);
+        } catch (IOException e) {
+            log.warn("failed to store cached response of [{}] off heap, message [{}]", key.uri(), e.getMessage());
+            return;
+        }
+        synchronized (this) {
+            final var previous = entries.put(key, stored);
+            if (Objects.nonNull(previous)) {
+                bytes -= previous.size();
+            }
+            bytes += stored.size();
+            evict();
+        }
+    }
+
+    public synchronized void remove(@NotNull final CacheKey key) {
+        final var removed = entries.remove(key);
+        if (Objects.nonNull(removed)) {
+            bytes -= removed.size();
+            delete(key);
+        }
+    }
+
+    public synchronized void invalidate(@NotNull final String uri) {
+        final var iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final var entry = iterator.next();
+            if (entry.getKey().uri().equals(uri)) {
+                iterator.remove();
+                bytes -= entry.getValue().size();
+                delete(entry.getKey());
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        entries.keySet().forEach(this::delete);
+        entries.clear();
+        bytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    private void evict() {
+        final var iterator = entries.entrySet().iterator();
+        while (bytes > maxBytes && iterator.hasNext()) {
+            final var eldest = iterator.next();
+            iterator.remove();
+            bytes -= eldest.getValue().size();
+            delete(eldest.getKey());
+            metrics.increment(METRICS_PREFIX + "evicted");
+        }
+    }
+
+    private CachedResponse toDirect(final CachedResponse response) {
+        final var body = response.body();
+        if (body.isDirect()) {
+            return response;
+        }
+        final var direct = ByteBuffer.allocateDirect(body.remaining());
+        direct.put(body).flip();
+        return response.withBody(direct);
+    }
+
+    private CachedResponse write(final CacheKey key, final CachedResponse response) throws IOException {
+        final var meta = writeMeta(key, response);
+        final var file = entryFile(key);
+        final var temp = directory.resolve(key.fileName() + "." + UUID.randomUUID() + TEMP_SUFFIX);
+        try (final var channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            final var preamble = ByteBuffer.allocate(PREAMBLE_BYTES).putInt(MAGIC).putInt(VERSION).putInt(meta.length).flip();
+            writeFully(channel, preamble);
+            writeFully(channel, ByteBuffer.wrap(meta));
+            writeFully(channel, ByteBuffer.allocate(Long.BYTES).putLong(response.bodyLength()).flip());
+            writeFully(channel, response.body());
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return response.withBody(map(file, PREAMBLE_BYTES + meta.length + Long.BYTES, response.bodyLength()));
+    }
+
+    private void rebuild() {
+        try {
+            Files.createDirectories(directory);
+            final List<Path> files;
+            try (final Stream<Path> listing = Files.list(directory)) {
+                files = listing.toList();
+            }
+            files.stream()
+                    .filter(file -> file.getFileName().toString().endsWith(TEMP_SUFFIX))
+                    .forEach(this::deleteQuietly);
+            final var entryFiles = files.stream()
+                    .filter(file -> file.getFileName().toString().endsWith(ENTRY_SUFFIX))
+                    .sorted(Comparator.comparing(this::lastModified))
+                    .toList();
+            synchronized (this) {
+                for (final var file : entryFiles) {
+                    read(file).ifPresent(entry -> {
+                        entries.put(entry.getKey(), entry.getValue());
+                        bytes += entry.getValue().size();
+                    });
+                }
+                evict();
+            }
+            log.debug("off-heap cache rebuilt [{}] entries of [{}] bytes from [{}]", entries.size(), bytes, directory);
+        } catch (IOException e) {
+            log.warn("failed to rebuild off-heap cache from [{}], message [{}]", directory, e.getMessage());
+        }
+    }
+
+    private Optional<Map.Entry<CacheKey, CachedResponse>> read(final Path file) {
+        try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final var preamble = ByteBuffer.allocate(PREAMBLE_BYTES);
+            readFully(channel, preamble);
+            preamble.flip();
+            if (preamble.getInt() != MAGIC || preamble.getInt() != VERSION) {
+                throw new IOException("unknown entry format");
+            }
+            final var meta = ByteBuffer.allocate(preamble.getInt());
+            readFully(channel, meta);
+            final var length = ByteBuffer.allocate(Long.BYTES);
+            readFully(channel, length);
+            final var bodyLength = length.flip().getLong();
+            final var bodyOffset = PREAMBLE_BYTES + meta.capacity() + Long.BYTES;
+            if (channel.size() != bodyOffset + bodyLength) {
+                throw new IOException("entry is truncated");
+            }
+            final var body = channel.map(FileChannel.MapMode.READ_ONLY, bodyOffset, bodyLength);
+            return Optional.of(readMeta(meta.array(), body));
+        } catch (IOException | RuntimeException e) {
+            log.warn("dropping unreadable off-heap cache entry [{}], message [{}]", file, e.getMessage());
+            deleteQuietly(file);
+            return Optional.empty();
+        }
+    }
+
+    private byte[] writeMeta(final CacheKey key, final CachedResponse response) throws IOException {
+        final var buffer = new ByteArrayOutputStream();
+        try (final var out = new DataOutputStream(buffer)) {
+            out.writeUTF(key.uri());
+            out.writeBoolean(Objects.nonNull(key.authorization()));
+            if (Objects.nonNull(key.authorization())) {
+                out.writeUTF(key.authorization());
+            }
+            out.writeInt(response.status());
+            out.writeLong(response.storedAt());
+            out.writeInt(response.headers().size());
+            for (final var header : response.headers().entrySet()) {
+                out.writeUTF(header.getKey());
+                out.writeInt(header.getValue().size());
+                for (final var value : header.getValue()) {
+                    out.writeUTF(value);
+                }
+            }
+            out.writeInt(response.vary().size());
+            for (final var vary : response.vary().entrySet()) {
+                out.writeUTF(vary.getKey());
+                out.writeUTF(vary.getValue());
+            }
+        }
+        return buffer.toByteArray();
+    }
+
+    private Map.Entry<CacheKey, CachedResponse> readMeta(final byte[] meta, final ByteBuffer body) throws IOException {
+        try (final var in = new DataInputStream(new ByteArrayInputStream(meta))) {
+            final var uri = in.readUTF();
+            final var authorization = in.readBoolean() ? in.readUTF() : null;
+            final var status = in.readInt();
+            final var storedAt = in.readLong();
+            final var headers = new HttpHeaders();
+            final var headerCount = in.readInt();
+            for (int i = 0; i < headerCount; i++) {
+                final var name = in.readUTF();
+                final var valueCount = in.readInt();
+                for (int j = 0; j < valueCount; j++) {
+                    headers.add(name, in.readUTF());
+                }
+            }
+            final Map<String, String> vary = new HashMap<>();
+            final var varyCount = in.readInt();
+            for (int i = 0; i < varyCount; i++) {
+                vary.put(in.readUTF(), in.readUTF());
+            }
+            return Map.entry(new CacheKey(uri, authorization), new CachedResponse(status, headers, body, vary, storedAt));
+        }
+    }
+
+    private ByteBuffer map(final Path file, final long offset, final long length) throws IOException {
+        try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        }
+    }
+
+    private Path entryFile(final CacheKey key) {
+        return directory.resolve(key.fileName() + ENTRY_SUFFIX);
+    }
+
+    /**
+     * mapped body of removed entry stays readable for receivers still decoding it, mapping is released by gc
+     */
+    private void delete(final CacheKey key) {
+        if (Objects.nonNull(directory)) {
+            deleteQuietly(entryFile(key));
+        }
+    }
+
+    private void deleteQuietly(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("failed to delete off-heap cache file [{}], message [{}]", file, e.getMessage());
+        }
+    }
+
+    private long lastModified(final Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void readFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("entry is truncated");
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package dev.mfataka.transporter.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import reactor.core.scheduler.Schedulers;
+
+import dev.mfataka.transporter.config.CacheConfiguration;
+import dev.mfataka.transporter.metrics.TransporterMetrics;
+
+/**
+ * @author HAMMA FATAKA
+ * bounded in-memory store of cached responses, least recently used entries are evicted first
+ * once entry count or memory cap is exceeded. with off-heap tier large bodies are kept out of heap tier.
+ */
+public class ResponseCache {
+    private static final String METRICS_PREFIX = "cache.";
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long maxEntrySize;
+    @Nullable
+    private final OffHeapResponseStore offHeap;
+    private final TransporterMetrics metrics;
+    private final LinkedHashMap<CacheKey, CachedResponse> entries = new LinkedHashMap<>(16, 0.75F, true);
+    /**
+     * token of latest scheduled persistent write per key, removed on invalidation so that a write finishing later is discarded
+     */
+    private final Map<CacheKey, Object> pendingWrites = new ConcurrentHashMap<>();
+    private long bytes;
+
+    public ResponseCache(@NotNull final CacheConfiguration config, @NotNull final TransporterMetrics metrics) {
+        this.maxEntries = Objects.isNull(config.getMaxEntries()) ? CacheConfiguration.DEFAULT_MAX_ENTRIES : config.getMaxEntries();
+        this.maxBytes = Objects.isNull(config.getMaxBytes()) ? CacheConfiguration.DEFAULT_MAX_BYTES : config.getMaxBytes();
+        this.maxEntrySize = Objects.isNull(config.getMaxEntrySize()) ? CacheConfiguration.DEFAULT_MAX_ENTRY_SIZE : config.getMaxEntrySize();
+        this.offHeap = Objects.isNull(config.getOffHeap()) ? null : new OffHeapResponseStore(config.getOffHeap(), metrics);
+        this.metrics = metrics;
+        metrics.gauge(METRICS_PREFIX + "entries", this::size);
+        metrics.gauge(METRICS_PREFIX + "bytes", this::bytes);
+    }
+
+    /**
+     * @return largest body any tier accepts
+     */
+    public long maxEntrySize() {
+        return Objects.isNull(offHeap) ? maxEntrySize : Math.max(maxEntrySize, offHeap.maxEntrySize());
+    }
+
+    /**
+     * @param bodyLength length of body
+     * @return whether tier for body of given length accepts it
+     */
+    public boolean accepts(final long bodyLength) {
+        if (Objects.nonNull(offHeap) && offHeap.holds(bodyLength)) {
+            return bodyLength <= offHeap.maxEntrySize();
+        }
+        return bodyLength <= maxEntrySize;
+    }
+
+    /**
+     * @param bodyLength expected length of body, negative when unknown
+     * @return whether body should be collected out of heap right away
+     */
+    public boolean collectsOffHeap(final long bodyLength) {
+        return Objects.nonNull(offHeap) && (bodyLength < 0 || offHeap.holds(bodyLength));
+    }
+
+    @Nullable
+    public CachedResponse get(@NotNull final CacheKey key) {
+        synchronized (this) {
+            final var cached = entries.get(key);
+            if (Objects.nonNull(cached) || Objects.isNull(offHeap)) {
+                return cached;
+            }
+        }
+        return offHeap.get(key);
+    }
+
+    public void put(@NotNull final CacheKey key, @NotNull final CachedResponse response) {
+        if (Objects.nonNull(offHeap) && offHeap.holds(response.bodyLength())) {
+            remove(key);
+            if (offHeap.isPersistent()) {
+                final var write = new Object();
+                pendingWrites.put(key, write);
+                Schedulers.boundedElastic().schedule(() -> writeOffHeap(key, response, write));
+            } else {
+                offHeap.put(key, response);
+            }
+            return;
+        }
+        synchronized (this) {
+            final var previous = entries.put(key, response);
+            if (Objects.nonNull(previous)) {
+                bytes -= previous.size();
+            }
+            bytes += response.size();
+            final var iterator = entries.entrySet().iterator();
+            while ((entries.size() > maxEntries || bytes > maxBytes) && iterator.hasNext()) {
+                final var eldest = iterator.next();
+                iterator.remove();
+                bytes -= eldest.getValue().size();
+                metrics.increment(METRICS_PREFIX + "evicted");
+            }
+        }
+        if (Objects.nonNull(offHeap)) {
+            offHeap.remove(key);
+        }
+    }
+
+    private void writeOffHeap(final CacheKey key, final CachedResponse response, final Object write) {
+        if (pendingWrites.get(key) != write) {
+            metrics.increment(METRICS_PREFIX + "offHeap.discarded");
+            return;
+        }
+        offHeap.put(key, response);
+        if (!pendingWrites.remove(key, write)) {
+            // invalidated or replaced while being written
+            offHeap.remove(key);
+            metrics.increment(METRICS_PREFIX + "offHeap.discarded");
+        }
+    }
+
+    public void remove(@NotNull final CacheKey key) {
+        pendingWrites.remove(key);
+        synchronized (this) {
+            final var removed = entries.remove(key);
+            if (Objects.nonNull(removed)) {
+                bytes -= removed.size();
+            }
+        }
+        if (Objects.nonNull(offHeap)) {
+            offHeap.remove(key);
+        }
+    }
+
+    /**
+     * removes responses of uri stored for any caller
+     *
+     * @param uri absolute request uri
+     */
+    public void invalidate(@NotNull final String uri) {
+        pendingWrites.keySet().removeIf(key -> key.uri().equals(uri));
+        synchronized (this) {
+            final var iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                final var entry = iterator.next();
+                if (entry.getKey().uri().equals(uri)) {
+                    iterator.remove();
+                    bytes -= entry.getValue().size();
+                }
+            }
+        }
+        if (Objects.nonNull(offHeap)) {
+            offHeap.invalidate(uri);
+        }
+    }
+
+    public void clear() {
+        pendingWrites.clear();
+        synchronized (this) {
+            entries.clear();
+            bytes = 0;
+        }
+        if (Objects.nonNull(offHeap)) {
+            offHeap.clear();
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    @Nullable
+    public OffHeapResponseStore getOffHeap() {
+        return offHeap;
+    }
+}
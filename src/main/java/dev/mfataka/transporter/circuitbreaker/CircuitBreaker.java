@@ -0,0 +1,274 @@
+package dev.mfataka.transporter.circuitbreaker;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.jetbrains.annotations.NotNull;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.config.CircuitBreakerConfiguration;
+import dev.mfataka.transporter.enums.CircuitState;
+
+/**
+ * @author HAMMA FATAKA
+ * circuit breaker of one host with count based sliding window of failures and slow calls,
+ * state changes are collected under lock and handed to subscribed filters after lock is released.
+ * filters are held weakly, so transporters which are never closed do not pile up on shared breaker.
+ */
+@Slf4j
+public class CircuitBreaker {
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    private final String host;
+    private final CircuitBreakerConfiguration config;
+    private final Set<CircuitBreakerFilter> subscribers = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private final byte[] window;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    private CircuitState state = CircuitState.CLOSED;
+    private int recorded;
+    private int position;
+    private int failures;
+    private int slowCalls;
+    private long openUntil;
+    private int halfOpenPermits;
+    private int halfOpenRecorded;
+    private List<CircuitBreakerEvent> pendingEvents = new ArrayList<>();
+
+    CircuitBreaker(@NotNull final String host, @NotNull final CircuitBreakerConfiguration config) {
+        this.host = host;
+        this.config = config;
+        this.window = new byte[Math.max(1, or(config.getWindowSize(), CircuitBreakerConfiguration.DEFAULT_WINDOW_SIZE))];
+        this.minimumCalls = Math.min(window.length, or(config.getMinimumCalls(), CircuitBreakerConfiguration.DEFAULT_MINIMUM_CALLS));
+        this.failureRateThreshold = or(config.getFailureRateThreshold(), CircuitBreakerConfiguration.DEFAULT_FAILURE_RATE_THRESHOLD);
+        this.slowCallRateThreshold = or(config.getSlowCallRateThreshold(), CircuitBreakerConfiguration.DEFAULT_SLOW_CALL_RATE_THRESHOLD);
+        this.slowCallNanos = or(config.getSlowCallDuration(), CircuitBreakerConfiguration.DEFAULT_SLOW_CALL_DURATION).toNanos();
+        this.openNanos = or(config.getOpenDuration(), CircuitBreakerConfiguration.DEFAULT_OPEN_DURATION).toNanos();
+        this.halfOpenCalls = Math.max(1, or(config.getHalfOpenCalls(), CircuitBreakerConfiguration.DEFAULT_HALF_OPEN_CALLS));
+    }
+
+    /**
+     * @return host and port this circuit breaker guards
+     */
+    public String host() {
+        return host;
+    }
+
+    CircuitBreakerConfiguration config() {
+        return config;
+    }
+
+    void subscribe(@NotNull final CircuitBreakerFilter filter) {
+        subscribers.add(filter);
+    }
+
+    void unsubscribe(@NotNull final CircuitBreakerFilter filter) {
+        subscribers.remove(filter);
+    }
+
+    /**
+     * @return current state, open circuit whose open duration passed is reported as open until next call probes it
+     */
+    public synchronized CircuitState state() {
+        return state;
+    }
+
+    /**
+     * @return failure rate of sliding window in percent, -1 when less than minimum calls were recorded
+     */
+    public synchronized double failureRate() {
+        return rate(failures);
+    }
+
+    /**
+     * @return slow call rate of sliding window in percent, -1 when less than minimum calls were recorded
+     */
+    public synchronized double slowCallRate() {
+        return rate(slowCalls);
+    }
+
+    /**
+     * asks for permission to send call
+     *
+     * @return false when call has to fail fast
+     */
+    boolean tryAcquire() {
+        final boolean permitted;
+        final List<CircuitBreakerEvent> events;
+        synchronized (this) {
+            permitted = permit();
+            events = drainEvents();
+        }
+        publish(events);
+        return permitted;
+    }
+
+    /**
+     * records outcome of permitted call
+     *
+     * @param nanos   duration of call
+     * @param failure whether call failed
+     */
+    void onResult(final long nanos, final boolean failure) {
+        final List<CircuitBreakerEvent> events;
+        synchronized (this) {
+            result(nanos, failure);
+            events = drainEvents();
+        }
+        publish(events);
+    }
+
+    /**
+     * call cancelled before its outcome was known, e.g. by total deadline or as hedge loser. call running at least slow call
+     * duration is recorded as slow so hung host opens the circuit, permit of shorter call is only released
+     *
+     * @param nanos duration of call until cancellation
+     */
+    void onCancel(final long nanos) {
+        final List<CircuitBreakerEvent> events;
+        synchronized (this) {
+            if (nanos >= slowCallNanos) {
+                result(nanos, false);
+            } else if (state == CircuitState.HALF_OPEN && halfOpenPermits > halfOpenRecorded) {
+                halfOpenPermits--;
+            }
+            events = drainEvents();
+        }
+        publish(events);
+    }
+
+    private boolean permit() {
+        switch (state) {
+            case CLOSED -> {
+                return true;
+            }
+            case OPEN -> {
+                if (System.nanoTime() - openUntil < 0) {
+                    return false;
+                }
+                transition(CircuitState.HALF_OPEN);
+                halfOpenPermits = 1;
+                return true;
+            }
+            default -> {
+                if (halfOpenPermits >= halfOpenCalls) {
+                    return false;
+                }
+                halfOpenPermits++;
+                return true;
+            }
+        }
+    }
+
+    private void result(final long nanos, final boolean failure) {
+        final var outcome = (byte) ((failure ? FAILURE : 0) | (nanos >= slowCallNanos ? SLOW : 0));
+        if (state == CircuitState.HALF_OPEN) {
+            record(outcome);
+            halfOpenRecorded++;
+            if (outcome != 0) {
+                open();
+            } else if (halfOpenRecorded >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        if (state == CircuitState.OPEN) {
+            return;
+        }
+        record(outcome);
+        if (recorded < minimumCalls) {
+            return;
+        }
+        if (failureRate() >= failureRateThreshold || slowCallRate() >= slowCallRateThreshold) {
+            open();
+        }
+    }
+
+    private void record(final byte outcome) {
+        if (recorded == window.length) {
+            final var evicted = window[position];
+            failures -= evicted & FAILURE;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            recorded++;
+        }
+        window[position] = outcome;
+        failures += outcome & FAILURE;
+        slowCalls += (outcome & SLOW) >> 1;
+        position = (position + 1) % window.length;
+    }
+
+    private double rate(final int count) {
+        return recorded < minimumCalls ? -1D : count * 100D / recorded;
+    }
+
+    private void open() {
+        openUntil = System.nanoTime() + openNanos;
+        transition(CircuitState.OPEN);
+    }
+
+    private void close() {
+        recorded = 0;
+        position = 0;
+        failures = 0;
+        slowCalls = 0;
+        transition(CircuitState.CLOSED);
+    }
+
+    private void transition(final CircuitState to) {
+        final var from = state;
+        final var event = new CircuitBreakerEvent(host, from, to, failureRate(), slowCallRate(), Instant.now());
+        state = to;
+        halfOpenPermits = 0;
+        halfOpenRecorded = 0;
+        pendingEvents.add(event);
+    }
+
+    private List<CircuitBreakerEvent> drainEvents() {
+        if (pendingEvents.isEmpty()) {
+            return List.of();
+        }
+        final var events = pendingEvents;
+        pendingEvents = new ArrayList<>();
+        return events;
+    }
+
+    /**
+     * runs outside of lock, slow listener delays only call which changed the state
+     */
+    private void publish(final List<CircuitBreakerEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        final List<CircuitBreakerFilter> filters;
+        synchronized (subscribers) {
+            filters = List.copyOf(subscribers);
+        }
+        for (final var event : events) {
+            log.info("circuit breaker of [{}] changed from [{}] to [{}], failure rate [{}], slow call rate [{}]",
+                    host, event.from(), event.to(), event.failureRate(), event.slowRate());
+            filters.forEach(filter -> filter.onTransition(event));
+        }
+    }
+
+    private static <T> T or(final T value, final T fallback) {
+        return Objects.nonNull(value) ? value : fallback;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker[" + host + ", " + state() + "]";
+    }
+}
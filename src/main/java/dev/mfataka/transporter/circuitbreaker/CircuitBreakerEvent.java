@@ -0,0 +1,24 @@
+package dev.mfataka.transporter.circuitbreaker;
+
+import java.time.Instant;
+
+import dev.mfataka.transporter.enums.CircuitState;
+
+/**
+ * @author HAMMA FATAKA
+ * state transition of circuit breaker of one host
+ *
+ * @param host        host and port of circuit breaker
+ * @param from        previous state
+ * @param to          new state
+ * @param failureRate failure rate in percent at time of transition, -1 when not enough calls were recorded
+ * @param slowRate    slow call rate in percent at time of transition, -1 when not enough calls were recorded
+ * @param timestamp   time of transition
+ */
+public record CircuitBreakerEvent(String host,
+                                  CircuitState from,
+                                  CircuitState to,
+                                  double failureRate,
+                                  double slowRate,
+                                  Instant timestamp) {
+}
@@ -0,0 +1,114 @@
+package dev.mfataka.transporter.circuitbreaker;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import reactor.core.publisher.Mono;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.config.CircuitBreakerConfiguration;
+import dev.mfataka.transporter.exceptions.CircuitBreakerOpenException;
+import dev.mfataka.transporter.metrics.TransporterMetrics;
+import dev.mfataka.transporter.utils.UrlUtils;
+
+/**
+ * @author HAMMA FATAKA
+ * guards every target host with its own {@link CircuitBreaker}, request to host with open circuit fails with
+ * {@link CircuitBreakerOpenException} before connection is acquired. breakers come from {@link CircuitBreakerRegistry},
+ * so all transporters with the same breaker name share the state of a host.
+ */
+@Slf4j
+public class CircuitBreakerFilter implements ExchangeFilterFunction {
+    private static final String METRICS_PREFIX = "cb.";
+
+    private final CircuitBreakerConfiguration config;
+    private final TransporterMetrics metrics;
+    private final Consumer<CircuitBreakerEvent> listener;
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    public CircuitBreakerFilter(@NotNull final CircuitBreakerConfiguration config,
+                                @NotNull final TransporterMetrics metrics,
+                                @NotNull final Consumer<CircuitBreakerEvent> listener) {
+        this.config = config;
+        this.metrics = metrics;
+        this.listener = listener;
+    }
+
+    /**
+     * @return circuit breakers of hosts requests were sent to so far
+     */
+    public Collection<CircuitBreaker> getCircuitBreakers() {
+        return circuitBreakers.values();
+    }
+
+    /**
+     * stops receiving state changes of shared breakers, filter subscribes again when it is used later
+     */
+    public void close() {
+        circuitBreakers.values().forEach(circuitBreaker -> circuitBreaker.unsubscribe(this));
+        circuitBreakers.clear();
+    }
+
+    @Override
+    @NotNull
+    public Mono<ClientResponse> filter(@NotNull final ClientRequest request, @NotNull final ExchangeFunction next) {
+        return Mono.defer(() -> {
+            final var circuitBreaker = circuitBreakers.computeIfAbsent(UrlUtils.hostOf(request.url()), this::create);
+            if (!circuitBreaker.tryAcquire()) {
+                metrics.increment(METRICS_PREFIX + circuitBreaker.host() + ".rejected");
+                return Mono.error(new CircuitBreakerOpenException(circuitBreaker.host()));
+            }
+            final var start = System.nanoTime();
+            final var done = new AtomicBoolean();
+            return next.exchange(request)
+                    .doOnNext(response -> {
+                        if (done.compareAndSet(false, true)) {
+                            circuitBreaker.onResult(System.nanoTime() - start, isFailure(response));
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (done.compareAndSet(false, true)) {
+                            circuitBreaker.onResult(System.nanoTime() - start, true);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (done.compareAndSet(false, true)) {
+                            circuitBreaker.onCancel(System.nanoTime() - start);
+                        }
+                    });
+        });
+    }
+
+    void onTransition(@NotNull final CircuitBreakerEvent event) {
+        metrics.increment(METRICS_PREFIX + event.host() + ".transition." + event.to().name().toLowerCase());
+        try {
+            listener.accept(event);
+        } catch (RuntimeException e) {
+            log.warn("circuit breaker listener failed, message [{}]", e.getMessage());
+        }
+    }
+
+    private CircuitBreaker create(final String host) {
+        final var circuitBreaker = CircuitBreakerRegistry.get(config, host);
+        circuitBreaker.subscribe(this);
+        metrics.gauge(METRICS_PREFIX + host + ".state", () -> circuitBreaker.state().ordinal());
+        metrics.gauge(METRICS_PREFIX + host + ".failureRate", circuitBreaker::failureRate);
+        metrics.gauge(METRICS_PREFIX + host + ".slowCallRate", circuitBreaker::slowCallRate);
+        return circuitBreaker;
+    }
+
+    private boolean isFailure(final ClientResponse response) {
+        return Objects.nonNull(config.getFailureStatuses()) && config.getFailureStatuses().contains(response.statusCode().value());
+    }
+}
@@ -0,0 +1,57 @@
+package dev.mfataka.transporter.circuitbreaker;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.NotNull;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.config.CircuitBreakerConfiguration;
+
+/**
+ * @author HAMMA FATAKA
+ * process wide registry of {@link CircuitBreaker}s keyed by breaker name and host, transporters asking for the same name
+ * share state of a host however often they are built. breakers live as long as the process unless removed by name.
+ */
+@Slf4j
+@UtilityClass
+public class CircuitBreakerRegistry {
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    /**
+     * returns breaker of host registered under name of given configuration, creating it when it does not exist yet
+     *
+     * @param config breaker configuration
+     * @param host   host and port
+     * @return shared {@link CircuitBreaker}
+     */
+    public CircuitBreaker get(@NotNull final CircuitBreakerConfiguration config, @NotNull final String host) {
+        final var name = nameOf(config);
+        final var circuitBreaker = circuitBreakers.computeIfAbsent(key(name, host), ignored -> new CircuitBreaker(host, config));
+        if (!circuitBreaker.config().equals(config)) {
+            log.warn("circuit breaker [{}] of [{}] already exists with different configuration, existing one is reused", name, host);
+        }
+        return circuitBreaker;
+    }
+
+    /**
+     * forgets breakers registered under name, next request starts with closed circuit
+     *
+     * @param name breaker name
+     */
+    public void remove(@NotNull final String name) {
+        final var prefix = key(name, "");
+        circuitBreakers.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private String nameOf(final CircuitBreakerConfiguration config) {
+        return Objects.isNull(config.getName()) ? CircuitBreakerConfiguration.DEFAULT_NAME : config.getName();
+    }
+
+    private String key(final String name, final String host) {
+        return name + "|" + host;
+    }
+}
@@ -0,0 +1,16 @@
+package dev.mfataka.transporter.coalescing;
+
+import java.util.Map;
+
+import dev.mfataka.transporter.enums.TransporterMethod;
+
+/**
+ * @author HAMMA FATAKA
+ * identity of coalesced request
+ *
+ * @param method  request method
+ * @param url     request url as given to transporter, relative to base url
+ * @param headers values of headers selected by {@link dev.mfataka.transporter.config.CoalescingConfiguration#getHeaders()}
+ */
+public record CoalescingKey(TransporterMethod method, String url, Map<String, String> headers) {
+}
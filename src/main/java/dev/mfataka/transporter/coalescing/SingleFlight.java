@@ -0,0 +1,101 @@
+package dev.mfataka.transporter.coalescing;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import reactor.core.publisher.Mono;
+
+import dev.mfataka.transporter.config.CoalescingConfiguration;
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.metrics.TransporterMetrics;
+
+/**
+ * @author HAMMA FATAKA
+ * shares one in-flight call among concurrent subscribers with same key. result is multicast to every subscriber,
+ * subscriber cancelling stops only its own subscription, call is cancelled once no subscriber is left.
+ * finished call is forgotten right away, so only calls overlapping in time are coalesced.
+ */
+public class SingleFlight {
+    private static final String METRICS_PREFIX = "coalescing.";
+
+    private final CoalescingConfiguration config;
+    private final Function<CoalescingKey, Object> keyFunction;
+    private final TransporterMetrics metrics;
+    private final Map<Object, Mono<?>> calls = new ConcurrentHashMap<>();
+
+    public SingleFlight(@NotNull final CoalescingConfiguration config,
+                        @NotNull final Function<CoalescingKey, Object> keyFunction,
+                        @NotNull final TransporterMetrics metrics) {
+        this.config = config;
+        this.keyFunction = keyFunction;
+        this.metrics = metrics;
+        metrics.gauge(METRICS_PREFIX + "inFlight", calls::size);
+    }
+
+    /**
+     * resolves key of request
+     *
+     * @param method  request method
+     * @param url     request url
+     * @param headers request headers, only selected ones are part of the key
+     * @return key of request, null when request is not coalesced
+     */
+    @Nullable
+    public Object keyOf(@NotNull final TransporterMethod method, @NotNull final String url, @NotNull final Map<String, String> headers) {
+        if (Objects.isNull(config.getMethods()) || !config.getMethods().contains(method)) {
+            return null;
+        }
+        final Map<String, String> selected = new TreeMap<>();
+        if (Objects.nonNull(config.getHeaders())) {
+            headers.forEach((name, value) -> {
+                if (config.getHeaders().stream().anyMatch(name::equalsIgnoreCase)) {
+                    selected.put(name.toLowerCase(), value);
+                }
+            });
+        }
+        return keyFunction.apply(new CoalescingKey(method, url, selected));
+    }
+
+    /**
+     * joins call in flight under given key or starts new one
+     *
+     * @param key  call key
+     * @param call supplier of call, invoked only when no call with same key is in flight
+     * @return shared result of call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(@NotNull final Object key, @NotNull final Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            final var joined = new AtomicBoolean(true);
+            final var shared = calls.computeIfAbsent(key, ignored -> {
+                joined.set(false);
+                return share(key, call.get());
+            });
+            metrics.increment(METRICS_PREFIX + (joined.get() ? "joined" : "executed"));
+            return (Mono<T>) shared;
+        });
+    }
+
+    private <T> Mono<T> share(final Object key, final Mono<T> call) {
+        final var self = new AtomicReference<Mono<T>>();
+        // forgotten before result reaches subscribers, so a caller seeing the result never joins the finished call
+        final var shared = call
+                .doOnTerminate(() -> calls.remove(key, self.get()))
+                .doOnCancel(() -> calls.remove(key, self.get()))
+                .flux()
+                .replay(1)
+                .refCount()
+                .singleOrEmpty();
+        self.set(shared);
+        return shared;
+    }
+}
@@ -35,6 +35,8 @@ import lombok.SneakyThrows;
  */
 public class JaxbEncoder implements Encoder<Object> {
     private final JaxbContextRegistrar contextRegistrar = new JaxbContextRegistrar();
+    private final WebServiceMessageFactory messageFactory = new DefaultStrategiesHelper(WebServiceTemplate.class)
+            .getDefaultStrategy(WebServiceMessageFactory.class);
 
     @Override
     public boolean canEncode(final @NotNull ResolvableType elementType,
@@ -65,35 +67,33 @@ public class JaxbEncoder implements Encoder<Object> {
                                             final Map<String, Object> hints) {
         return Flux.from(inputStream)
                 .take(1)
-                .concatMap(value -> encode(value, bufferFactory))
+                .concatMap(value -> Mono.fromCallable(() -> encodeValue(value, bufferFactory, elementType, mimeType, hints)))
                 .doOnDiscard(PooledDataBuffer.class, PooledDataBuffer::release);
     }
 
     @Override
-    public @NotNull List<MimeType> getEncodableMimeTypes() {
-        return Collections.singletonList(MimeTypeUtils.TEXT_XML);
-    }
-
-
-    private Flux<DataBuffer> encode(final Object value,
-                                    final DataBufferFactory bufferFactory) {
-
+    @SneakyThrows
+    public @NotNull DataBuffer encodeValue(final @NotNull Object value,
+                                           final @NotNull DataBufferFactory bufferFactory,
+                                           final @NotNull ResolvableType valueType,
+                                           final MimeType mimeType,
+                                           final Map<String, Object> hints) {
         final var buffer = bufferFactory.allocateBuffer();
-        return Mono.fromCallable(() -> {
-                    final var outputStream = buffer.asOutputStream();
-                    final var clazz = ClassUtils.getUserClass(value);
-                    final var marshaller = initMarshaller(clazz);
-
-                    final var helper = new DefaultStrategiesHelper(WebServiceTemplate.class);
-                    final var messageFactory = helper.getDefaultStrategy(WebServiceMessageFactory.class);
-                    final var message = messageFactory.createWebServiceMessage();
+        try {
+            final var marshaller = initMarshaller(ClassUtils.getUserClass(value));
+            final var message = messageFactory.createWebServiceMessage();
+            marshaller.marshal(value, message.getPayloadResult());
+            message.writeTo(buffer.asOutputStream());
+            return buffer;
+        } catch (Exception e) {
+            DataBufferUtils.release(buffer);
+            throw e;
+        }
+    }
 
-                    marshaller.marshal(value, message.getPayloadResult());
-                    message.writeTo(outputStream);
-                    return buffer;
-                })
-                .doOnError(throwable -> DataBufferUtils.release(buffer))
-                .flux();
+    @Override
+    public @NotNull List<MimeType> getEncodableMimeTypes() {
+        return Collections.singletonList(MimeTypeUtils.TEXT_XML);
     }
 
 
@@ -0,0 +1,78 @@
+package dev.mfataka.transporter.codec;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+
+/**
+ * @author HAMMA FATAKA
+ * json encoder writing single value straight into buffer of connection allocator, default encoder serializes into
+ * byte array first and copies it into buffer. content length is taken from that one buffer by message writer.
+ * values with json view, filters or non UTF-8 encoding are left to default encoder.
+ */
+public class PooledJackson2JsonEncoder extends Jackson2JsonEncoder {
+
+    public PooledJackson2JsonEncoder() {
+        super();
+    }
+
+    public PooledJackson2JsonEncoder(@NotNull final ObjectMapper mapper) {
+        super(mapper);
+    }
+
+    @Override
+    public @NotNull DataBuffer encodeValue(@NotNull final Object value,
+                                           @NotNull final DataBufferFactory bufferFactory,
+                                           @NotNull final ResolvableType valueType,
+                                           @Nullable final MimeType mimeType,
+                                           @Nullable final Map<String, Object> hints) {
+        final var mapper = selectObjectMapper(valueType, mimeType);
+        if (Objects.isNull(mapper)
+                || value instanceof MappingJacksonValue
+                || (Objects.nonNull(hints) && hints.containsKey(JSON_VIEW_HINT))
+                || getJsonEncoding(mimeType) != JsonEncoding.UTF8) {
+            return super.encodeValue(value, bufferFactory, valueType, mimeType, hints);
+        }
+        var writer = mapper.writer();
+        final var javaType = getJavaType(valueType.getType(), null);
+        if (valueType.resolve() != Object.class && javaType.isContainerType()) {
+            writer = writer.forType(javaType);
+        }
+        writer = customizeWriter(writer, mimeType, valueType, hints);
+
+        final var buffer = bufferFactory.allocateBuffer(bufferFactory.isDirect() ? 1024 : 256);
+        var release = true;
+        try {
+            writer.writeValue(buffer.asOutputStream(), value);
+            release = false;
+            return buffer;
+        } catch (InvalidDefinitionException e) {
+            throw new CodecException("Type definition error: " + e.getType(), e);
+        } catch (JsonProcessingException e) {
+            throw new EncodingException("JSON encoding error: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unexpected I/O error while writing to data buffer", e);
+        } finally {
+            if (release) {
+                DataBufferUtils.release(buffer);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package dev.mfataka.transporter.config;
+
+import java.time.Duration;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author HAMMA FATAKA
+ * batching of single key lookups, keys requested within {@link #window} are collected and loaded with one batch call,
+ * batch is sent earlier once it holds {@link #maxBatchSize} distinct keys.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchConfiguration {
+    public static final String DEFAULT_NAME = "default";
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    public static final Duration DEFAULT_WINDOW = Duration.ofMillis(5);
+
+    /**
+     * name of loader used in its metrics, e.g. batch.items.calls
+     */
+    @Builder.Default
+    private String name = DEFAULT_NAME;
+    @Builder.Default
+    private Integer maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+    /**
+     * how long first key of batch waits for other keys
+     */
+    @Builder.Default
+    private Duration window = DEFAULT_WINDOW;
+}
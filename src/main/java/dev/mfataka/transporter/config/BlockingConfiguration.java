@@ -0,0 +1,31 @@
+package dev.mfataka.transporter.config;
+
+import java.time.Duration;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author HAMMA FATAKA
+ * blocking facade for callers on servlet stack, every call waits at most {@link #timeout} and is refused on event loop threads.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlockingConfiguration {
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * longest time one call blocks its caller, request is cancelled once it passes
+     */
+    @Builder.Default
+    private Duration timeout = DEFAULT_TIMEOUT;
+    /**
+     * runs tasks of facade executor on virtual threads when runtime supports them (java 21+), on bounded elastic scheduler otherwise
+     */
+    @Builder.Default
+    private boolean virtualThreads = true;
+}
@@ -0,0 +1,35 @@
+package dev.mfataka.transporter.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author HAMMA FATAKA
+ * bulk execution of many requests, at most {@link #maxConcurrency} requests are in flight at once.
+ * without explicit concurrency, max connections of transporter pool is used, so bulk job never queues on the pool.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkConfiguration {
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+    public static final int DEFAULT_PREFETCH = 32;
+
+    /**
+     * requests in flight at once, null takes max connections of pool or {@link #DEFAULT_MAX_CONCURRENCY}
+     */
+    private Integer maxConcurrency;
+    /**
+     * requests taken from source ahead of sending them
+     */
+    @Builder.Default
+    private Integer prefetch = DEFAULT_PREFETCH;
+    /**
+     * results are emitted in order of requests when true, as they complete otherwise
+     */
+    @Builder.Default
+    private boolean ordered = false;
+}
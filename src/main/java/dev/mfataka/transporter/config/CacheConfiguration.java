@@ -0,0 +1,48 @@
+package dev.mfataka.transporter.config;
+
+import java.time.Duration;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author HAMMA FATAKA
+ * private in-memory HTTP cache of GET responses following Cache-Control, Expires and validators of responses,
+ * entries are evicted least recently used first once entry count or memory cap is reached.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheConfiguration {
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+    public static final long DEFAULT_MAX_ENTRY_SIZE = 1024L * 1024;
+
+    @Builder.Default
+    private Integer maxEntries = DEFAULT_MAX_ENTRIES;
+    /**
+     * memory cap of all cached bodies and headers
+     */
+    @Builder.Default
+    private Long maxBytes = DEFAULT_MAX_BYTES;
+    /**
+     * larger responses are passed through without caching
+     */
+    @Builder.Default
+    private Long maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
+    /**
+     * stale window used when response has no stale-while-revalidate directive, null serves nothing stale by default
+     */
+    private Duration staleWhileRevalidate;
+    /**
+     * stale window used when response has no stale-if-error directive, null serves nothing stale by default
+     */
+    private Duration staleIfError;
+    /**
+     * off-heap tier for large bodies, null keeps every entry on heap
+     */
+    private OffHeapCacheConfiguration offHeap;
+}
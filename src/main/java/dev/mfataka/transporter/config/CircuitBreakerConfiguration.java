@@ -0,0 +1,75 @@
+package dev.mfataka.transporter.config;
+
+import java.time.Duration;
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author HAMMA FATAKA
+ * per host circuit breaker, opens when failure rate or slow call rate of sliding window reaches its threshold.
+ * breakers are kept process wide by {@link #name} and host, see {@link dev.mfataka.transporter.circuitbreaker.CircuitBreakerRegistry}
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CircuitBreakerConfiguration {
+    public static final String DEFAULT_NAME = "transporter";
+    public static final int DEFAULT_WINDOW_SIZE = 100;
+    public static final int DEFAULT_MINIMUM_CALLS = 20;
+    public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 50D;
+    public static final double DEFAULT_SLOW_CALL_RATE_THRESHOLD = 100D;
+    public static final Duration DEFAULT_SLOW_CALL_DURATION = Duration.ofSeconds(5);
+    public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+    public static final int DEFAULT_HALF_OPEN_CALLS = 5;
+
+    /**
+     * transporters with the same name share breaker of each host
+     */
+    @Builder.Default
+    private String name = DEFAULT_NAME;
+    /**
+     * number of last calls failure and slow call rates are computed from
+     */
+    @Builder.Default
+    private Integer windowSize = DEFAULT_WINDOW_SIZE;
+    /**
+     * calls recorded before rates are evaluated
+     */
+    @Builder.Default
+    private Integer minimumCalls = DEFAULT_MINIMUM_CALLS;
+    /**
+     * failure rate in percent opening circuit
+     */
+    @Builder.Default
+    private Double failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+    /**
+     * slow call rate in percent opening circuit
+     */
+    @Builder.Default
+    private Double slowCallRateThreshold = DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+    /**
+     * call taking longer until response headers is counted as slow
+     */
+    @Builder.Default
+    private Duration slowCallDuration = DEFAULT_SLOW_CALL_DURATION;
+    /**
+     * time circuit stays open before probing calls are let through
+     */
+    @Builder.Default
+    private Duration openDuration = DEFAULT_OPEN_DURATION;
+    /**
+     * probing calls in half open state
+     */
+    @Builder.Default
+    private Integer halfOpenCalls = DEFAULT_HALF_OPEN_CALLS;
+    /**
+     * response statuses counted as failures besides errors
+     */
+    @Builder.Default
+    private Set<Integer> failureStatuses = Set.of(500, 502, 503, 504);
+}
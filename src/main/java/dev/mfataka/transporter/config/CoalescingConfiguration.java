@@ -0,0 +1,36 @@
+package dev.mfataka.transporter.config;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.http.HttpHeaders;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import dev.mfataka.transporter.enums.TransporterMethod;
+
+/**
+ * @author HAMMA FATAKA
+ * single flight coalescing, concurrent identical requests share one upstream exchange and its decoded result.
+ * requests are identical when method, url and values of selected headers are equal.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoalescingConfiguration {
+
+    /**
+     * methods of requests which are coalesced, requests with body are never coalesced
+     */
+    @Builder.Default
+    private Set<TransporterMethod> methods = new HashSet<>(Set.of(TransporterMethod.GET));
+    /**
+     * headers which are part of request identity, credentials are included so callers never share response of other caller
+     */
+    @Builder.Default
+    private Set<String> headers = new HashSet<>(Set.of(HttpHeaders.AUTHORIZATION, HttpHeaders.ACCEPT));
+}
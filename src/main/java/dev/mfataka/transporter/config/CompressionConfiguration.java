@@ -0,0 +1,37 @@
+package dev.mfataka.transporter.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import dev.mfataka.transporter.enums.CompressionAlgorithm;
+
+/**
+ * @author HAMMA FATAKA
+ * compression of responses and request bodies
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompressionConfiguration {
+    public static final int DEFAULT_REQUEST_THRESHOLD = 2048;
+
+    /**
+     * advertises Accept-Encoding (gzip, deflate and br/zstd when their codecs are on classpath) and decompresses responses,
+     * null keeps old behaviour where it is enabled together with following redirects
+     */
+    private Boolean responseDecompression;
+    /**
+     * compresses request bodies bigger than {@link #requestThreshold}
+     */
+    private boolean requestCompression;
+    /**
+     * minimal body size in bytes to be compressed, smaller bodies are sent as they are
+     */
+    @Builder.Default
+    private Integer requestThreshold = DEFAULT_REQUEST_THRESHOLD;
+    @Builder.Default
+    private CompressionAlgorithm requestAlgorithm = CompressionAlgorithm.GZIP;
+}
@@ -0,0 +1,54 @@
+package dev.mfataka.transporter.config;
+
+import java.time.Duration;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import dev.mfataka.transporter.enums.LimitAlgorithm;
+
+/**
+ * @author HAMMA FATAKA
+ * adaptive limit of requests in flight of one transporter, requests over limit wait in bounded queue or are rejected
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConcurrencyLimitConfiguration {
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+    public static final int DEFAULT_MIN_LIMIT = 1;
+    public static final int DEFAULT_MAX_LIMIT = 200;
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9D;
+    public static final Duration DEFAULT_LATENCY_THRESHOLD = Duration.ofSeconds(2);
+
+    @Builder.Default
+    private LimitAlgorithm algorithm = LimitAlgorithm.GRADIENT;
+    @Builder.Default
+    private Integer initialLimit = DEFAULT_INITIAL_LIMIT;
+    @Builder.Default
+    private Integer minLimit = DEFAULT_MIN_LIMIT;
+    @Builder.Default
+    private Integer maxLimit = DEFAULT_MAX_LIMIT;
+    /**
+     * multiplier applied to limit on failure, AIMD also on call slower than {@link #latencyThreshold}
+     */
+    @Builder.Default
+    private Double backoffRatio = DEFAULT_BACKOFF_RATIO;
+    /**
+     * AIMD only, round-trip latency considered as overload
+     */
+    @Builder.Default
+    private Duration latencyThreshold = DEFAULT_LATENCY_THRESHOLD;
+    /**
+     * requests waiting for free slot, 0 rejects requests over limit right away
+     */
+    @Builder.Default
+    private Integer maxQueue = 0;
+    /**
+     * longest wait of queued request before it is rejected
+     */
+    private Duration maxWait;
+}
@@ -6,6 +6,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 
+import dev.mfataka.transporter.enums.HttpEngine;
+import dev.mfataka.transporter.enums.HttpProtocolMode;
 import dev.mfataka.transporter.model.TransporterClientResolver;
 
 /**
@@ -17,7 +19,8 @@ import dev.mfataka.transporter.model.TransporterClientResolver;
 public interface ConfigurationResolver {
 
     /**
-     * If the given resolver is null, checks config files for 'transporter.resolver' if still not find then it returns unknown resolver.
+     * If the given resolver is null, checks config files for 'transporter.resolver' (or 'transporter.resolver.name' when resolver settings are
+     * configured as yaml map) if still not find then it returns unknown resolver.
      * otherwise returns valid value either passed or gets from property
      *
      * @param resolver The name of the resolver to use.
@@ -135,4 +138,172 @@ public interface ConfigurationResolver {
 
     Optional<String> resolveAlias(@Nullable final String alias);
 
+    /**
+     * If the given pool is null, binds properties under 'transporter.pool' if still not find then it returns empty Optional,
+     * in that case reactor netty global pool is used.
+     * per host overrides are bound from 'transporter.pool.hosts[host:port].*'
+     *
+     * @param connectionPool The connection pool settings.
+     * @return An Optional
+     */
+    Optional<ConnectionPoolConfiguration> resolveConnectionPool(@Nullable final ConnectionPoolConfiguration connectionPool);
+
+    /**
+     * If the given event loop configuration is null, binds properties under 'transporter.eventLoop' if still not find then it returns empty Optional,
+     * in that case reactor netty global loops are used.
+     *
+     * @param eventLoop The event loop settings.
+     * @return An Optional
+     */
+    Optional<EventLoopConfiguration> resolveEventLoop(@Nullable final EventLoopConfiguration eventLoop);
+
+    /**
+     * If the given socket options are null, binds properties under 'transporter.socketOptions' if still not find then it returns empty Optional.
+     *
+     * @param socketOptions The socket options.
+     * @return An Optional
+     */
+    Optional<SocketOptionsConfiguration> resolveSocketOptions(@Nullable final SocketOptionsConfiguration socketOptions);
+
+    /**
+     * If the given protocol is null, reads 'transporter.protocol' if still not find then it returns empty Optional,
+     * in that case HTTP/1.1 is used.
+     *
+     * @param protocol The http protocol mode.
+     * @return An Optional
+     */
+    Optional<HttpProtocolMode> resolveProtocol(@Nullable final HttpProtocolMode protocol);
+
+    /**
+     * If the given engine is null, reads 'transporter.engine' if still not find then it returns empty Optional,
+     * reactor netty is used in that case.
+     *
+     * @param engine The http engine.
+     * @return An Optional
+     */
+    Optional<HttpEngine> resolveEngine(@Nullable final HttpEngine engine);
+
+    /**
+     * If the given logging settings are null, binds properties under 'transporter.logging' if still not find then it returns empty Optional.
+     *
+     * @param logging The logging settings.
+     * @return An Optional
+     */
+    Optional<LoggingConfiguration> resolveLogging(@Nullable final LoggingConfiguration logging);
+
+    /**
+     * If the given HTTP/2 settings are null, binds properties under 'transporter.http2' if still not find then it returns empty Optional.
+     *
+     * @param http2 The HTTP/2 settings.
+     * @return An Optional
+     */
+    Optional<Http2Configuration> resolveHttp2(@Nullable final Http2Configuration http2);
+
+    /**
+     * If the given TLS settings are null, binds properties under 'transporter.tls' if still not find then it returns empty Optional,
+     * in that case JDK provider with netty defaults is used.
+     *
+     * @param tls The TLS engine settings.
+     * @return An Optional
+     */
+    Optional<TlsConfiguration> resolveTls(@Nullable final TlsConfiguration tls);
+
+    /**
+     * If the given DNS resolver settings are null, binds properties under 'transporter.resolver' if still not find then it returns empty Optional,
+     * in that case shared resolver with netty defaults is used for custom resolver.
+     *
+     * @param dnsResolver The DNS resolver settings.
+     * @return An Optional
+     */
+    Optional<DnsResolverConfiguration> resolveDnsResolver(@Nullable final DnsResolverConfiguration dnsResolver);
+
+    /**
+     * If the given load balancer settings are null, binds properties under 'transporter.loadBalancer' if still not find then it returns empty Optional.
+     *
+     * @param loadBalancer The load balancer settings.
+     * @return An Optional
+     */
+    Optional<LoadBalancerConfiguration> resolveLoadBalancer(@Nullable final LoadBalancerConfiguration loadBalancer);
+
+    /**
+     * If the given compression settings are null, binds properties under 'transporter.compression' if still not find then it returns empty Optional.
+     *
+     * @param compression The compression settings.
+     * @return An Optional
+     */
+    Optional<CompressionConfiguration> resolveCompression(@Nullable final CompressionConfiguration compression);
+
+    /**
+     * If the given deadline settings are null, binds properties under 'transporter.deadline' if still not find then it returns empty Optional.
+     *
+     * @param deadline The deadline settings.
+     * @return An Optional
+     */
+    Optional<DeadlineConfiguration> resolveDeadline(@Nullable final DeadlineConfiguration deadline);
+
+    /**
+     * If the given hedging settings are null, binds properties under 'transporter.hedging' if still not find then it returns empty Optional.
+     *
+     * @param hedging The hedging settings.
+     * @return An Optional
+     */
+    Optional<HedgingConfiguration> resolveHedging(@Nullable final HedgingConfiguration hedging);
+
+    /**
+     * If the given retry settings are null, binds properties under 'transporter.retry' if still not find then it returns empty Optional.
+     *
+     * @param retry The retry settings.
+     * @return An Optional
+     */
+    Optional<RetryConfiguration> resolveRetry(@Nullable final RetryConfiguration retry);
+
+    /**
+     * If the given circuit breaker settings are null, binds properties under 'transporter.circuitBreaker' if still not find then it returns empty Optional.
+     *
+     * @param circuitBreaker The circuit breaker settings.
+     * @return An Optional
+     */
+    Optional<CircuitBreakerConfiguration> resolveCircuitBreaker(@Nullable final CircuitBreakerConfiguration circuitBreaker);
+
+    /**
+     * If the given concurrency limit settings are null, binds properties under 'transporter.concurrencyLimit' if still not find then it returns empty Optional.
+     *
+     * @param concurrencyLimit The concurrency limit settings.
+     * @return An Optional
+     */
+    Optional<ConcurrencyLimitConfiguration> resolveConcurrencyLimit(@Nullable final ConcurrencyLimitConfiguration concurrencyLimit);
+
+    /**
+     * If the given rate limit settings are null, binds properties under 'transporter.rateLimit' if still not find then it returns empty Optional.
+     *
+     * @param rateLimit The rate limit settings.
+     * @return An Optional
+     */
+    Optional<RateLimitConfiguration> resolveRateLimit(@Nullable final RateLimitConfiguration rateLimit);
+
+    /**
+     * If the given coalescing settings are null, binds properties under 'transporter.coalescing' if still not find then it returns empty Optional.
+     *
+     * @param coalescing The coalescing settings.
+     * @return An Optional
+     */
+    Optional<CoalescingConfiguration> resolveCoalescing(@Nullable final CoalescingConfiguration coalescing);
+
+    /**
+     * If the given cache settings are null, binds properties under 'transporter.cache' if still not find then it returns empty Optional.
+     *
+     * @param cache The cache settings.
+     * @return An Optional
+     */
+    Optional<CacheConfiguration> resolveCache(@Nullable final CacheConfiguration cache);
+
+    /**
+     * If the given warm-up settings are null, binds properties under 'transporter.warmup' if still not find then it returns empty Optional.
+     * it is not part of {@link #resolveBaseConfigs(TransporterConfiguration)}, warm-up is asked for explicitly or done on application start.
+     *
+     * @param warmUp The warm-up settings.
+     * @return An Optional
+     */
+    Optional<WarmUpConfiguration> resolveWarmUp(@Nullable final WarmUpConfiguration warmUp);
+
 }
@@ -5,12 +5,16 @@ import java.util.Optional;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import dev.mfataka.transporter.enums.HttpEngine;
+import dev.mfataka.transporter.enums.HttpProtocolMode;
 import dev.mfataka.transporter.model.TransporterClientResolver;
 
 /**
@@ -22,6 +26,7 @@ import dev.mfataka.transporter.model.TransporterClientResolver;
 public class ConfigurationResolverImp implements ConfigurationResolver {
     private static final String TRANSPORTER_PREFIX = "transporter";
     private static final String RESOLVER_PROP = TRANSPORTER_PREFIX + ".resolver";
+    private static final String RESOLVER_NAME_PROP = RESOLVER_PROP + ".name";
     private static final String TRUST_STORE_PROP = TRANSPORTER_PREFIX + ".trustStorePath";
     private static final String TRUST_STORE_PASS_PROP = TRANSPORTER_PREFIX + ".trustStorePassword";
     private static final String KEY_STORE_PROP = TRANSPORTER_PREFIX + ".keyStorePath";
@@ -36,6 +41,25 @@ public class ConfigurationResolverImp implements ConfigurationResolver {
     private static final String DATA_LIMIT_PROP = TRANSPORTER_PREFIX + ".dataLimit";
     private static final String TRUST_ALL_PROP = TRANSPORTER_PREFIX + ".trustAll";
     private static final String ALIAS_PROP = TRANSPORTER_PREFIX + ".alias";
+    private static final String POOL_PROP = TRANSPORTER_PREFIX + ".pool";
+    private static final String EVENT_LOOP_PROP = TRANSPORTER_PREFIX + ".event-loop";
+    private static final String SOCKET_OPTIONS_PROP = TRANSPORTER_PREFIX + ".socket-options";
+    private static final String PROTOCOL_PROP = TRANSPORTER_PREFIX + ".protocol";
+    private static final String HTTP2_PROP = TRANSPORTER_PREFIX + ".http2";
+    private static final String WARM_UP_PROP = TRANSPORTER_PREFIX + ".warmup";
+    private static final String TLS_PROP = TRANSPORTER_PREFIX + ".tls";
+    private static final String LOAD_BALANCER_PROP = TRANSPORTER_PREFIX + ".load-balancer";
+    private static final String COMPRESSION_PROP = TRANSPORTER_PREFIX + ".compression";
+    private static final String DEADLINE_PROP = TRANSPORTER_PREFIX + ".deadline";
+    private static final String HEDGING_PROP = TRANSPORTER_PREFIX + ".hedging";
+    private static final String RETRY_PROP = TRANSPORTER_PREFIX + ".retry";
+    private static final String CIRCUIT_BREAKER_PROP = TRANSPORTER_PREFIX + ".circuit-breaker";
+    private static final String CONCURRENCY_LIMIT_PROP = TRANSPORTER_PREFIX + ".concurrency-limit";
+    private static final String RATE_LIMIT_PROP = TRANSPORTER_PREFIX + ".rate-limit";
+    private static final String COALESCING_PROP = TRANSPORTER_PREFIX + ".coalescing";
+    private static final String CACHE_PROP = TRANSPORTER_PREFIX + ".cache";
+    private static final String ENGINE_PROP = TRANSPORTER_PREFIX + ".engine";
+    private static final String LOGGING_PROP = TRANSPORTER_PREFIX + ".logging";
     private final Environment environment;
 
     @Override
@@ -43,7 +67,8 @@ public class ConfigurationResolverImp implements ConfigurationResolver {
         if (Objects.nonNull(resolver)) {
             return TransporterClientResolver.fromName(resolver);
         }
-        final var maybeResolver = resolveProperty(RESOLVER_PROP);
+        final var maybeResolver = resolveProperty(RESOLVER_PROP)
+                .or(() -> resolveProperty(RESOLVER_NAME_PROP));
         if (maybeResolver.isEmpty()) {
             return TransporterClientResolver.UNKNOWN;
         }
@@ -117,6 +142,111 @@ public class ConfigurationResolverImp implements ConfigurationResolver {
         return resolveString(alias, ALIAS_PROP);
     }
 
+    @Override
+    public Optional<ConnectionPoolConfiguration> resolveConnectionPool(@Nullable ConnectionPoolConfiguration connectionPool) {
+        return resolveGroup(connectionPool, POOL_PROP, ConnectionPoolConfiguration.class);
+    }
+
+    @Override
+    public Optional<EventLoopConfiguration> resolveEventLoop(@Nullable EventLoopConfiguration eventLoop) {
+        return resolveGroup(eventLoop, EVENT_LOOP_PROP, EventLoopConfiguration.class);
+    }
+
+    @Override
+    public Optional<SocketOptionsConfiguration> resolveSocketOptions(@Nullable SocketOptionsConfiguration socketOptions) {
+        return resolveGroup(socketOptions, SOCKET_OPTIONS_PROP, SocketOptionsConfiguration.class);
+    }
+
+    @Override
+    public Optional<HttpProtocolMode> resolveProtocol(@Nullable HttpProtocolMode protocol) {
+        return resolveGroup(protocol, PROTOCOL_PROP, HttpProtocolMode.class);
+    }
+
+    @Override
+    public Optional<HttpEngine> resolveEngine(@Nullable HttpEngine engine) {
+        return resolveGroup(engine, ENGINE_PROP, HttpEngine.class);
+    }
+
+    @Override
+    public Optional<LoggingConfiguration> resolveLogging(@Nullable LoggingConfiguration logging) {
+        return resolveGroup(logging, LOGGING_PROP, LoggingConfiguration.class);
+    }
+
+    @Override
+    public Optional<Http2Configuration> resolveHttp2(@Nullable Http2Configuration http2) {
+        return resolveGroup(http2, HTTP2_PROP, Http2Configuration.class);
+    }
+
+    @Override
+    public Optional<TlsConfiguration> resolveTls(@Nullable TlsConfiguration tls) {
+        return resolveGroup(tls, TLS_PROP, TlsConfiguration.class);
+    }
+
+    @Override
+    public Optional<DnsResolverConfiguration> resolveDnsResolver(@Nullable DnsResolverConfiguration dnsResolver) {
+        try {
+            return resolveGroup(dnsResolver, RESOLVER_PROP, DnsResolverConfiguration.class);
+        } catch (BindException e) {
+            log.debug("{} holds resolver name only, no dns resolver settings are bound, message [{}]", RESOLVER_PROP, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Optional<LoadBalancerConfiguration> resolveLoadBalancer(@Nullable LoadBalancerConfiguration loadBalancer) {
+        return resolveGroup(loadBalancer, LOAD_BALANCER_PROP, LoadBalancerConfiguration.class);
+    }
+
+    @Override
+    public Optional<CompressionConfiguration> resolveCompression(@Nullable CompressionConfiguration compression) {
+        return resolveGroup(compression, COMPRESSION_PROP, CompressionConfiguration.class);
+    }
+
+    @Override
+    public Optional<DeadlineConfiguration> resolveDeadline(@Nullable DeadlineConfiguration deadline) {
+        return resolveGroup(deadline, DEADLINE_PROP, DeadlineConfiguration.class);
+    }
+
+    @Override
+    public Optional<HedgingConfiguration> resolveHedging(@Nullable HedgingConfiguration hedging) {
+        return resolveGroup(hedging, HEDGING_PROP, HedgingConfiguration.class);
+    }
+
+    @Override
+    public Optional<RetryConfiguration> resolveRetry(@Nullable RetryConfiguration retry) {
+        return resolveGroup(retry, RETRY_PROP, RetryConfiguration.class);
+    }
+
+    @Override
+    public Optional<CircuitBreakerConfiguration> resolveCircuitBreaker(@Nullable CircuitBreakerConfiguration circuitBreaker) {
+        return resolveGroup(circuitBreaker, CIRCUIT_BREAKER_PROP, CircuitBreakerConfiguration.class);
+    }
+
+    @Override
+    public Optional<ConcurrencyLimitConfiguration> resolveConcurrencyLimit(@Nullable ConcurrencyLimitConfiguration concurrencyLimit) {
+        return resolveGroup(concurrencyLimit, CONCURRENCY_LIMIT_PROP, ConcurrencyLimitConfiguration.class);
+    }
+
+    @Override
+    public Optional<RateLimitConfiguration> resolveRateLimit(@Nullable RateLimitConfiguration rateLimit) {
+        return resolveGroup(rateLimit, RATE_LIMIT_PROP, RateLimitConfiguration.class);
+    }
+
+    @Override
+    public Optional<CoalescingConfiguration> resolveCoalescing(@Nullable CoalescingConfiguration coalescing) {
+        return resolveGroup(coalescing, COALESCING_PROP, CoalescingConfiguration.class);
+    }
+
+    @Override
+    public Optional<CacheConfiguration> resolveCache(@Nullable CacheConfiguration cache) {
+        return resolveGroup(cache, CACHE_PROP, CacheConfiguration.class);
+    }
+
+    @Override
+    public Optional<WarmUpConfiguration> resolveWarmUp(@Nullable WarmUpConfiguration warmUp) {
+        return resolveGroup(warmUp, WARM_UP_PROP, WarmUpConfiguration.class);
+    }
+
     @Override
     public void resolveBaseConfigs(@NotNull TransporterConfiguration config) {
         final var resolver = resolveResolver(config.getResolver());
@@ -147,6 +277,63 @@ public class ConfigurationResolverImp implements ConfigurationResolver {
 
         resolveDataSize()
                 .ifPresent(config::setDataLimit);
+
+        resolveConnectionPool(config.getConnectionPool())
+                .ifPresent(config::setConnectionPool);
+
+        resolveEventLoop(config.getEventLoop())
+                .ifPresent(config::setEventLoop);
+
+        resolveSocketOptions(config.getSocketOptions())
+                .ifPresent(config::setSocketOptions);
+
+        resolveProtocol(config.getProtocol())
+                .ifPresent(config::setProtocol);
+
+        resolveHttp2(config.getHttp2())
+                .ifPresent(config::setHttp2);
+
+        resolveTls(config.getTls())
+                .ifPresent(config::setTls);
+
+        resolveDnsResolver(config.getDnsResolver())
+                .ifPresent(config::setDnsResolver);
+
+        resolveLoadBalancer(config.getLoadBalancer())
+                .ifPresent(config::setLoadBalancer);
+
+        resolveCompression(config.getCompression())
+                .ifPresent(config::setCompression);
+
+        resolveDeadline(config.getDeadline())
+                .ifPresent(config::setDeadline);
+
+        resolveHedging(config.getHedging())
+                .ifPresent(config::setHedging);
+
+        resolveRetry(config.getRetry())
+                .ifPresent(config::setRetry);
+
+        resolveCircuitBreaker(config.getCircuitBreaker())
+                .ifPresent(config::setCircuitBreaker);
+
+        resolveConcurrencyLimit(config.getConcurrencyLimit())
+                .ifPresent(config::setConcurrencyLimit);
+
+        resolveRateLimit(config.getRateLimit())
+                .ifPresent(config::setRateLimit);
+
+        resolveCoalescing(config.getCoalescing())
+                .ifPresent(config::setCoalescing);
+
+        resolveCache(config.getCache())
+                .ifPresent(config::setCache);
+
+        resolveEngine(config.getEngine())
+                .ifPresent(config::setEngine);
+
+        resolveLogging(config.getLogging())
+                .ifPresent(config::setLogging);
     }
 
     private Optional<Integer> resolveDataSize() {
@@ -182,6 +369,16 @@ public class ConfigurationResolverImp implements ConfigurationResolver {
         return maybeProperty;
     }
 
+    private <T> Optional<T> resolveGroup(@Nullable final T maybeValue, @NotNull final String prefix, @NotNull final Class<T> type) {
+        if (Objects.nonNull(maybeValue)) {
+            return Optional.of(maybeValue);
+        }
+        return Binder.get(environment)
+                .bind(prefix, type)
+                .map(Optional::of)
+                .orElseGet(Optional::empty);
+    }
+
     private Optional<String> resolveProperty(@NotNull final String property) {
         return Optional.ofNullable((environment.getProperty(property))
         );
@@ -0,0 +1,44 @@
+package dev.mfataka.transporter.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import dev.mfataka.transporter.enums.PoolLeaseStrategy;
+
+/**
+ * @author HAMMA FATAKA
+ * settings of the {@link reactor.netty.resources.ConnectionProvider} used by a transporter,
+ * transporters configured with the same {@link #name} share one pool.
+ * null values keep reactor netty defaults.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionPoolConfiguration {
+    public static final String DEFAULT_NAME = "transporter";
+
+    @Builder.Default
+    private String name = DEFAULT_NAME;
+    private Integer maxConnections;
+    private Integer pendingAcquireMaxCount;
+    private Duration pendingAcquireTimeout;
+    private Duration maxIdleTime;
+    private Duration maxLifeTime;
+    private Duration evictInBackground;
+    @Builder.Default
+    private PoolLeaseStrategy leaseStrategy = PoolLeaseStrategy.FIFO;
+
+    /**
+     * overrides per remote host, key is in form of {@code host:port}.
+     * only pool sizing, timeouts and lease strategy of the override are used.
+     */
+    @Builder.Default
+    private Map<String, ConnectionPoolConfiguration> hosts = new HashMap<>();
+}
@@ -0,0 +1,41 @@
+package dev.mfataka.transporter.config;
+
+import java.time.Duration;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import dev.mfataka.transporter.model.Deadline;
+
+/**
+ * @author HAMMA FATAKA
+ * default per request budgets used when request carries no {@link Deadline} of its own, and deadline header propagation
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadlineConfiguration {
+    public static final String DEFAULT_HEADER = "X-Request-Timeout";
+
+    private Duration connect;
+    private Duration tls;
+    private Duration firstByte;
+    private Duration total;
+    /**
+     * sends remaining total budget in milliseconds to downstream service so it can give up on time
+     */
+    @Builder.Default
+    private boolean propagate = true;
+    @Builder.Default
+    private String header = DEFAULT_HEADER;
+
+    /**
+     * @return default deadline of configuration
+     */
+    public Deadline toDeadline() {
+        return new Deadline(connect, tls, firstByte, total);
+    }
+}
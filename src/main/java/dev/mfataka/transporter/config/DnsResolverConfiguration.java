@@ -0,0 +1,53 @@
+package dev.mfataka.transporter.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author HAMMA FATAKA
+ * settings of caching DNS resolver used by {@link dev.mfataka.transporter.model.TransporterClientResolver#CUSTOM},
+ * transporters configured with the same {@link #shareName} share one resolver and its cache.
+ * null values keep netty defaults.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DnsResolverConfiguration {
+    public static final String DEFAULT_NAME = "transporter";
+
+    /**
+     * key resolver is shared under, bound from 'transporter.resolver.share-name' because 'transporter.resolver.name' selects resolver kind
+     */
+    @Builder.Default
+    private String shareName = DEFAULT_NAME;
+    /**
+     * lower bound of TTL records are cached for
+     */
+    private Duration minTtl;
+    /**
+     * upper bound of TTL records are cached for
+     */
+    private Duration maxTtl;
+    /**
+     * how long failed lookups are cached
+     */
+    private Duration negativeTtl;
+    private Duration queryTimeout;
+    /**
+     * rotates across all resolved A/AAAA records instead of always using the first one
+     */
+    @Builder.Default
+    private boolean roundRobin = true;
+    /**
+     * static host name to ip address overrides, checked before hosts file and DNS
+     */
+    @Builder.Default
+    private Map<String, String> hosts = new HashMap<>();
+}
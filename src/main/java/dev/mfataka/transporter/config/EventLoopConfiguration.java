@@ -0,0 +1,27 @@
+package dev.mfataka.transporter.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import dev.mfataka.transporter.enums.TransportMode;
+
+/**
+ * @author HAMMA FATAKA
+ * dedicated event loops of a transporter, transporters configured with the same {@link #threadPrefix} share loops.
+ * when requested native transport is not available it falls back to {@link TransportMode#NIO}
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventLoopConfiguration {
+    public static final String DEFAULT_THREAD_PREFIX = "transporter";
+
+    @Builder.Default
+    private TransportMode transportMode = TransportMode.NIO;
+    private Integer workerCount;
+    @Builder.Default
+    private String threadPrefix = DEFAULT_THREAD_PREFIX;
+}
@@ -0,0 +1,56 @@
+package dev.mfataka.transporter.config;
+
+import java.time.Duration;
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import dev.mfataka.transporter.enums.TransporterMethod;
+
+/**
+ * @author HAMMA FATAKA
+ * hedging of slow idempotent requests, duplicate of request is sent when first one does not answer within delay
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HedgingConfiguration {
+    public static final Duration DEFAULT_DELAY = Duration.ofMillis(100);
+    public static final double DEFAULT_BUDGET_PERCENT = 10D;
+    public static final int DEFAULT_WINDOW_SIZE = 1000;
+    public static final int DEFAULT_MIN_SAMPLES = 100;
+
+    /**
+     * fixed hedge delay, used also until enough latencies are recorded when {@link #percentile} is set
+     */
+    @Builder.Default
+    private Duration delay = DEFAULT_DELAY;
+    /**
+     * percentile of recent latencies (e.g. 0.95) used as hedge delay, null keeps fixed delay
+     */
+    private Double percentile;
+    /**
+     * number of recent latencies percentile is computed from
+     */
+    @Builder.Default
+    private Integer windowSize = DEFAULT_WINDOW_SIZE;
+    /**
+     * number of recorded latencies needed before percentile is used
+     */
+    @Builder.Default
+    private Integer minSamples = DEFAULT_MIN_SAMPLES;
+    /**
+     * maximal extra load in percent of normal requests
+     */
+    @Builder.Default
+    private Double budgetPercent = DEFAULT_BUDGET_PERCENT;
+    /**
+     * methods hedged by default, other requests are hedged only when marked explicitly
+     */
+    @Builder.Default
+    private Set<TransporterMethod> methods = Set.of(TransporterMethod.GET);
+}
@@ -0,0 +1,23 @@
+package dev.mfataka.transporter.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author HAMMA FATAKA
+ * HTTP/2 connection pool settings, null values keep reactor netty defaults
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Http2Configuration {
+    /**
+     * max in-flight streams on one connection
+     */
+    private Long maxConcurrentStreams;
+    private Integer maxConnections;
+    private Integer minConnections;
+}
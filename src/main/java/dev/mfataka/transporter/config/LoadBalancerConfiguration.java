@@ -0,0 +1,44 @@
+package dev.mfataka.transporter.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import dev.mfataka.transporter.enums.LoadBalancingStrategy;
+
+/**
+ * @author HAMMA FATAKA
+ * client side load balancing over replicas of one service, requests sent to base url are routed to one of {@link #endpoints}.
+ * when base url is not set the first endpoint is used as base url.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadBalancerConfiguration {
+    public static final double DEFAULT_EWMA_ALPHA = 0.3;
+    public static final Duration DEFAULT_FAILURE_PENALTY = Duration.ofSeconds(1);
+
+    /**
+     * base urls of replicas, e.g. https://10.0.0.1:8443/api
+     */
+    @Builder.Default
+    private List<String> endpoints = new ArrayList<>();
+    @Builder.Default
+    private LoadBalancingStrategy strategy = LoadBalancingStrategy.ROUND_ROBIN;
+    /**
+     * weight of newest latency sample in EWMA, between 0 and 1
+     */
+    @Builder.Default
+    private Double ewmaAlpha = DEFAULT_EWMA_ALPHA;
+    /**
+     * latency sample counted for failed request (error or 5xx) when it failed faster, keeps failing endpoint out of least latency picks
+     */
+    @Builder.Default
+    private Duration failurePenalty = DEFAULT_FAILURE_PENALTY;
+}
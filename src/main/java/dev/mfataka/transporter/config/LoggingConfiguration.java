@@ -0,0 +1,68 @@
+package dev.mfataka.transporter.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import dev.mfataka.transporter.enums.LoggingMode;
+
+/**
+ * @author HAMMA FATAKA
+ * logbook exchange logging, sampled and narrowed by URL path patterns before bodies are buffered,
+ * log lines are handed over to bounded queue and written off event loops, lines over capacity are dropped.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoggingConfiguration {
+    public static final double DEFAULT_SAMPLING_RATE = 1.0;
+    public static final int DEFAULT_ERROR_STATUS = 400;
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    /**
+     * defaults to {@link LoggingMode#FULL}, {@link LoggingMode#HEADERS} and {@link LoggingMode#BODIES_ON_ERROR}
+     * keep bodies of successful responses out of memory
+     */
+    @Builder.Default
+    private LoggingMode mode = LoggingMode.FULL;
+    /**
+     * share of exchanges being logged, from 0.0 to 1.0, decided per request before anything is buffered
+     */
+    @Builder.Default
+    private Double samplingRate = DEFAULT_SAMPLING_RATE;
+    /**
+     * lowest response status logged as error by {@link LoggingMode#ERRORS} and {@link LoggingMode#BODIES_ON_ERROR}
+     */
+    @Builder.Default
+    private Integer errorStatus = DEFAULT_ERROR_STATUS;
+    /**
+     * ant style URL path patterns like {@code /orders/**}, empty logs every path
+     */
+    @Builder.Default
+    private List<String> includeRoutes = new ArrayList<>();
+    /**
+     * ant style URL path patterns never logged, applied after {@link #includeRoutes}
+     */
+    @Builder.Default
+    private List<String> excludeRoutes = new ArrayList<>();
+    /**
+     * bodies longer than this many characters are truncated in log, null keeps whole bodies.
+     * logbook buffers body whole before it is truncated, only {@link #mode} decides what is buffered
+     */
+    private Integer maxBodySize;
+    /**
+     * log lines waiting for writer, further lines are dropped and counted as {@code logging.dropped}
+     */
+    @Builder.Default
+    private Integer queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    /**
+     * false writes on thread which finished exchange, as logbook does by default
+     */
+    @Builder.Default
+    private boolean async = true;
+}
@@ -0,0 +1,39 @@
+package dev.mfataka.transporter.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author HAMMA FATAKA
+ * second cache tier keeping large response bodies out of java heap, in direct buffers or, with {@link #directory},
+ * in memory mapped files which survive restart. entries are evicted least recently used first once size cap is reached.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OffHeapCacheConfiguration {
+    public static final long DEFAULT_THRESHOLD = 256L * 1024;
+    public static final long DEFAULT_MAX_BYTES = 512L * 1024 * 1024;
+    public static final long DEFAULT_MAX_ENTRY_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * bodies of at least this size are stored in this tier instead of heap tier
+     */
+    @Builder.Default
+    private Long threshold = DEFAULT_THRESHOLD;
+    @Builder.Default
+    private Long maxBytes = DEFAULT_MAX_BYTES;
+    /**
+     * larger responses are passed through without caching
+     */
+    @Builder.Default
+    private Long maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
+    /**
+     * directory of memory mapped entry files, entries are rebuilt from it at startup,
+     * null keeps entries in direct buffers which are lost on restart
+     */
+    private String directory;
+}
@@ -0,0 +1,49 @@
+package dev.mfataka.transporter.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author HAMMA FATAKA
+ * token bucket rate limit of transporter, optionally narrowed by URL path patterns.
+ * request over the rate is delayed on timer while its wait fits into {@link #maxWait}, otherwise it is rejected.
+ * buckets are kept process wide by {@link #name} and route, see {@link dev.mfataka.transporter.limit.RateLimitRegistry}
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitConfiguration {
+    public static final String DEFAULT_NAME = "transporter";
+
+    /**
+     * transporters with the same name share quota of transporter and of each route, ignored on routes
+     */
+    @Builder.Default
+    private String name = DEFAULT_NAME;
+    /**
+     * sustained rate of whole transporter, null leaves only {@link #routes} limited
+     */
+    private Double permitsPerSecond;
+    /**
+     * bucket capacity, requests allowed at once after idle period, defaults to one second worth of permits
+     */
+    private Integer burst;
+    /**
+     * longest delay request may wait for permit, null or zero rejects request right away
+     */
+    private Duration maxWait;
+
+    /**
+     * limits per URL path, key is ant style pattern like {@code /orders/**}, most specific matching route applies on top of
+     * transporter limit, so {@code /orders/export} wins over {@code /orders/**}. only rate and burst of the route are used.
+     */
+    @Builder.Default
+    private Map<String, RateLimitConfiguration> routes = new LinkedHashMap<>();
+}
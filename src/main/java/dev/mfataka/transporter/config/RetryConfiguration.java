@@ -0,0 +1,64 @@
+package dev.mfataka.transporter.config;
+
+import java.time.Duration;
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import dev.mfataka.transporter.enums.TransporterMethod;
+
+/**
+ * @author HAMMA FATAKA
+ * retry of failed idempotent requests with exponential backoff and full jitter, limited by per host retry budget
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class RetryConfiguration {
+    public static final int DEFAULT_MAX_RETRIES = 2;
+    public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(100);
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(2);
+    public static final Duration DEFAULT_MAX_RETRY_AFTER = Duration.ofSeconds(10);
+    public static final double DEFAULT_BUDGET_PERCENT = 20D;
+
+    /**
+     * retries after first attempt, 0 disables retrying
+     */
+    @Builder.Default
+    private Integer maxRetries = DEFAULT_MAX_RETRIES;
+    @Builder.Default
+    private Duration initialBackoff = DEFAULT_INITIAL_BACKOFF;
+    @Builder.Default
+    private Duration maxBackoff = DEFAULT_MAX_BACKOFF;
+    @Builder.Default
+    private Double multiplier = 2D;
+    /**
+     * response statuses retried besides connect errors and connection resets
+     */
+    @Builder.Default
+    private Set<Integer> statuses = Set.of(502, 503, 504);
+    /**
+     * waits as long as Retry-After header of response asks for
+     */
+    @Builder.Default
+    private boolean honorRetryAfter = true;
+    /**
+     * longest Retry-After waited for, response asking for longer wait is returned as it is
+     */
+    @Builder.Default
+    private Duration maxRetryAfter = DEFAULT_MAX_RETRY_AFTER;
+    /**
+     * safe or idempotent methods which are retried, non idempotent method is retried only when listed explicitly
+     */
+    @Builder.Default
+    private Set<TransporterMethod> methods = Set.of(TransporterMethod.GET, TransporterMethod.PUT, TransporterMethod.DELETE);
+    /**
+     * retries per hundred normal requests to one host, requests with the same percent share budget of the host
+     */
+    @Builder.Default
+    private Double budgetPercent = DEFAULT_BUDGET_PERCENT;
+}
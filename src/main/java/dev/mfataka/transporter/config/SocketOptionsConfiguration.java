@@ -0,0 +1,23 @@
+package dev.mfataka.transporter.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author HAMMA FATAKA
+ * socket options applied to client connections, null values keep netty defaults.
+ * tcpFastOpenConnect is honored only by native epoll transport.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SocketOptionsConfiguration {
+    private Boolean tcpNoDelay;
+    private Boolean keepAlive;
+    private Boolean tcpFastOpenConnect;
+    private Integer receiveBufferSize;
+    private Integer sendBufferSize;
+}
@@ -0,0 +1,39 @@
+package dev.mfataka.transporter.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import io.netty.handler.ssl.SslProvider;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author HAMMA FATAKA
+ * TLS engine settings, null values keep netty defaults.
+ * {@link SslProvider#OPENSSL} needs netty-tcnative (e.g. netty-tcnative-boringssl-static) on classpath, JDK provider is used when it is missing.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TlsConfiguration {
+    @Builder.Default
+    private SslProvider provider = SslProvider.JDK;
+    /**
+     * max count of TLS sessions kept for resumption
+     */
+    private Long sessionCacheSize;
+    private Duration sessionTimeout;
+    /**
+     * resumes sessions with TLS session tickets, JDK provider can change it only JVM wide
+     * through 'jdk.tls.client.enableSessionTicketExtension'
+     */
+    private Boolean sessionTickets;
+    /**
+     * cipher suites in order of preference, TLS 1.3 suites included (e.g. TLS_AES_128_GCM_SHA256)
+     */
+    private List<String> ciphers;
+}
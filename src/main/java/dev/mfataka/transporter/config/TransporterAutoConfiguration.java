@@ -4,6 +4,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -36,4 +37,11 @@ public class TransporterAutoConfiguration {
     public BaseTransporter baseTransporter(final ConfigurationResolver configurationResolver) {
         return new DefaultBaseTransporter(configurationResolver);
     }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "transporter.warmup", name = "enabled", havingValue = "true")
+    public TransporterWarmUpRunner transporterWarmUpRunner(final ConfigurationResolver configurationResolver) {
+        return new TransporterWarmUpRunner(configurationResolver);
+    }
 }
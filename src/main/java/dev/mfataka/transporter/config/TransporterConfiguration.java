@@ -7,6 +7,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import dev.mfataka.transporter.enums.HttpEngine;
+import dev.mfataka.transporter.enums.HttpProtocolMode;
+
 /**
  * @author HAMMA FATAKA
  */
@@ -42,4 +45,24 @@ public class TransporterConfiguration {
     private Integer dataLimit;
     private String alias;
     private String certPath;
+    private ConnectionPoolConfiguration connectionPool;
+    private EventLoopConfiguration eventLoop;
+    private SocketOptionsConfiguration socketOptions;
+    private HttpProtocolMode protocol;
+    private Http2Configuration http2;
+    private WarmUpConfiguration warmUp;
+    private TlsConfiguration tls;
+    private DnsResolverConfiguration dnsResolver;
+    private LoadBalancerConfiguration loadBalancer;
+    private CompressionConfiguration compression;
+    private DeadlineConfiguration deadline;
+    private HedgingConfiguration hedging;
+    private RetryConfiguration retry;
+    private CircuitBreakerConfiguration circuitBreaker;
+    private ConcurrencyLimitConfiguration concurrencyLimit;
+    private RateLimitConfiguration rateLimit;
+    private CoalescingConfiguration coalescing;
+    private CacheConfiguration cache;
+    private HttpEngine engine;
+    private LoggingConfiguration logging;
 }
@@ -0,0 +1,64 @@
+package dev.mfataka.transporter.config;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.imp.TransporterBuilder;
+
+/**
+ * @author HAMMA FATAKA
+ * warms up connections of 'transporter.warmup.hosts' on application start.
+ * runners are finished before spring publishes {@link org.springframework.boot.availability.ReadinessState#ACCEPTING_TRAFFIC},
+ * so readiness probe waits for warm-up to finish or time out.
+ * warmed connections stay in the pool resolved from 'transporter.pool' (or reactor netty global one) and are reused by other transporters of that pool.
+ */
+@Slf4j
+public class TransporterWarmUpRunner implements ApplicationRunner, DisposableBean {
+    private final ConfigurationResolver configurationResolver;
+    private TransporterBuilder builder;
+    private volatile boolean ready;
+
+    public TransporterWarmUpRunner(@NotNull final ConfigurationResolver configurationResolver) {
+        this.configurationResolver = configurationResolver;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        final var maybeWarmUp = configurationResolver.resolveWarmUp(null);
+        if (maybeWarmUp.isEmpty()) {
+            this.ready = true;
+            return;
+        }
+        final var config = TransporterConfiguration.builder()
+                .timeout(60L)
+                .timeUnit(TimeUnit.SECONDS)
+                .build();
+        configurationResolver.resolveBaseConfigs(config);
+        this.builder = TransporterBuilder.newBuilder(config)
+                .warmUp(maybeWarmUp.get());
+        builder.build();
+        this.ready = Boolean.TRUE.equals(builder.warmUpReadiness().block());
+        log.info("transporter warm-up finished, all connections opened [{}]", ready);
+    }
+
+    /**
+     * @return true when all connections were opened on application start
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void destroy() {
+        if (Objects.nonNull(builder)) {
+            builder.close();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package dev.mfataka.transporter.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author HAMMA FATAKA
+ * settings of connection warm-up, connections are opened (and TLS handshaked) before first real request needs them.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WarmUpConfiguration {
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * warms up connections on application start, see {@link TransporterWarmUpRunner}
+     */
+    private boolean enabled;
+    /**
+     * connections opened per host
+     */
+    @Builder.Default
+    private Integer connections = 1;
+    /**
+     * urls to warm up, base url of transporter is used when empty
+     */
+    @Builder.Default
+    private List<String> hosts = new ArrayList<>();
+    @Builder.Default
+    private Duration timeout = DEFAULT_TIMEOUT;
+}
@@ -0,0 +1,78 @@
+package dev.mfataka.transporter.engine;
+
+import java.util.Objects;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.util.Timeout;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.HttpComponentsClientHttpConnector;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * @author HAMMA FATAKA
+ * apache http client 5 types are referenced only here, class is loaded after {@link ClientConnectors} checked they are on classpath
+ */
+@UtilityClass
+class ApacheConnectorFactory {
+
+    ClientHttpConnector create(@NotNull final EngineSettings settings) {
+        final var connectionConfig = ConnectionConfig.custom();
+        if (Objects.nonNull(settings.connectTimeout())) {
+            connectionConfig.setConnectTimeout(Timeout.of(settings.connectTimeout()));
+        }
+        final var connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setDefaultConnectionConfig(connectionConfig.build())
+                .setDefaultTlsConfig(TlsConfig.custom()
+                        .setVersionPolicy(versionPolicy(settings))
+                        .build());
+        if (Objects.nonNull(settings.maxConnections())) {
+            connectionManager.setMaxConnTotal(settings.maxConnections())
+                    .setMaxConnPerRoute(settings.maxConnections());
+        }
+        if (Objects.nonNull(settings.sslContext())) {
+            final var tlsStrategy = ClientTlsStrategyBuilder.create()
+                    .setSslContext(settings.sslContext())
+                    .setTlsVersions(settings.tlsProtocols());
+            if (settings.trustAll()) {
+                tlsStrategy.setHostnameVerifier(NoopHostnameVerifier.INSTANCE);
+            }
+            connectionManager.setTlsStrategy(tlsStrategy.buildAsync());
+        }
+        final var requestConfig = RequestConfig.custom()
+                .setRedirectsEnabled(settings.followRedirects());
+        if (Objects.nonNull(settings.responseTimeout())) {
+            requestConfig.setResponseTimeout(Timeout.of(settings.responseTimeout()));
+        }
+        final var client = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager.build())
+                .setDefaultRequestConfig(requestConfig.build());
+        if (!settings.followRedirects()) {
+            client.disableRedirectHandling();
+        }
+        if (Objects.nonNull(settings.proxy())) {
+            client.setProxy(new HttpHost(settings.proxy().getHostString(), settings.proxy().getPort()));
+        }
+        return new HttpComponentsClientHttpConnector(client.build());
+    }
+
+    private HttpVersionPolicy versionPolicy(final EngineSettings settings) {
+        if (Objects.isNull(settings.protocol())) {
+            return HttpVersionPolicy.FORCE_HTTP_1;
+        }
+        return switch (settings.protocol()) {
+            case H2, H2C -> HttpVersionPolicy.FORCE_HTTP_2;
+            case H2_OR_HTTP11 -> HttpVersionPolicy.NEGOTIATE;
+            default -> HttpVersionPolicy.FORCE_HTTP_1;
+        };
+    }
+}
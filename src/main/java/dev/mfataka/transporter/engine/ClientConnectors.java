@@ -0,0 +1,75 @@
+package dev.mfataka.transporter.engine;
+
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.util.Objects;
+
+import javax.net.ssl.SSLParameters;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.util.ClassUtils;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author HAMMA FATAKA
+ * builds {@link ClientHttpConnector}s of engines other than reactor netty from transporter settings
+ */
+@Slf4j
+@UtilityClass
+public class ClientConnectors {
+    private final String APACHE_CLIENT_CLASS = "org.apache.hc.client5.http.impl.async.HttpAsyncClients";
+    private final String REACTIVE_STREAMS_BRIDGE_CLASS = "org.apache.hc.core5.reactive.ReactiveResponseConsumer";
+
+    /**
+     * connector over jdk {@link HttpClient}, jdk client has no per client pool size
+     *
+     * @param settings transporter settings
+     * @return jdk connector
+     */
+    public ClientHttpConnector jdk(@NotNull final EngineSettings settings) {
+        final var builder = HttpClient.newBuilder()
+                .followRedirects(settings.followRedirects() ? HttpClient.Redirect.NORMAL : HttpClient.Redirect.NEVER)
+                .version(settings.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1);
+        if (Objects.nonNull(settings.sslContext())) {
+            builder.sslContext(settings.sslContext());
+            if (Objects.nonNull(settings.tlsProtocols())) {
+                builder.sslParameters(new SSLParameters(null, settings.tlsProtocols()));
+            }
+        }
+        if (Objects.nonNull(settings.proxy())) {
+            builder.proxy(ProxySelector.of(settings.proxy()));
+        }
+        if (Objects.nonNull(settings.connectTimeout())) {
+            builder.connectTimeout(settings.connectTimeout());
+        }
+        if (Objects.nonNull(settings.maxConnections())) {
+            log.warn("jdk http engine has no per client pool size, max connections [{}] is not applied", settings.maxConnections());
+        }
+        if (settings.trustAll()) {
+            log.warn("jdk http engine verifies host names even with trust all, set -Djdk.internal.httpclient.disableHostnameVerification to disable it");
+        }
+        final var connector = new JdkClientHttpConnector(builder.build());
+        if (Objects.nonNull(settings.responseTimeout())) {
+            connector.setReadTimeout(settings.responseTimeout());
+        }
+        return connector;
+    }
+
+    /**
+     * connector over apache http client 5 async client, client is started by connector and stopped when connector is closed
+     *
+     * @param settings transporter settings
+     * @return apache connector, {@link java.io.Closeable}
+     * @throws IllegalStateException when httpclient5 or httpcore5-reactive is not on classpath
+     */
+    public ClientHttpConnector apacheHttpClient5(@NotNull final EngineSettings settings) {
+        if (!ClassUtils.isPresent(APACHE_CLIENT_CLASS, null) || !ClassUtils.isPresent(REACTIVE_STREAMS_BRIDGE_CLASS, null)) {
+            throw new IllegalStateException("apache http client 5 engine requires org.apache.httpcomponents.client5:httpclient5 and org.apache.httpcomponents.core5:httpcore5-reactive on classpath");
+        }
+        return ApacheConnectorFactory.create(settings);
+    }
+}
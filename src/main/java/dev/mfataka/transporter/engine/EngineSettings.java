@@ -0,0 +1,43 @@
+package dev.mfataka.transporter.engine;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.net.ssl.SSLContext;
+
+import org.jetbrains.annotations.Nullable;
+
+import lombok.Builder;
+
+import dev.mfataka.transporter.enums.HttpProtocolMode;
+
+/**
+ * @author HAMMA FATAKA
+ * transporter settings every engine understands, resolved once by transporter builder
+ *
+ * @param sslContext      jdk ssl context, null for plain http
+ * @param trustAll        whether host names of servers are not verified
+ * @param tlsProtocols    enabled tls protocol versions
+ * @param proxy           http proxy, null for direct connections
+ * @param connectTimeout  connect timeout, null keeps engine default
+ * @param responseTimeout time until response arrives, null keeps engine default
+ * @param followRedirects whether redirects are followed
+ * @param maxConnections  pool size, null keeps engine default
+ * @param protocol        http protocol mode
+ */
+@Builder
+public record EngineSettings(@Nullable SSLContext sslContext,
+                             boolean trustAll,
+                             @Nullable String[] tlsProtocols,
+                             @Nullable InetSocketAddress proxy,
+                             @Nullable Duration connectTimeout,
+                             @Nullable Duration responseTimeout,
+                             boolean followRedirects,
+                             @Nullable Integer maxConnections,
+                             @Nullable HttpProtocolMode protocol) {
+
+    public boolean isHttp2() {
+        return Objects.nonNull(protocol) && protocol.isHttp2();
+    }
+}
@@ -0,0 +1,20 @@
+package dev.mfataka.transporter.enums;
+
+/**
+ * @author HAMMA FATAKA
+ * state of per host circuit breaker
+ */
+public enum CircuitState {
+    /**
+     * requests pass, outcomes are recorded to sliding window
+     */
+    CLOSED,
+    /**
+     * requests fail fast without acquiring connection
+     */
+    OPEN,
+    /**
+     * limited number of probing requests decide whether circuit closes or opens again
+     */
+    HALF_OPEN
+}
@@ -0,0 +1,23 @@
+package dev.mfataka.transporter.enums;
+
+/**
+ * @author HAMMA FATAKA
+ * algorithm request bodies are compressed with, value is sent as Content-Encoding
+ */
+public enum CompressionAlgorithm {
+    GZIP("gzip"),
+    DEFLATE("deflate");
+
+    private final String encoding;
+
+    CompressionAlgorithm(final String encoding) {
+        this.encoding = encoding;
+    }
+
+    /**
+     * @return value of Content-Encoding header
+     */
+    public String encoding() {
+        return encoding;
+    }
+}
@@ -0,0 +1,12 @@
+package dev.mfataka.transporter.enums;
+
+/**
+ * @author HAMMA FATAKA
+ * phase of request whose budget of {@link dev.mfataka.transporter.model.Deadline} was exceeded
+ */
+public enum DeadlinePhase {
+    CONNECT,
+    TLS,
+    FIRST_BYTE,
+    TOTAL
+}
@@ -0,0 +1,20 @@
+package dev.mfataka.transporter.enums;
+
+/**
+ * @author HAMMA FATAKA
+ * http client engine doing the exchanges of a transporter
+ */
+public enum HttpEngine {
+    /**
+     * reactor netty, supports every transporter setting
+     */
+    REACTOR_NETTY,
+    /**
+     * java.net.http client of jdk, no extra dependency, pool size and netty specific settings are not applied
+     */
+    JDK,
+    /**
+     * apache http client 5 async engine, requires org.apache.httpcomponents.core5:httpcore5-reactive on classpath
+     */
+    APACHE_HTTP_CLIENT5
+}
@@ -0,0 +1,52 @@
+package dev.mfataka.transporter.enums;
+
+import java.util.List;
+
+import reactor.netty.http.HttpProtocol;
+
+/**
+ * @author HAMMA FATAKA
+ * http protocol(s) a transporter speaks
+ */
+public enum HttpProtocolMode {
+    /**
+     * plain HTTP/1.1, one request per connection at a time
+     */
+    HTTP11(List.of(), HttpProtocol.HTTP11),
+    /**
+     * HTTP/2 over TLS
+     */
+    H2(List.of("h2"), HttpProtocol.H2),
+    /**
+     * HTTP/2 over clear text with prior knowledge
+     */
+    H2C(List.of(), HttpProtocol.H2C),
+    /**
+     * HTTP/2 or HTTP/1.1 over TLS, negotiated with ALPN
+     */
+    H2_OR_HTTP11(List.of("h2", "http/1.1"), HttpProtocol.H2, HttpProtocol.HTTP11);
+
+    private final List<String> alpnProtocols;
+    private final HttpProtocol[] httpProtocols;
+
+    HttpProtocolMode(final List<String> alpnProtocols, final HttpProtocol... httpProtocols) {
+        this.alpnProtocols = alpnProtocols;
+        this.httpProtocols = httpProtocols;
+    }
+
+    public HttpProtocol[] httpProtocols() {
+        return httpProtocols.clone();
+    }
+
+    public List<String> alpnProtocols() {
+        return alpnProtocols;
+    }
+
+    public boolean isHttp2() {
+        return this != HTTP11;
+    }
+
+    public boolean isNegotiated() {
+        return !alpnProtocols.isEmpty();
+    }
+}
@@ -0,0 +1,29 @@
+package dev.mfataka.transporter.enums;
+
+import dev.mfataka.transporter.config.ConcurrencyLimitConfiguration;
+import dev.mfataka.transporter.limit.AimdLimit;
+import dev.mfataka.transporter.limit.ConcurrencyLimit;
+import dev.mfataka.transporter.limit.GradientLimit;
+
+/**
+ * @author HAMMA FATAKA
+ * algorithm adapting in-flight request limit from observed round-trip latency
+ */
+public enum LimitAlgorithm {
+    /**
+     * additive increase while latency stays under threshold, multiplicative decrease on failures or slow calls
+     */
+    AIMD,
+    /**
+     * limit follows ratio of long term to current latency, grows while latency does not rise
+     */
+    GRADIENT;
+
+    /**
+     * @param config limit settings
+     * @return new limit of this algorithm
+     */
+    public ConcurrencyLimit create(final ConcurrencyLimitConfiguration config) {
+        return this == AIMD ? new AimdLimit(config) : new GradientLimit(config);
+    }
+}
@@ -0,0 +1,36 @@
+package dev.mfataka.transporter.enums;
+
+import dev.mfataka.transporter.loadbalancer.EndpointSelector;
+import dev.mfataka.transporter.loadbalancer.LeastLatencySelector;
+import dev.mfataka.transporter.loadbalancer.PowerOfTwoChoicesSelector;
+import dev.mfataka.transporter.loadbalancer.RoundRobinSelector;
+
+/**
+ * @author HAMMA FATAKA
+ * built-in strategies picking endpoint of client side load balancer
+ */
+public enum LoadBalancingStrategy {
+    /**
+     * endpoints are used one after another
+     */
+    ROUND_ROBIN,
+    /**
+     * two random endpoints are compared, the one with less in-flight requests wins
+     */
+    POWER_OF_TWO_CHOICES,
+    /**
+     * endpoint with lowest EWMA latency weighted by its in-flight requests wins
+     */
+    LEAST_LATENCY;
+
+    /**
+     * @return new selector implementing this strategy
+     */
+    public EndpointSelector selector() {
+        return switch (this) {
+            case ROUND_ROBIN -> new RoundRobinSelector();
+            case POWER_OF_TWO_CHOICES -> new PowerOfTwoChoicesSelector();
+            case LEAST_LATENCY -> new LeastLatencySelector();
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package dev.mfataka.transporter.enums;
+
+/**
+ * @author HAMMA FATAKA
+ * what part of sampled exchange is written by transporter logger
+ */
+public enum LoggingMode {
+    /**
+     * request and response with headers and bodies
+     */
+    FULL,
+    /**
+     * request and response without bodies, bodies are never buffered
+     */
+    HEADERS,
+    /**
+     * request and response with bodies, only when response status reaches error status
+     */
+    ERRORS,
+    /**
+     * every exchange with headers, bodies only when response status reaches error status
+     */
+    BODIES_ON_ERROR
+}
@@ -0,0 +1,16 @@
+package dev.mfataka.transporter.enums;
+
+/**
+ * @author HAMMA FATAKA
+ * order in which idle pooled connections are handed out
+ */
+public enum PoolLeaseStrategy {
+    /**
+     * least recently used connection first, spreads traffic over all idle connections
+     */
+    FIFO,
+    /**
+     * most recently used connection first, lets surplus connections go idle and be evicted
+     */
+    LIFO
+}
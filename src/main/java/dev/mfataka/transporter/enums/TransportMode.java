@@ -0,0 +1,20 @@
+package dev.mfataka.transporter.enums;
+
+/**
+ * @author HAMMA FATAKA
+ * network transport used by event loops of a transporter
+ */
+public enum TransportMode {
+    /**
+     * java nio, available everywhere
+     */
+    NIO,
+    /**
+     * linux native epoll transport
+     */
+    EPOLL,
+    /**
+     * linux native io_uring transport, requires netty-incubator-transport-native-io_uring on classpath
+     */
+    IO_URING
+}
@@ -0,0 +1,28 @@
+package dev.mfataka.transporter.exceptions;
+
+import org.springframework.core.NestedRuntimeException;
+
+/**
+ * @author HAMMA FATAKA
+ * thrown without sending request when circuit breaker of target host is open
+ */
+public class CircuitBreakerOpenException extends NestedRuntimeException {
+    private final String host;
+
+    public CircuitBreakerOpenException(String host) {
+        super("circuit breaker of host [" + host + "] is open");
+        this.host = host;
+    }
+
+    /**
+     * failing fast is the point of open circuit, stack trace is not filled in
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    public String getHost() {
+        return host;
+    }
+}
@@ -0,0 +1,28 @@
+package dev.mfataka.transporter.exceptions;
+
+import org.springframework.core.NestedRuntimeException;
+
+/**
+ * @author HAMMA FATAKA
+ * thrown without sending request when transporter reached its in-flight limit and request could not wait for free slot
+ */
+public class ConcurrencyLimitExceededException extends NestedRuntimeException {
+    private final int limit;
+
+    public ConcurrencyLimitExceededException(String message, int limit) {
+        super(message);
+        this.limit = limit;
+    }
+
+    /**
+     * rejection is expected under overload, stack trace is not filled in
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
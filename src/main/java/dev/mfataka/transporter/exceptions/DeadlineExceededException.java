@@ -0,0 +1,30 @@
+package dev.mfataka.transporter.exceptions;
+
+import java.time.Duration;
+
+import org.springframework.core.NestedRuntimeException;
+
+import dev.mfataka.transporter.enums.DeadlinePhase;
+
+/**
+ * @author HAMMA FATAKA
+ * thrown when request did not finish its phase within budget of its {@link dev.mfataka.transporter.model.Deadline}
+ */
+public class DeadlineExceededException extends NestedRuntimeException {
+    private final DeadlinePhase phase;
+    private final Duration budget;
+
+    public DeadlineExceededException(DeadlinePhase phase, Duration budget, Throwable cause) {
+        super("deadline of phase [" + phase + "] with budget [" + budget + "] exceeded", cause);
+        this.phase = phase;
+        this.budget = budget;
+    }
+
+    public DeadlinePhase getPhase() {
+        return phase;
+    }
+
+    public Duration getBudget() {
+        return budget;
+    }
+}
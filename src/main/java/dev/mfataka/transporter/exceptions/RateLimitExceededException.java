@@ -0,0 +1,31 @@
+package dev.mfataka.transporter.exceptions;
+
+import org.springframework.core.NestedRuntimeException;
+
+/**
+ * @author HAMMA FATAKA
+ * thrown without sending request when rate limit has no permit available within wait budget
+ */
+public class RateLimitExceededException extends NestedRuntimeException {
+    private final String route;
+
+    public RateLimitExceededException(String route) {
+        super("rate limit [" + route + "] has no permit available within wait budget");
+        this.route = route;
+    }
+
+    /**
+     * rejection is expected under load, stack trace is not filled in
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    /**
+     * @return route pattern of exceeded limit, {@code transporter} for limit of whole transporter
+     */
+    public String getRoute() {
+        return route;
+    }
+}
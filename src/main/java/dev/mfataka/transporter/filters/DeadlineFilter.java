@@ -0,0 +1,221 @@
+package dev.mfataka.transporter.filters;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ConnectTimeoutException;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.SslHandshakeTimeoutException;
+import io.netty.handler.timeout.ReadTimeoutException;
+
+import reactor.core.publisher.Mono;
+import reactor.netty.ChannelPipelineConfigurer;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.util.context.ContextView;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.config.DeadlineConfiguration;
+import dev.mfataka.transporter.enums.DeadlinePhase;
+import dev.mfataka.transporter.exceptions.DeadlineExceededException;
+import dev.mfataka.transporter.metrics.TransporterMetrics;
+import dev.mfataka.transporter.model.Deadline;
+
+/**
+ * @author HAMMA FATAKA
+ * enforces per request {@link Deadline}, first byte budget is set as response timeout of the request,
+ * connect and tls budgets are handed over to connection being opened through reactor context (see {@link #connectionConfigurer()}),
+ * total budget bounds exchange and reading of response body and replaces client wide response timeout.
+ * remaining total budget is sent downstream in deadline header of every attempt.
+ */
+@Slf4j
+public class DeadlineFilter implements ExchangeFilterFunction {
+    /**
+     * {@link System#nanoTime()} when total budget of request runs out, inner filters use it not to start work which cannot finish
+     */
+    public static final String EXPIRES_AT_ATTRIBUTE = DeadlineFilter.class.getName() + ".expiresAt";
+    private static final String HANDLER_NAME = "transporter.deadline";
+
+    private final DeadlineConfiguration defaults;
+    private final TransporterMetrics metrics;
+
+    public DeadlineFilter(@NotNull final DeadlineConfiguration defaults, @NotNull final TransporterMetrics metrics) {
+        this.defaults = defaults;
+        this.metrics = metrics;
+    }
+
+    @Override
+    @NotNull
+    public Mono<ClientResponse> filter(@NotNull final ClientRequest request, @NotNull final ExchangeFunction next) {
+        return Mono.deferContextual(context -> {
+            final var deadline = resolve(request, context);
+            if (deadline.isEmpty()) {
+                return next.exchange(request);
+            }
+            return exchange(request, next, deadline);
+        });
+    }
+
+    private Mono<ClientResponse> exchange(final ClientRequest request, final ExchangeFunction next, final Deadline deadline) {
+        final var start = System.nanoTime();
+        final var builder = ClientRequest.from(request)
+                .attribute(Deadline.ATTRIBUTE, deadline);
+        if (Objects.nonNull(deadline.total())) {
+            builder.attribute(EXPIRES_AT_ATTRIBUTE, start + deadline.total().toNanos());
+        }
+        final var propagate = Objects.nonNull(deadline.total()) && defaults.isPropagate() && !request.headers().containsKey(defaults.getHeader());
+        // applied whenever request is written, so every retry and hedge gets budget remaining at that moment
+        builder.httpRequest(httpRequest -> {
+            final var remaining = remaining(deadline, start);
+            if (propagate) {
+                httpRequest.getHeaders().set(defaults.getHeader(), String.valueOf(remaining.toMillis()));
+            }
+            if (httpRequest.getNativeRequest() instanceof HttpClientRequest nativeRequest) {
+                if (Objects.nonNull(deadline.firstByte())) {
+                    nativeRequest.responseTimeout(min(deadline.firstByte(), remaining));
+                } else if (Objects.nonNull(deadline.total())) {
+                    nativeRequest.responseTimeout(remaining);
+                }
+            }
+        });
+        var exchange = next.exchange(builder.build())
+                .contextWrite(context -> context.put(Deadline.CONTEXT_KEY, deadline));
+        if (Objects.nonNull(deadline.total())) {
+            exchange = exchange
+                    .timeout(deadline.total())
+                    .map(response -> response.mutate()
+                            .body(body -> body.timeout(
+                                    Mono.defer(() -> Mono.delay(remaining(deadline, start))),
+                                    ignored -> Mono.delay(remaining(deadline, start))))
+                            .build());
+        }
+        return exchange.onErrorMap(e -> toDeadlineExceeded(e, deadline));
+    }
+
+    private Deadline resolve(final ClientRequest request, final ContextView context) {
+        final var explicit = request.attribute(Deadline.ATTRIBUTE)
+                .map(Deadline.class::cast)
+                .orElseGet(() -> context.getOrDefault(Deadline.CONTEXT_KEY, null));
+        if (Objects.isNull(explicit)) {
+            return defaults.toDeadline();
+        }
+        return new Deadline(
+                or(explicit.connect(), defaults.getConnect()),
+                or(explicit.tls(), defaults.getTls()),
+                or(explicit.firstByte(), defaults.getFirstByte()),
+                or(explicit.total(), defaults.getTotal())
+        );
+    }
+
+    private Throwable toDeadlineExceeded(final Throwable throwable, final Deadline deadline) {
+        final var phase = phaseOf(throwable, deadline);
+        if (Objects.isNull(phase)) {
+            return throwable;
+        }
+        metrics.increment("deadline.exceeded." + phase.name().toLowerCase());
+        final var budget = switch (phase) {
+            case CONNECT -> deadline.connect();
+            case TLS -> deadline.tls();
+            case FIRST_BYTE -> deadline.firstByte();
+            case TOTAL -> deadline.total();
+        };
+        log.debug("request exceeded deadline of phase [{}] with budget [{}]", phase, budget);
+        return new DeadlineExceededException(phase, budget, throwable);
+    }
+
+    @Nullable
+    private DeadlinePhase phaseOf(final Throwable throwable, final Deadline deadline) {
+        for (var cause = throwable; Objects.nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof DeadlineExceededException) {
+                return null;
+            }
+            if (cause instanceof ConnectTimeoutException && Objects.nonNull(deadline.connect())) {
+                return DeadlinePhase.CONNECT;
+            }
+            if (cause instanceof SslHandshakeTimeoutException && Objects.nonNull(deadline.tls())) {
+                return DeadlinePhase.TLS;
+            }
+            if (cause instanceof ReadTimeoutException && Objects.nonNull(deadline.firstByte())) {
+                return DeadlinePhase.FIRST_BYTE;
+            }
+            if (cause instanceof ReadTimeoutException && Objects.nonNull(deadline.total())) {
+                return DeadlinePhase.TOTAL;
+            }
+            if (cause instanceof TimeoutException && Objects.nonNull(deadline.total())) {
+                return DeadlinePhase.TOTAL;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return null;
+    }
+
+    private static Duration remaining(final Deadline deadline, final long start) {
+        if (Objects.isNull(deadline.total())) {
+            return Duration.ofMillis(Long.MAX_VALUE);
+        }
+        final var left = deadline.total().minusNanos(System.nanoTime() - start);
+        return left.isNegative() ? Duration.ZERO : left;
+    }
+
+    private static Duration min(final Duration first, final Duration second) {
+        return first.compareTo(second) <= 0 ? first : second;
+    }
+
+    private static <T> T or(@Nullable final T value, @Nullable final T fallback) {
+        return Objects.nonNull(value) ? value : fallback;
+    }
+
+    /**
+     * applies connect and tls budgets of deadline found in reactor context of request to connection being opened for it,
+     * pooled connections are reused as they are
+     *
+     * @return configurer to be registered with {@code HttpClient#doOnChannelInit}
+     */
+    public static ChannelPipelineConfigurer connectionConfigurer() {
+        return (observer, channel, remoteAddress) -> {
+            final Deadline deadline = observer.currentContext().getOrDefault(Deadline.CONTEXT_KEY, null);
+            if (Objects.isNull(deadline)) {
+                return;
+            }
+            if (Objects.nonNull(deadline.connect())) {
+                channel.config().setConnectTimeoutMillis((int) Math.min(Integer.MAX_VALUE, deadline.connect().toMillis()));
+            }
+            if (Objects.nonNull(deadline.tls())) {
+                channel.pipeline().addFirst(HANDLER_NAME, new TlsDeadlineHandler(deadline.tls()));
+            }
+        };
+    }
+
+    /**
+     * sets handshake timeout of ssl handler right before handshake starts on channel activation
+     */
+    private static final class TlsDeadlineHandler extends ChannelInboundHandlerAdapter {
+        private final Duration budget;
+
+        private TlsDeadlineHandler(final Duration budget) {
+            this.budget = budget;
+        }
+
+        @Override
+        public void channelActive(final ChannelHandlerContext ctx) throws Exception {
+            final var sslHandler = ctx.pipeline().get(SslHandler.class);
+            if (Objects.nonNull(sslHandler)) {
+                sslHandler.setHandshakeTimeoutMillis(budget.toMillis());
+            }
+            ctx.pipeline().remove(this);
+            super.channelActive(ctx);
+        }
+    }
+}
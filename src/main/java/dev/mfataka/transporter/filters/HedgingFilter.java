@@ -0,0 +1,151 @@
+package dev.mfataka.transporter.filters;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import reactor.core.publisher.Mono;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.config.HedgingConfiguration;
+import dev.mfataka.transporter.metrics.TransporterMetrics;
+
+/**
+ * @author HAMMA FATAKA
+ * sends duplicate of request when it does not answer within hedge delay, first response wins and the other exchange is
+ * cancelled so its connection goes back to pool. only methods of configuration or requests marked with
+ * {@link #HEDGE_ATTRIBUTE} are hedged, hedges are limited by budget in percent of normal requests.
+ */
+@Slf4j
+public class HedgingFilter implements ExchangeFilterFunction {
+    public static final String HEDGE_ATTRIBUTE = HedgingFilter.class.getName() + ".hedge";
+    private static final String METRICS_PREFIX = "hedge.";
+
+    private final HedgingConfiguration config;
+    private final TransporterMetrics metrics;
+    private final RequestBudget budget;
+    private final LatencyWindow latencies;
+
+    public HedgingFilter(@NotNull final HedgingConfiguration config, @NotNull final TransporterMetrics metrics) {
+        this.config = config;
+        this.metrics = metrics;
+        this.budget = new RequestBudget(or(config.getBudgetPercent(), HedgingConfiguration.DEFAULT_BUDGET_PERCENT));
+        this.latencies = new LatencyWindow(or(config.getWindowSize(), HedgingConfiguration.DEFAULT_WINDOW_SIZE));
+        metrics.gauge(METRICS_PREFIX + "delay.millis", () -> delay().toMillis());
+        metrics.gauge(METRICS_PREFIX + "budget", budget::available);
+    }
+
+    @Override
+    @NotNull
+    public Mono<ClientResponse> filter(@NotNull final ClientRequest request, @NotNull final ExchangeFunction next) {
+        if (!isHedged(request)) {
+            return next.exchange(request);
+        }
+        return Mono.defer(() -> {
+            budget.onRequest();
+            final var delay = delay();
+            final var won = new AtomicBoolean();
+            final var pending = new AtomicInteger(1);
+            final var primary = attempt(request, next, won, pending, false);
+            final var hedge = Mono.delay(delay)
+                    .flatMap(ignored -> {
+                        if (!budget.tryAcquire()) {
+                            metrics.increment(METRICS_PREFIX + "rejected");
+                            return Mono.never();
+                        }
+                        pending.incrementAndGet();
+                        metrics.increment(METRICS_PREFIX + "sent");
+                        log.debug("request [{}] [{}] did not answer within [{}], sending hedge", request.method(), request.url(), delay);
+                        return attempt(request, next, won, pending, true);
+                    });
+            return Mono.firstWithSignal(primary, hedge);
+        });
+    }
+
+    private Mono<ClientResponse> attempt(final ClientRequest request,
+                                         final ExchangeFunction next,
+                                         final AtomicBoolean won,
+                                         final AtomicInteger pending,
+                                         final boolean hedge) {
+        final var start = new AtomicLong();
+        return next.exchange(request)
+                .doOnSubscribe(ignored -> start.set(System.nanoTime()))
+                .flatMap(response -> {
+                    latencies.record(System.nanoTime() - start.get());
+                    if (!won.compareAndSet(false, true)) {
+                        return response.releaseBody().then(Mono.never());
+                    }
+                    if (hedge) {
+                        metrics.increment(METRICS_PREFIX + "won");
+                    }
+                    return Mono.just(response);
+                })
+                .onErrorResume(e -> pending.decrementAndGet() > 0 ? Mono.never() : Mono.error(e));
+    }
+
+    private boolean isHedged(final ClientRequest request) {
+        return request.attribute(HEDGE_ATTRIBUTE)
+                .map(Boolean.TRUE::equals)
+                .orElseGet(() -> Objects.nonNull(config.getMethods()) && config.getMethods().stream()
+                        .anyMatch(method -> method.name().equals(request.method().name())));
+    }
+
+    private Duration delay() {
+        final var fixed = or(config.getDelay(), HedgingConfiguration.DEFAULT_DELAY);
+        if (Objects.isNull(config.getPercentile())
+                || latencies.size() < or(config.getMinSamples(), HedgingConfiguration.DEFAULT_MIN_SAMPLES)) {
+            return fixed;
+        }
+        return Duration.ofNanos(latencies.percentile(config.getPercentile()));
+    }
+
+    private static <T> T or(final T value, final T fallback) {
+        return Objects.nonNull(value) ? value : fallback;
+    }
+
+    /**
+     * ring buffer of recent latencies, percentile is recomputed after every tenth of window is replaced
+     */
+    private static final class LatencyWindow {
+        private final long[] samples;
+        private final AtomicLong recorded = new AtomicLong();
+        private volatile long[] sorted = new long[0];
+        private volatile long sortedAt;
+
+        private LatencyWindow(final int size) {
+            this.samples = new long[Math.max(1, size)];
+        }
+
+        private void record(final long nanos) {
+            final var index = recorded.getAndIncrement();
+            samples[(int) (index % samples.length)] = nanos;
+        }
+
+        private int size() {
+            return (int) Math.min(recorded.get(), samples.length);
+        }
+
+        private long percentile(final double percentile) {
+            final var count = recorded.get();
+            if (sorted.length == 0 || count - sortedAt >= Math.max(1, samples.length / 10)) {
+                final var copy = Arrays.copyOf(samples, size());
+                Arrays.sort(copy);
+                this.sorted = copy;
+                this.sortedAt = count;
+            }
+            final var snapshot = sorted;
+            final var index = (int) Math.ceil(Math.min(1D, Math.max(0D, percentile)) * snapshot.length) - 1;
+            return snapshot[Math.max(0, index)];
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package dev.mfataka.transporter.filters;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author HAMMA FATAKA
+ * token bucket limiting extra requests (hedges, retries) to a ratio of normal traffic,
+ * every normal request deposits ratio of token, every extra request withdraws one whole token.
+ * bucket holds extra requests allowed for last {@value #WINDOW} normal requests, so zero percent never allows any.
+ */
+final class RequestBudget {
+    private static final long SCALE = 1000L;
+    private static final long WINDOW = 100L;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong tokens;
+
+    /**
+     * @param percent extra requests allowed per hundred normal requests
+     */
+    RequestBudget(final double percent) {
+        this.deposit = Math.round(Math.max(0, percent) / 100 * SCALE);
+        this.capacity = deposit * WINDOW;
+        this.tokens = new AtomicLong(capacity);
+    }
+
+    void onRequest() {
+        tokens.accumulateAndGet(deposit, (current, value) -> Math.min(capacity, current + value));
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            final var current = tokens.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (tokens.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    double available() {
+        return (double) tokens.get() / SCALE;
+    }
+}
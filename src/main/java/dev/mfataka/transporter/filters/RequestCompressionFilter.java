@@ -0,0 +1,108 @@
+package dev.mfataka.transporter.filters;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.jetbrains.annotations.NotNull;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import reactor.core.publisher.Mono;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.enums.CompressionAlgorithm;
+
+/**
+ * @author HAMMA FATAKA
+ * compresses request bodies (json, form, SOAP envelopes written by {@link dev.mfataka.transporter.codec.JaxbEncoder}, ...)
+ * bigger than threshold, smaller bodies and requests which already have Content-Encoding are sent as they are.
+ * only bodies written as single value are compressed, streamed bodies are sent as they come instead of being buffered.
+ */
+@Slf4j
+public class RequestCompressionFilter implements ExchangeFilterFunction {
+    private final int threshold;
+    private final CompressionAlgorithm algorithm;
+
+    public RequestCompressionFilter(final int threshold, @NotNull final CompressionAlgorithm algorithm) {
+        this.threshold = threshold;
+        this.algorithm = algorithm;
+    }
+
+    @Override
+    @NotNull
+    public Mono<ClientResponse> filter(@NotNull final ClientRequest request, @NotNull final ExchangeFunction next) {
+        final var contentLength = request.headers().getContentLength();
+        if (request.headers().containsKey(HttpHeaders.CONTENT_ENCODING) || (contentLength >= 0 && contentLength < threshold)) {
+            return next.exchange(request);
+        }
+        final BodyInserter<?, ? super ClientHttpRequest> body = request.body();
+        final var compressing = ClientRequest.from(request)
+                .body((outputMessage, context) -> body.insert(new CompressingRequest(outputMessage), context))
+                .build();
+        return next.exchange(compressing);
+    }
+
+    private final class CompressingRequest extends ClientHttpRequestDecorator {
+
+        private CompressingRequest(final ClientHttpRequest delegate) {
+            super(delegate);
+        }
+
+        @Override
+        @NotNull
+        public Mono<Void> writeWith(@NotNull final Publisher<? extends DataBuffer> body) {
+            final var contentLength = getHeaders().getContentLength();
+            if (!(body instanceof Mono) || (contentLength >= 0 && contentLength < threshold)) {
+                return super.writeWith(body);
+            }
+            return DataBufferUtils.join(body)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(buffer -> buffer.map(this::write).orElseGet(this::setComplete));
+        }
+
+        private Mono<Void> write(final DataBuffer buffer) {
+            final var size = buffer.readableByteCount();
+            if (size == 0 || size < threshold) {
+                return super.writeWith(Mono.just(buffer));
+            }
+            final var compressed = compress(buffer);
+            getHeaders().set(HttpHeaders.CONTENT_ENCODING, algorithm.encoding());
+            getHeaders().setContentLength(compressed.readableByteCount());
+            log.debug("request body compressed with [{}] from [{}] to [{}] bytes", algorithm, size, compressed.readableByteCount());
+            return super.writeWith(Mono.just(compressed));
+        }
+
+        private DataBuffer compress(final DataBuffer buffer) {
+            final var compressed = bufferFactory().allocateBuffer(Math.max(256, buffer.readableByteCount() / 4));
+            try (final var input = buffer.asInputStream(true); final var output = compressingStream(compressed.asOutputStream())) {
+                input.transferTo(output);
+            } catch (IOException e) {
+                DataBufferUtils.release(compressed);
+                throw new UncheckedIOException("failed to compress request body", e);
+            }
+            return compressed;
+        }
+
+        private OutputStream compressingStream(final OutputStream output) throws IOException {
+            return switch (algorithm) {
+                case GZIP -> new GZIPOutputStream(output);
+                case DEFLATE -> new DeflaterOutputStream(output);
+            };
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package dev.mfataka.transporter.filters;
+
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.nio.channels.ClosedChannelException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import io.netty.channel.ConnectTimeoutException;
+
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.PrematureCloseException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.config.RetryConfiguration;
+import dev.mfataka.transporter.metrics.TransporterMetrics;
+import dev.mfataka.transporter.utils.UrlUtils;
+
+/**
+ * @author HAMMA FATAKA
+ * retries idempotent requests failing on connect errors, connection resets or configured statuses,
+ * waits exponential backoff with full jitter or Retry-After of response. retries never outlive deadline of request
+ * and are limited by token bucket budget per host. per request configuration is taken from {@link #RETRY_ATTRIBUTE},
+ * budgets are kept per host and budget percent, so request with own percent draws from its own bucket of that host.
+ */
+@Slf4j
+public class RetryFilter implements ExchangeFilterFunction {
+    public static final String RETRY_ATTRIBUTE = RetryFilter.class.getName() + ".retry";
+    private static final String METRICS_PREFIX = "retry.";
+
+    private final RetryConfiguration defaults;
+    private final TransporterMetrics metrics;
+    private final Map<String, RequestBudget> budgets = new ConcurrentHashMap<>();
+
+    public RetryFilter(@NotNull final RetryConfiguration defaults, @NotNull final TransporterMetrics metrics) {
+        this.defaults = defaults;
+        this.metrics = metrics;
+    }
+
+    @Override
+    @NotNull
+    public Mono<ClientResponse> filter(@NotNull final ClientRequest request, @NotNull final ExchangeFunction next) {
+        final var config = request.attribute(RETRY_ATTRIBUTE)
+                .map(RetryConfiguration.class::cast)
+                .orElse(defaults);
+        if (maxRetries(config) <= 0 || !isRetried(request, config)) {
+            return next.exchange(request);
+        }
+        return Mono.defer(() -> {
+            final var percent = budgetPercent(config);
+            final var budget = budgets.computeIfAbsent(UrlUtils.hostOf(request.url()) + "|" + percent, ignored -> new RequestBudget(percent));
+            budget.onRequest();
+            return attempt(request, next, config, budget, 0);
+        });
+    }
+
+    private Mono<ClientResponse> attempt(final ClientRequest request,
+                                         final ExchangeFunction next,
+                                         final RetryConfiguration config,
+                                         final RequestBudget budget,
+                                         final int retry) {
+        // outcome of this exchange alone decides about retry, later attempts are flattened afterwards
+        // so their errors never reach handler of an earlier attempt
+        return next.exchange(request)
+                .map(response -> onResponse(request, next, config, budget, retry, response))
+                .onErrorResume(this::isRetriedError, e -> Mono.just(onError(request, next, config, budget, retry, e)))
+                .flatMap(Function.identity());
+    }
+
+    private Mono<ClientResponse> onResponse(final ClientRequest request,
+                                            final ExchangeFunction next,
+                                            final RetryConfiguration config,
+                                            final RequestBudget budget,
+                                            final int retry,
+                                            final ClientResponse response) {
+        if (Objects.isNull(config.getStatuses()) || !config.getStatuses().contains(response.statusCode().value())) {
+            return Mono.just(response);
+        }
+        final var retryAfter = retryAfter(response, config);
+        if (retryAfter.isPresent() && retryAfter.get().compareTo(maxRetryAfter(config)) > 0) {
+            log.debug("[{}] asks to retry after [{}] which is longer than allowed, giving up", request.url(), retryAfter.get());
+            return Mono.just(response);
+        }
+        final var wait = retryAfter.orElseGet(() -> backoff(config, retry));
+        if (!canRetry(request, config, budget, retry, wait)) {
+            return Mono.just(response);
+        }
+        log.debug("[{}] answered [{}], retry [{}] in [{}]", request.url(), response.statusCode(), retry + 1, wait);
+        return response.releaseBody()
+                .then(Mono.delay(wait))
+                .then(Mono.defer(() -> attempt(request, next, config, budget, retry + 1)));
+    }
+
+    private Mono<ClientResponse> onError(final ClientRequest request,
+                                         final ExchangeFunction next,
+                                         final RetryConfiguration config,
+                                         final RequestBudget budget,
+                                         final int retry,
+                                         final Throwable error) {
+        final var wait = backoff(config, retry);
+        if (!canRetry(request, config, budget, retry, wait)) {
+            return Mono.error(error);
+        }
+        log.debug("[{}] failed with [{}], retry [{}] in [{}]", request.url(), error.getMessage(), retry + 1, wait);
+        return Mono.delay(wait).then(Mono.defer(() -> attempt(request, next, config, budget, retry + 1)));
+    }
+
+    private boolean canRetry(final ClientRequest request,
+                             final RetryConfiguration config,
+                             final RequestBudget budget,
+                             final int retry,
+                             final Duration wait) {
+        if (retry >= maxRetries(config)) {
+            metrics.increment(METRICS_PREFIX + "exhausted");
+            return false;
+        }
+        final var expiresAt = request.attribute(DeadlineFilter.EXPIRES_AT_ATTRIBUTE);
+        if (expiresAt.isPresent() && System.nanoTime() + wait.toNanos() >= (long) expiresAt.get()) {
+            metrics.increment(METRICS_PREFIX + "deadline");
+            return false;
+        }
+        if (!budget.tryAcquire()) {
+            metrics.increment(METRICS_PREFIX + "rejected");
+            return false;
+        }
+        metrics.increment(METRICS_PREFIX + "attempts");
+        return true;
+    }
+
+    private boolean isRetried(final ClientRequest request, final RetryConfiguration config) {
+        return Objects.nonNull(config.getMethods()) && config.getMethods().stream()
+                .anyMatch(method -> method.name().equals(request.method().name()));
+    }
+
+    private boolean isRetriedError(final Throwable throwable) {
+        for (var cause = throwable; Objects.nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof ConnectException
+                    || cause instanceof ConnectTimeoutException
+                    || cause instanceof PrematureCloseException
+                    || cause instanceof ClosedChannelException
+                    || cause instanceof SocketException) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private Optional<Duration> retryAfter(final ClientResponse response, final RetryConfiguration config) {
+        if (!config.isHonorRetryAfter()) {
+            return Optional.empty();
+        }
+        return response.headers().header(HttpHeaders.RETRY_AFTER).stream()
+                .findFirst()
+                .map(String::trim)
+                .flatMap(RetryFilter::parseRetryAfter);
+    }
+
+    private static Optional<Duration> parseRetryAfter(final String value) {
+        try {
+            if (value.chars().allMatch(Character::isDigit)) {
+                return Optional.of(Duration.ofSeconds(Long.parseLong(value)));
+            }
+            final var at = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            final var wait = Duration.between(ZonedDateTime.now(at.getZone()), at);
+            return Optional.of(wait.isNegative() ? Duration.ZERO : wait);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            log.debug("could not parse Retry-After [{}], message [{}]", value, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * full jitter, random wait between zero and exponentially growing cap
+     */
+    private Duration backoff(final RetryConfiguration config, final int retry) {
+        final var initial = Objects.isNull(config.getInitialBackoff()) ? RetryConfiguration.DEFAULT_INITIAL_BACKOFF : config.getInitialBackoff();
+        final var max = Objects.isNull(config.getMaxBackoff()) ? RetryConfiguration.DEFAULT_MAX_BACKOFF : config.getMaxBackoff();
+        final var multiplier = Objects.isNull(config.getMultiplier()) ? 2D : config.getMultiplier();
+        final var cap = Math.min(max.toNanos(), initial.toNanos() * Math.pow(multiplier, retry));
+        return Duration.ofNanos((long) (ThreadLocalRandom.current().nextDouble() * cap));
+    }
+
+    private int maxRetries(final RetryConfiguration config) {
+        return Objects.isNull(config.getMaxRetries()) ? RetryConfiguration.DEFAULT_MAX_RETRIES : config.getMaxRetries();
+    }
+
+    private Duration maxRetryAfter(final RetryConfiguration config) {
+        return Objects.isNull(config.getMaxRetryAfter()) ? RetryConfiguration.DEFAULT_MAX_RETRY_AFTER : config.getMaxRetryAfter();
+    }
+
+    private double budgetPercent(final RetryConfiguration config) {
+        return Objects.isNull(config.getBudgetPercent()) ? RetryConfiguration.DEFAULT_BUDGET_PERCENT : config.getBudgetPercent();
+    }
+}
@@ -14,6 +14,10 @@ import reactor.core.publisher.Mono;
 
 import lombok.extern.slf4j.Slf4j;
 
+import dev.mfataka.transporter.exceptions.CircuitBreakerOpenException;
+import dev.mfataka.transporter.exceptions.ConcurrencyLimitExceededException;
+import dev.mfataka.transporter.exceptions.DeadlineExceededException;
+import dev.mfataka.transporter.exceptions.RateLimitExceededException;
 import dev.mfataka.transporter.model.TransporterData;
 
 /**
@@ -29,12 +33,26 @@ public class ErrorHandlers {
      * @return A Mono
      */
     public static <T> Mono<TransporterData<T>> handleError(final Throwable throwable) {
+        if (throwable instanceof CircuitBreakerOpenException exception) {
+            log.debug("request was not sent, message [{}]", exception.getMessage());
+            return Mono.just(TransporterData.failWithStatus(exception.getMessage(), HttpStatus.SERVICE_UNAVAILABLE));
+        }
+        if (throwable instanceof ConcurrencyLimitExceededException exception) {
+            log.debug("request was not sent, message [{}]", exception.getMessage());
+            return Mono.just(TransporterData.failWithStatus(exception.getMessage(), HttpStatus.SERVICE_UNAVAILABLE));
+        }
+        if (throwable instanceof RateLimitExceededException exception) {
+            log.debug("request was not sent, message [{}]", exception.getMessage());
+            return Mono.just(TransporterData.failWithStatus(exception.getMessage(), HttpStatus.TOO_MANY_REQUESTS));
+        }
         log.error("error sending request, message[{}]", throwable.getMessage(), throwable);
         if (throwable instanceof WebClientResponseException exception) {
             final var statusCode = exception.getStatusCode();
             return Mono.just(handleWithStatus(statusCode));
         } else if (throwable instanceof ResponseStatusException) {
             return Mono.just(resolveResponseStatusException(throwable));
+        } else if (throwable instanceof DeadlineExceededException exception) {
+            return Mono.just(TransporterData.failWithStatus(exception.getMessage(), HttpStatus.GATEWAY_TIMEOUT));
         } else if (throwable instanceof UnsupportedMediaTypeException) {
             return Mono.just(handleEntity(new ResponseEntity<>(null, HttpStatus.UNSUPPORTED_MEDIA_TYPE)));
         } else {
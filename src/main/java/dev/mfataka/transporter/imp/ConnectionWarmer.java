@@ -0,0 +1,67 @@
+package dev.mfataka.transporter.imp;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.config.WarmUpConfiguration;
+import dev.mfataka.transporter.metrics.TransporterMetrics;
+
+/**
+ * @author HAMMA FATAKA
+ * opens pooled connections before they are needed, every connection is opened by a HEAD request
+ * so DNS lookup, TCP connect and TLS handshake are paid here instead of on the request path.
+ */
+@Slf4j
+final class ConnectionWarmer {
+    static final String WARMED_CONNECTIONS = "warmup.connections";
+    static final String FAILED_CONNECTIONS = "warmup.failures";
+
+    private final HttpClient httpClient;
+    private final TransporterMetrics metrics;
+
+    ConnectionWarmer(@NotNull final HttpClient httpClient, @NotNull final TransporterMetrics metrics) {
+        this.httpClient = httpClient;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @param config warm-up settings
+     * @param hosts  urls connections are opened to
+     * @return true when every connection was opened in time, false otherwise, never errors
+     */
+    Mono<Boolean> warmUp(@NotNull final WarmUpConfiguration config, @NotNull final List<String> hosts) {
+        final int connections = Objects.isNull(config.getConnections()) ? 1 : config.getConnections();
+        final var timeout = Objects.isNull(config.getTimeout()) ? WarmUpConfiguration.DEFAULT_TIMEOUT : config.getTimeout();
+        return httpClient.warmup()
+                .thenMany(Flux.fromIterable(hosts)
+                        .flatMap(host -> Flux.range(0, connections).flatMap(ignored -> open(host), connections)))
+                .reduce(true, Boolean::logicalAnd)
+                .timeout(timeout)
+                .onErrorResume(e -> {
+                    log.warn("connection warm-up did not finish in [{}], message [{}]", timeout, e.getMessage());
+                    return Mono.just(false);
+                })
+                .doOnNext(ready -> log.debug("connection warm-up of [{}] finished, all connections opened [{}]", hosts, ready));
+    }
+
+    private Mono<Boolean> open(final String host) {
+        return httpClient.head()
+                .uri(host)
+                .responseSingle((response, body) -> body.then(Mono.just(true)))
+                .doOnNext(ignored -> metrics.increment(WARMED_CONNECTIONS))
+                .onErrorResume(e -> {
+                    metrics.increment(FAILED_CONNECTIONS);
+                    log.warn("could not warm up connection to [{}], message [{}]", host, e.getMessage());
+                    return Mono.just(false);
+                });
+    }
+}
@@ -1,12 +1,12 @@
 package dev.mfataka.transporter.imp;
 
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.jetbrains.annotations.NotNull;
 import org.springframework.http.HttpHeaders;
@@ -17,13 +17,25 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import reactor.core.publisher.Flux;
 
 import lombok.extern.slf4j.Slf4j;
 
 
+import dev.mfataka.transporter.bulk.BulkExecutor;
+import dev.mfataka.transporter.bulk.BulkRequest;
+import dev.mfataka.transporter.bulk.BulkResult;
+import dev.mfataka.transporter.coalescing.SingleFlight;
+import dev.mfataka.transporter.config.BulkConfiguration;
+import dev.mfataka.transporter.config.RetryConfiguration;
 import dev.mfataka.transporter.config.TransporterConfiguration;
 import dev.mfataka.transporter.enums.TransporterMethod;
-import dev.mfataka.transporter.utils.JsonUtils;
+import dev.mfataka.transporter.filters.HedgingFilter;
+import dev.mfataka.transporter.filters.RetryFilter;
+import dev.mfataka.transporter.model.Deadline;
+import dev.mfataka.transporter.prepared.PreparedRequest;
 import dev.mfataka.transporter.utils.LoggingUtils;
 
 /**
@@ -37,7 +49,12 @@ public class DefaultTransporter implements Transporter {
     private Object body;
     private MediaType contentType;
     private String authHeader;
+    private Deadline deadline;
+    private Boolean hedging;
+    private RetryConfiguration retry;
+    private Boolean coalescing;
     private final WebClient webClient;
+    private final SingleFlight singleFlight;
     private final TransporterConfiguration configuration;
     private final Map<String, String> headers = new HashMap<>();
     private final MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
@@ -49,10 +66,19 @@ public class DefaultTransporter implements Transporter {
                               final WebClient webClient,
                               final Object body,
                               final TransporterConfiguration configuration) {
+        this(method, webClient, body, configuration, null);
+    }
+
+    public DefaultTransporter(final TransporterMethod method,
+                              final WebClient webClient,
+                              final Object body,
+                              final TransporterConfiguration configuration,
+                              final SingleFlight singleFlight) {
         this.method = method;
         this.webClient = webClient;
         this.body = body;
         this.configuration = configuration;
+        this.singleFlight = singleFlight;
         this.loggingUtils = new LoggingUtils(log, Boolean.TRUE.equals(configuration.getDebugEnabled()));
     }
 
@@ -70,6 +96,34 @@ public class DefaultTransporter implements Transporter {
         return this;
     }
 
+    @Override
+    public Transporter withDeadline(@NotNull final Deadline deadline) {
+        loggingUtils.debugIfEnabled("deadline of next request is set to [{}]", deadline);
+        this.deadline = deadline;
+        return this;
+    }
+
+    @Override
+    public Transporter withHedging(final boolean enabled) {
+        loggingUtils.debugIfEnabled("hedging of next request is set to [{}]", enabled);
+        this.hedging = enabled;
+        return this;
+    }
+
+    @Override
+    public Transporter withRetry(@NotNull final RetryConfiguration retryConfiguration) {
+        loggingUtils.debugIfEnabled("retry of next request is set to [{}]", retryConfiguration);
+        this.retry = retryConfiguration;
+        return this;
+    }
+
+    @Override
+    public Transporter withCoalescing(final boolean enabled) {
+        loggingUtils.debugIfEnabled("coalescing of next request is set to [{}]", enabled);
+        this.coalescing = enabled;
+        return this;
+    }
+
     @Override
     public Transporter basicAuth(@NotNull String username, @NotNull String password) {
         this.authEnabled = true;
@@ -106,13 +160,8 @@ public class DefaultTransporter implements Transporter {
 
     @Override
     public Transporter withContentLength() {
-        final var maybeSerializedBody = JsonUtils.parseObjectToJson(body);
-        if (maybeSerializedBody.isFailure()) {
-            log.error("Failed to set contentLength, message: could not serialize object to json");
-            return this;
-        }
-        final var length = String.valueOf(maybeSerializedBody.get().getBytes(StandardCharsets.UTF_8).length);
-        return withHeader(HttpHeaders.CONTENT_LENGTH, length);
+        loggingUtils.debugIfEnabled("content length is taken from encoded body buffer");
+        return this;
     }
 
     @Override
@@ -156,12 +205,14 @@ public class DefaultTransporter implements Transporter {
 
     @Override
     public TransporterReceiver sendAndReceive(@NotNull Function<UriBuilder, URI> uriFunction) {
-        return DefaultTransporterReceiver.of(configuration, send(uriFunction));
+        final var coalescingKey = resolveCoalescingKey(() -> uriFunction.apply(UriComponentsBuilder.newInstance()).toString());
+        return DefaultTransporterReceiver.of(configuration, send(uriFunction), singleFlight, coalescingKey);
     }
 
     @Override
     public TransporterReceiver sendAndReceive(@NotNull final String url) {
-        return DefaultTransporterReceiver.of(configuration, send(url));
+        final var coalescingKey = resolveCoalescingKey(() -> url);
+        return DefaultTransporterReceiver.of(configuration, send(url), singleFlight, coalescingKey);
     }
 
     public TransporterReceiver sendAndReceive(@NotNull final String url, @NotNull final TransporterMethod method) {
@@ -169,6 +220,80 @@ public class DefaultTransporter implements Transporter {
         return sendAndReceive(url);
     }
 
+    @Override
+    public <T> Flux<BulkResult<T>> bulk(@NotNull final Flux<BulkRequest> requests,
+                                        @NotNull final Class<T> responseType,
+                                        @NotNull final BulkConfiguration bulkConfiguration) {
+        final Map<String, String> sharedHeaders = new HashMap<>(headers);
+        if (authEnabled && Objects.nonNull(authHeader)) {
+            sharedHeaders.putIfAbsent(AUTHORIZATION, authHeader);
+        }
+        clearNextRequest();
+        final var pool = configuration.getConnectionPool();
+        final var executor = new BulkExecutor(bulkConfiguration, Objects.isNull(pool) ? null : pool.getMaxConnections());
+        loggingUtils.debugIfEnabled("running bulk job with [{}]", bulkConfiguration);
+        return executor.execute(requests, request -> toTransporter(request, sharedHeaders)
+                .sendAndReceive(request.url())
+                .transporterData(responseType));
+    }
+
+    @Override
+    public PreparedRequest prepare(@NotNull final TransporterMethod method, @NotNull final String uriTemplate) {
+        final Map<String, String> preparedHeaders = new HashMap<>(headers);
+        if (authEnabled && Objects.nonNull(authHeader)) {
+            preparedHeaders.putIfAbsent(AUTHORIZATION, authHeader);
+        }
+        final var prepared = PreparedRequest.builder()
+                .webClient(webClient)
+                .configuration(configuration)
+                .singleFlight(singleFlight)
+                .method(method)
+                .uriTemplate(uriTemplate)
+                .headerValues(preparedHeaders)
+                .contentType(contentType)
+                .deadline(deadline)
+                .hedging(hedging)
+                .retry(retry)
+                .coalescing(coalescing)
+                .body(params.isEmpty() ? body : new LinkedMultiValueMap<>(params))
+                .build();
+        clearNextRequest();
+        loggingUtils.debugIfEnabled("prepared request [{}]", prepared);
+        return prepared;
+    }
+
+    /**
+     * every bulk request gets its own transporter, state of next request is not shared between concurrent requests
+     */
+    private Transporter toTransporter(final BulkRequest request, final Map<String, String> sharedHeaders) {
+        final var transporter = new DefaultTransporter(request.method(), webClient, request.body(), configuration, singleFlight);
+        if (Objects.nonNull(request.headers())) {
+            request.headers().forEach(transporter::withHeader);
+        }
+        sharedHeaders.forEach(transporter::withHeader);
+        if (Objects.nonNull(request.contentType())) {
+            transporter.contentType(request.contentType());
+        }
+        if (Objects.nonNull(request.deadline())) {
+            transporter.withDeadline(request.deadline());
+        }
+        return transporter;
+    }
+
+    /**
+     * resolves key of next request before its state is cleared by sending it, requests with body are never coalesced
+     */
+    private Object resolveCoalescingKey(final Supplier<String> url) {
+        if (Objects.isNull(singleFlight) || Objects.isNull(method) || Boolean.FALSE.equals(coalescing) || Objects.nonNull(body) || !params.isEmpty()) {
+            return null;
+        }
+        final Map<String, String> keyHeaders = new HashMap<>(headers);
+        if (authEnabled && Objects.nonNull(authHeader)) {
+            keyHeaders.putIfAbsent(AUTHORIZATION, authHeader);
+        }
+        return singleFlight.keyOf(method, url.get(), keyHeaders);
+    }
+
     @NotNull
     private WebClient.RequestBodySpec buildBodyAndHeader(final WebClient.RequestBodySpec requestBodySpec) {
         try {
@@ -188,13 +313,30 @@ public class DefaultTransporter implements Transporter {
             if (contentType != null) {
                 requestBodySpec.contentType(contentType);
             }
+            if (deadline != null) {
+                requestBodySpec.attribute(Deadline.ATTRIBUTE, deadline);
+            }
+            if (hedging != null) {
+                requestBodySpec.attribute(HedgingFilter.HEDGE_ATTRIBUTE, hedging);
+            }
+            if (retry != null) {
+                requestBodySpec.attribute(RetryFilter.RETRY_ATTRIBUTE, retry);
+            }
             return requestBodySpec;
         } finally {
-            body = null;
-            authHeader = null;
-            authEnabled = false;
-            headers.clear();
-            params.clear();
+            clearNextRequest();
         }
     }
+
+    private void clearNextRequest() {
+        body = null;
+        deadline = null;
+        hedging = null;
+        retry = null;
+        coalescing = null;
+        authHeader = null;
+        authEnabled = false;
+        headers.clear();
+        params.clear();
+    }
 }
@@ -1,55 +1,118 @@
 package dev.mfataka.transporter.imp;
 
+import java.io.Closeable;
 import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.security.KeyStore;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.http.codec.ClientCodecConfigurer;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.support.WebClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
-import org.zalando.logbook.Logbook;
-import org.zalando.logbook.core.DefaultHttpLogFormatter;
-import org.zalando.logbook.core.DefaultHttpLogWriter;
-import org.zalando.logbook.core.DefaultSink;
 import org.zalando.logbook.netty.LogbookClientHandler;
 
 import io.netty.channel.ChannelOption;
-import io.netty.channel.DefaultEventLoop;
-import io.netty.channel.ReflectiveChannelFactory;
-import io.netty.channel.socket.nio.NioDatagramChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.Zstd;
+import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SupportedCipherSuiteFilter;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
-import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.resolver.AddressResolverGroup;
 import io.netty.resolver.DefaultAddressResolverGroup;
 import io.netty.resolver.NoopAddressResolverGroup;
-import io.netty.resolver.dns.DnsAddressResolverGroup;
-import io.netty.resolver.dns.DnsNameResolverBuilder;
 
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpResources;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
 import reactor.netty.transport.ProxyProvider;
 
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
+import dev.mfataka.transporter.batch.BatchFunction;
+import dev.mfataka.transporter.batch.BatchLoader;
+import dev.mfataka.transporter.blocking.BlockingTransporter;
+import dev.mfataka.transporter.cache.HttpCacheFilter;
+import dev.mfataka.transporter.circuitbreaker.CircuitBreaker;
+import dev.mfataka.transporter.circuitbreaker.CircuitBreakerEvent;
+import dev.mfataka.transporter.circuitbreaker.CircuitBreakerFilter;
+import dev.mfataka.transporter.coalescing.CoalescingKey;
+import dev.mfataka.transporter.coalescing.SingleFlight;
 import dev.mfataka.transporter.codec.JaxbDecoder;
 import dev.mfataka.transporter.codec.JaxbEncoder;
+import dev.mfataka.transporter.codec.PooledJackson2JsonEncoder;
+import dev.mfataka.transporter.config.BatchConfiguration;
+import dev.mfataka.transporter.config.BlockingConfiguration;
+import dev.mfataka.transporter.config.CacheConfiguration;
+import dev.mfataka.transporter.config.CircuitBreakerConfiguration;
+import dev.mfataka.transporter.config.CoalescingConfiguration;
+import dev.mfataka.transporter.config.CompressionConfiguration;
+import dev.mfataka.transporter.config.ConcurrencyLimitConfiguration;
+import dev.mfataka.transporter.config.ConnectionPoolConfiguration;
+import dev.mfataka.transporter.config.DeadlineConfiguration;
+import dev.mfataka.transporter.config.DnsResolverConfiguration;
+import dev.mfataka.transporter.config.EventLoopConfiguration;
+import dev.mfataka.transporter.config.HedgingConfiguration;
+import dev.mfataka.transporter.config.Http2Configuration;
+import dev.mfataka.transporter.config.LoadBalancerConfiguration;
+import dev.mfataka.transporter.config.LoggingConfiguration;
+import dev.mfataka.transporter.config.RateLimitConfiguration;
+import dev.mfataka.transporter.config.RetryConfiguration;
+import dev.mfataka.transporter.config.SocketOptionsConfiguration;
+import dev.mfataka.transporter.config.TlsConfiguration;
 import dev.mfataka.transporter.config.TransporterConfiguration;
+import dev.mfataka.transporter.config.WarmUpConfiguration;
+import dev.mfataka.transporter.engine.ClientConnectors;
+import dev.mfataka.transporter.engine.EngineSettings;
+import dev.mfataka.transporter.enums.CompressionAlgorithm;
+import dev.mfataka.transporter.enums.HttpEngine;
+import dev.mfataka.transporter.enums.HttpProtocolMode;
+import dev.mfataka.transporter.enums.TransportMode;
 import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.filters.DeadlineFilter;
+import dev.mfataka.transporter.filters.HedgingFilter;
+import dev.mfataka.transporter.filters.RequestCompressionFilter;
+import dev.mfataka.transporter.filters.RetryFilter;
+import dev.mfataka.transporter.limit.ConcurrencyLimitFilter;
+import dev.mfataka.transporter.limit.RateLimitFilter;
+import dev.mfataka.transporter.loadbalancer.Endpoint;
+import dev.mfataka.transporter.loadbalancer.EndpointSelector;
+import dev.mfataka.transporter.loadbalancer.LoadBalancer;
+import dev.mfataka.transporter.logging.ExchangeLogbook;
+import dev.mfataka.transporter.metrics.Http2StreamMetrics;
+import dev.mfataka.transporter.metrics.TransporterMetrics;
 import dev.mfataka.transporter.model.TransporterClientResolver;
+import dev.mfataka.transporter.resources.ConnectionProviderRegistry;
+import dev.mfataka.transporter.resources.DnsResolverRegistry;
+import dev.mfataka.transporter.resources.LoopResourcesRegistry;
+import dev.mfataka.transporter.resources.SslContextCache;
+import dev.mfataka.transporter.resources.SslContextKey;
 import dev.mfataka.transporter.utils.LoggingUtils;
 import dev.mfataka.transporter.utils.SslUtils;
 
@@ -60,12 +123,34 @@ import dev.mfataka.transporter.utils.SslUtils;
  */
 @Slf4j
 public class DefaultTransporterBuilder implements TransporterBuilder {
+    private static final String[] TLS_PROTOCOLS = {"TLSv1.2", "TLSv1.3"};
+    private static final String TRUST_ALL_SSL = "trustAll";
+    private static final String CERT_SSL = "cert";
+    private static final String MTLS_SSL = "mtls";
+    private static final String MTLS_ALIAS_SSL = "mtlsAlias";
+    private static final String TRUST_STORE_SSL = "trustStore";
+    private static final String JDK_TLS = "TLS";
+    private static final long DEFAULT_TIMEOUT_SECONDS = 60L;
     private boolean isSoap;
     private Integer dataLimit;
     private final TransporterConfiguration config;
     private AddressResolverGroup<?> resolverGroup = NoopAddressResolverGroup.INSTANCE;
     private final LoggingUtils loggingUtils;
+    private final TransporterMetrics metrics = new TransporterMetrics();
     private WebClient webClient;
+    private ConnectionPoolConfiguration acquiredPool;
+    private EventLoopConfiguration acquiredLoops;
+    private DnsResolverConfiguration acquiredResolver;
+    private LoopResources loopResources;
+    private boolean preferNative = LoopResources.DEFAULT_NATIVE;
+    private Mono<Boolean> warmUpReadiness;
+    private EndpointSelector endpointSelector;
+    private LoadBalancer loadBalancer;
+    private Consumer<CircuitBreakerEvent> circuitBreakerListener;
+    private CircuitBreakerFilter circuitBreakerFilter;
+    private Function<CoalescingKey, Object> coalescingKeyFunction;
+    private SingleFlight singleFlight;
+    private Closeable engineConnector;
 
 
     public static TransporterBuilder of(final TransporterConfiguration config) {
@@ -111,6 +196,170 @@ public class DefaultTransporterBuilder implements TransporterBuilder {
         return this;
     }
 
+    @Override
+    public TransporterBuilder connectionPool(@NotNull final ConnectionPoolConfiguration poolConfiguration) {
+        this.config.setConnectionPool(poolConfiguration);
+        return this;
+    }
+
+    @Override
+    public TransporterBuilder eventLoop(@NotNull final EventLoopConfiguration eventLoopConfiguration) {
+        this.config.setEventLoop(eventLoopConfiguration);
+        return this;
+    }
+
+    @Override
+    public TransporterBuilder protocol(@NotNull final HttpProtocolMode protocol) {
+        this.config.setProtocol(protocol);
+        return this;
+    }
+
+    @Override
+    public TransporterBuilder engine(@NotNull final HttpEngine engine) {
+        this.config.setEngine(engine);
+        return this;
+    }
+
+    @Override
+    public TransporterBuilder logging(@NotNull final LoggingConfiguration loggingConfiguration) {
+        this.config.setLoggerEnabled(true);
+        this.config.setLogging(loggingConfiguration);
+        return this;
+    }
+
+    @Override
+    public TransporterBuilder http2(@NotNull final Http2Configuration http2Configuration) {
+        this.config.setHttp2(http2Configuration);
+        return this;
+    }
+
+    @Override
+    public TransporterBuilder socketOptions(@NotNull final SocketOptionsConfiguration socketOptionsConfiguration) {
+        this.config.setSocketOptions(socketOptionsConfiguration);
+        return this;
+    }
+
+    @Override
+    public TransporterBuilder loadBalancer(@NotNull final LoadBalancerConfiguration loadBalancerConfiguration) {
+        this.config.setLoadBalancer(loadBalancerConfiguration);
+        return this;
+    }
+
+    @Override
+    public TransporterBuilder loadBalancer(@NotNull final LoadBalancerConfiguration loadBalancerConfiguration,
+                                           @NotNull final EndpointSelector endpointSelector) {
+        this.endpointSelector = endpointSelector;
+        return loadBalancer(loadBalancerConfiguration);
+    }
+
+    @Override
+    public List<Endpoint> getEndpoints() {
+        return Objects.isNull(loadBalancer) ? List.of() : loadBalancer.getEndpoints();
+    }
+
+    @Override
+    public TransporterBuilder deadline(@NotNull final DeadlineConfiguration deadlineConfiguration) {
+        this.config.setDeadline(deadlineConfiguration);
+        return this;
+    }
+
+    @Override
+    public TransporterBuilder circuitBreaker(@NotNull final CircuitBreakerConfiguration circuitBreakerConfiguration) {
+        this.config.setCircuitBreaker(circuitBreakerConfiguration);
+        return this;
+    }
+
+    @Override
+    public TransporterBuilder circuitBreaker(@NotNull final CircuitBreakerConfiguration circuitBreakerConfiguration,
+                                             @NotNull final Consumer<CircuitBreakerEvent> listener) {
+        this.circuitBreakerListener = listener;
+        return circuitBreaker(circuitBreakerConfiguration);
+    }
+
+    @Override
+    public Collection<CircuitBreaker> getCircuitBreakers() {
+        return Objects.isNull(circuitBreakerFilter) ? List.of() : circuitBreakerFilter.getCircuitBreakers();
+    }
+
+    @Override
+    public TransporterBuilder retry(@NotNull final RetryConfiguration retryConfiguration) {
+        this.config.setRetry(retryConfiguration);
+        return this;
+    }
+
+    @Override
+    public TransporterBuilder concurrencyLimit(@NotNull final ConcurrencyLimitConfiguration concurrencyLimitConfiguration) {
+        this.config.setConcurrencyLimit(concurrencyLimitConfiguration);
+        return this;
+    }
+
+    @Override
+    public TransporterBuilder rateLimit(@NotNull final RateLimitConfiguration rateLimitConfiguration) {
+        this.config.setRateLimit(rateLimitConfiguration);
+        return this;
+    }
+
+    @Override
+    public TransporterBuilder coalescing(@NotNull final CoalescingConfiguration coalescingConfiguration) {
+        this.config.setCoalescing(coalescingConfiguration);
+        return this;
+    }
+
+    @Override
+    public TransporterBuilder coalescing(@NotNull final CoalescingConfiguration coalescingConfiguration,
+                                         @NotNull final Function<CoalescingKey, Object> keyFunction) {
+        this.coalescingKeyFunction = keyFunction;
+        return coalescing(coalescingConfiguration);
+    }
+
+    @Override
+    public TransporterBuilder cache(@NotNull final CacheConfiguration cacheConfiguration) {
+        this.config.setCache(cacheConfiguration);
+        return this;
+    }
+
+    @Override
+    public TransporterBuilder hedging(@NotNull final HedgingConfiguration hedgingConfiguration) {
+        this.config.setHedging(hedgingConfiguration);
+        return this;
+    }
+
+    @Override
+    public TransporterBuilder compression(@NotNull final CompressionConfiguration compressionConfiguration) {
+        this.config.setCompression(compressionConfiguration);
+        return this;
+    }
+
+    @Override
+    public TransporterBuilder dnsResolver(@NotNull final DnsResolverConfiguration dnsResolverConfiguration) {
+        this.config.setDnsResolver(dnsResolverConfiguration);
+        return this;
+    }
+
+    @Override
+    public TransporterBuilder tls(@NotNull final TlsConfiguration tlsConfiguration) {
+        this.config.setTls(tlsConfiguration);
+        return this;
+    }
+
+    @Override
+    public TransporterBuilder warmUp(final int connections) {
+        return warmUp(WarmUpConfiguration.builder()
+                .connections(connections)
+                .build());
+    }
+
+    @Override
+    public TransporterBuilder warmUp(@NotNull final WarmUpConfiguration warmUpConfiguration) {
+        this.config.setWarmUp(warmUpConfiguration);
+        return this;
+    }
+
+    @Override
+    public Mono<Boolean> warmUpReadiness() {
+        return Objects.isNull(warmUpReadiness) ? Mono.just(true) : warmUpReadiness;
+    }
+
 
     @Override
     public Transporter build() {
@@ -140,7 +389,16 @@ public class DefaultTransporterBuilder implements TransporterBuilder {
 
     private Transporter processBuildingClientMethod(@Nullable final TransporterMethod method, @Nullable final Object body) {
         final var webClient = buildClient();
-        return new DefaultTransporter(method, webClient, body, config);
+        return new DefaultTransporter(method, webClient, body, config, buildSingleFlight());
+    }
+
+    private SingleFlight buildSingleFlight() {
+        if (Objects.isNull(singleFlight) && Objects.nonNull(config.getCoalescing())) {
+            final Function<CoalescingKey, Object> keyFunction = Objects.isNull(coalescingKeyFunction) ? key -> key : coalescingKeyFunction;
+            this.singleFlight = new SingleFlight(config.getCoalescing(), keyFunction, metrics);
+            loggingUtils.debugIfEnabled("coalescing of identical requests is enabled with [{}]", config.getCoalescing());
+        }
+        return singleFlight;
     }
 
     private WebClient buildClient() {
@@ -148,16 +406,49 @@ public class DefaultTransporterBuilder implements TransporterBuilder {
             return webClient;
         }
         final var builder = WebClient.builder();
+        final var baseUrl = resolveBaseUrl();
 
-        if (StringUtils.isNotEmpty(config.getBaseUrl())) {
-            builder.baseUrl(config.getBaseUrl());
+        if (StringUtils.isNotEmpty(baseUrl)) {
+            builder.baseUrl(baseUrl);
         }
+        if (Objects.nonNull(config.getCache())) {
+            builder.filter(new HttpCacheFilter(config.getCache(), metrics));
+            loggingUtils.debugIfEnabled("response cache is enabled with [{}]", config.getCache());
+        }
+        builder.filter(new DeadlineFilter(resolveDeadline(), metrics));
+        builder.filter(new RetryFilter(resolveRetry(), metrics));
+        if (Objects.nonNull(config.getHedging())) {
+            builder.filter(new HedgingFilter(config.getHedging(), metrics));
+            loggingUtils.debugIfEnabled("hedging is enabled with [{}]", config.getHedging());
+        }
+        if (Objects.nonNull(config.getLoadBalancer()) && StringUtils.isNotEmpty(baseUrl)) {
+            builder.filter(buildLoadBalancer(baseUrl));
+        }
+        // limiters run outside circuit breaker, so local throttling is neither a failure nor a slow call of host
+        if (Objects.nonNull(config.getRateLimit())) {
+            builder.filter(new RateLimitFilter(config.getRateLimit(), metrics));
+            loggingUtils.debugIfEnabled("rate limit is enabled with [{}]", config.getRateLimit());
+        }
+        if (Objects.nonNull(config.getConcurrencyLimit())) {
+            builder.filter(new ConcurrencyLimitFilter(config.getConcurrencyLimit(), metrics));
+            loggingUtils.debugIfEnabled("concurrency limit is enabled with [{}]", config.getConcurrencyLimit());
+        }
+        if (Objects.nonNull(config.getCircuitBreaker())) {
+            builder.filter(buildCircuitBreaker());
+        }
+        buildRequestCompression(builder);
 
-
-        final var httpConnector = buildClientConnector();
-        builder.clientConnector(httpConnector);
+        final var engine = engine();
+        if (HttpEngine.REACTOR_NETTY == engine) {
+            final var httpClient = buildHttpClient();
+            builder.clientConnector(new ReactorClientHttpConnector(httpClient));
+            startWarmUp(httpClient);
+        } else {
+            builder.clientConnector(buildEngineConnector(engine));
+        }
         loggingUtils.debugIfEnabled("success fully build reactive client with conf [{}]", config);
 
+        builder.codecs(configurer -> configurer.defaultCodecs().jackson2JsonEncoder(new PooledJackson2JsonEncoder()));
         if (isSoap) {
             builder.codecs(this::registerCodecs);
         }
@@ -188,9 +479,97 @@ public class DefaultTransporterBuilder implements TransporterBuilder {
         loggingUtils.debugIfEnabled("custom codecs added for soap services");
     }
 
+    private String resolveBaseUrl() {
+        if (StringUtils.isNotEmpty(config.getBaseUrl())) {
+            return config.getBaseUrl();
+        }
+        final var loadBalancerConfiguration = config.getLoadBalancer();
+        if (Objects.isNull(loadBalancerConfiguration) || Objects.isNull(loadBalancerConfiguration.getEndpoints())) {
+            return null;
+        }
+        return loadBalancerConfiguration.getEndpoints().stream().findFirst().orElse(null);
+    }
+
+    private LoadBalancer buildLoadBalancer(@NotNull final String baseUrl) {
+        if (Objects.nonNull(loadBalancer)) {
+            return loadBalancer;
+        }
+        final var loadBalancerConfiguration = config.getLoadBalancer();
+        final var selector = Objects.nonNull(endpointSelector) ? endpointSelector : loadBalancerConfiguration.getStrategy().selector();
+        this.loadBalancer = new LoadBalancer(baseUrl, loadBalancerConfiguration, selector, metrics);
+        loggingUtils.debugIfEnabled("load balancing [{}] over endpoints [{}] with [{}]", baseUrl, loadBalancerConfiguration.getEndpoints(), selector);
+        return loadBalancer;
+    }
+
+    private DeadlineConfiguration resolveDeadline() {
+        return Objects.isNull(config.getDeadline()) ? DeadlineConfiguration.builder().build() : config.getDeadline();
+    }
+
+    /**
+     * without configuration only requests with their own retry configuration are retried
+     */
+    private RetryConfiguration resolveRetry() {
+        return Objects.isNull(config.getRetry()) ? RetryConfiguration.builder().maxRetries(0).build() : config.getRetry();
+    }
+
+    private CircuitBreakerFilter buildCircuitBreaker() {
+        if (Objects.isNull(circuitBreakerFilter)) {
+            final Consumer<CircuitBreakerEvent> listener = Objects.isNull(circuitBreakerListener) ? event -> {
+            } : circuitBreakerListener;
+            this.circuitBreakerFilter = new CircuitBreakerFilter(config.getCircuitBreaker(), metrics, listener);
+            loggingUtils.debugIfEnabled("circuit breaker is enabled with [{}]", config.getCircuitBreaker());
+        }
+        return circuitBreakerFilter;
+    }
+
+    private void buildRequestCompression(final WebClient.Builder builder) {
+        final var compressionConfiguration = config.getCompression();
+        if (Objects.isNull(compressionConfiguration) || !compressionConfiguration.isRequestCompression()) {
+            return;
+        }
+        final var threshold = Objects.isNull(compressionConfiguration.getRequestThreshold())
+                ? CompressionConfiguration.DEFAULT_REQUEST_THRESHOLD
+                : compressionConfiguration.getRequestThreshold();
+        final var algorithm = Objects.isNull(compressionConfiguration.getRequestAlgorithm())
+                ? CompressionAlgorithm.GZIP
+                : compressionConfiguration.getRequestAlgorithm();
+        builder.filter(new RequestCompressionFilter(threshold, algorithm));
+        loggingUtils.debugIfEnabled("request bodies from [{}] bytes are compressed with [{}]", threshold, algorithm);
+    }
+
+    private void startWarmUp(@NotNull final HttpClient httpClient) {
+        final var warmUpConfiguration = config.getWarmUp();
+        if (Objects.isNull(warmUpConfiguration)) {
+            return;
+        }
+        final var hosts = Objects.isNull(warmUpConfiguration.getHosts()) || warmUpConfiguration.getHosts().isEmpty()
+                ? defaultWarmUpHosts()
+                : warmUpConfiguration.getHosts();
+        if (hosts.isEmpty()) {
+            log.warn("warm-up is configured but there is neither base url nor hosts to warm up");
+            return;
+        }
+        loggingUtils.debugIfEnabled("warming up [{}] connections to [{}]", warmUpConfiguration.getConnections(), hosts);
+        final var readiness = new ConnectionWarmer(httpClient, metrics)
+                .warmUp(warmUpConfiguration, hosts)
+                .cache();
+        readiness.subscribe();
+        this.warmUpReadiness = readiness;
+    }
+
+    private List<String> defaultWarmUpHosts() {
+        if (Objects.nonNull(loadBalancer)) {
+            return loadBalancer.getEndpoints().stream().map(Endpoint::url).toList();
+        }
+        return Stream.ofNullable(config.getBaseUrl()).filter(StringUtils::isNotEmpty).toList();
+    }
+
     @NotNull
-    private ReactorClientHttpConnector buildClientConnector() {
-        var httpClient = HttpClient.create();
+    private HttpClient buildHttpClient() {
+        var httpClient = createHttpClient();
+        httpClient = buildEventLoops(httpClient);
+        httpClient = buildSocketOptions(httpClient);
+        httpClient = buildProtocol(httpClient);
 
         if (Boolean.TRUE.equals(config.getSslEnabled()) || Boolean.TRUE.equals(config.getTrustAll())) {
             httpClient = buildSsl(httpClient);
@@ -205,27 +584,218 @@ public class DefaultTransporterBuilder implements TransporterBuilder {
 
         if (config.isFollowRedirection()) {
             httpClient = httpClient.followRedirect(true);
-            httpClient = httpClient.compress(true).followRedirect(true);
         }
 
+        httpClient = buildResponseDecompression(httpClient);
+
         httpClient = buildProxy(httpClient);
 
         if (config.isTimeoutEnabled()) {
-            httpClient = httpClient
-                    .doOnConnected(connection -> connection.addHandlerLast(new ReadTimeoutHandler(config.getTimeout(), config.getTimeUnit())));
-            final var timeOut = (int) TimeUnit.SECONDS.toMillis(config.getTimeout());
-            httpClient = httpClient.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, timeOut);
-            httpClient = httpClient.responseTimeout(Duration.ofSeconds(config.getTimeout()));
-            loggingUtils.debugIfEnabled("timeout is set to [{}] seconds for [responseTimeout,connectTimeout]", timeOut);
+            final var timeOut = clientTimeout();
+            httpClient = httpClient.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) Math.min(Integer.MAX_VALUE, timeOut.toMillis()));
+            httpClient = httpClient.responseTimeout(timeOut);
+            loggingUtils.debugIfEnabled("timeout is set to [{}] for [responseTimeout,connectTimeout]", timeOut);
+        }
+        httpClient = httpClient.doOnChannelInit(DeadlineFilter.connectionConfigurer());
+
+        return buildLogger(httpClient);
+    }
+
+    private HttpClient buildResponseDecompression(@NotNull final HttpClient httpClient) {
+        final var compressionConfiguration = config.getCompression();
+        final var decompress = Objects.isNull(compressionConfiguration) || Objects.isNull(compressionConfiguration.getResponseDecompression())
+                ? config.isFollowRedirection()
+                : compressionConfiguration.getResponseDecompression();
+        if (!decompress) {
+            return httpClient;
+        }
+        final var acceptEncoding = acceptEncoding();
+        loggingUtils.debugIfEnabled("response decompression is enabled with accept encoding [{}]", acceptEncoding);
+        return httpClient.compress(true)
+                .headers(headers -> headers.set(HttpHeaders.ACCEPT_ENCODING, acceptEncoding));
+    }
+
+    private String acceptEncoding() {
+        final var encodings = new ArrayList<>(List.of("gzip", "deflate"));
+        if (Brotli.isAvailable()) {
+            encodings.add("br");
+        }
+        if (Zstd.isAvailable()) {
+            encodings.add("zstd");
         }
+        return String.join(", ", encodings);
+    }
+
+    /**
+     * client wide timeout, {@link TransporterConfiguration#getTimeout()} is expressed in {@link TransporterConfiguration#getTimeUnit()}
+     */
+    private Duration clientTimeout() {
+        final var timeout = Objects.isNull(config.getTimeout()) ? DEFAULT_TIMEOUT_SECONDS : config.getTimeout();
+        final var timeUnit = Objects.isNull(config.getTimeUnit()) ? TimeUnit.SECONDS : config.getTimeUnit();
+        return Duration.of(timeout, timeUnit.toChronoUnit());
+    }
 
-        httpClient = buildLogger(httpClient);
-        return new ReactorClientHttpConnector(httpClient);
+    private HttpClient createHttpClient() {
+        final var http2Configuration = protocolMode().isHttp2() ? config.getHttp2() : null;
+        var poolConfiguration = config.getConnectionPool();
+        if (Objects.isNull(poolConfiguration) && Objects.nonNull(http2Configuration)) {
+            poolConfiguration = ConnectionPoolConfiguration.builder().build();
+        }
+        if (Objects.isNull(poolConfiguration)) {
+            return HttpClient.create();
+        }
+        final ConnectionProvider connectionProvider = ConnectionProviderRegistry.acquire(poolConfiguration, http2Configuration);
+        this.acquiredPool = poolConfiguration;
+        loggingUtils.debugIfEnabled("using connection pool [{}]", connectionProvider.name());
+        return HttpClient.create(connectionProvider);
+    }
+
+    private HttpEngine engine() {
+        return Objects.isNull(config.getEngine()) ? HttpEngine.REACTOR_NETTY : config.getEngine();
+    }
+
+    private ClientHttpConnector buildEngineConnector(@NotNull final HttpEngine engine) {
+        warnNettyOnlySettings(engine);
+        final var pool = config.getConnectionPool();
+        final var timeOut = config.isTimeoutEnabled() ? clientTimeout() : null;
+        final var proxy = config.isProxyEnabled() ? InetSocketAddress.createUnresolved(config.getProxyAddress(), config.getProxyPort()) : null;
+        final var settings = EngineSettings.builder()
+                .sslContext(buildJdkSslContext())
+                .trustAll(Boolean.TRUE.equals(config.getTrustAll()) && !Boolean.TRUE.equals(config.getSslEnabled()))
+                .tlsProtocols(TLS_PROTOCOLS)
+                .proxy(proxy)
+                .connectTimeout(timeOut)
+                .responseTimeout(timeOut)
+                .followRedirects(config.isFollowRedirection())
+                .maxConnections(Objects.isNull(pool) ? null : pool.getMaxConnections())
+                .protocol(protocolMode())
+                .build();
+        loggingUtils.debugIfEnabled("http engine is set to [{}] with [{}]", engine, settings);
+        if (HttpEngine.JDK == engine) {
+            return ClientConnectors.jdk(settings);
+        }
+        final var connector = ClientConnectors.apacheHttpClient5(settings);
+        if (connector instanceof Closeable closeable) {
+            this.engineConnector = closeable;
+        }
+        return connector;
+    }
+
+    private void warnNettyOnlySettings(@NotNull final HttpEngine engine) {
+        final var ignored = new ArrayList<String>();
+        if (Objects.nonNull(config.getEventLoop())) {
+            ignored.add("eventLoop");
+        }
+        if (Objects.nonNull(config.getSocketOptions())) {
+            ignored.add("socketOptions");
+        }
+        if (config.isResolverEnabled() || Objects.nonNull(config.getDnsResolver())) {
+            ignored.add("dnsResolver");
+        }
+        if (Objects.nonNull(config.getWarmUp())) {
+            ignored.add("warmUp");
+        }
+        if (Objects.nonNull(config.getTls())) {
+            ignored.add("tls");
+        }
+        if (Objects.nonNull(config.getHttp2())) {
+            ignored.add("http2");
+        }
+        if (Boolean.TRUE.equals(config.getLoggerEnabled())) {
+            ignored.add("logging");
+        }
+        if (Objects.nonNull(config.getCompression()) && Boolean.TRUE.equals(config.getCompression().getResponseDecompression())) {
+            ignored.add("compression.responseDecompression");
+        }
+        if (!ignored.isEmpty()) {
+            log.warn("settings {} are reactor netty only and are ignored by http engine [{}]", ignored, engine);
+        }
+    }
+
+    @Nullable
+    private SSLContext buildJdkSslContext() {
+        if (Boolean.TRUE.equals(config.getTrustAll()) && !Boolean.TRUE.equals(config.getSslEnabled())) {
+            loggingUtils.debugIfEnabled("ssl is build with trust all");
+            return SslUtils.buildTrustAllContext(JDK_TLS);
+        }
+        if (!Boolean.TRUE.equals(config.getSslEnabled())) {
+            return null;
+        }
+        final var defaultType = KeyStore.getDefaultType();
+        final var algorithm = KeyManagerFactory.getDefaultAlgorithm();
+        if (Objects.nonNull(config.getCertPath())) {
+            loggingUtils.debugIfEnabled("ssl build successfully with cert path");
+            return SslUtils.buildContextWithCert(config.getCertPath(), JDK_TLS);
+        }
+        if (Boolean.TRUE.equals(config.getMtlsEnabled())) {
+            if (Objects.nonNull(config.getAlias())) {
+                loggingUtils.debugIfEnabled("mtls build successfully with alias");
+                return SslUtils.buildContextWithAlias(algorithm, JDK_TLS, config.getTrustStorePath(), config.getTrustStorePass(), defaultType, config.getAlias());
+            }
+            loggingUtils.debugIfEnabled("mtls build successfully");
+            return SslUtils.buildContext(algorithm, JDK_TLS,
+                    config.getKeystorePath(), config.getKeystorePass(), defaultType,
+                    config.getTrustStorePath(), config.getTrustStorePass(), defaultType);
+        }
+        loggingUtils.debugIfEnabled("ssl build successfully");
+        return SslUtils.buildContextWithTrustStore(algorithm, config.getTrustStorePath(), config.getTrustStorePass(), defaultType, JDK_TLS);
+    }
+
+    private HttpProtocolMode protocolMode() {
+        return Objects.isNull(config.getProtocol()) ? HttpProtocolMode.HTTP11 : config.getProtocol();
+    }
+
+    private HttpClient buildProtocol(@NotNull HttpClient httpClient) {
+        final var protocol = protocolMode();
+        if (!protocol.isHttp2()) {
+            return httpClient;
+        }
+        final var streamMetrics = new Http2StreamMetrics(metrics);
+        loggingUtils.debugIfEnabled("http protocol is set to [{}]", protocol);
+        return httpClient.protocol(protocol.httpProtocols())
+                .doOnRequest((request, connection) -> streamMetrics.onRequest(connection));
+    }
+
+    private HttpClient buildEventLoops(@NotNull HttpClient httpClient) {
+        final var loopConfiguration = config.getEventLoop();
+        if (Objects.isNull(loopConfiguration)) {
+            return httpClient;
+        }
+        final var transportMode = LoopResourcesRegistry.resolveTransportMode(loopConfiguration);
+        this.loopResources = LoopResourcesRegistry.acquire(loopConfiguration);
+        this.preferNative = transportMode != TransportMode.NIO;
+        this.acquiredLoops = loopConfiguration;
+        loggingUtils.debugIfEnabled("event loops [{}] are set with transport [{}]", loopConfiguration.getThreadPrefix(), transportMode);
+        return httpClient.runOn(loopResources, preferNative);
+    }
+
+    private HttpClient buildSocketOptions(@NotNull HttpClient httpClient) {
+        final var socketOptions = config.getSocketOptions();
+        if (Objects.isNull(socketOptions)) {
+            return httpClient;
+        }
+        if (Objects.nonNull(socketOptions.getTcpNoDelay())) {
+            httpClient = httpClient.option(ChannelOption.TCP_NODELAY, socketOptions.getTcpNoDelay());
+        }
+        if (Objects.nonNull(socketOptions.getKeepAlive())) {
+            httpClient = httpClient.option(ChannelOption.SO_KEEPALIVE, socketOptions.getKeepAlive());
+        }
+        if (Boolean.TRUE.equals(socketOptions.getTcpFastOpenConnect())) {
+            httpClient = httpClient.option(ChannelOption.TCP_FASTOPEN_CONNECT, true);
+        }
+        if (Objects.nonNull(socketOptions.getReceiveBufferSize())) {
+            httpClient = httpClient.option(ChannelOption.SO_RCVBUF, socketOptions.getReceiveBufferSize());
+        }
+        if (Objects.nonNull(socketOptions.getSendBufferSize())) {
+            httpClient = httpClient.option(ChannelOption.SO_SNDBUF, socketOptions.getSendBufferSize());
+        }
+        loggingUtils.debugIfEnabled("socket options are set to [{}]", socketOptions);
+        return httpClient;
     }
 
     private HttpClient buildProxy(@NotNull HttpClient httpClient) {
         if (config.isProxyEnabled()) {
-            final var timeout = TimeUnit.SECONDS.toMillis(config.getTimeout() == null ? 60L : config.getTimeout());
+            final var timeout = clientTimeout().toMillis();
             httpClient = httpClient.proxy(
                     proxy -> proxy.type(ProxyProvider.Proxy.HTTP)
                             .host(config.getProxyAddress())
@@ -241,12 +811,11 @@ public class DefaultTransporterBuilder implements TransporterBuilder {
     @NotNull
     private HttpClient buildSsl(@NotNull HttpClient httpClient) {
         try {
-            final var timeOut = Duration.ofSeconds(Objects.isNull(config.getTimeout()) ? 60L : config.getTimeout());
+            final var timeOut = clientTimeout();
             if (Boolean.TRUE.equals(config.getTrustAll()) && !config.getSslEnabled()) {
-                final SslContext context = SslContextBuilder
+                final SslContext context = SslContextCache.get(sslContextKey(TRUST_ALL_SSL), () -> buildSslContext(SslContextBuilder
                         .forClient()
-                        .trustManager(InsecureTrustManagerFactory.INSTANCE)
-                        .build();
+                        .trustManager(InsecureTrustManagerFactory.INSTANCE)));
 
                 httpClient = httpClient.secure(ssl -> ssl.sslContext(context)
                         .handshakeTimeout(timeOut)
@@ -255,8 +824,9 @@ public class DefaultTransporterBuilder implements TransporterBuilder {
                 loggingUtils.debugIfEnabled("ssl is build with trust all");
 
             } else if (Boolean.TRUE.equals(config.getSslEnabled())) {
+                final SslContext context = SslContextCache.get(sslContextKey(sslKind()), () -> buildSslContext(buildContext()));
                 httpClient = httpClient.secure(ssl -> ssl
-                        .sslContext(buildContext())
+                        .sslContext(context)
                         .handshakeTimeout(timeOut)
                         .build()
                 );
@@ -269,19 +839,68 @@ public class DefaultTransporterBuilder implements TransporterBuilder {
         }
     }
 
-    private SslContext buildContext() {
+    @SneakyThrows
+    private SslContext buildSslContext(@NotNull final SslContextBuilder sslContextBuilder) {
+        final var tls = config.getTls();
+        final var context = SslUtils.applyTls(applyProtocolNegotiation(sslContextBuilder), tls).build();
+        loggingUtils.debugIfEnabled("ssl context is built with provider [{}]", SslUtils.resolveProvider(Objects.isNull(tls) ? null : tls.getProvider()));
+        return SslUtils.applySessionTickets(context, tls);
+    }
+
+    private String sslKind() {
+        if (Objects.nonNull(config.getCertPath())) {
+            return CERT_SSL;
+        }
+        if (Boolean.TRUE.equals(config.getMtlsEnabled())) {
+            return Objects.nonNull(config.getAlias()) ? MTLS_ALIAS_SSL : MTLS_SSL;
+        }
+        return TRUST_STORE_SSL;
+    }
+
+    private SslContextKey sslContextKey(final String kind) {
+        final var trustAll = TRUST_ALL_SSL.equals(kind);
+        final var mtls = MTLS_SSL.equals(kind) || MTLS_ALIAS_SSL.equals(kind);
+        return new SslContextKey(kind,
+                trustAll ? null : config.getTrustStorePath(),
+                trustAll ? null : config.getTrustStorePass(),
+                mtls ? config.getKeystorePath() : null,
+                mtls ? config.getKeystorePass() : null,
+                MTLS_ALIAS_SSL.equals(kind) ? config.getAlias() : null,
+                CERT_SSL.equals(kind) ? config.getCertPath() : null,
+                trustAll ? List.of() : List.of(TLS_PROTOCOLS),
+                protocolMode(),
+                config.getTls());
+    }
+
+    private SslContextBuilder applyProtocolNegotiation(@NotNull final SslContextBuilder sslContextBuilder) {
+        final var protocol = protocolMode();
+        if (!protocol.isNegotiated()) {
+            return sslContextBuilder;
+        }
+        loggingUtils.debugIfEnabled("alpn negotiation is set for protocols [{}]", protocol.alpnProtocols());
+        return sslContextBuilder
+                .ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
+                .applicationProtocolConfig(new ApplicationProtocolConfig(
+                        ApplicationProtocolConfig.Protocol.ALPN,
+                        ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                        ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                        protocol.alpnProtocols()
+                ));
+    }
+
+    private SslContextBuilder buildContext() {
         final var defaultType = KeyStore.getDefaultType();
         final var algorithm = KeyManagerFactory.getDefaultAlgorithm();
-        final String[] protocols = {"TLSv1.2", "TLSv1.3"};
+        final String[] protocols = TLS_PROTOCOLS;
 
         if (Objects.nonNull(config.getCertPath())) {
-            final var sslContext = buildSslFromCert(protocols);
+            final var sslContextBuilder = buildSslFromCert(protocols);
             loggingUtils.debugIfEnabled("ssl build successfully with cert path");
-            return sslContext;
+            return sslContextBuilder;
         }
         if (Boolean.TRUE.equals(config.getMtlsEnabled())) {
             if (Objects.nonNull(config.getAlias())) {
-                final var sslContext = SslUtils.buildNettyContext(algorithm,
+                final var sslContextBuilder = SslUtils.nettyContextBuilder(algorithm,
                         config.getTrustStorePath(),
                         config.getTrustStorePass(),
                         config.getTrustStorePath(),
@@ -290,9 +909,9 @@ public class DefaultTransporterBuilder implements TransporterBuilder {
                         defaultType,
                         protocols);
                 loggingUtils.debugIfEnabled("mtls build successfully with alias");
-                return sslContext;
+                return sslContextBuilder;
             }
-            final var sslContext = SslUtils.buildNettyContext(algorithm,
+            final var sslContextBuilder = SslUtils.nettyContextBuilder(algorithm,
                     config.getTrustStorePath(),
                     config.getTrustStorePass(),
                     config.getKeystorePath(),
@@ -300,43 +919,33 @@ public class DefaultTransporterBuilder implements TransporterBuilder {
                     defaultType, protocols
             );
             loggingUtils.debugIfEnabled("mtls build successfully");
-            return sslContext;
+            return sslContextBuilder;
         }
-        final var sslContext = SslUtils.buildNettyContextWithTrustStore(algorithm,
+        final var sslContextBuilder = SslUtils.nettyContextBuilderWithTrustStore(algorithm,
                 config.getTrustStorePath(),
                 config.getTrustStorePass(),
                 defaultType,
                 protocols
         );
         loggingUtils.debugIfEnabled("ssl build successfully");
-        return sslContext;
+        return sslContextBuilder;
 
     }
 
-    @SneakyThrows
-    private @NotNull SslContext buildSslFromCert(final String[] protocols) {
+    private @NotNull SslContextBuilder buildSslFromCert(final String[] protocols) {
         return SslContextBuilder.forClient()
                 .trustManager(new File(config.getCertPath()))
-                .protocols(protocols)
-                .build();
+                .protocols(protocols);
     }
 
     private HttpClient buildLogger(@NotNull HttpClient httpClient) {
         if (Boolean.TRUE.equals(config.getLoggerEnabled())) {
-            final var loggerBuilder = Logbook
-                    .builder()
-                    .sink(new DefaultSink(
-                                    new DefaultHttpLogFormatter(),
-                                    new DefaultHttpLogWriter()
-                            )
-                    );
-            if (Boolean.TRUE.equals(config.getLogAuthHeaderEnabled())) {
-                loggerBuilder
-                        .headerFilter(headers -> headers);
-            }
+            final var loggingConfiguration = Objects.isNull(config.getLogging()) ? LoggingConfiguration.builder().build() : config.getLogging();
+            final var logbook = ExchangeLogbook.create(loggingConfiguration, Boolean.TRUE.equals(config.getLogAuthHeaderEnabled()), metrics);
             httpClient = httpClient.doOnConnected(connection ->
-                    connection.addHandlerLast(new LogbookClientHandler(loggerBuilder.build()))
+                    connection.addHandlerLast(new LogbookClientHandler(logbook))
             );
+            loggingUtils.debugIfEnabled("exchange logging is enabled with [{}]", loggingConfiguration);
         }
         return httpClient;
     }
@@ -351,14 +960,12 @@ public class DefaultTransporterBuilder implements TransporterBuilder {
                 this.resolverGroup = DefaultAddressResolverGroup.INSTANCE;
                 break;
             case CUSTOM:
-                this.resolverGroup = new DnsAddressResolverGroup(
-                        new DnsNameResolverBuilder()
-                                .channelType(NioDatagramChannel.class)
-                                .channelFactory(new ReflectiveChannelFactory<>(NioDatagramChannel.class))
-                                .eventLoop(new DefaultEventLoop())
-                                .socketChannelFactory(new ReflectiveChannelFactory<>(NioSocketChannel.class))
-
-                );
+                final var dnsResolverConfiguration = Objects.isNull(config.getDnsResolver())
+                        ? DnsResolverConfiguration.builder().build()
+                        : config.getDnsResolver();
+                this.resolverGroup = DnsResolverRegistry.acquire(dnsResolverConfiguration, resolverLoops(), preferNative);
+                this.acquiredResolver = dnsResolverConfiguration;
+                loggingUtils.debugIfEnabled("using shared dns resolver [{}]", dnsResolverConfiguration);
                 break;
             default:
                 this.resolverGroup = NoopAddressResolverGroup.INSTANCE;
@@ -366,6 +973,10 @@ public class DefaultTransporterBuilder implements TransporterBuilder {
         }
     }
 
+    private LoopResources resolverLoops() {
+        return Objects.isNull(loopResources) ? HttpResources.get() : loopResources;
+    }
+
     @Override
     public WebClient getWebClient() {
         return buildClient();
@@ -373,7 +984,7 @@ public class DefaultTransporterBuilder implements TransporterBuilder {
 
     @Override
     public HttpServiceProxyFactory getHttpServiceProxyFactory(final String name) {
-        final var timeOut = Duration.of(config.getTimeout(), config.getTimeUnit().toChronoUnit());
+        final var timeOut = clientTimeout();
         final var clientAdapter = WebClientAdapter.create(buildClient());
         clientAdapter.setBlockTimeout(timeOut);
         clientAdapter.setReactiveAdapterRegistry(ReactiveAdapterRegistry.getSharedInstance());
@@ -391,4 +1002,57 @@ public class DefaultTransporterBuilder implements TransporterBuilder {
     public <T> T declareClient(final Class<T> tClass, final HttpServiceProxyFactory httpServiceProxyFactory) {
         return httpServiceProxyFactory.createClient(tClass);
     }
+
+    @Override
+    public <K, V> BatchLoader<K, V> batchLoader(@NotNull final BatchConfiguration batchConfiguration, @NotNull final BatchFunction<K, V> batchFunction) {
+        loggingUtils.debugIfEnabled("batch loader created with [{}]", batchConfiguration);
+        return new BatchLoader<>(batchConfiguration, batchFunction, metrics);
+    }
+
+    @Override
+    public BlockingTransporter blocking(@NotNull final BlockingConfiguration blockingConfiguration) {
+        final var blocking = new BlockingTransporter(blockingConfiguration, this::build);
+        loggingUtils.debugIfEnabled("blocking transporter created with [{}], virtual threads [{}]", blockingConfiguration, blocking.isVirtual());
+        return blocking;
+    }
+
+    @Override
+    public TransporterMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void close() {
+        if (Objects.nonNull(acquiredResolver)) {
+            DnsResolverRegistry.release(acquiredResolver, resolverLoops(), preferNative);
+            loggingUtils.debugIfEnabled("released dns resolver [{}]", acquiredResolver.getShareName());
+            this.acquiredResolver = null;
+            this.resolverGroup = NoopAddressResolverGroup.INSTANCE;
+        }
+        if (Objects.nonNull(acquiredPool)) {
+            ConnectionProviderRegistry.release(acquiredPool);
+            loggingUtils.debugIfEnabled("released connection pool [{}]", acquiredPool.getName());
+            this.acquiredPool = null;
+        }
+        if (Objects.nonNull(acquiredLoops)) {
+            LoopResourcesRegistry.release(acquiredLoops);
+            loggingUtils.debugIfEnabled("released event loops [{}]", acquiredLoops.getThreadPrefix());
+            this.acquiredLoops = null;
+        }
+        if (Objects.nonNull(circuitBreakerFilter)) {
+            circuitBreakerFilter.close();
+        }
+        if (Objects.nonNull(engineConnector)) {
+            try {
+                engineConnector.close();
+            } catch (IOException e) {
+                log.warn("failed to close http engine, message [{}]", e.getMessage());
+            }
+            this.engineConnector = null;
+        }
+        this.loopResources = null;
+        this.preferNative = LoopResources.DEFAULT_NATIVE;
+        this.webClient = null;
+        this.warmUpReadiness = null;
+    }
 }
@@ -1,6 +1,10 @@
 package dev.mfataka.transporter.imp;
 
 
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.core.io.buffer.DataBuffer;
@@ -17,8 +21,13 @@ import dev.mfataka.transporter.checkers.EntityCheckers;
 import dev.mfataka.transporter.checkers.FluxCheckers;
 import dev.mfataka.transporter.checkers.MappingChecker;
 import dev.mfataka.transporter.checkers.MonoCheckers;
+import dev.mfataka.transporter.coalescing.SingleFlight;
+import dev.mfataka.transporter.config.RetryConfiguration;
 import dev.mfataka.transporter.config.TransporterConfiguration;
+import dev.mfataka.transporter.filters.HedgingFilter;
+import dev.mfataka.transporter.filters.RetryFilter;
 import dev.mfataka.transporter.handlers.ErrorHandlers;
+import dev.mfataka.transporter.model.Deadline;
 import dev.mfataka.transporter.model.TransporterData;
 
 /**
@@ -28,23 +37,41 @@ import dev.mfataka.transporter.model.TransporterData;
 public class DefaultTransporterReceiver implements TransporterReceiver {
     private final TransporterConfiguration configuration;
     private final WebClient.RequestBodySpec requestBodySpec;
-
+    private SingleFlight singleFlight;
+    private Object coalescingKey;
+    /**
+     * overrides of configuration flags for this receiver only, configuration may be shared by concurrent calls
+     */
+    private Boolean requiredNonNull;
+    private Boolean checkFields;
+
+    /**
+     * receiver sharing decoded result with identical requests in flight
+     *
+     * @param singleFlight  coalescing registry of transporter, null when coalescing is disabled
+     * @param coalescingKey key of request, null when request is not coalesced
+     */
+    public static DefaultTransporterReceiver of(final TransporterConfiguration configuration,
+                                                final WebClient.RequestBodySpec requestBodySpec,
+                                                @Nullable final SingleFlight singleFlight,
+                                                @Nullable final Object coalescingKey) {
+        final var receiver = of(configuration, requestBodySpec);
+        receiver.singleFlight = singleFlight;
+        receiver.coalescingKey = coalescingKey;
+        return receiver;
+    }
 
     @Override
     public <T> Mono<TransporterData<T>> transporterData(@NotNull final Class<T> responseType) {
-        return this.requestBodySpec
+        return coalesce("transporterData", responseType, () -> this.requestBodySpec
                 .exchangeToMono(mapper -> getTransporterDataMono(responseType, mapper))
                 .onErrorResume(ErrorHandlers::handleError)
-                .onErrorReturn(TransporterData.fail("Failed to return data"));
+                .onErrorReturn(TransporterData.fail("Failed to return data")));
     }
 
     @Override
     public <T> TransporterData<T> transporterDataBlock(@NotNull Class<T> responseType) {
-        return this.requestBodySpec
-                .exchangeToMono(mapper -> getTransporterDataMono(responseType, mapper))
-                .onErrorResume(ErrorHandlers::handleError)
-                .onErrorReturn(TransporterData.fail("Failed to return data"))
-                .block();
+        return transporterData(responseType).block();
     }
 
     @Override
@@ -62,7 +89,7 @@ public class DefaultTransporterReceiver implements TransporterReceiver {
 
     @Override
     public TransporterData<String> transporterData() {
-        return this.requestBodySpec
+        return coalesce("transporterDataUnchecked", String.class, () -> this.requestBodySpec
                 .exchangeToMono(mapper ->
                         MappingChecker.resolveMapping(mapper,
                                 String.class,
@@ -70,32 +97,32 @@ public class DefaultTransporterReceiver implements TransporterReceiver {
                                 isCheckFields()
                         )
                 )
-                .onErrorResume(ErrorHandlers::handleError)
+                .onErrorResume(ErrorHandlers::handleError))
                 .block();
     }
 
     @Override
     public <T> Mono<ResponseEntity<T>> entityData(@NotNull final Class<T> responseType) {
-        return this.requestBodySpec
+        return coalesce("entityData", responseType, () -> this.requestBodySpec
                 .exchangeToMono(mapper ->
                         EntityCheckers.resolveEntityMapping(mapper,
                                 responseType,
                                 isRequireNonNull(),
                                 isCheckFields()
                         )
-                );
+                ));
     }
 
     @Override
     public <T> Mono<T> monoData(@NotNull final Class<T> responseType) {
-        return this.requestBodySpec
+        return coalesce("monoData", responseType, () -> this.requestBodySpec
                 .exchangeToMono(mapper ->
                         MonoCheckers.resolveMapping(mapper,
                                 responseType,
                                 isRequireNonNull(),
                                 isCheckFields()
                         )
-                );
+                ));
     }
 
     @Override
@@ -110,23 +137,51 @@ public class DefaultTransporterReceiver implements TransporterReceiver {
                 );
     }
 
+    @Override
+    public TransporterReceiver withDeadline(@NotNull final Deadline deadline) {
+        this.requestBodySpec.attribute(Deadline.ATTRIBUTE, deadline);
+        return this;
+    }
+
+    @Override
+    public TransporterReceiver withHedging(final boolean enabled) {
+        this.requestBodySpec.attribute(HedgingFilter.HEDGE_ATTRIBUTE, enabled);
+        return this;
+    }
+
+    @Override
+    public TransporterReceiver withRetry(@NotNull final RetryConfiguration retryConfiguration) {
+        this.requestBodySpec.attribute(RetryFilter.RETRY_ATTRIBUTE, retryConfiguration);
+        return this;
+    }
+
+    /**
+     * decoded result is shared, so the key contains also the way and the type it is decoded to
+     */
+    private <T> Mono<T> coalesce(final String operation, final Class<?> responseType, final Supplier<Mono<T>> exchange) {
+        if (Objects.isNull(singleFlight) || Objects.isNull(coalescingKey)) {
+            return exchange.get();
+        }
+        return singleFlight.execute(List.of(coalescingKey, operation, responseType, isRequireNonNull(), isCheckFields()), exchange);
+    }
+
     private boolean isCheckFields() {
-        return configuration.isCheckRequiredFields();
+        return Objects.isNull(checkFields) ? configuration.isCheckRequiredFields() : checkFields;
     }
 
     private boolean isRequireNonNull() {
-        return configuration.isRequiredNonNull();
+        return Objects.isNull(requiredNonNull) ? configuration.isRequiredNonNull() : requiredNonNull;
     }
 
     @Override
     public TransporterReceiver requireNonNull(@Nullable final Boolean enabled) {
-        configuration.setRequiredNonNull(Boolean.TRUE.equals(enabled));
+        this.requiredNonNull = Boolean.TRUE.equals(enabled);
         return this;
     }
 
     @Override
     public TransporterReceiver checkRequiredFields(@Nullable final Boolean enabled) {
-        configuration.setCheckRequiredFields(Boolean.TRUE.equals(enabled));
+        this.checkFields = Boolean.TRUE.equals(enabled);
         return this;
     }
 
@@ -8,7 +8,15 @@ import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriBuilder;
 
+import reactor.core.publisher.Flux;
+
+import dev.mfataka.transporter.bulk.BulkRequest;
+import dev.mfataka.transporter.bulk.BulkResult;
+import dev.mfataka.transporter.config.BulkConfiguration;
+import dev.mfataka.transporter.config.RetryConfiguration;
 import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.model.Deadline;
+import dev.mfataka.transporter.prepared.PreparedRequest;
 
 /**
  * @author HAMMA FATAKA<br>
@@ -65,6 +73,40 @@ public interface Transporter {
      */
     Transporter withUrlParam(@NotNull final String paramName, @NotNull final String paramValue);
 
+    /**
+     * sets deadline of next request, overrides deadline of reactor context and transporter defaults
+     *
+     * @param deadline connect, tls, time to first byte and total budgets
+     * @return {@link  Transporter} for more config set
+     */
+    Transporter withDeadline(@NotNull final Deadline deadline);
+
+    /**
+     * marks next request to be hedged even if its method is not hedged by default (caller guarantees it is idempotent),
+     * or excludes it from hedging
+     *
+     * @param enabled true to hedge request, false to never hedge it
+     * @return {@link  Transporter} for more config set
+     */
+    Transporter withHedging(final boolean enabled);
+
+    /**
+     * sets retry settings of next request, replaces retry settings of transporter
+     *
+     * @param retryConfiguration retry settings, zero max retries disables retrying
+     * @return {@link  Transporter} for more config set
+     */
+    Transporter withRetry(@NotNull final RetryConfiguration retryConfiguration);
+
+    /**
+     * excludes next request from coalescing with identical requests in flight, or includes it again,
+     * has effect only when transporter is built with coalescing
+     *
+     * @param enabled false to always send request on its own
+     * @return {@link  Transporter} for more config set
+     */
+    Transporter withCoalescing(final boolean enabled);
+
     /**
      * Adds a URL parameter to the request using a function to build the URI
      *
@@ -75,7 +117,8 @@ public interface Transporter {
     WebClient.RequestBodySpec send(@NotNull final Function<UriBuilder, URI> uriFunction);
 
     /**
-     * adds content length automatically based on body
+     * adds content length automatically based on body, length is taken from buffer the body is encoded into
+     * so body is serialized only once
      *
      * @return {@link WebClient.ResponseSpec} if it was successful
      */
@@ -123,4 +166,38 @@ public interface Transporter {
      */
     TransporterReceiver sendAndReceive(@NotNull final String url, @NotNull final TransporterMethod method);
 
+    /**
+     * method to run many requests with bounded concurrency, auth and headers set on this transporter are sent with
+     * every request of the job, failure of one request is kept in its result and never stops the job
+     *
+     * @param requests          requests of job
+     * @param responseType      type of response body
+     * @param bulkConfiguration concurrency, prefetch and ordering of results
+     * @return result of every request with progress of job
+     */
+    <T> Flux<BulkResult<T>> bulk(@NotNull final Flux<BulkRequest> requests,
+                                 @NotNull final Class<T> responseType,
+                                 @NotNull final BulkConfiguration bulkConfiguration);
+
+    /**
+     * method to run many requests with default bulk configuration, results are emitted as they complete
+     *
+     * @param requests     requests of job
+     * @param responseType type of response body
+     * @return result of every request with progress of job
+     */
+    default <T> Flux<BulkResult<T>> bulk(@NotNull final Flux<BulkRequest> requests, @NotNull final Class<T> responseType) {
+        return bulk(requests, responseType, BulkConfiguration.builder().build());
+    }
+
+    /**
+     * method to freeze configured request into immutable template, headers, auth, body, content type and options
+     * set on this transporter are moved into template, which is safe to share and send from any thread
+     *
+     * @param method      request method
+     * @param uriTemplate uri template like {@code /orders/{id}}, relative to base url of transporter
+     * @return {@link PreparedRequest}
+     */
+    PreparedRequest prepare(@NotNull final TransporterMethod method, @NotNull final String uriTemplate);
+
 }
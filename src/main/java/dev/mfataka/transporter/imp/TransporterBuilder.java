@@ -1,13 +1,51 @@
 package dev.mfataka.transporter.imp;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 
+import reactor.core.publisher.Mono;
+
 import io.netty.resolver.dns.DnsAddressResolverGroup;
 
+import dev.mfataka.transporter.batch.BatchFunction;
+import dev.mfataka.transporter.batch.BatchLoader;
+import dev.mfataka.transporter.blocking.BlockingTransporter;
+import dev.mfataka.transporter.circuitbreaker.CircuitBreaker;
+import dev.mfataka.transporter.circuitbreaker.CircuitBreakerEvent;
+import dev.mfataka.transporter.coalescing.CoalescingKey;
+import dev.mfataka.transporter.config.BatchConfiguration;
+import dev.mfataka.transporter.config.BlockingConfiguration;
+import dev.mfataka.transporter.config.CacheConfiguration;
+import dev.mfataka.transporter.config.CircuitBreakerConfiguration;
+import dev.mfataka.transporter.config.CoalescingConfiguration;
+import dev.mfataka.transporter.config.CompressionConfiguration;
+import dev.mfataka.transporter.config.ConcurrencyLimitConfiguration;
+import dev.mfataka.transporter.config.ConnectionPoolConfiguration;
+import dev.mfataka.transporter.config.DeadlineConfiguration;
+import dev.mfataka.transporter.config.DnsResolverConfiguration;
+import dev.mfataka.transporter.config.EventLoopConfiguration;
+import dev.mfataka.transporter.config.HedgingConfiguration;
+import dev.mfataka.transporter.config.Http2Configuration;
+import dev.mfataka.transporter.config.LoadBalancerConfiguration;
+import dev.mfataka.transporter.config.LoggingConfiguration;
+import dev.mfataka.transporter.config.RateLimitConfiguration;
+import dev.mfataka.transporter.config.RetryConfiguration;
+import dev.mfataka.transporter.config.SocketOptionsConfiguration;
+import dev.mfataka.transporter.config.TlsConfiguration;
 import dev.mfataka.transporter.config.TransporterConfiguration;
+import dev.mfataka.transporter.config.WarmUpConfiguration;
+import dev.mfataka.transporter.enums.HttpEngine;
+import dev.mfataka.transporter.enums.HttpProtocolMode;
+import dev.mfataka.transporter.loadbalancer.Endpoint;
+import dev.mfataka.transporter.loadbalancer.EndpointSelector;
+import dev.mfataka.transporter.metrics.TransporterMetrics;
 import dev.mfataka.transporter.model.TransporterClientResolver;
 
 /**
@@ -15,7 +53,7 @@ import dev.mfataka.transporter.model.TransporterClientResolver;
  * Project: base<br>
  * Date: 3/21/2022 9:23 AM
  */
-public interface TransporterBuilder {
+public interface TransporterBuilder extends AutoCloseable {
 
     /**
      * method to create new instance of {@link TransporterBuilder}
@@ -65,6 +103,247 @@ public interface TransporterBuilder {
 
     TransporterBuilder dataLimit(final int limitInBytes);
 
+    /**
+     * method to use dedicated, named connection pool instead of reactor netty global one,
+     * builders using same pool name share the pool
+     *
+     * @param poolConfiguration pool settings
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder connectionPool(@NotNull final ConnectionPoolConfiguration poolConfiguration);
+
+    /**
+     * method to run client on dedicated event loops with chosen transport (nio, epoll, io_uring),
+     * builders using same thread prefix share the loops
+     *
+     * @param eventLoopConfiguration event loop settings
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder eventLoop(@NotNull final EventLoopConfiguration eventLoopConfiguration);
+
+    /**
+     * method to set socket options of client connections
+     *
+     * @param socketOptionsConfiguration socket options
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder socketOptions(@NotNull final SocketOptionsConfiguration socketOptionsConfiguration);
+
+    /**
+     * method to set http protocol of client, h2 over tls, h2c with prior knowledge
+     * or ALPN negotiated h2 falling back to HTTP/1.1
+     *
+     * @param protocol http protocol mode
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder protocol(@NotNull final HttpProtocolMode protocol);
+
+    /**
+     * method to set http engine of client, reactor netty by default, jdk http client or apache http client 5,
+     * ssl, proxy, timeouts, redirects and pool size are mapped onto chosen engine, netty only settings are ignored by others
+     *
+     * @param engine http engine
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder engine(@NotNull final HttpEngine engine);
+
+    /**
+     * method to enable logbook exchange logging with sampling rate, route filters, error only modes and body size cap,
+     * log lines are written from bounded queue off event loops, lines over capacity are dropped
+     *
+     * @param loggingConfiguration logging settings
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder logging(@NotNull final LoggingConfiguration loggingConfiguration);
+
+    /**
+     * method to set HTTP/2 pool settings, max concurrent streams per connection and connection counts,
+     * used only when protocol is HTTP/2 capable
+     *
+     * @param http2Configuration HTTP/2 settings
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder http2(@NotNull final Http2Configuration http2Configuration);
+
+    /**
+     * method to spread requests sent to base url over multiple endpoints using strategy of given configuration,
+     * first endpoint is used as base url when it is not set
+     *
+     * @param loadBalancerConfiguration endpoints and strategy
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder loadBalancer(@NotNull final LoadBalancerConfiguration loadBalancerConfiguration);
+
+    /**
+     * method to spread requests sent to base url over multiple endpoints using custom selector
+     *
+     * @param loadBalancerConfiguration endpoints
+     * @param endpointSelector          custom strategy picking endpoint, overrides strategy of configuration
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder loadBalancer(@NotNull final LoadBalancerConfiguration loadBalancerConfiguration,
+                                    @NotNull final EndpointSelector endpointSelector);
+
+    /**
+     * returns load balanced endpoints with their in-flight, request, failure and EWMA latency statistics
+     *
+     * @return endpoints, empty until client with load balancer is built
+     */
+    List<Endpoint> getEndpoints();
+
+    /**
+     * method to set default per request deadline and deadline header propagation,
+     * single requests can override it with {@link Transporter#withDeadline} or through reactor context
+     *
+     * @param deadlineConfiguration default deadline settings
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder deadline(@NotNull final DeadlineConfiguration deadlineConfiguration);
+
+    /**
+     * method to guard every target host with circuit breaker, requests to host with open circuit fail fast
+     * with {@link dev.mfataka.transporter.exceptions.CircuitBreakerOpenException} without acquiring connection
+     *
+     * @param circuitBreakerConfiguration sliding window, thresholds and open duration
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder circuitBreaker(@NotNull final CircuitBreakerConfiguration circuitBreakerConfiguration);
+
+    /**
+     * method to guard every target host with circuit breaker and listen to its state transitions
+     *
+     * @param circuitBreakerConfiguration sliding window, thresholds and open duration
+     * @param listener                    called on every state transition
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder circuitBreaker(@NotNull final CircuitBreakerConfiguration circuitBreakerConfiguration,
+                                      @NotNull final Consumer<CircuitBreakerEvent> listener);
+
+    /**
+     * returns circuit breakers of hosts requests were sent to with their state and failure and slow call rates
+     *
+     * @return circuit breakers, empty until client with circuit breaker is built
+     */
+    Collection<CircuitBreaker> getCircuitBreakers();
+
+    /**
+     * method to enable retries of idempotent requests failing on connect errors, resets or configured statuses,
+     * with exponential backoff, full jitter, Retry-After support and per host retry budget,
+     * single requests can use own settings with {@link Transporter#withRetry(RetryConfiguration)}
+     *
+     * @param retryConfiguration retry settings
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder retry(@NotNull final RetryConfiguration retryConfiguration);
+
+    /**
+     * method to hold requests under in-flight limit adapted from observed round-trip latency, requests over the limit
+     * wait in bounded queue or fail fast with {@link dev.mfataka.transporter.exceptions.ConcurrencyLimitExceededException},
+     * limit, in-flight count and rejections are published as {@code limit.*} metrics
+     *
+     * @param concurrencyLimitConfiguration limit algorithm, bounds and queue settings
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder concurrencyLimit(@NotNull final ConcurrencyLimitConfiguration concurrencyLimitConfiguration);
+
+    /**
+     * method to limit request rate of transporter and of URL path patterns with token buckets, request over the rate
+     * waits on timer within wait budget or fails with {@link dev.mfataka.transporter.exceptions.RateLimitExceededException}
+     *
+     * @param rateLimitConfiguration rate, burst, wait budget and route limits
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder rateLimit(@NotNull final RateLimitConfiguration rateLimitConfiguration);
+
+    /**
+     * method to let concurrent identical requests share one upstream exchange and its decoded result,
+     * requests are identical when method, url and selected headers are equal
+     *
+     * @param coalescingConfiguration coalesced methods and headers being part of request identity
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder coalescing(@NotNull final CoalescingConfiguration coalescingConfiguration);
+
+    /**
+     * method to let concurrent requests with equal key share one upstream exchange and its decoded result
+     *
+     * @param coalescingConfiguration coalesced methods and headers being part of request identity
+     * @param keyFunction             maps request identity to coalescing key, null key sends request on its own
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder coalescing(@NotNull final CoalescingConfiguration coalescingConfiguration,
+                                  @NotNull final Function<CoalescingKey, Object> keyFunction);
+
+    /**
+     * method to cache GET responses in memory following Cache-Control, Expires and validators of responses,
+     * stale responses are revalidated with If-None-Match / If-Modified-Since, cache hits never reach the wire
+     *
+     * @param cacheConfiguration memory caps and default stale windows
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder cache(@NotNull final CacheConfiguration cacheConfiguration);
+
+    /**
+     * method to enable hedging, duplicate of slow idempotent request is sent after fixed or percentile based delay,
+     * first response wins, requests can be marked with {@link Transporter#withHedging(boolean)}
+     *
+     * @param hedgingConfiguration hedge delay, budget and hedged methods
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder hedging(@NotNull final HedgingConfiguration hedgingConfiguration);
+
+    /**
+     * method to set response decompression independently of redirects and compression of request bodies,
+     * including SOAP envelopes, bigger than threshold
+     *
+     * @param compressionConfiguration compression settings
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder compression(@NotNull final CompressionConfiguration compressionConfiguration);
+
+    /**
+     * method to set caching DNS resolver settings, used by {@link TransporterClientResolver#CUSTOM},
+     * builders using same resolver name share resolver and its cache
+     *
+     * @param dnsResolverConfiguration resolver settings
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder dnsResolver(@NotNull final DnsResolverConfiguration dnsResolverConfiguration);
+
+    /**
+     * method to set TLS engine settings, OpenSSL provider, session cache and cipher order
+     *
+     * @param tlsConfiguration TLS settings
+     * @return {@link TransporterBuilder} for more configs
+     */
+    TransporterBuilder tls(@NotNull final TlsConfiguration tlsConfiguration);
+
+    /**
+     * method to open and handshake given count of pooled connections to base url when client is built
+     *
+     * @param connections count of connections to open
+     * @return {@link TransporterBuilder} for more configs
+     * @see #warmUpReadiness()
+     */
+    TransporterBuilder warmUp(final int connections);
+
+    /**
+     * method to open and handshake pooled connections to base url or to configured hosts when client is built
+     *
+     * @param warmUpConfiguration warm-up settings
+     * @return {@link TransporterBuilder} for more configs
+     * @see #warmUpReadiness()
+     */
+    TransporterBuilder warmUp(@NotNull final WarmUpConfiguration warmUpConfiguration);
+
+    /**
+     * readiness of warm-up started by last build, emits true when all connections were opened,
+     * false when some of them failed or warm-up timed out, true immediately when no warm-up was started
+     *
+     * @return {@link Mono} of readiness, it never errors
+     */
+    Mono<Boolean> warmUpReadiness();
+
 
     /**
      * It returns a WebClientMethodBuilder object.
@@ -139,4 +418,47 @@ public interface TransporterBuilder {
      * @return client
      */
     <T> T declareClient(final Class<T> tClass, final HttpServiceProxyFactory httpServiceProxyFactory);
+
+    /**
+     * method to create loader collecting single key lookups into batch calls, e.g. sent with
+     * {@link BatchFunction#post(java.util.function.Supplier, String, Class, Function)}, loader reports to metrics of this builder
+     *
+     * @param batchConfiguration batch size, window and name of loader
+     * @param batchFunction      loads values of many keys with one call
+     * @param <K>                type of key
+     * @param <V>                type of value
+     * @return batch loader
+     */
+    <K, V> BatchLoader<K, V> batchLoader(@NotNull final BatchConfiguration batchConfiguration, @NotNull final BatchFunction<K, V> batchFunction);
+
+    /**
+     * method to create synchronous view of transporters built by this builder, for callers on servlet stack
+     *
+     * @param blockingConfiguration timeout of calls and executor of blocking tasks
+     * @return blocking transporter
+     */
+    BlockingTransporter blocking(@NotNull final BlockingConfiguration blockingConfiguration);
+
+    /**
+     * method to create synchronous view of transporters built by this builder with default timeout
+     *
+     * @return blocking transporter
+     */
+    default BlockingTransporter blocking() {
+        return blocking(BlockingConfiguration.builder().build());
+    }
+
+    /**
+     * returns metrics collected by clients built by this builder, e.g. HTTP/2 streams per connection
+     *
+     * @return metrics of this builder
+     */
+    TransporterMetrics getMetrics();
+
+    /**
+     * releases resources held by this builder, connection pool and event loops are disposed when no other builder uses them,
+     * next build will create new client
+     */
+    @Override
+    void close();
 }
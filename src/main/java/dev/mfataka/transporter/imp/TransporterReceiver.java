@@ -8,6 +8,8 @@ import org.springframework.http.ResponseEntity;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import dev.mfataka.transporter.config.RetryConfiguration;
+import dev.mfataka.transporter.model.Deadline;
 import dev.mfataka.transporter.model.DemoResponse;
 import dev.mfataka.transporter.model.TransporterData;
 
@@ -65,6 +67,30 @@ public interface TransporterReceiver {
      */
     <T> Flux<T> fluxData(@NotNull final Class<T> responseType);
 
+    /**
+     * sets deadline of this request, overrides deadline of reactor context and transporter defaults
+     *
+     * @param deadline connect, tls, time to first byte and total budgets
+     * @return {@link TransporterReceiver}.
+     */
+    TransporterReceiver withDeadline(@NotNull final Deadline deadline);
+
+    /**
+     * marks this request to be hedged even if its method is not hedged by default, or excludes it from hedging
+     *
+     * @param enabled true to hedge request, false to never hedge it
+     * @return {@link TransporterReceiver}.
+     */
+    TransporterReceiver withHedging(final boolean enabled);
+
+    /**
+     * sets retry settings of this request, replaces retry settings of transporter
+     *
+     * @param retryConfiguration retry settings, zero max retries disables retrying
+     * @return {@link TransporterReceiver}.
+     */
+    TransporterReceiver withRetry(@NotNull final RetryConfiguration retryConfiguration);
+
 
     /**
      * if it is called then will check all properties to be not null otherwise will not process it
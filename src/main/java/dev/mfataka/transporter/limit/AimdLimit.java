@@ -0,0 +1,48 @@
+package dev.mfataka.transporter.limit;
+
+import java.util.Objects;
+
+import dev.mfataka.transporter.config.ConcurrencyLimitConfiguration;
+
+/**
+ * @author HAMMA FATAKA
+ * additive increase, multiplicative decrease limit, grows by one while it is used and latency stays under threshold,
+ * shrinks by backoff ratio on failure or slow call
+ */
+public class AimdLimit implements ConcurrencyLimit {
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private volatile int limit;
+
+    public AimdLimit(final ConcurrencyLimitConfiguration config) {
+        this.minLimit = Objects.isNull(config.getMinLimit()) ? ConcurrencyLimitConfiguration.DEFAULT_MIN_LIMIT : config.getMinLimit();
+        this.maxLimit = Objects.isNull(config.getMaxLimit()) ? ConcurrencyLimitConfiguration.DEFAULT_MAX_LIMIT : config.getMaxLimit();
+        this.backoffRatio = Objects.isNull(config.getBackoffRatio()) ? ConcurrencyLimitConfiguration.DEFAULT_BACKOFF_RATIO : config.getBackoffRatio();
+        this.latencyThresholdNanos = (Objects.isNull(config.getLatencyThreshold())
+                ? ConcurrencyLimitConfiguration.DEFAULT_LATENCY_THRESHOLD
+                : config.getLatencyThreshold()).toNanos();
+        final var initial = Objects.isNull(config.getInitialLimit()) ? ConcurrencyLimitConfiguration.DEFAULT_INITIAL_LIMIT : config.getInitialLimit();
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initial));
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized void onSample(final long rttNanos, final int inFlight, final boolean dropped) {
+        if (dropped || rttNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, Math.min(limit - 1, (int) (limit * backoffRatio)));
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AimdLimit[" + limit + "]";
+    }
+}
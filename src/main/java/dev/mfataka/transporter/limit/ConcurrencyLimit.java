@@ -0,0 +1,22 @@
+package dev.mfataka.transporter.limit;
+
+/**
+ * @author HAMMA FATAKA
+ * algorithm computing in-flight request limit from samples of finished requests
+ */
+public interface ConcurrencyLimit {
+
+    /**
+     * @return current limit
+     */
+    int getLimit();
+
+    /**
+     * updates limit with sample of finished request
+     *
+     * @param rttNanos round-trip latency until response headers
+     * @param inFlight requests in flight when request started
+     * @param dropped  whether request failed or was cancelled
+     */
+    void onSample(long rttNanos, int inFlight, boolean dropped);
+}
@@ -0,0 +1,78 @@
+package dev.mfataka.transporter.limit;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import reactor.core.publisher.Mono;
+
+import dev.mfataka.transporter.config.ConcurrencyLimitConfiguration;
+import dev.mfataka.transporter.exceptions.CircuitBreakerOpenException;
+import dev.mfataka.transporter.exceptions.ConcurrencyLimitExceededException;
+import dev.mfataka.transporter.metrics.TransporterMetrics;
+
+/**
+ * @author HAMMA FATAKA
+ * holds requests of transporter under adaptive in-flight limit, latency until response headers adjusts the limit.
+ * runs outside circuit breaker, call failed fast by open circuit only gives its slot back.
+ */
+public class ConcurrencyLimitFilter implements ExchangeFilterFunction {
+    private static final String METRICS_PREFIX = "limit.";
+
+    private final ConcurrencyLimiter limiter;
+    private final TransporterMetrics metrics;
+
+    public ConcurrencyLimitFilter(@NotNull final ConcurrencyLimitConfiguration config, @NotNull final TransporterMetrics metrics) {
+        this.limiter = new ConcurrencyLimiter(config);
+        this.metrics = metrics;
+        metrics.gauge(METRICS_PREFIX + "current", limiter::getLimit);
+        metrics.gauge(METRICS_PREFIX + "inFlight", limiter::getInFlight);
+        metrics.gauge(METRICS_PREFIX + "queued", limiter::getQueued);
+    }
+
+    public ConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    @Override
+    @NotNull
+    public Mono<ClientResponse> filter(@NotNull final ClientRequest request, @NotNull final ExchangeFunction next) {
+        return limiter.acquire()
+                .doOnError(ConcurrencyLimitExceededException.class, e -> metrics.increment(METRICS_PREFIX + "rejected"))
+                .then(Mono.defer(() -> {
+                    final var inFlight = limiter.getInFlight();
+                    final var start = System.nanoTime();
+                    final var done = new AtomicBoolean();
+                    return next.exchange(request)
+                            .doOnNext(response -> {
+                                if (done.compareAndSet(false, true)) {
+                                    limiter.release(System.nanoTime() - start, inFlight, response.statusCode().is5xxServerError());
+                                }
+                            })
+                            .doOnError(e -> {
+                                if (!done.compareAndSet(false, true)) {
+                                    return;
+                                }
+                                if (e instanceof CircuitBreakerOpenException) {
+                                    limiter.cancel();
+                                } else {
+                                    limiter.release(System.nanoTime() - start, inFlight, true);
+                                }
+                            })
+                            .doOnCancel(() -> {
+                                if (done.compareAndSet(false, true)) {
+                                    limiter.cancel();
+                                }
+                            })
+                            .doOnSuccess(response -> {
+                                if (done.compareAndSet(false, true)) {
+                                    limiter.release(System.nanoTime() - start, inFlight, false);
+                                }
+                            });
+                }));
+    }
+}
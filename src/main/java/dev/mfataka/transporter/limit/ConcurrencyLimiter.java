@@ -0,0 +1,149 @@
+package dev.mfataka.transporter.limit;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import dev.mfataka.transporter.config.ConcurrencyLimitConfiguration;
+import dev.mfataka.transporter.enums.LimitAlgorithm;
+import dev.mfataka.transporter.exceptions.ConcurrencyLimitExceededException;
+
+/**
+ * @author HAMMA FATAKA
+ * non blocking in-flight limiter, request over the limit waits in bounded queue for released slot,
+ * full queue or expired wait fails with {@link ConcurrencyLimitExceededException}.
+ */
+public class ConcurrencyLimiter {
+    private static final int WAITING = 0;
+    private static final int GRANTED = 1;
+    private static final int CANCELLED = 2;
+
+    private final ConcurrencyLimit limit;
+    private final int maxQueue;
+    @Nullable
+    private final Duration maxWait;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    public ConcurrencyLimiter(@NotNull final ConcurrencyLimitConfiguration config) {
+        this.limit = (Objects.isNull(config.getAlgorithm()) ? LimitAlgorithm.GRADIENT : config.getAlgorithm()).create(config);
+        this.maxQueue = Objects.isNull(config.getMaxQueue()) ? 0 : config.getMaxQueue();
+        this.maxWait = config.getMaxWait();
+    }
+
+    /**
+     * @return mono completing once slot is acquired, acquired slot must be given back by {@link #release(long, int, boolean)}
+     */
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            if (waiters.isEmpty() && tryAcquire()) {
+                return Mono.empty();
+            }
+            if (queued.incrementAndGet() > maxQueue) {
+                queued.decrementAndGet();
+                return Mono.error(new ConcurrencyLimitExceededException("concurrency limit [" + getLimit() + "] reached", getLimit()));
+            }
+            final Mono<Void> waiting = Mono.create(sink -> {
+                final var waiter = new Waiter(sink);
+                sink.onCancel(() -> {
+                    if (waiter.state.compareAndSet(WAITING, CANCELLED)) {
+                        queued.decrementAndGet();
+                        waiters.remove(waiter);
+                    } else if (waiter.state.get() == GRANTED) {
+                        // slot was granted but never delivered
+                        releaseSlot();
+                    }
+                });
+                waiters.add(waiter);
+                drain();
+            });
+            if (Objects.isNull(maxWait)) {
+                return waiting;
+            }
+            return waiting.timeout(maxWait, Mono.error(() -> new ConcurrencyLimitExceededException(
+                    "no slot of concurrency limit [" + getLimit() + "] was released within [" + maxWait + "]", getLimit())));
+        });
+    }
+
+    /**
+     * gives back slot and feeds limit algorithm with sample of finished request
+     *
+     * @param rttNanos round-trip latency of request
+     * @param inFlight requests in flight when request started
+     * @param dropped  whether request failed
+     */
+    public void release(final long rttNanos, final int inFlight, final boolean dropped) {
+        limit.onSample(rttNanos, inFlight, dropped);
+        releaseSlot();
+    }
+
+    /**
+     * gives back slot of cancelled request without sample, hedge losers and deadline cancellations say nothing about overload
+     */
+    public void cancel() {
+        releaseSlot();
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    private void releaseSlot() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            final var current = inFlight.get();
+            if (current >= limit.getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void drain() {
+        while (!waiters.isEmpty() && tryAcquire()) {
+            final var waiter = waiters.poll();
+            if (Objects.isNull(waiter)) {
+                inFlight.decrementAndGet();
+                return;
+            }
+            if (waiter.state.compareAndSet(WAITING, GRANTED)) {
+                queued.decrementAndGet();
+                waiter.sink.success();
+            } else {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private final MonoSink<Void> sink;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        private Waiter(final MonoSink<Void> sink) {
+            this.sink = sink;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package dev.mfataka.transporter.limit;
+
+import java.util.Objects;
+
+import dev.mfataka.transporter.config.ConcurrencyLimitConfiguration;
+
+/**
+ * @author HAMMA FATAKA
+ * gradient limit, compares long term average latency with current latency. while current latency does not exceed
+ * long term one limit grows by queue allowance (square root of limit), rising latency shrinks it proportionally.
+ */
+public class GradientLimit implements ConcurrencyLimit {
+    private static final double LONG_RTT_ALPHA = 2D / (600 + 1);
+    private static final double SHORT_RTT_ALPHA = 2D / (10 + 1);
+    private static final double SMOOTHING = 0.2D;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private volatile double limit;
+    private double longRtt;
+    private double shortRtt;
+
+    public GradientLimit(final ConcurrencyLimitConfiguration config) {
+        this.minLimit = Objects.isNull(config.getMinLimit()) ? ConcurrencyLimitConfiguration.DEFAULT_MIN_LIMIT : config.getMinLimit();
+        this.maxLimit = Objects.isNull(config.getMaxLimit()) ? ConcurrencyLimitConfiguration.DEFAULT_MAX_LIMIT : config.getMaxLimit();
+        this.backoffRatio = Objects.isNull(config.getBackoffRatio()) ? ConcurrencyLimitConfiguration.DEFAULT_BACKOFF_RATIO : config.getBackoffRatio();
+        final var initial = Objects.isNull(config.getInitialLimit()) ? ConcurrencyLimitConfiguration.DEFAULT_INITIAL_LIMIT : config.getInitialLimit();
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initial));
+    }
+
+    @Override
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public synchronized void onSample(final long rttNanos, final int inFlight, final boolean dropped) {
+        if (dropped) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+            return;
+        }
+        if (longRtt == 0) {
+            longRtt = rttNanos;
+            shortRtt = rttNanos;
+            return;
+        }
+        shortRtt = shortRtt + SHORT_RTT_ALPHA * (rttNanos - shortRtt);
+        longRtt = longRtt + LONG_RTT_ALPHA * (rttNanos - longRtt);
+        if (longRtt / shortRtt > 2) {
+            // latency dropped a lot, long term average catches up faster
+            longRtt = longRtt * 0.95;
+        }
+        if (inFlight < limit / 2) {
+            return;
+        }
+        final var gradient = Math.max(0.5D, Math.min(1D, longRtt / shortRtt));
+        final var newLimit = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + newLimit * SMOOTHING));
+    }
+
+    @Override
+    public String toString() {
+        return "GradientLimit[" + getLimit() + "]";
+    }
+}
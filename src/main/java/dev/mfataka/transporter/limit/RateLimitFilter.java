@@ -0,0 +1,98 @@
+package dev.mfataka.transporter.limit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import reactor.core.publisher.Mono;
+
+import dev.mfataka.transporter.config.RateLimitConfiguration;
+import dev.mfataka.transporter.exceptions.RateLimitExceededException;
+import dev.mfataka.transporter.metrics.TransporterMetrics;
+
+/**
+ * @author HAMMA FATAKA
+ * takes permit of transporter limit and of most specific route matching request path, request waits for reserved permits
+ * on timer, request which would wait longer than wait budget fails with {@link RateLimitExceededException}.
+ * buckets come from {@link RateLimitRegistry}, so all transporters with the same rate limit name share the quota.
+ */
+public class RateLimitFilter implements ExchangeFilterFunction {
+    private static final String METRICS_PREFIX = "ratelimit.";
+    private static final String TRANSPORTER_ROUTE = "transporter";
+
+    private final TokenBucket transporterBucket;
+    private final Map<String, TokenBucket> routeBuckets = new LinkedHashMap<>();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final long maxWaitNanos;
+    private final TransporterMetrics metrics;
+
+    public RateLimitFilter(@NotNull final RateLimitConfiguration config, @NotNull final TransporterMetrics metrics) {
+        this.metrics = metrics;
+        this.maxWaitNanos = Objects.isNull(config.getMaxWait()) ? 0 : config.getMaxWait().toNanos();
+        final var name = Objects.isNull(config.getName()) ? RateLimitConfiguration.DEFAULT_NAME : config.getName();
+        this.transporterBucket = Objects.isNull(config.getPermitsPerSecond()) ? null : createBucket(name, TRANSPORTER_ROUTE, config);
+        if (Objects.nonNull(config.getRoutes())) {
+            config.getRoutes().forEach((pattern, route) -> routeBuckets.put(pattern, createBucket(name, pattern, route)));
+        }
+    }
+
+    @Override
+    @NotNull
+    public Mono<ClientResponse> filter(@NotNull final ClientRequest request, @NotNull final ExchangeFunction next) {
+        return Mono.defer(() -> {
+            final List<TokenBucket> reserved = new ArrayList<>(2);
+            var wait = 0L;
+            for (final var route : routesOf(request)) {
+                final var bucket = Objects.equals(TRANSPORTER_ROUTE, route) ? transporterBucket : routeBuckets.get(route);
+                final var bucketWait = bucket.reserve(maxWaitNanos);
+                if (bucketWait < 0) {
+                    reserved.forEach(TokenBucket::refund);
+                    metrics.increment(METRICS_PREFIX + route + ".rejected");
+                    return Mono.error(new RateLimitExceededException(route));
+                }
+                reserved.add(bucket);
+                wait = Math.max(wait, bucketWait);
+            }
+            if (wait == 0) {
+                return next.exchange(request);
+            }
+            metrics.increment(METRICS_PREFIX + "delayed");
+            return Mono.delay(Duration.ofNanos(wait))
+                    .doOnCancel(() -> reserved.forEach(TokenBucket::refund))
+                    .then(Mono.defer(() -> next.exchange(request)));
+        });
+    }
+
+    private List<String> routesOf(final ClientRequest request) {
+        final List<String> routes = new ArrayList<>(2);
+        final var path = request.url().getPath();
+        routeBuckets.keySet().stream()
+                .filter(pattern -> pathMatcher.match(pattern, path))
+                .min(pathMatcher.getPatternComparator(path))
+                .ifPresent(routes::add);
+        if (Objects.nonNull(transporterBucket)) {
+            routes.add(TRANSPORTER_ROUTE);
+        }
+        return routes;
+    }
+
+    private TokenBucket createBucket(final String name, final String route, final RateLimitConfiguration config) {
+        if (Objects.isNull(config.getPermitsPerSecond())) {
+            throw new IllegalArgumentException("rate limit route [" + route + "] has no permitsPerSecond");
+        }
+        final var burst = Objects.isNull(config.getBurst()) ? (int) Math.max(1, Math.ceil(config.getPermitsPerSecond())) : config.getBurst();
+        final var bucket = RateLimitRegistry.get(name, route, config.getPermitsPerSecond(), burst);
+        metrics.gauge(METRICS_PREFIX + route + ".available", bucket::available);
+        return bucket;
+    }
+}
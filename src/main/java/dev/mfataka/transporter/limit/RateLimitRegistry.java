@@ -0,0 +1,56 @@
+package dev.mfataka.transporter.limit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.NotNull;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author HAMMA FATAKA
+ * process wide registry of {@link TokenBucket}s keyed by rate limit name and route, transporters asking for the same name
+ * share one quota however often they are built. buckets live as long as the process unless removed by name.
+ */
+@Slf4j
+@UtilityClass
+public class RateLimitRegistry {
+    private final Map<String, SharedBucket> buckets = new ConcurrentHashMap<>();
+
+    private record SharedBucket(double permitsPerSecond, int burst, TokenBucket bucket) {
+    }
+
+    /**
+     * returns bucket of route registered under name, creating it when it does not exist yet
+     *
+     * @param name             rate limit name
+     * @param route            route pattern, or transporter for whole transporter limit
+     * @param permitsPerSecond sustained rate
+     * @param burst            bucket capacity
+     * @return shared {@link TokenBucket}
+     */
+    public TokenBucket get(@NotNull final String name, @NotNull final String route, final double permitsPerSecond, final int burst) {
+        final var shared = buckets.computeIfAbsent(key(name, route),
+                ignored -> new SharedBucket(permitsPerSecond, burst, new TokenBucket(permitsPerSecond, burst)));
+        if (shared.permitsPerSecond() != permitsPerSecond || shared.burst() != burst) {
+            log.warn("rate limit [{}] of route [{}] already exists with rate [{}] and burst [{}], existing one is reused",
+                    name, route, shared.permitsPerSecond(), shared.burst());
+        }
+        return shared.bucket();
+    }
+
+    /**
+     * forgets buckets registered under name, next request starts with full buckets
+     *
+     * @param name rate limit name
+     */
+    public void remove(@NotNull final String name) {
+        final var prefix = key(name, "");
+        buckets.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private String key(final String name, final String route) {
+        return name + "|" + route;
+    }
+}
@@ -0,0 +1,70 @@
+package dev.mfataka.transporter.limit;
+
+/**
+ * @author HAMMA FATAKA
+ * token bucket handing out permits as reservations, permit that is not available yet is reserved in advance and
+ * caller gets the time to wait for it, so waiting is up to the caller and never blocks thread.
+ */
+public class TokenBucket {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * @param permitsPerSecond sustained rate
+     * @param burst            bucket capacity, bucket starts full
+     */
+    public TokenBucket(final double permitsPerSecond, final int burst) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("rate limit needs positive rate and burst, was [" + permitsPerSecond + ", " + burst + "]");
+        }
+        this.permitsPerNano = permitsPerSecond / NANOS_PER_SECOND;
+        this.capacity = burst;
+        this.tokens = burst;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * reserves one permit when it is available within given wait
+     *
+     * @param maxWaitNanos longest acceptable wait
+     * @return nanos to wait before using reserved permit, -1 when permit would not be available in time and nothing was reserved
+     */
+    public synchronized long reserve(final long maxWaitNanos) {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        final var wait = (long) Math.ceil((1 - tokens) / permitsPerNano);
+        if (wait > maxWaitNanos) {
+            return -1;
+        }
+        tokens -= 1;
+        return wait;
+    }
+
+    /**
+     * gives back permit reserved by request that was not sent
+     */
+    public synchronized void refund() {
+        tokens = Math.min(capacity, tokens + 1);
+    }
+
+    /**
+     * @return permits available right now, negative when permits are reserved in advance
+     */
+    public synchronized double available() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        final var now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,89 @@
+package dev.mfataka.transporter.loadbalancer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author HAMMA FATAKA
+ * one replica of load balanced service with its live statistics
+ */
+public final class Endpoint {
+    private final String url;
+    private final double ewmaAlpha;
+    private final long failurePenaltyNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private double latencyEwmaNanos;
+
+    Endpoint(@NotNull final String url, final double ewmaAlpha, final long failurePenaltyNanos) {
+        this.url = url;
+        this.ewmaAlpha = ewmaAlpha;
+        this.failurePenaltyNanos = failurePenaltyNanos;
+    }
+
+    /**
+     * @return base url of endpoint
+     */
+    public String url() {
+        return url;
+    }
+
+    /**
+     * @return requests sent to endpoint and not finished yet
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return count of requests sent to endpoint
+     */
+    public long requests() {
+        return requests.sum();
+    }
+
+    /**
+     * @return count of requests failed with error or 5xx status
+     */
+    public long failures() {
+        return failures.sum();
+    }
+
+    /**
+     * @return exponentially weighted moving average of time to response in milliseconds, 0 until first response.
+     * failed request counts at least as failure penalty, so endpoint failing fast does not look fastest
+     */
+    public synchronized double latencyEwmaMillis() {
+        return latencyEwmaNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    void onStart() {
+        inFlight.incrementAndGet();
+        requests.increment();
+    }
+
+    void onComplete(final long latencyNanos, final boolean failed) {
+        var sample = latencyNanos;
+        if (failed) {
+            failures.increment();
+            sample = Math.max(latencyNanos, failurePenaltyNanos);
+        }
+        synchronized (this) {
+            latencyEwmaNanos = latencyEwmaNanos == 0 ? sample : latencyEwmaNanos + ewmaAlpha * (sample - latencyEwmaNanos);
+        }
+    }
+
+    void onFinally() {
+        inFlight.decrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return "Endpoint[url=" + url + ", inFlight=" + inFlight() + ", requests=" + requests() + ", failures=" + failures() +
+                ", latencyEwmaMillis=" + latencyEwmaMillis() + "]";
+    }
+}
@@ -0,0 +1,19 @@
+package dev.mfataka.transporter.loadbalancer;
+
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author HAMMA FATAKA
+ * strategy picking endpoint for next request, implementations must be thread safe
+ */
+@FunctionalInterface
+public interface EndpointSelector {
+
+    /**
+     * @param endpoints all endpoints, never empty
+     * @return endpoint next request is sent to
+     */
+    Endpoint select(@NotNull final List<Endpoint> endpoints);
+}
@@ -0,0 +1,27 @@
+package dev.mfataka.transporter.loadbalancer;
+
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author HAMMA FATAKA
+ * picks endpoint with lowest EWMA latency multiplied by its in-flight requests plus one,
+ * endpoints without any response yet are tried first so all of them get measured
+ */
+public class LeastLatencySelector implements EndpointSelector {
+
+    @Override
+    public Endpoint select(@NotNull final List<Endpoint> endpoints) {
+        Endpoint best = null;
+        var bestCost = Double.MAX_VALUE;
+        for (final var endpoint : endpoints) {
+            final var cost = endpoint.latencyEwmaMillis() * (endpoint.inFlight() + 1);
+            if (best == null || cost < bestCost) {
+                best = endpoint;
+                bestCost = cost;
+            }
+        }
+        return best;
+    }
+}
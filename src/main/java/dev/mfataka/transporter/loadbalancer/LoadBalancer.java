@@ -0,0 +1,118 @@
+package dev.mfataka.transporter.loadbalancer;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import reactor.core.publisher.Mono;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.config.LoadBalancerConfiguration;
+import dev.mfataka.transporter.metrics.TransporterMetrics;
+import dev.mfataka.transporter.utils.UrlUtils;
+
+/**
+ * @author HAMMA FATAKA
+ * client side load balancer, routes requests sent to base url to one of endpoints chosen by {@link EndpointSelector},
+ * requests to other urls pass untouched. url of chosen endpoint is put to request attribute {@link #ENDPOINT_ATTRIBUTE}.
+ */
+@Slf4j
+public class LoadBalancer implements ExchangeFilterFunction {
+    public static final String ENDPOINT_ATTRIBUTE = LoadBalancer.class.getName() + ".endpoint";
+    private static final String METRICS_PREFIX = "lb.";
+
+    private final URI baseUrl;
+    private final String basePath;
+    private final List<Endpoint> endpoints;
+    private final EndpointSelector selector;
+
+    public LoadBalancer(@NotNull final String baseUrl,
+                        @NotNull final LoadBalancerConfiguration config,
+                        @NotNull final EndpointSelector selector,
+                        @NotNull final TransporterMetrics metrics) {
+        if (Objects.isNull(config.getEndpoints()) || config.getEndpoints().isEmpty()) {
+            throw new IllegalArgumentException("load balancer needs at least one endpoint");
+        }
+        final var ewmaAlpha = Objects.isNull(config.getEwmaAlpha()) ? LoadBalancerConfiguration.DEFAULT_EWMA_ALPHA : config.getEwmaAlpha();
+        final var failurePenalty = Objects.isNull(config.getFailurePenalty()) ? LoadBalancerConfiguration.DEFAULT_FAILURE_PENALTY : config.getFailurePenalty();
+        this.baseUrl = URI.create(trimSlash(baseUrl));
+        this.basePath = Objects.isNull(this.baseUrl.getRawPath()) ? "" : this.baseUrl.getRawPath();
+        this.selector = selector;
+        this.endpoints = config.getEndpoints().stream()
+                .map(LoadBalancer::trimSlash)
+                .distinct()
+                .map(url -> new Endpoint(url, ewmaAlpha, failurePenalty.toNanos()))
+                .toList();
+        endpoints.forEach(endpoint -> {
+            metrics.gauge(METRICS_PREFIX + endpoint.url() + ".inFlight", endpoint::inFlight);
+            metrics.gauge(METRICS_PREFIX + endpoint.url() + ".requests", endpoint::requests);
+            metrics.gauge(METRICS_PREFIX + endpoint.url() + ".failures", endpoint::failures);
+            metrics.gauge(METRICS_PREFIX + endpoint.url() + ".latency.ewma", endpoint::latencyEwmaMillis);
+        });
+    }
+
+    /**
+     * @return endpoints with their live statistics
+     */
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    @Override
+    @NotNull
+    public Mono<ClientResponse> filter(@NotNull final ClientRequest request, @NotNull final ExchangeFunction next) {
+        final var url = request.url();
+        if (!isBaseUrl(url)) {
+            return next.exchange(request);
+        }
+        return Mono.defer(() -> {
+            final var endpoint = selector.select(endpoints);
+            final var routed = ClientRequest.from(request)
+                    .url(URI.create(endpoint.url() + relativeToBase(url)))
+                    .attribute(ENDPOINT_ATTRIBUTE, endpoint.url())
+                    .build();
+            log.debug("request to [{}] is routed to endpoint [{}]", url, endpoint.url());
+            endpoint.onStart();
+            final var start = System.nanoTime();
+            return next.exchange(routed)
+                    .doOnNext(response -> endpoint.onComplete(System.nanoTime() - start, response.statusCode().is5xxServerError()))
+                    .doOnError(ignored -> endpoint.onComplete(System.nanoTime() - start, true))
+                    .doFinally(ignored -> endpoint.onFinally());
+        });
+    }
+
+    /**
+     * same scheme, host and port as base url and path equal to base path or below it
+     */
+    private boolean isBaseUrl(final URI url) {
+        if (!baseUrl.getScheme().equalsIgnoreCase(url.getScheme())
+                || !baseUrl.getHost().equalsIgnoreCase(url.getHost())
+                || UrlUtils.portOf(baseUrl) != UrlUtils.portOf(url)) {
+            return false;
+        }
+        final var path = Objects.isNull(url.getRawPath()) ? "" : url.getRawPath();
+        return basePath.isEmpty() || path.equals(basePath) || path.startsWith(basePath + "/");
+    }
+
+    private String relativeToBase(final URI url) {
+        final var relative = new StringBuilder(Objects.isNull(url.getRawPath()) ? "" : url.getRawPath().substring(basePath.length()));
+        if (Objects.nonNull(url.getRawQuery())) {
+            relative.append('?').append(url.getRawQuery());
+        }
+        if (Objects.nonNull(url.getRawFragment())) {
+            relative.append('#').append(url.getRawFragment());
+        }
+        return relative.toString();
+    }
+
+    private static String trimSlash(final String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -0,0 +1,26 @@
+package dev.mfataka.transporter.loadbalancer;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author HAMMA FATAKA
+ * compares two random endpoints and picks the one with less in-flight requests
+ */
+public class PowerOfTwoChoicesSelector implements EndpointSelector {
+
+    @Override
+    public Endpoint select(@NotNull final List<Endpoint> endpoints) {
+        if (endpoints.size() == 1) {
+            return endpoints.get(0);
+        }
+        final var random = ThreadLocalRandom.current();
+        final var first = random.nextInt(endpoints.size());
+        final var second = (first + 1 + random.nextInt(endpoints.size() - 1)) % endpoints.size();
+        final var a = endpoints.get(first);
+        final var b = endpoints.get(second);
+        return a.inFlight() <= b.inFlight() ? a : b;
+    }
+}
@@ -0,0 +1,19 @@
+package dev.mfataka.transporter.loadbalancer;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author HAMMA FATAKA
+ * uses endpoints one after another
+ */
+public class RoundRobinSelector implements EndpointSelector {
+    private final AtomicInteger next = new AtomicInteger();
+
+    @Override
+    public Endpoint select(@NotNull final List<Endpoint> endpoints) {
+        return endpoints.get(Math.floorMod(next.getAndIncrement(), endpoints.size()));
+    }
+}
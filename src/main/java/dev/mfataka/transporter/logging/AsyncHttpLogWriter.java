@@ -0,0 +1,95 @@
+package dev.mfataka.transporter.logging;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jetbrains.annotations.NotNull;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpLogWriter;
+import org.zalando.logbook.Precorrelation;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.metrics.TransporterMetrics;
+
+/**
+ * @author HAMMA FATAKA
+ * hands log lines over to bounded queue drained by one shared daemon thread, so event loops never wait for log appenders.
+ * lines arriving while queue is full are dropped and counted as {@code logging.dropped}.
+ */
+@Slf4j
+public class AsyncHttpLogWriter implements HttpLogWriter {
+    public static final String WRITER_THREAD_NAME = "transporter-log-writer";
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        final var thread = new Thread(runnable, WRITER_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final HttpLogWriter delegate;
+    private final BlockingQueue<Line> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final TransporterMetrics metrics;
+
+    private record Line(Precorrelation correlation, String message, boolean response) {
+    }
+
+    public AsyncHttpLogWriter(@NotNull final HttpLogWriter delegate, final int capacity, @NotNull final TransporterMetrics metrics) {
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.metrics = metrics;
+        metrics.gauge("logging.queued", queue::size);
+    }
+
+    @Override
+    public boolean isActive() {
+        return delegate.isActive();
+    }
+
+    @Override
+    public void write(@NotNull final Precorrelation precorrelation, @NotNull final String request) {
+        enqueue(new Line(precorrelation, request, false));
+    }
+
+    @Override
+    public void write(@NotNull final Correlation correlation, @NotNull final String response) {
+        enqueue(new Line(correlation, response, true));
+    }
+
+    private void enqueue(final Line line) {
+        if (!queue.offer(line)) {
+            metrics.increment("logging.dropped");
+            return;
+        }
+        if (draining.compareAndSet(false, true)) {
+            WRITER.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        do {
+            Line line;
+            while ((line = queue.poll()) != null) {
+                writeLine(line);
+            }
+            draining.set(false);
+        } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    private void writeLine(final Line line) {
+        try {
+            if (line.response()) {
+                delegate.write((Correlation) line.correlation(), line.message());
+            } else {
+                delegate.write(line.correlation(), line.message());
+            }
+            metrics.increment("logging.written");
+        } catch (IOException | RuntimeException e) {
+            log.warn("failed to write http exchange log, message [{}]", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package dev.mfataka.transporter.logging;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.util.AntPathMatcher;
+import org.zalando.logbook.HttpLogWriter;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.Logbook;
+import org.zalando.logbook.Strategy;
+import org.zalando.logbook.core.BodyFilters;
+import org.zalando.logbook.core.BodyOnlyIfStatusAtLeastStrategy;
+import org.zalando.logbook.core.DefaultHttpLogFormatter;
+import org.zalando.logbook.core.DefaultHttpLogWriter;
+import org.zalando.logbook.core.DefaultSink;
+import org.zalando.logbook.core.DefaultStrategy;
+import org.zalando.logbook.core.StatusAtLeastStrategy;
+import org.zalando.logbook.core.WithoutBodyStrategy;
+
+import lombok.experimental.UtilityClass;
+
+import dev.mfataka.transporter.config.LoggingConfiguration;
+import dev.mfataka.transporter.metrics.TransporterMetrics;
+
+/**
+ * @author HAMMA FATAKA
+ * builds {@link Logbook} of transporter from {@link LoggingConfiguration}
+ */
+@UtilityClass
+public class ExchangeLogbook {
+    private final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    /**
+     * @param config         logging settings
+     * @param logAuthHeaders whether authorization headers are logged unmasked
+     * @param metrics        metrics of transporter, receives written and dropped lines
+     * @return logbook shared by all connections of transporter
+     */
+    public Logbook create(@NotNull final LoggingConfiguration config, final boolean logAuthHeaders, @NotNull final TransporterMetrics metrics) {
+        final HttpLogWriter writer = config.isAsync()
+                ? new AsyncHttpLogWriter(new DefaultHttpLogWriter(), queueCapacity(config), metrics)
+                : new DefaultHttpLogWriter();
+        final var builder = Logbook.builder()
+                .condition(condition(config))
+                .strategy(strategy(config))
+                .sink(new DefaultSink(new DefaultHttpLogFormatter(), writer));
+        if (Objects.nonNull(config.getMaxBodySize())) {
+            builder.bodyFilter(BodyFilters.defaultValue())
+                    .bodyFilter(BodyFilters.truncate(config.getMaxBodySize()));
+        }
+        if (logAuthHeaders) {
+            builder.headerFilter(headers -> headers);
+        }
+        return builder.build();
+    }
+
+    private Predicate<HttpRequest> condition(final LoggingConfiguration config) {
+        final var samplingRate = Objects.isNull(config.getSamplingRate()) ? LoggingConfiguration.DEFAULT_SAMPLING_RATE : config.getSamplingRate();
+        final var includeRoutes = Objects.isNull(config.getIncludeRoutes()) ? List.<String>of() : List.copyOf(config.getIncludeRoutes());
+        final var excludeRoutes = Objects.isNull(config.getExcludeRoutes()) ? List.<String>of() : List.copyOf(config.getExcludeRoutes());
+        return request -> {
+            final var path = request.getPath();
+            if (!includeRoutes.isEmpty() && includeRoutes.stream().noneMatch(route -> PATH_MATCHER.match(route, path))) {
+                return false;
+            }
+            if (excludeRoutes.stream().anyMatch(route -> PATH_MATCHER.match(route, path))) {
+                return false;
+            }
+            return samplingRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < samplingRate;
+        };
+    }
+
+    private Strategy strategy(final LoggingConfiguration config) {
+        final var errorStatus = Objects.isNull(config.getErrorStatus()) ? LoggingConfiguration.DEFAULT_ERROR_STATUS : config.getErrorStatus();
+        if (Objects.isNull(config.getMode())) {
+            return new DefaultStrategy();
+        }
+        return switch (config.getMode()) {
+            case HEADERS -> new WithoutBodyStrategy();
+            case ERRORS -> new StatusAtLeastStrategy(errorStatus);
+            case BODIES_ON_ERROR -> new BodyOnlyIfStatusAtLeastStrategy(errorStatus);
+            default -> new DefaultStrategy();
+        };
+    }
+
+    private int queueCapacity(final LoggingConfiguration config) {
+        return Objects.isNull(config.getQueueCapacity()) || config.getQueueCapacity() < 1
+                ? LoggingConfiguration.DEFAULT_QUEUE_CAPACITY
+                : config.getQueueCapacity();
+    }
+}
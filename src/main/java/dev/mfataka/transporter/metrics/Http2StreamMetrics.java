@@ -0,0 +1,52 @@
+package dev.mfataka.transporter.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jetbrains.annotations.NotNull;
+
+import io.netty.channel.ChannelId;
+
+import reactor.netty.Connection;
+
+/**
+ * @author HAMMA FATAKA
+ * tracks HTTP/2 streams multiplexed on each connection, HTTP/1.1 requests are ignored
+ */
+public class Http2StreamMetrics {
+    public static final String CONNECTIONS = "http2.connections";
+    public static final String ACTIVE_STREAMS = "http2.streams.active";
+    public static final String MAX_STREAMS_PER_CONNECTION = "http2.streams.perConnection.max";
+    public static final String STREAMS = "http2.streams";
+
+    private final Map<ChannelId, AtomicInteger> streamsPerConnection = new ConcurrentHashMap<>();
+    private final TransporterMetrics metrics;
+
+    public Http2StreamMetrics(@NotNull final TransporterMetrics metrics) {
+        this.metrics = metrics;
+        metrics.gauge(CONNECTIONS, streamsPerConnection::size);
+        metrics.gauge(ACTIVE_STREAMS, () -> streamsPerConnection.values().stream().mapToInt(AtomicInteger::get).sum());
+        metrics.gauge(MAX_STREAMS_PER_CONNECTION, () -> streamsPerConnection.values().stream().mapToInt(AtomicInteger::get).max().orElse(0));
+    }
+
+    /**
+     * records stream opened for request, stream is counted until its channel is closed
+     *
+     * @param connection connection request is sent on
+     */
+    public void onRequest(@NotNull final Connection connection) {
+        final var stream = connection.channel();
+        final var parent = stream.parent();
+        if (parent == null) {
+            return;
+        }
+        final var streams = streamsPerConnection.computeIfAbsent(parent.id(), id -> {
+            parent.closeFuture().addListener(ignored -> streamsPerConnection.remove(id));
+            return new AtomicInteger();
+        });
+        streams.incrementAndGet();
+        metrics.increment(STREAMS);
+        stream.closeFuture().addListener(ignored -> streams.decrementAndGet());
+    }
+}
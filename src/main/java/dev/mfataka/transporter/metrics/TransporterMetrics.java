@@ -0,0 +1,76 @@
+package dev.mfataka.transporter.metrics;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author HAMMA FATAKA
+ * counters and gauges collected by one transporter, can be exported to any metrics system through {@link #snapshot()}
+ */
+public class TransporterMetrics {
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, Supplier<? extends Number>> gauges = new ConcurrentHashMap<>();
+
+    /**
+     * increments named counter by one
+     *
+     * @param name name of counter
+     */
+    public void increment(@NotNull final String name) {
+        add(name, 1);
+    }
+
+    /**
+     * adds value to named counter
+     *
+     * @param name  name of counter
+     * @param value value to add
+     */
+    public void add(@NotNull final String name, final long value) {
+        counters.computeIfAbsent(name, ignored -> new LongAdder()).add(value);
+    }
+
+    /**
+     * registers gauge which is read on every snapshot
+     *
+     * @param name  name of gauge
+     * @param gauge supplier of current value
+     */
+    public void gauge(@NotNull final String name, @NotNull final Supplier<? extends Number> gauge) {
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * @param name name of counter
+     * @return current value of counter, 0 if it was never incremented
+     */
+    public long counter(@NotNull final String name) {
+        final var counter = counters.get(name);
+        return Objects.isNull(counter) ? 0L : counter.sum();
+    }
+
+    /**
+     * @param name name of gauge
+     * @return current value of gauge, null if not registered
+     */
+    public Number gaugeValue(@NotNull final String name) {
+        final var gauge = gauges.get(name);
+        return Objects.isNull(gauge) ? null : gauge.get();
+    }
+
+    /**
+     * @return current values of all counters and gauges sorted by name
+     */
+    public Map<String, Number> snapshot() {
+        final var snapshot = new TreeMap<String, Number>();
+        counters.forEach((name, counter) -> snapshot.put(name, counter.sum()));
+        gauges.forEach((name, gauge) -> snapshot.put(name, gauge.get()));
+        return snapshot;
+    }
+}
@@ -0,0 +1,55 @@
+package dev.mfataka.transporter.model;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import reactor.util.context.Context;
+
+import lombok.Builder;
+
+/**
+ * @author HAMMA FATAKA
+ * time budgets of one request, every phase is optional.
+ * connect and tls budgets apply only when new connection has to be opened for the request,
+ * first byte budget is time until response headers arrive and total budget covers whole exchange including response body.
+ * <p>
+ * deadline is taken from request attribute {@link #ATTRIBUTE} (set by {@code withDeadline}), then from reactor context
+ * under {@link #CONTEXT_KEY}, then from transporter defaults.
+ */
+@Builder
+public record Deadline(@Nullable Duration connect,
+                       @Nullable Duration tls,
+                       @Nullable Duration firstByte,
+                       @Nullable Duration total) {
+    public static final String ATTRIBUTE = Deadline.class.getName();
+    public static final String CONTEXT_KEY = Deadline.class.getName();
+
+    /**
+     * @param total budget of whole exchange
+     * @return deadline with total budget only
+     */
+    public static Deadline of(@NotNull final Duration total) {
+        return new Deadline(null, null, null, total);
+    }
+
+    /**
+     * context to be written to reactor chain of request, e.g. {@code monoData(String.class).contextWrite(Deadline.context(deadline))}
+     *
+     * @param deadline request deadline
+     * @return context holding deadline
+     */
+    public static Context context(@NotNull final Deadline deadline) {
+        return Context.of(CONTEXT_KEY, deadline);
+    }
+
+    /**
+     * @return true when no phase has budget
+     */
+    public boolean isEmpty() {
+        return Stream.of(connect, tls, firstByte, total).allMatch(Objects::isNull);
+    }
+}
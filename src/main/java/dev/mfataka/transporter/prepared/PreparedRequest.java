@@ -0,0 +1,203 @@
+package dev.mfataka.transporter.prepared;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import dev.mfataka.transporter.coalescing.SingleFlight;
+import dev.mfataka.transporter.config.RetryConfiguration;
+import dev.mfataka.transporter.config.TransporterConfiguration;
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.filters.HedgingFilter;
+import dev.mfataka.transporter.filters.RetryFilter;
+import dev.mfataka.transporter.imp.DefaultTransporterReceiver;
+import dev.mfataka.transporter.imp.Transporter;
+import dev.mfataka.transporter.imp.TransporterReceiver;
+import dev.mfataka.transporter.model.Deadline;
+
+/**
+ * @author HAMMA FATAKA
+ * immutable request template created by {@link Transporter#prepare(TransporterMethod, String)}.
+ * method, uri template, headers, auth and request options are resolved once, every call only binds uri variables
+ * and optional body, so one instance is shared by any number of threads without copying transporter state.
+ * {@code with*} methods return new template and leave this one untouched.
+ */
+public final class PreparedRequest {
+    private final WebClient webClient;
+    private final TransporterConfiguration configuration;
+    private final SingleFlight singleFlight;
+    @Getter
+    private final TransporterMethod method;
+    @Getter
+    private final String uriTemplate;
+    private final Map<String, String> headerValues;
+    private final MediaType contentType;
+    private final Deadline deadline;
+    private final Boolean hedging;
+    private final RetryConfiguration retry;
+    private final Boolean coalescing;
+    private final Object body;
+    private final HttpMethod httpMethod;
+    @Getter
+    private final HttpHeaders headers;
+    private final UriComponents uriComponents;
+    private final boolean absolute;
+
+    @Builder(toBuilder = true)
+    private PreparedRequest(@NotNull final WebClient webClient,
+                            @NotNull final TransporterConfiguration configuration,
+                            @Nullable final SingleFlight singleFlight,
+                            @NotNull final TransporterMethod method,
+                            @NotNull final String uriTemplate,
+                            @Nullable final Map<String, String> headerValues,
+                            @Nullable final MediaType contentType,
+                            @Nullable final Deadline deadline,
+                            @Nullable final Boolean hedging,
+                            @Nullable final RetryConfiguration retry,
+                            @Nullable final Boolean coalescing,
+                            @Nullable final Object body) {
+        this.webClient = Objects.requireNonNull(webClient, "webClient");
+        this.configuration = Objects.requireNonNull(configuration, "configuration");
+        this.singleFlight = singleFlight;
+        this.method = Objects.requireNonNull(method, "method");
+        this.uriTemplate = Objects.requireNonNull(uriTemplate, "uriTemplate");
+        this.headerValues = Objects.isNull(headerValues) ? Map.of() : Map.copyOf(headerValues);
+        this.contentType = contentType;
+        this.deadline = deadline;
+        this.hedging = hedging;
+        this.retry = retry;
+        this.coalescing = coalescing;
+        this.body = body;
+        this.httpMethod = HttpMethod.valueOf(method.name());
+        final var fixedHeaders = new HttpHeaders();
+        this.headerValues.forEach(fixedHeaders::add);
+        this.headers = HttpHeaders.readOnlyHttpHeaders(fixedHeaders);
+        this.uriComponents = UriComponentsBuilder.fromUriString(uriTemplate).encode().build();
+        this.absolute = Objects.nonNull(uriComponents.getScheme());
+    }
+
+    /**
+     * @param headerName  name of the header
+     * @param headerValue value of the header
+     * @return new template sending also given header
+     */
+    public PreparedRequest withHeader(@NotNull final String headerName, @NotNull final String headerValue) {
+        final var values = new HashMap<>(headerValues);
+        values.put(headerName, headerValue);
+        return toBuilder().headerValues(values).build();
+    }
+
+    /**
+     * @param deadline deadline of every call
+     * @return new template with given deadline
+     */
+    public PreparedRequest withDeadline(@NotNull final Deadline deadline) {
+        return toBuilder().deadline(deadline).build();
+    }
+
+    /**
+     * @param body body sent by every call
+     * @return new template with given body
+     */
+    public PreparedRequest withBody(@NotNull final Object body) {
+        return toBuilder().body(body).build();
+    }
+
+    /**
+     * sends request with prepared body, uri variables are expanded in order and encoded
+     *
+     * @param uriVariables values of uri template variables
+     * @return {@link TransporterReceiver}
+     */
+    public TransporterReceiver sendAndReceive(@NotNull final Object... uriVariables) {
+        return exchange(body, uriVariables, null);
+    }
+
+    /**
+     * sends request with prepared body, uri variables are expanded by name and encoded
+     *
+     * @param uriVariables values of uri template variables by name
+     * @return {@link TransporterReceiver}
+     */
+    public TransporterReceiver sendAndReceive(@NotNull final Map<String, ?> uriVariables) {
+        return exchange(body, null, uriVariables);
+    }
+
+    /**
+     * sends request with body of this call instead of prepared one
+     *
+     * @param body         body of this call
+     * @param uriVariables values of uri template variables
+     * @return {@link TransporterReceiver}
+     */
+    public TransporterReceiver sendAndReceiveBody(@NotNull final Object body, @NotNull final Object... uriVariables) {
+        return exchange(body, uriVariables, null);
+    }
+
+    /**
+     * absolute template is expanded from components parsed once, relative one is left to uri factory of web client,
+     * which prepends base url
+     */
+    private TransporterReceiver exchange(@Nullable final Object requestBody,
+                                         @Nullable final Object[] uriVariables,
+                                         @Nullable final Map<String, ?> namedUriVariables) {
+        final var uriSpec = webClient.method(httpMethod);
+        final WebClient.RequestBodySpec spec;
+        if (absolute) {
+            spec = uriSpec.uri(expand(uriVariables, namedUriVariables).toUri());
+        } else {
+            spec = Objects.isNull(namedUriVariables) ? uriSpec.uri(uriTemplate, uriVariables) : uriSpec.uri(uriTemplate, namedUriVariables);
+        }
+        if (!headers.isEmpty()) {
+            spec.headers(requestHeaders -> requestHeaders.addAll(headers));
+        }
+        if (Objects.nonNull(contentType)) {
+            spec.contentType(contentType);
+        }
+        if (Objects.nonNull(requestBody)) {
+            spec.body(BodyInserters.fromValue(requestBody));
+        }
+        if (Objects.nonNull(deadline)) {
+            spec.attribute(Deadline.ATTRIBUTE, deadline);
+        }
+        if (Objects.nonNull(hedging)) {
+            spec.attribute(HedgingFilter.HEDGE_ATTRIBUTE, hedging);
+        }
+        if (Objects.nonNull(retry)) {
+            spec.attribute(RetryFilter.RETRY_ATTRIBUTE, retry);
+        }
+        return DefaultTransporterReceiver.of(configuration, spec, singleFlight, coalescingKey(requestBody, uriVariables, namedUriVariables));
+    }
+
+    private UriComponents expand(@Nullable final Object[] uriVariables, @Nullable final Map<String, ?> namedUriVariables) {
+        return Objects.isNull(namedUriVariables) ? uriComponents.expand(uriVariables) : uriComponents.expand(namedUriVariables);
+    }
+
+    /**
+     * requests with body are never coalesced, same rule as {@link Transporter}
+     */
+    private Object coalescingKey(@Nullable final Object requestBody, @Nullable final Object[] uriVariables, @Nullable final Map<String, ?> namedUriVariables) {
+        if (Objects.isNull(singleFlight) || Boolean.FALSE.equals(coalescing) || Objects.nonNull(requestBody)) {
+            return null;
+        }
+        return singleFlight.keyOf(method, expand(uriVariables, namedUriVariables).toUriString(), headerValues);
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedRequest[" + method + " " + uriTemplate + ", headers=" + headerValues.keySet() + "]";
+    }
+}
@@ -0,0 +1,134 @@
+package dev.mfataka.transporter.resources;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import reactor.netty.http.client.Http2AllocationStrategy;
+import reactor.netty.resources.ConnectionProvider;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.config.ConnectionPoolConfiguration;
+import dev.mfataka.transporter.config.Http2Configuration;
+import dev.mfataka.transporter.enums.PoolLeaseStrategy;
+
+/**
+ * @author HAMMA FATAKA
+ * process wide registry of named {@link ConnectionProvider}s, transporters asking for the same pool name share one pool,
+ * the pool is disposed once the last transporter using it is closed.
+ */
+@Slf4j
+@UtilityClass
+public class ConnectionProviderRegistry {
+    private final SharedResources<ConnectionProvider> providers = new SharedResources<>("connection pool", provider ->
+            provider.disposeLater()
+                    .subscribe(null, e -> log.warn("failed to dispose connection pool [{}], message [{}]", provider.name(), e.getMessage()))
+    );
+
+    /**
+     * returns pool registered under name of given configuration, creating it when it does not exist yet
+     *
+     * @param config pool configuration
+     * @return shared {@link ConnectionProvider}
+     */
+    public ConnectionProvider acquire(@NotNull final ConnectionPoolConfiguration config) {
+        return acquire(config, null);
+    }
+
+    /**
+     * returns pool registered under name of given configuration, creating it when it does not exist yet,
+     * HTTP/2 settings make the pool multiplex streams over its connections
+     *
+     * @param config      pool configuration
+     * @param http2Config HTTP/2 pool settings, null for HTTP/1.1 only pool
+     * @return shared {@link ConnectionProvider}
+     */
+    public ConnectionProvider acquire(@NotNull final ConnectionPoolConfiguration config, @Nullable final Http2Configuration http2Config) {
+        final var name = poolName(config);
+        return providers.acquire(name, Arrays.asList(config, http2Config), () -> build(name, config, http2Config));
+    }
+
+    /**
+     * releases one reference of named pool, pool is disposed when no reference is left
+     *
+     * @param config pool configuration used to acquire the pool
+     */
+    public void release(@NotNull final ConnectionPoolConfiguration config) {
+        providers.release(poolName(config));
+    }
+
+    private String poolName(final ConnectionPoolConfiguration config) {
+        return Objects.isNull(config.getName()) ? ConnectionPoolConfiguration.DEFAULT_NAME : config.getName();
+    }
+
+    private ConnectionProvider build(final String name, final ConnectionPoolConfiguration config, @Nullable final Http2Configuration http2Config) {
+        final var builder = ConnectionProvider.builder(name);
+        applyPoolSpec(builder, config);
+        if (Objects.nonNull(config.getEvictInBackground())) {
+            builder.evictInBackground(config.getEvictInBackground());
+        }
+        if (Objects.nonNull(config.getHosts())) {
+            config.getHosts().forEach((host, hostConfig) ->
+                    builder.forRemoteHost(toAddress(host), spec -> applyPoolSpec(spec, hostConfig))
+            );
+        }
+        if (Objects.nonNull(http2Config)) {
+            builder.allocationStrategy(buildHttp2Strategy(config, http2Config));
+        }
+        return builder.build();
+    }
+
+    private Http2AllocationStrategy buildHttp2Strategy(final ConnectionPoolConfiguration config, final Http2Configuration http2Config) {
+        final var strategy = Http2AllocationStrategy.builder();
+        if (Objects.nonNull(http2Config.getMaxConcurrentStreams())) {
+            strategy.maxConcurrentStreams(http2Config.getMaxConcurrentStreams());
+        }
+        if (Objects.nonNull(http2Config.getMaxConnections())) {
+            strategy.maxConnections(http2Config.getMaxConnections());
+        } else if (Objects.nonNull(config.getMaxConnections())) {
+            strategy.maxConnections(config.getMaxConnections());
+        }
+        if (Objects.nonNull(http2Config.getMinConnections())) {
+            strategy.minConnections(http2Config.getMinConnections());
+        }
+        return strategy.build();
+    }
+
+    private <S extends ConnectionProvider.ConnectionPoolSpec<S>> void applyPoolSpec(final S spec, final ConnectionPoolConfiguration config) {
+        if (Objects.nonNull(config.getMaxConnections())) {
+            spec.maxConnections(config.getMaxConnections());
+        }
+        if (Objects.nonNull(config.getPendingAcquireMaxCount())) {
+            spec.pendingAcquireMaxCount(config.getPendingAcquireMaxCount());
+        }
+        if (Objects.nonNull(config.getPendingAcquireTimeout())) {
+            spec.pendingAcquireTimeout(config.getPendingAcquireTimeout());
+        }
+        if (Objects.nonNull(config.getMaxIdleTime())) {
+            spec.maxIdleTime(config.getMaxIdleTime());
+        }
+        if (Objects.nonNull(config.getMaxLifeTime())) {
+            spec.maxLifeTime(config.getMaxLifeTime());
+        }
+        if (PoolLeaseStrategy.LIFO == config.getLeaseStrategy()) {
+            spec.lifo();
+        } else {
+            spec.fifo();
+        }
+    }
+
+    private InetSocketAddress toAddress(final String hostAndPort) {
+        final var separator = hostAndPort.lastIndexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("pool host override must be in form of host:port, was [" + hostAndPort + "]");
+        }
+        final var host = hostAndPort.substring(0, separator);
+        final var port = Integer.parseInt(hostAndPort.substring(separator + 1));
+        return InetSocketAddress.createUnresolved(host, port);
+    }
+}
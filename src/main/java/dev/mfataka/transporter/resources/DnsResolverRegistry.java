@@ -0,0 +1,113 @@
+package dev.mfataka.transporter.resources;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.resolver.HostsFileEntriesResolver;
+import io.netty.resolver.dns.DnsAddressResolverGroup;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.resolver.dns.RoundRobinDnsAddressResolverGroup;
+import io.netty.util.NetUtil;
+
+import reactor.netty.resources.LoopResources;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.config.DnsResolverConfiguration;
+
+/**
+ * @author HAMMA FATAKA
+ * process wide registry of caching {@link DnsAddressResolverGroup}s, transporters asking for the same resolver name
+ * on the same kind of event loops share one resolver and its cache, resolver is closed once the last transporter using it is closed.
+ */
+@Slf4j
+@UtilityClass
+public class DnsResolverRegistry {
+    private final SharedResources<DnsAddressResolverGroup> resolvers = new SharedResources<>("dns resolver", DnsAddressResolverGroup::close);
+
+    /**
+     * returns resolver registered under name of given configuration, creating it when it does not exist yet,
+     * resolver channels are of the type matching given loops
+     *
+     * @param config       resolver configuration
+     * @param loops        loops connections run on
+     * @param preferNative whether loops use native transport
+     * @return shared resolver group
+     */
+    public DnsAddressResolverGroup acquire(@NotNull final DnsResolverConfiguration config, @NotNull final LoopResources loops, final boolean preferNative) {
+        final var group = loops.onClient(preferNative);
+        final var datagramChannel = loops.onChannelClass(DatagramChannel.class, group);
+        final var socketChannel = loops.onChannelClass(SocketChannel.class, group);
+        return resolvers.acquire(resolverName(config, datagramChannel), config, () -> build(config, datagramChannel, socketChannel));
+    }
+
+    /**
+     * releases one reference of resolver, resolver is closed when no reference is left
+     *
+     * @param config       resolver configuration used to acquire the resolver
+     * @param loops        loops used to acquire the resolver
+     * @param preferNative native transport flag used to acquire the resolver
+     */
+    public void release(@NotNull final DnsResolverConfiguration config, @NotNull final LoopResources loops, final boolean preferNative) {
+        final var datagramChannel = loops.onChannelClass(DatagramChannel.class, loops.onClient(preferNative));
+        resolvers.release(resolverName(config, datagramChannel));
+    }
+
+    private String resolverName(final DnsResolverConfiguration config, final Class<?> datagramChannel) {
+        final var name = Objects.isNull(config.getShareName()) ? DnsResolverConfiguration.DEFAULT_NAME : config.getShareName();
+        return name + ":" + datagramChannel.getSimpleName();
+    }
+
+    private DnsAddressResolverGroup build(final DnsResolverConfiguration config,
+                                          final Class<? extends DatagramChannel> datagramChannel,
+                                          final Class<? extends SocketChannel> socketChannel) {
+        final var builder = new DnsNameResolverBuilder()
+                .datagramChannelType(datagramChannel)
+                .socketChannelType(socketChannel);
+        if (Objects.nonNull(config.getMinTtl()) || Objects.nonNull(config.getMaxTtl())) {
+            final var minTtl = Objects.isNull(config.getMinTtl()) ? 0 : (int) config.getMinTtl().toSeconds();
+            final var maxTtl = Objects.isNull(config.getMaxTtl()) ? Integer.MAX_VALUE : (int) config.getMaxTtl().toSeconds();
+            builder.ttl(minTtl, maxTtl);
+        }
+        if (Objects.nonNull(config.getNegativeTtl())) {
+            builder.negativeTtl((int) config.getNegativeTtl().toSeconds());
+        }
+        if (Objects.nonNull(config.getQueryTimeout())) {
+            builder.queryTimeoutMillis(config.getQueryTimeout().toMillis());
+        }
+        if (Objects.nonNull(config.getHosts()) && !config.getHosts().isEmpty()) {
+            builder.hostsFileEntriesResolver(staticHosts(config.getHosts()));
+        }
+        return config.isRoundRobin() ? new RoundRobinDnsAddressResolverGroup(builder) : new DnsAddressResolverGroup(builder);
+    }
+
+    private HostsFileEntriesResolver staticHosts(final Map<String, String> hosts) {
+        final var addresses = new HashMap<String, InetAddress>();
+        hosts.forEach((host, ip) -> addresses.put(host.toLowerCase(Locale.ENGLISH), toAddress(host, ip)));
+        return (inetHost, resolvedAddressTypes) -> {
+            final var address = addresses.get(inetHost.toLowerCase(Locale.ENGLISH));
+            return Objects.nonNull(address) ? address : HostsFileEntriesResolver.DEFAULT.address(inetHost, resolvedAddressTypes);
+        };
+    }
+
+    private InetAddress toAddress(final String host, final String ip) {
+        final var bytes = NetUtil.createByteArrayFromIpAddressString(ip);
+        if (Objects.isNull(bytes)) {
+            throw new IllegalArgumentException("static dns host [" + host + "] must map to ip address, was [" + ip + "]");
+        }
+        try {
+            return InetAddress.getByAddress(host, bytes);
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("static dns host [" + host + "] has invalid ip address [" + ip + "]", e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package dev.mfataka.transporter.resources;
+
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.util.ClassUtils;
+
+import io.netty.channel.epoll.Epoll;
+
+import reactor.netty.resources.LoopResources;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.config.EventLoopConfiguration;
+import dev.mfataka.transporter.enums.TransportMode;
+
+/**
+ * @author HAMMA FATAKA
+ * process wide registry of {@link LoopResources} shared by transporters using same thread prefix,
+ * loops are disposed once the last transporter using them is closed.
+ */
+@Slf4j
+@UtilityClass
+public class LoopResourcesRegistry {
+    private final String IO_URING_CLASS = "io.netty.incubator.channel.uring.IOUring";
+    private final SharedResources<LoopResources> loops = new SharedResources<>("event loops", loopResources ->
+            loopResources.disposeLater()
+                    .subscribe(null, e -> log.warn("failed to dispose event loops, message [{}]", e.getMessage()))
+    );
+
+    /**
+     * returns loops registered under thread prefix of given configuration, creating them when they do not exist yet
+     *
+     * @param config event loop configuration
+     * @return shared {@link LoopResources}
+     */
+    public LoopResources acquire(@NotNull final EventLoopConfiguration config) {
+        final var prefix = threadPrefix(config);
+        final var workerCount = Objects.isNull(config.getWorkerCount()) ? LoopResources.DEFAULT_IO_WORKER_COUNT : config.getWorkerCount();
+        return loops.acquire(prefix, config, () -> LoopResources.create(prefix, workerCount, true));
+    }
+
+    /**
+     * releases one reference of loops, loops are disposed when no reference is left
+     *
+     * @param config event loop configuration used to acquire loops
+     */
+    public void release(@NotNull final EventLoopConfiguration config) {
+        loops.release(threadPrefix(config));
+    }
+
+    /**
+     * resolves transport that can be used on this machine, falls back to {@link TransportMode#NIO}
+     * when requested native transport is not available
+     *
+     * @param config event loop configuration
+     * @return usable transport mode
+     */
+    public TransportMode resolveTransportMode(@NotNull final EventLoopConfiguration config) {
+        final var requested = Objects.isNull(config.getTransportMode()) ? TransportMode.NIO : config.getTransportMode();
+        switch (requested) {
+            case EPOLL -> {
+                if (!Epoll.isAvailable()) {
+                    log.warn("epoll transport is not available, falling back to nio, cause [{}]", Epoll.unavailabilityCause().getMessage());
+                    return TransportMode.NIO;
+                }
+                if (isIoUringAvailable()) {
+                    log.warn("io_uring transport is on classpath and takes precedence over requested epoll transport");
+                    return TransportMode.IO_URING;
+                }
+                return TransportMode.EPOLL;
+            }
+            case IO_URING -> {
+                if (!isIoUringAvailable()) {
+                    log.warn("io_uring transport is not available, falling back to nio");
+                    return TransportMode.NIO;
+                }
+                return TransportMode.IO_URING;
+            }
+            default -> {
+                return TransportMode.NIO;
+            }
+        }
+    }
+
+    private String threadPrefix(final EventLoopConfiguration config) {
+        return Objects.isNull(config.getThreadPrefix()) ? EventLoopConfiguration.DEFAULT_THREAD_PREFIX : config.getThreadPrefix();
+    }
+
+    private boolean isIoUringAvailable() {
+        if (!ClassUtils.isPresent(IO_URING_CLASS, null)) {
+            return false;
+        }
+        try {
+            return (boolean) ClassUtils.forName(IO_URING_CLASS, null)
+                    .getMethod("isAvailable")
+                    .invoke(null);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.debug("could not check io_uring availability, message [{}]", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package dev.mfataka.transporter.resources;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.NotNull;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author HAMMA FATAKA
+ * reference counted, named resources shared by transporters, resource is disposed once last reference is released
+ */
+@Slf4j
+final class SharedResources<R> {
+    private final Map<String, Shared<R>> resources = new HashMap<>();
+    private final String kind;
+    private final Consumer<R> disposer;
+
+    SharedResources(@NotNull final String kind, @NotNull final Consumer<R> disposer) {
+        this.kind = kind;
+        this.disposer = disposer;
+    }
+
+    synchronized R acquire(@NotNull final String name, @NotNull final Object config, @NotNull final Supplier<R> factory) {
+        final var shared = resources.computeIfAbsent(name, ignored -> {
+            log.debug("{} [{}] created with configuration [{}]", kind, name, config);
+            return new Shared<>(factory.get(), config);
+        });
+        if (!shared.config.equals(config)) {
+            log.warn("{} [{}] already exists with different configuration, existing one is reused", kind, name);
+        }
+        shared.references++;
+        return shared.resource;
+    }
+
+    synchronized void release(@NotNull final String name) {
+        final var shared = resources.get(name);
+        if (Objects.isNull(shared)) {
+            return;
+        }
+        shared.references--;
+        if (shared.references <= 0) {
+            resources.remove(name);
+            disposer.accept(shared.resource);
+            log.debug("{} [{}] disposed", kind, name);
+        }
+    }
+
+    private static final class Shared<R> {
+        private final R resource;
+        private final Object config;
+        private int references;
+
+        private Shared(final R resource, final Object config) {
+            this.resource = resource;
+            this.config = config;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package dev.mfataka.transporter.resources;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.NotNull;
+
+import io.netty.handler.ssl.SslContext;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author HAMMA FATAKA
+ * process wide cache of {@link SslContext}s, transporters with same TLS settings share one context and so its TLS session cache,
+ * key and trust stores are parsed only once. context is rebuilt when modification time or size of any of its store files changes.
+ */
+@Slf4j
+@UtilityClass
+public class SslContextCache {
+    private final Map<SslContextKey, Cached> contexts = new ConcurrentHashMap<>();
+
+    /**
+     * returns context cached for given settings, builds it when it is missing or its store files were changed
+     *
+     * @param key     TLS settings
+     * @param factory builds new context
+     * @return shared {@link SslContext}
+     */
+    public SslContext get(@NotNull final SslContextKey key, @NotNull final Supplier<SslContext> factory) {
+        final var fingerprint = fingerprint(key.files());
+        return contexts.compute(key, (ignored, cached) -> {
+            if (cached != null && cached.fingerprint.equals(fingerprint)) {
+                return cached;
+            }
+            if (cached != null) {
+                log.info("store files of ssl context [{}] were changed, context is rebuilt", key);
+            } else {
+                log.debug("ssl context [{}] is built", key);
+            }
+            return new Cached(factory.get(), fingerprint);
+        }).context;
+    }
+
+    /**
+     * drops all cached contexts, next lookup builds them again
+     */
+    public void invalidateAll() {
+        contexts.clear();
+    }
+
+    /**
+     * @return count of cached contexts
+     */
+    public int size() {
+        return contexts.size();
+    }
+
+    private List<String> fingerprint(final List<String> files) {
+        return files.stream()
+                .map(SslContextCache::fileFingerprint)
+                .toList();
+    }
+
+    private String fileFingerprint(final String file) {
+        try {
+            final var path = Paths.get(file);
+            return Files.getLastModifiedTime(path).toMillis() + ":" + Files.size(path);
+        } catch (IOException e) {
+            log.debug("could not read attributes of [{}], message [{}]", file, e.getMessage());
+            return "missing";
+        }
+    }
+
+    private record Cached(SslContext context, List<String> fingerprint) {
+    }
+}
@@ -0,0 +1,61 @@
+package dev.mfataka.transporter.resources;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import dev.mfataka.transporter.config.TlsConfiguration;
+import dev.mfataka.transporter.enums.HttpProtocolMode;
+
+/**
+ * @author HAMMA FATAKA
+ * TLS settings identifying one shared {@link io.netty.handler.ssl.SslContext}, store files are not part of identity,
+ * their modification time is checked by {@link SslContextCache} on every lookup.
+ *
+ * @param kind           how trust and key material is loaded, e.g. trust store only, mtls, mtls with alias, cert, trust all
+ * @param trustStorePath path of trust store
+ * @param trustStorePass password of trust store
+ * @param keyStorePath   path of key store
+ * @param keyStorePass   password of key store
+ * @param alias          alias of client key
+ * @param certPath       path of trusted certificate
+ * @param protocols      enabled TLS protocols
+ * @param protocol       http protocol mode, it decides ALPN settings
+ * @param tls            TLS engine settings
+ */
+public record SslContextKey(@NotNull String kind,
+                            @Nullable String trustStorePath,
+                            @Nullable String trustStorePass,
+                            @Nullable String keyStorePath,
+                            @Nullable String keyStorePass,
+                            @Nullable String alias,
+                            @Nullable String certPath,
+                            @NotNull List<String> protocols,
+                            @NotNull HttpProtocolMode protocol,
+                            @Nullable TlsConfiguration tls) {
+
+    /**
+     * @return paths of files context is loaded from
+     */
+    public List<String> files() {
+        return Stream.of(trustStorePath, keyStorePath, certPath)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    @Override
+    public String toString() {
+        return "SslContextKey[kind=" + kind +
+                ", trustStorePath=" + trustStorePath +
+                ", keyStorePath=" + keyStorePath +
+                ", alias=" + alias +
+                ", certPath=" + certPath +
+                ", protocols=" + protocols +
+                ", protocol=" + protocol +
+                ", tls=" + tls + "]";
+    }
+}
@@ -8,19 +8,30 @@ import java.security.KeyStore;
 import java.security.Principal;
 import java.security.PrivateKey;
 import java.security.SecureRandom;
+import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.util.Objects;
 
 import javax.net.ssl.*;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 
 import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 
+import dev.mfataka.transporter.config.TlsConfiguration;
+
 
 /**
  * @author HAMMA FATAKA
@@ -48,22 +59,14 @@ public class SslUtils {
 
     }
 
-    @SneakyThrows
     public SslContext buildNettyContextWithTrustStore(final String algorithm,
                                                       final String trustStorePath,
                                                       final String trustStorePass,
                                                       final String storeType,
                                                       final String... protocols) {
-        final var trustManagerFactory = buildTrustManagerFactory(algorithm, trustStorePath, trustStorePass, storeType);
-        return SslContextBuilder
-                .forClient()
-                .protocols(protocols)
-                .trustManager(trustManagerFactory)
-                .build();
-
+        return build(nettyContextBuilderWithTrustStore(algorithm, trustStorePath, trustStorePass, storeType, protocols));
     }
 
-    @SneakyThrows
     public SslContext buildNettyContext(final String algorithm,
                                         final String trustStorePath,
                                         final String trustStorePass,
@@ -71,18 +74,9 @@ public class SslUtils {
                                         final String keyStorePass,
                                         final String storeType,
                                         final String... protocols) {
-        final var trustManagerFactory = buildTrustManagerFactory(algorithm, trustStorePath, trustStorePass, storeType);
-        final var keyManagerFactory = buildKeyManagerFactory(algorithm, keyStorePath, keyStorePass, storeType);
-        return SslContextBuilder
-                .forClient()
-                .protocols(protocols)
-                .keyManager(keyManagerFactory)
-                .trustManager(trustManagerFactory)
-                .build();
-
+        return build(nettyContextBuilder(algorithm, trustStorePath, trustStorePass, keyStorePath, keyStorePass, storeType, protocols));
     }
 
-    @SneakyThrows
     public SslContext buildNettyContext(final String algorithm,
                                         final String trustStorePath,
                                         final String trustStorePass,
@@ -91,6 +85,45 @@ public class SslUtils {
                                         final String alias,
                                         final String storeType,
                                         final String... protocols) {
+        return build(nettyContextBuilder(algorithm, trustStorePath, trustStorePass, keyStorePath, keyStorePass, alias, storeType, protocols));
+    }
+
+    public SslContextBuilder nettyContextBuilderWithTrustStore(final String algorithm,
+                                                               final String trustStorePath,
+                                                               final String trustStorePass,
+                                                               final String storeType,
+                                                               final String... protocols) {
+        final var trustManagerFactory = buildTrustManagerFactory(algorithm, trustStorePath, trustStorePass, storeType);
+        return SslContextBuilder
+                .forClient()
+                .protocols(protocols)
+                .trustManager(trustManagerFactory);
+    }
+
+    public SslContextBuilder nettyContextBuilder(final String algorithm,
+                                                 final String trustStorePath,
+                                                 final String trustStorePass,
+                                                 final String keyStorePath,
+                                                 final String keyStorePass,
+                                                 final String storeType,
+                                                 final String... protocols) {
+        final var trustManagerFactory = buildTrustManagerFactory(algorithm, trustStorePath, trustStorePass, storeType);
+        final var keyManagerFactory = buildKeyManagerFactory(algorithm, keyStorePath, keyStorePass, storeType);
+        return SslContextBuilder
+                .forClient()
+                .protocols(protocols)
+                .keyManager(keyManagerFactory)
+                .trustManager(trustManagerFactory);
+    }
+
+    public SslContextBuilder nettyContextBuilder(final String algorithm,
+                                                 final String trustStorePath,
+                                                 final String trustStorePass,
+                                                 final String keyStorePath,
+                                                 final String keyStorePass,
+                                                 final String alias,
+                                                 final String storeType,
+                                                 final String... protocols) {
         final var trustManagerFactory = buildTrustManagerFactory(algorithm, trustStorePath, trustStorePass, storeType);
         final var keyManagers = buildKeyManagerFactory(algorithm, keyStorePath, keyStorePass, storeType, alias);
         final KeyManager keyManager = keyManagers[0];
@@ -98,9 +131,86 @@ public class SslUtils {
                 .forClient()
                 .protocols(protocols)
                 .keyManager(keyManager)
-                .trustManager(trustManagerFactory)
-                .build();
+                .trustManager(trustManagerFactory);
+    }
+
+    @SneakyThrows
+    private SslContext build(final SslContextBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * resolves provider which can be used in this JVM, falls back to {@link SslProvider#JDK} when OpenSSL is not available
+     *
+     * @param requested requested provider, null for JDK
+     * @return usable provider
+     */
+    public SslProvider resolveProvider(@Nullable final SslProvider requested) {
+        if (Objects.isNull(requested) || SslProvider.JDK == requested) {
+            return SslProvider.JDK;
+        }
+        if (!OpenSsl.isAvailable()) {
+            log.warn("openssl provider is not available, falling back to jdk, cause [{}]", OpenSsl.unavailabilityCause().getMessage());
+            return SslProvider.JDK;
+        }
+        return requested;
+    }
+
+    /**
+     * applies provider, session cache and cipher settings to context builder
+     *
+     * @param builder context builder
+     * @param tls     TLS engine settings, null keeps builder untouched
+     * @return same builder
+     */
+    public SslContextBuilder applyTls(@NotNull final SslContextBuilder builder, @Nullable final TlsConfiguration tls) {
+        if (Objects.isNull(tls)) {
+            return builder;
+        }
+        builder.sslProvider(resolveProvider(tls.getProvider()));
+        if (Objects.nonNull(tls.getSessionCacheSize())) {
+            builder.sessionCacheSize(tls.getSessionCacheSize());
+        }
+        if (Objects.nonNull(tls.getSessionTimeout())) {
+            builder.sessionTimeout(tls.getSessionTimeout().toSeconds());
+        }
+        if (Objects.nonNull(tls.getCiphers()) && !tls.getCiphers().isEmpty()) {
+            builder.ciphers(tls.getCiphers(), IdentityCipherSuiteFilter.INSTANCE);
+        }
+        return builder;
+    }
+
+    /**
+     * enables TLS session tickets on OpenSSL contexts, netty disables them by default,
+     * JDK contexts follow 'jdk.tls.client.enableSessionTicketExtension' system property
+     *
+     * @param context built context
+     * @param tls     TLS engine settings
+     * @return same context
+     */
+    public SslContext applySessionTickets(@NotNull final SslContext context, @Nullable final TlsConfiguration tls) {
+        if (Objects.isNull(tls) || Objects.isNull(tls.getSessionTickets())) {
+            return context;
+        }
+        if (context.sessionContext() instanceof OpenSslSessionContext openSslSessionContext) {
+            if (Boolean.TRUE.equals(tls.getSessionTickets())) {
+                openSslSessionContext.setTicketKeys(newTicketKey());
+            }
+            return context;
+        }
+        log.warn("session tickets of jdk provider can be changed only jvm wide through [jdk.tls.client.enableSessionTicketExtension]");
+        return context;
+    }
 
+    private OpenSslSessionTicketKey newTicketKey() {
+        final var random = new SecureRandom();
+        final var name = new byte[OpenSslSessionTicketKey.NAME_SIZE];
+        final var hmacKey = new byte[OpenSslSessionTicketKey.HMAC_KEY_SIZE];
+        final var aesKey = new byte[OpenSslSessionTicketKey.AES_KEY_SIZE];
+        random.nextBytes(name);
+        random.nextBytes(hmacKey);
+        random.nextBytes(aesKey);
+        return new OpenSslSessionTicketKey(name, hmacKey, aesKey);
     }
 
 
@@ -215,6 +325,50 @@ public class SslUtils {
         return sslContext;
     }
 
+    @SneakyThrows
+    public SSLContext buildContextWithAlias(final String algorithm,
+                                           final String protocol,
+                                           final String storePath,
+                                           final String storePass,
+                                           final String storeType,
+                                           final String alias) {
+        final var sslContext = SSLContext.getInstance(protocol);
+        final var keyManagers = buildKeyManagerFactory(algorithm, storePath, storePass, storeType, alias);
+        final var trustManagerFactory = buildTrustManagerFactory(algorithm, storePath, storePass, storeType);
+        sslContext.init(keyManagers, trustManagerFactory.getTrustManagers(), new SecureRandom());
+        return sslContext;
+    }
+
+    /**
+     * jdk ssl context trusting x509 certificates of given pem or der file
+     */
+    @SneakyThrows
+    public SSLContext buildContextWithCert(final String certPath, final String protocol) {
+        final var trustStore = KeyStore.getInstance(KeyStore.getDefaultType());
+        trustStore.load(null, null);
+        try (final var certStream = Files.newInputStream(Paths.get(certPath))) {
+            var index = 0;
+            for (final var certificate : CertificateFactory.getInstance("X.509").generateCertificates(certStream)) {
+                trustStore.setCertificateEntry("cert-" + index++, certificate);
+            }
+        }
+        final var trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagerFactory.init(trustStore);
+        final var sslContext = SSLContext.getInstance(protocol);
+        sslContext.init(null, trustManagerFactory.getTrustManagers(), new SecureRandom());
+        return sslContext;
+    }
+
+    /**
+     * jdk ssl context trusting every server certificate, only for testing
+     */
+    @SneakyThrows
+    public SSLContext buildTrustAllContext(final String protocol) {
+        final var sslContext = SSLContext.getInstance(protocol);
+        sslContext.init(null, insecureTrustManagers(), new SecureRandom());
+        return sslContext;
+    }
+
 
     @SneakyThrows
     public KeyStore buildKeyStore(final String keyStoreType, final String keyStorePath, final String keyStorePassword) {
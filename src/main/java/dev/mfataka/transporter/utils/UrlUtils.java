@@ -0,0 +1,35 @@
+package dev.mfataka.transporter.utils;
+
+import java.net.URI;
+
+import org.jetbrains.annotations.NotNull;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * @author HAMMA FATAKA
+ */
+@UtilityClass
+public class UrlUtils {
+    private static final int HTTP_PORT = 80;
+    private static final int HTTPS_PORT = 443;
+
+    /**
+     * @param url absolute url
+     * @return explicit port of url or default port of its scheme
+     */
+    public int portOf(@NotNull final URI url) {
+        if (url.getPort() >= 0) {
+            return url.getPort();
+        }
+        return "https".equalsIgnoreCase(url.getScheme()) ? HTTPS_PORT : HTTP_PORT;
+    }
+
+    /**
+     * @param url absolute url
+     * @return host and port of url, e.g. {@code example.com:443}, used as key of per host state
+     */
+    public String hostOf(@NotNull final URI url) {
+        return url.getHost() + ":" + portOf(url);
+    }
+}
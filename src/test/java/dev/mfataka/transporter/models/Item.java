@@ -0,0 +1,17 @@
+package dev.mfataka.transporter.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author HAMMA FATAKA
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Item {
+    private String id;
+    private String name;
+    private String error;
+}
@@ -1,30 +1,159 @@
-package dev.mfataka.transporter.rest;
-
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
-
-import reactor.core.publisher.Mono;
-
-import lombok.extern.slf4j.Slf4j;
-
-/**
- * @author HAMMA FATAKA
- */
-@Slf4j
-@RestController
-@RequestMapping(path = "/demo")
-public class DemoController {
-
-    @GetMapping(path = "/handshake")
-    public Mono<String> handshake() {
-        return Mono.just("OK");
-    }
-
-
-    @GetMapping(path = "/greeting/{name}")
-    public Mono<String> greet(@PathVariable(name = "name") final String name) {
-        return Mono.just("hello " + name);
-    }
-}
+package dev.mfataka.transporter.rest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import reactor.core.publisher.Mono;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.models.Item;
+
+/**
+ * @author HAMMA FATAKA
+ */
+@Slf4j
+@RestController
+@RequestMapping(path = "/demo")
+public class DemoController {
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+    @GetMapping(path = "/handshake")
+    public Mono<String> handshake() {
+        return Mono.just("OK");
+    }
+
+
+    @GetMapping(path = "/greeting/{name}")
+    public Mono<String> greet(@PathVariable(name = "name") final String name) {
+        return Mono.just("hello " + name);
+    }
+
+    @GetMapping(path = "/slow/{millis}")
+    public Mono<String> slow(@PathVariable(name = "millis") final long millis) {
+        return Mono.delay(Duration.ofMillis(millis)).thenReturn("OK");
+    }
+
+    @GetMapping(path = "/slow-first/{key}")
+    public Mono<String> slowFirst(@PathVariable(name = "key") final String key) {
+        final var call = calls.computeIfAbsent(key, ignored -> new AtomicInteger()).incrementAndGet();
+        return call == 1 ? Mono.delay(Duration.ofSeconds(3)).thenReturn("SLOW") : Mono.just("FAST");
+    }
+
+    @GetMapping(path = "/cached/{key}/{profile}")
+    public Mono<ResponseEntity<String>> cached(@PathVariable(name = "key") final String key,
+                                               @PathVariable(name = "profile") final String profile,
+                                               @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+        final var call = calls.computeIfAbsent(key, ignored -> new AtomicInteger()).incrementAndGet();
+        final var cacheControl = switch (profile) {
+            case "fresh" -> "max-age=60";
+            case "swr" -> "max-age=0, stale-while-revalidate=60";
+            case "sie" -> "max-age=0, stale-if-error=60";
+            case "no-store" -> "no-store";
+            default -> "no-cache";
+        };
+        if ("sie".equals(profile) && call > 1) {
+            return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("UNAVAILABLE"));
+        }
+        if ("\"v1\"".equals(ifNoneMatch)) {
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).header(HttpHeaders.CACHE_CONTROL, cacheControl).eTag("\"v1\"").build());
+        }
+        return Mono.just(ResponseEntity.ok().header(HttpHeaders.CACHE_CONTROL, cacheControl).eTag("\"v1\"").body("CALL " + call));
+    }
+
+    @GetMapping(path = "/cached-large/{key}/{size}")
+    public Mono<ResponseEntity<String>> cachedLarge(@PathVariable(name = "key") final String key, @PathVariable(name = "size") final int size) {
+        final var call = calls.computeIfAbsent(key, ignored -> new AtomicInteger()).incrementAndGet();
+        final var body = "CALL " + call + "x".repeat(Math.max(0, size - 6));
+        return Mono.just(ResponseEntity.ok().header(HttpHeaders.CACHE_CONTROL, "max-age=60").eTag("\"v1\"").body(body));
+    }
+
+    @PostMapping(path = "/items/batch/{key}")
+    public Mono<List<Item>> itemsBatch(@PathVariable(name = "key") final String key, @RequestBody final List<String> ids) {
+        final var call = calls.computeIfAbsent(key, ignored -> new AtomicInteger()).incrementAndGet();
+        log.info("batch call [{}] of [{}] with ids {}", call, key, ids);
+        return Mono.just(ids.stream()
+                .filter(id -> !id.startsWith("missing"))
+                .map(id -> id.startsWith("broken")
+                        ? new Item(id, null, "item " + id + " is broken")
+                        : new Item(id, "item " + id + " of call " + call, null))
+                .toList());
+    }
+
+    @GetMapping(path = "/counted/{key}/{millis}")
+    public Mono<String> counted(@PathVariable(name = "key") final String key, @PathVariable(name = "millis") final long millis) {
+        final var call = calls.computeIfAbsent(key, ignored -> new AtomicInteger()).incrementAndGet();
+        return Mono.delay(Duration.ofMillis(millis)).thenReturn("CALL " + call);
+    }
+
+    @RequestMapping(path = "/unavailable/{key}/{failures}", method = {RequestMethod.GET, RequestMethod.POST})
+    public Mono<ResponseEntity<String>> unavailable(@PathVariable(name = "key") final String key,
+                                                    @PathVariable(name = "failures") final int failures,
+                                                    @RequestParam(name = "retryAfter", required = false) final String retryAfter,
+                                                    @RequestParam(name = "echo", required = false) final String echo,
+                                                    @RequestHeader final HttpHeaders headers) {
+        final var call = calls.computeIfAbsent(key, ignored -> new AtomicInteger()).incrementAndGet();
+        if (call > failures) {
+            return Mono.just(ResponseEntity.ok(echo == null ? "OK " + call : headers.getFirst(echo)));
+        }
+        final var response = ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE);
+        if (retryAfter != null) {
+            response.header(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return Mono.just(response.body("UNAVAILABLE"));
+    }
+
+    @GetMapping(path = "/header/{name}")
+    public Mono<String> header(@RequestHeader final HttpHeaders headers, @PathVariable(name = "name") final String name) {
+        return Mono.justOrEmpty(headers.getFirst(name));
+    }
+
+    @GetMapping(path = "/accept-encoding")
+    public Mono<String> acceptEncoding(@RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding) {
+        return Mono.justOrEmpty(acceptEncoding);
+    }
+
+    @PostMapping(path = "/content-encoding")
+    public Mono<String> contentEncoding(@RequestHeader(name = HttpHeaders.CONTENT_ENCODING, defaultValue = "identity") final String contentEncoding,
+                                        @RequestBody(required = false) final byte[] nullableBody) throws IOException {
+        final var body = Objects.isNull(nullableBody) ? new byte[0] : nullableBody;
+        final InputStream input = switch (contentEncoding) {
+            case "gzip" -> new GZIPInputStream(new ByteArrayInputStream(body));
+            case "deflate" -> new InflaterInputStream(new ByteArrayInputStream(body));
+            default -> new ByteArrayInputStream(body);
+        };
+        try (input) {
+            return Mono.just(contentEncoding + ":" + new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @PostMapping(path = "/content-length")
+    public Mono<String> contentLength(@RequestHeader(name = HttpHeaders.CONTENT_LENGTH, defaultValue = "chunked") final String contentLength,
+                                      @RequestHeader(name = HttpHeaders.TRANSFER_ENCODING, required = false) final String transferEncoding,
+                                      @RequestBody final byte[] body) {
+        return Mono.just(contentLength + ":" + body.length + ":" + transferEncoding);
+    }
+}
@@ -0,0 +1,99 @@
+package dev.mfataka.transporter.test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import dev.mfataka.transporter.batch.BatchFunction;
+import dev.mfataka.transporter.batch.BatchResult;
+import dev.mfataka.transporter.config.BatchConfiguration;
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.models.Item;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class BatchLoaderTest extends AbstractTransporterTest {
+
+    private String batchUrl(final String key) {
+        return "http://localhost:" + localPort + "/demo/items/batch/" + key;
+    }
+
+    @Test
+    void shouldCollectLookupsIntoOneBatchCall() {
+        try (final var builder = getTransporterBuilder()) {
+            final var loader = builder.batchLoader(
+                    BatchConfiguration.builder().name("items").window(Duration.ofMillis(100)).build(),
+                    BatchFunction.post(builder::build, batchUrl("collected"), Item.class, Item::getId));
+
+            final var lookups = Flux.merge(loader.load("1"), loader.load("2"), loader.load("1"), loader.load("missing-3"))
+                    .map(Item::getName)
+                    .collectList();
+
+            StepVerifier.create(lookups)
+                    .assertNext(names -> Assertions.assertEquals(
+                            List.of("item 1 of call 1", "item 1 of call 1", "item 2 of call 1"),
+                            names.stream().sorted().toList()))
+                    .verifyComplete();
+            Assertions.assertEquals(1L, builder.getMetrics().counter("batch.items.calls"));
+            Assertions.assertEquals(3L, builder.getMetrics().counter("batch.items.keys"));
+            Assertions.assertEquals(1L, builder.getMetrics().counter("batch.items.deduplicated"));
+            Assertions.assertEquals(1L, builder.getMetrics().counter("batch.items.missed"));
+            Assertions.assertEquals(0, builder.getMetrics().gaugeValue("batch.items.pending").intValue());
+        }
+    }
+
+    @Test
+    void shouldSendBatchOnceItIsFull() {
+        try (final var builder = getTransporterBuilder()) {
+            final var loader = builder.batchLoader(
+                    BatchConfiguration.builder().name("full").maxBatchSize(2).window(Duration.ofMinutes(1)).build(),
+                    BatchFunction.post(builder::build, batchUrl("full"), Item.class, Item::getId));
+
+            StepVerifier.create(loader.loadMany(List.of("1", "2", "3", "4")).map(Item::getName))
+                    .expectNext("item 1 of call 1", "item 2 of call 1", "item 3 of call 2", "item 4 of call 2")
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(10));
+            Assertions.assertEquals(2L, builder.getMetrics().counter("batch.full.calls"));
+        }
+    }
+
+    @Test
+    void shouldPropagateErrorsOfKeysAndOfBatch() {
+        try (final var builder = getTransporterBuilder()) {
+            final BatchFunction<String, Item> withErrors = keys -> builder.build()
+                    .bodyValue(keys)
+                    .sendAndReceive(batchUrl("errors"), TransporterMethod.POST)
+                    .fluxData(Item.class)
+                    .collect(Collectors.toMap(Item::getId, item -> item.getError() == null
+                            ? BatchResult.value(item)
+                            : BatchResult.<Item>error(new IllegalStateException(item.getError()))));
+            final var loader = builder.batchLoader(BatchConfiguration.builder().name("errors").build(), withErrors);
+
+            final var broken = loader.load("broken-1")
+                    .map(Item::getName)
+                    .onErrorResume(IllegalStateException.class, e -> Mono.just(e.getMessage()));
+            final var healthy = loader.load("5").map(Item::getName);
+            StepVerifier.create(Flux.merge(broken, healthy).collectList())
+                    .assertNext(results -> Assertions.assertEquals(
+                            List.of("item 5 of call 1", "item broken-1 is broken"),
+                            results.stream().sorted().toList()))
+                    .verifyComplete();
+
+            final var failing = builder.<String, Item>batchLoader(BatchConfiguration.builder().name("failing").build(),
+                    keys -> Mono.<Map<String, BatchResult<Item>>>error(new IllegalStateException("batch failed")));
+            StepVerifier.create(Flux.merge(failing.load("1"), failing.load("2")))
+                    .expectErrorMessage("batch failed")
+                    .verify();
+            Assertions.assertEquals(1L, builder.getMetrics().counter("batch.failing.failed"));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package dev.mfataka.transporter.test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import dev.mfataka.transporter.config.BlockingConfiguration;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class BlockingTransporterTest extends AbstractTransporterTest {
+
+    private String counted(final String key, final long millis) {
+        return "http://localhost:" + localPort + "/demo/counted/" + key + "/" + millis;
+    }
+
+    @Test
+    void shouldReturnResultToCallerThread() {
+        try (final var builder = getTransporterBuilder()) {
+            final var result = builder.blocking().get(counted("blocking-caller", 0), String.class);
+
+            Assertions.assertTrue(result.isOkAnd2xxStatus());
+            Assertions.assertEquals("CALL 1", result.data());
+        }
+    }
+
+    @Test
+    void shouldRefuseCallOnNonBlockingThread() {
+        try (final var builder = getTransporterBuilder()) {
+            final var blocking = builder.blocking();
+
+            StepVerifier.create(Mono.fromCallable(() -> blocking.get(counted("blocking-refused", 0), String.class))
+                            .subscribeOn(Schedulers.parallel()))
+                    .expectErrorMatches(e -> e instanceof IllegalStateException && e.getMessage().contains("non-blocking thread"))
+                    .verify();
+        }
+    }
+
+    @Test
+    void shouldFailCallExceedingTimeout() {
+        try (final var builder = getTransporterBuilder()) {
+            final var blocking = builder.blocking(BlockingConfiguration.builder().timeout(Duration.ofMillis(300)).build());
+            final var result = blocking.get(counted("blocking-timeout", 3000), String.class);
+
+            Assertions.assertFalse(result.isOkAnd2xxStatus());
+            Assertions.assertTrue(result.resultMessage().contains("did not complete"), result.resultMessage());
+        }
+    }
+
+    @Test
+    void shouldFanOutBlockingCallsOnExecutor() {
+        try (final var builder = getTransporterBuilder()) {
+            final var blocking = builder.blocking();
+            final var calls = IntStream.range(0, 50)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> blocking.get(counted("blocking-fan-out", 200), String.class), blocking.executor()))
+                    .toList();
+
+            CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+            Assertions.assertTrue(calls.stream().allMatch(call -> call.join().isOkAnd2xxStatus()));
+            Assertions.assertEquals(Runtime.version().feature() >= 21, blocking.isVirtual());
+        }
+    }
+}
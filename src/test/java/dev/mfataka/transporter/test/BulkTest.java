@@ -0,0 +1,70 @@
+package dev.mfataka.transporter.test;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import dev.mfataka.transporter.bulk.BulkRequest;
+import dev.mfataka.transporter.bulk.BulkResult;
+import dev.mfataka.transporter.config.BulkConfiguration;
+import dev.mfataka.transporter.enums.TransporterMethod;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class BulkTest extends AbstractTransporterTest {
+
+    private BulkRequest counted(final String key) {
+        return BulkRequest.of("http://localhost:" + localPort + "/demo/counted/" + key + "/100", TransporterMethod.GET);
+    }
+
+    @Test
+    void shouldRunRequestsWithBoundedConcurrency() {
+        try (final var builder = getTransporterBuilder()) {
+            final var requests = Flux.range(0, 20).map(i -> counted("bulk-" + i));
+            final var results = builder.build()
+                    .bulk(requests, String.class, BulkConfiguration.builder().maxConcurrency(4).build())
+                    .collectList();
+
+            StepVerifier.create(results)
+                    .assertNext(list -> {
+                        Assertions.assertEquals(20, list.size());
+                        Assertions.assertTrue(list.stream().allMatch(BulkResult::isOk));
+                        Assertions.assertTrue(list.stream().allMatch(result -> result.progress().inFlight() < 4), "more than 4 requests in flight");
+                        final var last = list.get(list.size() - 1).progress();
+                        Assertions.assertEquals(20, last.completed());
+                        Assertions.assertEquals(0, last.failed());
+                        Assertions.assertTrue(last.throughput() > 0);
+                    })
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void shouldKeepOrderAndIsolateFailures() {
+        try (final var builder = getTransporterBuilder()) {
+            final var requests = Flux.just(
+                    counted("bulk-ordered-slow").toBuilder().url("http://localhost:" + localPort + "/demo/counted/bulk-ordered-slow/300").build(),
+                    BulkRequest.of("http://localhost:" + localPort + "/demo/unavailable/bulk-ordered-failing/100", TransporterMethod.GET),
+                    counted("bulk-ordered-fast"));
+            final var results = builder.build()
+                    .bulk(requests, String.class, BulkConfiguration.builder().ordered(true).build())
+                    .collectList();
+
+            StepVerifier.create(results)
+                    .assertNext(list -> {
+                        Assertions.assertEquals(List.of(0L, 1L, 2L), list.stream().map(BulkResult::index).toList());
+                        Assertions.assertTrue(list.get(0).isOk());
+                        Assertions.assertFalse(list.get(1).isOk());
+                        Assertions.assertTrue(list.get(2).isOk());
+                        Assertions.assertEquals("CALL 1", list.get(2).data().data());
+                        Assertions.assertEquals(1, list.get(1).progress().failed());
+                    })
+                    .verifyComplete();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package dev.mfataka.transporter.test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import dev.mfataka.transporter.circuitbreaker.CircuitBreakerEvent;
+import dev.mfataka.transporter.config.CircuitBreakerConfiguration;
+import dev.mfataka.transporter.enums.CircuitState;
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.exceptions.CircuitBreakerOpenException;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class CircuitBreakerTest extends AbstractTransporterTest {
+
+    private static CircuitBreakerConfiguration circuitBreaker(final String name) {
+        return CircuitBreakerConfiguration.builder()
+                .name(name)
+                .windowSize(4)
+                .minimumCalls(4)
+                .failureRateThreshold(50D)
+                .openDuration(Duration.ofMillis(300))
+                .halfOpenCalls(1)
+                .build();
+    }
+
+    @Test
+    void shouldOpenAndFailFast() {
+        final List<CircuitBreakerEvent> events = new CopyOnWriteArrayList<>();
+
+        try (final var builder = getTransporterBuilder().circuitBreaker(circuitBreaker("cb-open"), events::add)) {
+            final var transporter = builder.build();
+            for (int i = 0; i < 4; i++) {
+                final var data = transporter
+                        .sendAndReceive("http://localhost:" + localPort + "/demo/unavailable/cb-open/100", TransporterMethod.GET)
+                        .transporterData(String.class)
+                        .block();
+                Assertions.assertNotNull(data);
+                Assertions.assertTrue(data.isFail());
+            }
+            Assertions.assertEquals(1, events.size());
+            Assertions.assertEquals(CircuitState.OPEN, events.get(0).to());
+
+            StepVerifier.create(transporter
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectError(CircuitBreakerOpenException.class)
+                    .verify();
+
+            final var data = transporter
+                    .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                    .transporterData(String.class)
+                    .block();
+            Assertions.assertNotNull(data);
+            Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE, data.asResponseEntity().getStatusCode());
+            Assertions.assertEquals(2L, builder.getMetrics().counter("cb.localhost:" + localPort + ".rejected"));
+        }
+    }
+
+    @Test
+    void shouldOpenOnCallsCancelledAfterSlowCallDuration() {
+        final List<CircuitBreakerEvent> events = new CopyOnWriteArrayList<>();
+        final var config = CircuitBreakerConfiguration.builder()
+                .name("cb-slow")
+                .windowSize(4)
+                .minimumCalls(4)
+                .openDuration(Duration.ofSeconds(10))
+                .slowCallDuration(Duration.ofMillis(100))
+                .slowCallRateThreshold(50D)
+                .build();
+
+        try (final var builder = getTransporterBuilder().circuitBreaker(config, events::add)) {
+            final var transporter = builder.build();
+            for (int i = 0; i < 4; i++) {
+                StepVerifier.create(transporter
+                                .sendAndReceive("http://localhost:" + localPort + "/demo/slow/2000", TransporterMethod.GET)
+                                .monoData(String.class)
+                                .timeout(Duration.ofMillis(200)))
+                        .expectError()
+                        .verify();
+            }
+
+            Assertions.assertEquals(1, events.size());
+            Assertions.assertEquals(CircuitState.OPEN, events.get(0).to());
+            Assertions.assertEquals(100D, builder.getMetrics().gaugeValue("cb.localhost:" + localPort + ".slowCallRate").doubleValue());
+        }
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulProbe() throws InterruptedException {
+        final List<CircuitBreakerEvent> events = new CopyOnWriteArrayList<>();
+
+        try (final var builder = getTransporterBuilder().circuitBreaker(circuitBreaker("cb-close"), events::add)) {
+            final var transporter = builder.build();
+            for (int i = 0; i < 4; i++) {
+                transporter.sendAndReceive("http://localhost:" + localPort + "/demo/unavailable/cb-close/100", TransporterMethod.GET)
+                        .transporterData(String.class)
+                        .block();
+            }
+            Thread.sleep(400);
+
+            StepVerifier.create(transporter
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectNext("OK")
+                    .verifyComplete();
+
+            Assertions.assertEquals(List.of(CircuitState.OPEN, CircuitState.HALF_OPEN, CircuitState.CLOSED),
+                    events.stream().map(CircuitBreakerEvent::to).toList());
+            Assertions.assertEquals(CircuitState.CLOSED, builder.getCircuitBreakers().iterator().next().state());
+        }
+    }
+
+    @Test
+    void shouldNotHoldCircuitWhileListenerRuns() throws InterruptedException {
+        final var listening = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        try (final var builder = getTransporterBuilder().circuitBreaker(circuitBreaker("cb-listener"), event -> {
+            listening.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        })) {
+            final var transporter = builder.build();
+            final var calls = Flux.range(0, 4)
+                    .concatMap(ignored -> transporter
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/unavailable/cb-listener/100", TransporterMethod.GET)
+                            .transporterData(String.class))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .then()
+                    .toFuture();
+
+            Assertions.assertTrue(listening.await(5, TimeUnit.SECONDS));
+            final var circuitBreaker = builder.getCircuitBreakers().iterator().next();
+            Assertions.assertEquals(CircuitState.OPEN, Assertions.assertTimeoutPreemptively(Duration.ofSeconds(1), circuitBreaker::state));
+            release.countDown();
+            Assertions.assertDoesNotThrow(() -> calls.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void shouldShareCircuitBetweenTransportersOfTheSameName() {
+        try (final var first = getTransporterBuilder().circuitBreaker(circuitBreaker("cb-shared"));
+             final var second = getTransporterBuilder().circuitBreaker(circuitBreaker("cb-shared"));
+             final var other = getTransporterBuilder().circuitBreaker(circuitBreaker("cb-other"))) {
+            for (int i = 0; i < 4; i++) {
+                (i % 2 == 0 ? first : second).build()
+                        .sendAndReceive("http://localhost:" + localPort + "/demo/unavailable/cb-shared/100", TransporterMethod.GET)
+                        .transporterData(String.class)
+                        .block();
+            }
+
+            StepVerifier.create(getTransporterBuilder().circuitBreaker(circuitBreaker("cb-shared")).build()
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectError(CircuitBreakerOpenException.class)
+                    .verify();
+            StepVerifier.create(other.build()
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectNext("OK")
+                    .verifyComplete();
+            Assertions.assertSame(first.getCircuitBreakers().iterator().next(), second.getCircuitBreakers().iterator().next());
+            Assertions.assertEquals(CircuitState.CLOSED, other.getCircuitBreakers().iterator().next().state());
+        }
+    }
+}
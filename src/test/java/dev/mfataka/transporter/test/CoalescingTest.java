@@ -0,0 +1,89 @@
+package dev.mfataka.transporter.test;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import dev.mfataka.transporter.config.CoalescingConfiguration;
+import dev.mfataka.transporter.enums.TransporterMethod;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class CoalescingTest extends AbstractTransporterTest {
+
+    @Test
+    void shouldShareOneExchangeAmongIdenticalRequests() {
+        try (final var builder = getTransporterBuilder().coalescing(CoalescingConfiguration.builder().build())) {
+            final var transporter = builder.build();
+            final var responses = Flux.range(0, 10)
+                    .flatMap(ignored -> transporter
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/counted/coalesced/300", TransporterMethod.GET)
+                            .monoData(String.class));
+
+            StepVerifier.create(responses)
+                    .expectNextCount(10)
+                    .verifyComplete();
+            Assertions.assertEquals(1L, builder.getMetrics().counter("coalescing.executed"));
+            Assertions.assertEquals(9L, builder.getMetrics().counter("coalescing.joined"));
+            Assertions.assertEquals(0, builder.getMetrics().gaugeValue("coalescing.inFlight").intValue());
+
+            StepVerifier.create(transporter
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/counted/coalesced/0", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectNext("CALL 2")
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void shouldNotShareRequestsOfDifferentCallers() {
+        try (final var builder = getTransporterBuilder().coalescing(CoalescingConfiguration.builder().build())) {
+            final var transporter = builder.build();
+            final var first = transporter.bearerAuth("first")
+                    .sendAndReceive("http://localhost:" + localPort + "/demo/counted/callers/300", TransporterMethod.GET)
+                    .monoData(String.class);
+            final var second = transporter.bearerAuth("second")
+                    .sendAndReceive("http://localhost:" + localPort + "/demo/counted/callers/300", TransporterMethod.GET)
+                    .monoData(String.class);
+            final var excluded = transporter.withCoalescing(false)
+                    .sendAndReceive("http://localhost:" + localPort + "/demo/counted/callers/300", TransporterMethod.GET)
+                    .monoData(String.class);
+
+            StepVerifier.create(Flux.merge(first, second, excluded).collectList())
+                    .assertNext(responses -> Assertions.assertEquals(3, responses.stream().distinct().count()))
+                    .verifyComplete();
+            Assertions.assertEquals(0L, builder.getMetrics().counter("coalescing.joined"));
+        }
+    }
+
+    @Test
+    void shouldKeepExchangeWhileAnySubscriberIsLeft() {
+        try (final var builder = getTransporterBuilder().coalescing(CoalescingConfiguration.builder().build())) {
+            final var transporter = builder.build();
+            // warm up connection, so both requests are subscribed before first one times out
+            transporter.withCoalescing(false)
+                    .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                    .monoData(String.class)
+                    .block();
+            final var cancelled = transporter
+                    .sendAndReceive("http://localhost:" + localPort + "/demo/counted/cancel/500", TransporterMethod.GET)
+                    .monoData(String.class)
+                    .timeout(Duration.ofMillis(100), Mono.just("CANCELLED"));
+            final var waiting = transporter
+                    .sendAndReceive("http://localhost:" + localPort + "/demo/counted/cancel/500", TransporterMethod.GET)
+                    .monoData(String.class);
+
+            StepVerifier.create(Flux.merge(cancelled, waiting).collectList())
+                    .assertNext(responses -> Assertions.assertTrue(responses.containsAll(List.of("CANCELLED", "CALL 1")), responses.toString()))
+                    .verifyComplete();
+            Assertions.assertEquals(1L, builder.getMetrics().counter("coalescing.joined"));
+        }
+    }
+}
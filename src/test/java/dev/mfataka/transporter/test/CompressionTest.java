@@ -0,0 +1,121 @@
+package dev.mfataka.transporter.test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.InputStreamResource;
+
+import reactor.test.StepVerifier;
+
+import dev.mfataka.transporter.config.CompressionConfiguration;
+import dev.mfataka.transporter.enums.CompressionAlgorithm;
+import dev.mfataka.transporter.enums.TransporterMethod;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class CompressionTest extends AbstractTransporterTest {
+
+    @Test
+    void shouldDecompressResponsesWithoutFollowingRedirects() {
+        final var compression = CompressionConfiguration.builder()
+                .responseDecompression(true)
+                .build();
+
+        try (final var builder = getTransporterBuilder().compression(compression)) {
+            StepVerifier.create(builder.build()
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/accept-encoding", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .assertNext(acceptEncoding -> {
+                        Assertions.assertTrue(acceptEncoding.contains("gzip"), acceptEncoding);
+                        Assertions.assertTrue(acceptEncoding.contains("deflate"), acceptEncoding);
+                    })
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void shouldCompressRequestBodyAboveThreshold() {
+        final var compression = CompressionConfiguration.builder()
+                .requestCompression(true)
+                .requestThreshold(64)
+                .build();
+        final var body = "compressed ".repeat(20);
+
+        try (final var builder = getTransporterBuilder().compression(compression)) {
+            StepVerifier.create(builder.post(body)
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/content-encoding")
+                            .monoData(String.class))
+                    .expectNext("gzip:" + body)
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void shouldSendBodyBelowThresholdAsItIs() {
+        final var compression = CompressionConfiguration.builder()
+                .requestCompression(true)
+                .requestAlgorithm(CompressionAlgorithm.DEFLATE)
+                .build();
+
+        try (final var builder = getTransporterBuilder().compression(compression)) {
+            StepVerifier.create(builder.post("small")
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/content-encoding")
+                            .monoData(String.class))
+                    .expectNext("identity:small")
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void shouldDeflateRequestBody() {
+        final var compression = CompressionConfiguration.builder()
+                .requestCompression(true)
+                .requestThreshold(0)
+                .requestAlgorithm(CompressionAlgorithm.DEFLATE)
+                .build();
+
+        try (final var builder = getTransporterBuilder().compression(compression)) {
+            StepVerifier.create(builder.post("deflated")
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/content-encoding")
+                            .monoData(String.class))
+                    .expectNext("deflate:deflated")
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void shouldSendEmptyBodyOnce() {
+        final var compression = CompressionConfiguration.builder()
+                .requestCompression(true)
+                .requestThreshold(0)
+                .build();
+
+        try (final var builder = getTransporterBuilder().compression(compression)) {
+            StepVerifier.create(builder.post("")
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/content-encoding")
+                            .monoData(String.class))
+                    .expectNext("identity:")
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void shouldSendStreamedBodyAsItIs() {
+        final var compression = CompressionConfiguration.builder()
+                .requestCompression(true)
+                .requestThreshold(64)
+                .build();
+        final var body = "streamed ".repeat(1_000);
+
+        try (final var builder = getTransporterBuilder().compression(compression)) {
+            StepVerifier.create(builder.post(new InputStreamResource(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))))
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/content-encoding")
+                            .monoData(String.class))
+                    .expectNext("identity:" + body)
+                    .verifyComplete();
+        }
+    }
+}
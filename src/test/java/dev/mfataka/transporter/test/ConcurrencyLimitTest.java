@@ -0,0 +1,155 @@
+package dev.mfataka.transporter.test;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import dev.mfataka.transporter.config.CircuitBreakerConfiguration;
+import dev.mfataka.transporter.config.ConcurrencyLimitConfiguration;
+import dev.mfataka.transporter.enums.CircuitState;
+import dev.mfataka.transporter.enums.LimitAlgorithm;
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.limit.AimdLimit;
+import dev.mfataka.transporter.model.Deadline;
+import dev.mfataka.transporter.model.TransporterData;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class ConcurrencyLimitTest extends AbstractTransporterTest {
+
+    @Test
+    void shouldRejectRequestsOverLimit() {
+        final var limit = ConcurrencyLimitConfiguration.builder()
+                .algorithm(LimitAlgorithm.AIMD)
+                .initialLimit(2)
+                .maxLimit(2)
+                .build();
+
+        try (final var builder = getTransporterBuilder().concurrencyLimit(limit)) {
+            final var transporter = builder.build();
+            final var responses = Flux.range(0, 5)
+                    .flatMap(ignored -> transporter
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/slow/500", TransporterMethod.GET)
+                            .transporterData(String.class))
+                    .filter(TransporterData::isFail)
+                    .count();
+
+            StepVerifier.create(responses)
+                    .assertNext(failed -> Assertions.assertEquals(3L, failed))
+                    .verifyComplete();
+            Assertions.assertEquals(3L, builder.getMetrics().counter("limit.rejected"));
+            Assertions.assertEquals(0, builder.getMetrics().gaugeValue("limit.inFlight").intValue());
+        }
+    }
+
+    @Test
+    void shouldNotShrinkLimitOnCancelledRequests() {
+        final var limit = ConcurrencyLimitConfiguration.builder()
+                .algorithm(LimitAlgorithm.AIMD)
+                .initialLimit(10)
+                .maxLimit(10)
+                .build();
+
+        try (final var builder = getTransporterBuilder().concurrencyLimit(limit)) {
+            final var transporter = builder.build();
+            final var responses = Flux.range(0, 5)
+                    .flatMap(ignored -> transporter
+                            .withDeadline(Deadline.of(Duration.ofMillis(100)))
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/slow/2000", TransporterMethod.GET)
+                            .monoData(String.class)
+                            .onErrorResume(e -> Mono.empty()))
+                    .count();
+
+            StepVerifier.create(responses)
+                    .expectNext(0L)
+                    .verifyComplete();
+            Assertions.assertEquals(10, builder.getMetrics().gaugeValue("limit.current").intValue());
+            Assertions.assertEquals(0, builder.getMetrics().gaugeValue("limit.inFlight").intValue());
+        }
+    }
+
+    @Test
+    void shouldQueueRequestsWithinWaitBudget() {
+        final var limit = ConcurrencyLimitConfiguration.builder()
+                .initialLimit(2)
+                .maxLimit(2)
+                .maxQueue(10)
+                .maxWait(Duration.ofSeconds(10))
+                .build();
+
+        try (final var builder = getTransporterBuilder().concurrencyLimit(limit)) {
+            final var transporter = builder.build();
+            final var responses = Flux.range(0, 6)
+                    .flatMap(ignored -> transporter
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/slow/200", TransporterMethod.GET)
+                            .monoData(String.class));
+
+            StepVerifier.create(responses)
+                    .expectNextCount(6)
+                    .verifyComplete();
+            Assertions.assertEquals(0L, builder.getMetrics().counter("limit.rejected"));
+            Assertions.assertEquals(0, builder.getMetrics().gaugeValue("limit.queued").intValue());
+            Assertions.assertEquals(2, builder.getMetrics().gaugeValue("limit.current").intValue());
+        }
+    }
+
+    @Test
+    void shouldNotCountShedOrQueuedRequestsAgainstCircuit() {
+        final var limit = ConcurrencyLimitConfiguration.builder()
+                .algorithm(LimitAlgorithm.AIMD)
+                .initialLimit(1)
+                .maxLimit(1)
+                .maxQueue(1)
+                .maxWait(Duration.ofSeconds(5))
+                .build();
+        final var circuitBreaker = CircuitBreakerConfiguration.builder()
+                .name("limit-shed")
+                .windowSize(4)
+                .minimumCalls(2)
+                .failureRateThreshold(50D)
+                .slowCallRateThreshold(50D)
+                .slowCallDuration(Duration.ofMillis(500))
+                .build();
+
+        try (final var builder = getTransporterBuilder().concurrencyLimit(limit).circuitBreaker(circuitBreaker)) {
+            final var transporter = builder.build();
+            final var failed = Flux.range(0, 4)
+                    .flatMap(ignored -> transporter
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/slow/300", TransporterMethod.GET)
+                            .transporterData(String.class))
+                    .filter(TransporterData::isFail)
+                    .count();
+
+            StepVerifier.create(failed)
+                    .expectNext(2L)
+                    .verifyComplete();
+            Assertions.assertEquals(2L, builder.getMetrics().counter("limit.rejected"));
+            Assertions.assertEquals(CircuitState.CLOSED, builder.getCircuitBreakers().iterator().next().state());
+            Assertions.assertEquals(0D, builder.getCircuitBreakers().iterator().next().failureRate());
+            Assertions.assertEquals(0D, builder.getCircuitBreakers().iterator().next().slowCallRate());
+        }
+    }
+
+    @Test
+    void shouldAdaptAimdLimit() {
+        final var limit = new AimdLimit(ConcurrencyLimitConfiguration.builder()
+                .initialLimit(10)
+                .latencyThreshold(Duration.ofMillis(100))
+                .build());
+
+        limit.onSample(Duration.ofMillis(10).toNanos(), 5, false);
+        Assertions.assertEquals(11, limit.getLimit());
+        limit.onSample(Duration.ofMillis(10).toNanos(), 1, false);
+        Assertions.assertEquals(11, limit.getLimit());
+        limit.onSample(Duration.ofMillis(500).toNanos(), 5, false);
+        Assertions.assertEquals(9, limit.getLimit());
+        limit.onSample(Duration.ofMillis(10).toNanos(), 5, true);
+        Assertions.assertEquals(8, limit.getLimit());
+    }
+}
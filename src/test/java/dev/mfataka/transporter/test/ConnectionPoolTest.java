@@ -0,0 +1,65 @@
+package dev.mfataka.transporter.test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import dev.mfataka.transporter.config.ConnectionPoolConfiguration;
+import dev.mfataka.transporter.enums.PoolLeaseStrategy;
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.resources.ConnectionProviderRegistry;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class ConnectionPoolTest extends AbstractTransporterTest {
+
+    @Test
+    void shouldSendRequestsThroughDedicatedPool() {
+        final var pool = ConnectionPoolConfiguration.builder()
+                .name("pool-test")
+                .maxConnections(2)
+                .pendingAcquireMaxCount(50)
+                .pendingAcquireTimeout(Duration.ofSeconds(5))
+                .maxIdleTime(Duration.ofSeconds(10))
+                .leaseStrategy(PoolLeaseStrategy.LIFO)
+                .hosts(Map.of("localhost:" + localPort, ConnectionPoolConfiguration.builder().maxConnections(4).build()))
+                .build();
+
+        try (final var builder = getTransporterBuilder().connectionPool(pool)) {
+            final var responses = Flux.range(0, 10)
+                    .flatMap(ignored -> builder.build()
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                            .monoData(String.class));
+
+            StepVerifier.create(responses)
+                    .expectNextCount(10)
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void shouldSharePoolWithSameName() {
+        final var pool = ConnectionPoolConfiguration.builder()
+                .name("shared-pool-test")
+                .build();
+
+        final var first = ConnectionProviderRegistry.acquire(pool);
+        final var second = ConnectionProviderRegistry.acquire(pool);
+        Assertions.assertSame(first, second);
+
+        ConnectionProviderRegistry.release(pool);
+        Assertions.assertSame(first, ConnectionProviderRegistry.acquire(pool));
+        ConnectionProviderRegistry.release(pool);
+        ConnectionProviderRegistry.release(pool);
+
+        final var recreated = ConnectionProviderRegistry.acquire(pool);
+        Assertions.assertNotSame(first, recreated);
+        ConnectionProviderRegistry.release(pool);
+    }
+}
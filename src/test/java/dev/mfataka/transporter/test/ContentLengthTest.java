@@ -0,0 +1,65 @@
+package dev.mfataka.transporter.test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+
+import reactor.test.StepVerifier;
+
+import dev.mfataka.transporter.codec.PooledJackson2JsonEncoder;
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.models.Item;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class ContentLengthTest extends AbstractTransporterTest {
+
+    private String demo(final String path) {
+        return "http://localhost:" + localPort + "/demo/" + path;
+    }
+
+    @Test
+    void shouldSendExactContentLengthOfEncodedBody() {
+        final var body = Map.of("name", "žluťoučký kůň", "value", "x".repeat(64 * 1024));
+        try (final var builder = getTransporterBuilder()) {
+            final var received = builder.build()
+                    .bodyValue(body)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .withContentLength()
+                    .sendAndReceive(demo("content-length"), TransporterMethod.POST)
+                    .monoData(String.class);
+            StepVerifier.create(received)
+                    .assertNext(value -> {
+                        final var parts = value.split(":");
+                        Assertions.assertEquals(parts[0], parts[1], value);
+                        Assertions.assertEquals("null", parts[2], value);
+                    })
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void shouldEncodeSameBytesAsDefaultEncoder() {
+        final var bufferFactory = DefaultDataBufferFactory.sharedInstance;
+        final var value = List.of(new Item("1", "first", null), new Item("2", "second", null));
+        final var type = ResolvableType.forClassWithGenerics(List.class, Item.class);
+
+        final var pooled = new PooledJackson2JsonEncoder().encodeValue(value, bufferFactory, type, MediaType.APPLICATION_JSON, Map.of());
+        final var expected = new Jackson2JsonEncoder().encodeValue(value, bufferFactory, type, MediaType.APPLICATION_JSON, Map.of());
+        try {
+            Assertions.assertEquals(expected.toString(StandardCharsets.UTF_8), pooled.toString(StandardCharsets.UTF_8));
+        } finally {
+            DataBufferUtils.release(pooled);
+            DataBufferUtils.release(expected);
+        }
+    }
+}
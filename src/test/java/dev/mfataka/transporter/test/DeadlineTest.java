@@ -0,0 +1,138 @@
+package dev.mfataka.transporter.test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import reactor.test.StepVerifier;
+
+import dev.mfataka.transporter.config.DeadlineConfiguration;
+import dev.mfataka.transporter.config.RetryConfiguration;
+import dev.mfataka.transporter.config.TransporterConfiguration;
+import dev.mfataka.transporter.enums.DeadlinePhase;
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.exceptions.DeadlineExceededException;
+import dev.mfataka.transporter.imp.TransporterBuilder;
+import dev.mfataka.transporter.model.Deadline;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class DeadlineTest extends AbstractTransporterTest {
+
+    @Test
+    void shouldFailOnFirstByteDeadline() {
+        try (final var builder = getTransporterBuilder()) {
+            final var response = builder.build()
+                    .withDeadline(Deadline.builder().firstByte(Duration.ofMillis(100)).build())
+                    .sendAndReceive("http://localhost:" + localPort + "/demo/slow/2000", TransporterMethod.GET)
+                    .monoData(String.class);
+
+            StepVerifier.create(response)
+                    .expectErrorSatisfies(e -> assertPhase(e, DeadlinePhase.FIRST_BYTE))
+                    .verify(Duration.ofSeconds(2));
+            Assertions.assertEquals(1L, builder.getMetrics().counter("deadline.exceeded.first_byte"));
+        }
+    }
+
+    @Test
+    void shouldTakeTotalDeadlineFromContext() {
+        try (final var builder = getTransporterBuilder()) {
+            final var response = builder.build()
+                    .sendAndReceive("http://localhost:" + localPort + "/demo/slow/2000", TransporterMethod.GET)
+                    .monoData(String.class)
+                    .contextWrite(Deadline.context(Deadline.of(Duration.ofMillis(200))));
+
+            StepVerifier.create(response)
+                    .expectErrorSatisfies(e -> assertPhase(e, DeadlinePhase.TOTAL))
+                    .verify(Duration.ofSeconds(2));
+        }
+    }
+
+    @Test
+    void shouldPassWithinDeadlineAndPropagateHeader() {
+        final var deadline = DeadlineConfiguration.builder()
+                .total(Duration.ofSeconds(5))
+                .build();
+
+        try (final var builder = getTransporterBuilder().deadline(deadline)) {
+            final var transporter = builder.build();
+            StepVerifier.create(transporter
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/slow/50", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectNext("OK")
+                    .verifyComplete();
+
+            StepVerifier.create(transporter
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/header/" + DeadlineConfiguration.DEFAULT_HEADER, TransporterMethod.GET)
+                            .monoData(String.class))
+                    .assertNext(header -> {
+                        final var millis = Long.parseLong(header);
+                        Assertions.assertTrue(millis > 0 && millis <= 5000, header);
+                    })
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void shouldApplyTimeoutInGivenTimeUnit() {
+        final var configuration = TransporterConfiguration.builder()
+                .timeoutEnabled(true)
+                .timeout(300L)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .build();
+
+        try (final var builder = TransporterBuilder.newBuilder(configuration)) {
+            StepVerifier.create(builder.build()
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/slow/2000", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectError()
+                    .verify(Duration.ofSeconds(2));
+        }
+    }
+
+    @Test
+    void shouldAllowDeadlineLongerThanClientTimeout() {
+        final var configuration = TransporterConfiguration.builder()
+                .timeoutEnabled(true)
+                .timeout(300L)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .build();
+
+        try (final var builder = TransporterBuilder.newBuilder(configuration)) {
+            StepVerifier.create(builder.build()
+                            .withDeadline(Deadline.of(Duration.ofSeconds(3)))
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/slow/1000", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectNext("OK")
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void shouldPropagateRemainingBudgetOnRetry() {
+        final var retry = RetryConfiguration.builder()
+                .initialBackoff(Duration.ofMillis(10))
+                .build();
+
+        try (final var builder = getTransporterBuilder().retry(retry)) {
+            StepVerifier.create(builder.build()
+                            .withDeadline(Deadline.of(Duration.ofSeconds(3)))
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/unavailable/deadline-retry/1?retryAfter=1&echo="
+                                    + DeadlineConfiguration.DEFAULT_HEADER, TransporterMethod.GET)
+                            .monoData(String.class))
+                    .assertNext(header -> {
+                        final var millis = Long.parseLong(header);
+                        Assertions.assertTrue(millis > 0 && millis <= 2000, header);
+                    })
+                    .verifyComplete();
+        }
+    }
+
+    private static void assertPhase(final Throwable throwable, final DeadlinePhase phase) {
+        Assertions.assertInstanceOf(DeadlineExceededException.class, throwable, throwable::toString);
+        Assertions.assertEquals(phase, ((DeadlineExceededException) throwable).getPhase());
+    }
+}
@@ -0,0 +1,90 @@
+package dev.mfataka.transporter.test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import reactor.netty.http.HttpResources;
+import reactor.netty.resources.LoopResources;
+import reactor.test.StepVerifier;
+
+import dev.mfataka.transporter.config.ConfigurationResolverImp;
+import dev.mfataka.transporter.config.DnsResolverConfiguration;
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.model.TransporterClientResolver;
+import dev.mfataka.transporter.resources.DnsResolverRegistry;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class DnsResolverTest extends AbstractTransporterTest {
+
+    @Test
+    void shouldResolveStaticHostThroughSharedResolver() {
+        final var dnsResolver = DnsResolverConfiguration.builder()
+                .shareName("dns-test")
+                .minTtl(Duration.ofSeconds(5))
+                .maxTtl(Duration.ofMinutes(5))
+                .negativeTtl(Duration.ofSeconds(5))
+                .queryTimeout(Duration.ofSeconds(2))
+                .hosts(Map.of("transporter-test.local", "127.0.0.1"))
+                .build();
+
+        try (final var builder = getTransporterBuilder()
+                .resolver(TransporterClientResolver.CUSTOM)
+                .dnsResolver(dnsResolver)) {
+            final var response = builder.build()
+                    .sendAndReceive("http://transporter-test.local:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                    .monoData(String.class);
+
+            StepVerifier.create(response)
+                    .assertNext(s -> Assertions.assertEquals("OK", s))
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void shouldShareResolverWithSameName() {
+        final var dnsResolver = DnsResolverConfiguration.builder()
+                .shareName("shared-dns-test")
+                .build();
+        final var loops = HttpResources.get();
+
+        final var first = DnsResolverRegistry.acquire(dnsResolver, loops, LoopResources.DEFAULT_NATIVE);
+        final var second = DnsResolverRegistry.acquire(dnsResolver, loops, LoopResources.DEFAULT_NATIVE);
+        Assertions.assertSame(first, second);
+
+        DnsResolverRegistry.release(dnsResolver, loops, LoopResources.DEFAULT_NATIVE);
+        DnsResolverRegistry.release(dnsResolver, loops, LoopResources.DEFAULT_NATIVE);
+        final var recreated = DnsResolverRegistry.acquire(dnsResolver, loops, LoopResources.DEFAULT_NATIVE);
+        Assertions.assertNotSame(first, recreated);
+        DnsResolverRegistry.release(dnsResolver, loops, LoopResources.DEFAULT_NATIVE);
+    }
+
+    @Test
+    void shouldKeepResolverNameProperty() {
+        final var resolverOnly = new ConfigurationResolverImp(new MockEnvironment()
+                .withProperty("transporter.resolver", "CUSTOM"));
+        Assertions.assertEquals(TransporterClientResolver.CUSTOM, resolverOnly.resolveResolver(null));
+        Assertions.assertTrue(resolverOnly.resolveDnsResolver(null).isEmpty());
+
+        final var withSettings = new ConfigurationResolverImp(new MockEnvironment()
+                .withProperty("transporter.resolver.name", "CUSTOM")
+                .withProperty("transporter.resolver.min-ttl", "10s")
+                .withProperty("transporter.resolver.hosts.backend", "10.0.0.1"));
+        Assertions.assertEquals(TransporterClientResolver.CUSTOM, withSettings.resolveResolver(null));
+        final var settings = withSettings.resolveDnsResolver(null).orElseThrow();
+        Assertions.assertEquals(Duration.ofSeconds(10), settings.getMinTtl());
+        Assertions.assertEquals("10.0.0.1", settings.getHosts().get("backend"));
+        Assertions.assertEquals(DnsResolverConfiguration.DEFAULT_NAME, settings.getShareName());
+
+        final var shared = new ConfigurationResolverImp(new MockEnvironment()
+                .withProperty("transporter.resolver.name", "CUSTOM")
+                .withProperty("transporter.resolver.share-name", "payments"));
+        Assertions.assertEquals(TransporterClientResolver.CUSTOM, shared.resolveResolver(null));
+        Assertions.assertEquals("payments", shared.resolveDnsResolver(null).orElseThrow().getShareName());
+    }
+}
@@ -0,0 +1,109 @@
+package dev.mfataka.transporter.test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.util.ClassUtils;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.config.ConnectionPoolConfiguration;
+import dev.mfataka.transporter.config.TransporterConfiguration;
+import dev.mfataka.transporter.enums.HttpEngine;
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.imp.TransporterBuilder;
+
+/**
+ * @author HAMMA FATAKA
+ * compares throughput, latency and allocation of http engines against local demo server,
+ * run with {@code gradle test -Dtransporter.benchmark=true --tests '*EngineBenchmarkTest'}
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "transporter.benchmark", matches = "true")
+public class EngineBenchmarkTest extends AbstractTransporterTest {
+    private static final int WARM_UP_REQUESTS = 500;
+    private static final int REQUESTS = 5_000;
+    private static final int CONCURRENCY = 32;
+    private static final String SERVER_THREAD_PREFIX = "http-nio";
+
+    private record Measurement(HttpEngine engine, double throughput, double p50Millis, double p99Millis, long bytesPerRequest) {
+    }
+
+    @Test
+    void shouldCompareEngines() {
+        final var engines = new ArrayList<>(List.of(HttpEngine.REACTOR_NETTY, HttpEngine.JDK));
+        if (ClassUtils.isPresent("org.apache.hc.core5.reactive.ReactiveResponseConsumer", null)) {
+            engines.add(HttpEngine.APACHE_HTTP_CLIENT5);
+        }
+        final var measurements = engines.stream().map(this::measure).toList();
+
+        log.info(String.format("%-20s %12s %10s %10s %14s", "engine", "req/s", "p50 ms", "p99 ms", "bytes/req"));
+        measurements.forEach(measurement -> log.info(String.format("%-20s %12.0f %10.2f %10.2f %14d",
+                measurement.engine(), measurement.throughput(), measurement.p50Millis(), measurement.p99Millis(), measurement.bytesPerRequest())));
+        Assertions.assertTrue(measurements.stream().allMatch(measurement -> measurement.throughput() > 0));
+    }
+
+    private Measurement measure(final HttpEngine engine) {
+        final var config = TransporterConfiguration.builder()
+                .timeUnit(TimeUnit.SECONDS)
+                .engine(engine)
+                .connectionPool(ConnectionPoolConfiguration.builder().name("benchmark-" + engine).maxConnections(CONCURRENCY).build())
+                .build();
+        try (final var builder = TransporterBuilder.newBuilder(config)) {
+            final var url = "http://localhost:" + localPort + "/demo/greeting/" + engine;
+            run(builder, url, new long[WARM_UP_REQUESTS]);
+
+            final var latencies = new long[REQUESTS];
+            final var allocatedBefore = allocatedBytes();
+            final var start = System.nanoTime();
+            run(builder, url, latencies);
+            final var elapsed = System.nanoTime() - start;
+            final var allocated = allocatedBytes() - allocatedBefore;
+
+            Arrays.sort(latencies);
+            return new Measurement(engine,
+                    REQUESTS / (elapsed / 1_000_000_000d),
+                    latencies[REQUESTS / 2] / 1_000_000d,
+                    latencies[(int) (REQUESTS * 0.99)] / 1_000_000d,
+                    Math.max(0, allocated) / REQUESTS);
+        }
+    }
+
+    private void run(final TransporterBuilder builder, final String url, final long[] latencies) {
+        final var completed = Flux.range(0, latencies.length)
+                .flatMap(index -> Mono.defer(() -> {
+                    final var start = System.nanoTime();
+                    return builder.build()
+                            .sendAndReceive(url, TransporterMethod.GET)
+                            .monoData(String.class)
+                            .doOnNext(ignored -> latencies[index] = System.nanoTime() - start);
+                }), CONCURRENCY)
+                .count()
+                .block(Duration.ofMinutes(2));
+        Assertions.assertEquals(latencies.length, completed);
+    }
+
+    /**
+     * bytes allocated by client side threads, threads of embedded server are left out
+     */
+    private long allocatedBytes() {
+        final var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final var clientThreads = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> !thread.getName().startsWith(SERVER_THREAD_PREFIX))
+                .mapToLong(Thread::getId)
+                .toArray();
+        return Arrays.stream(threads.getThreadAllocatedBytes(clientThreads))
+                .filter(bytes -> bytes > 0)
+                .sum();
+    }
+}
@@ -0,0 +1,99 @@
+package dev.mfataka.transporter.test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import reactor.test.StepVerifier;
+
+import dev.mfataka.transporter.config.TransporterConfiguration;
+import dev.mfataka.transporter.enums.HttpEngine;
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.imp.TransporterBuilder;
+import dev.mfataka.transporter.model.Deadline;
+import dev.mfataka.transporter.models.Item;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class EngineTest extends AbstractTransporterTest {
+
+    private String demo(final String path) {
+        return "http://localhost:" + localPort + "/demo/" + path;
+    }
+
+    @Test
+    void shouldExchangeOverJdkEngine() {
+        assertExchanges(HttpEngine.JDK, "jdk");
+    }
+
+    @Test
+    void shouldExchangeOverApacheEngine() {
+        assertExchanges(HttpEngine.APACHE_HTTP_CLIENT5, "apache");
+    }
+
+    @Test
+    void shouldApplyTimeoutAndDeadlineOverJdkEngine() {
+        assertTimeoutAndDeadline(HttpEngine.JDK);
+    }
+
+    @Test
+    void shouldApplyTimeoutAndDeadlineOverApacheEngine() {
+        assertTimeoutAndDeadline(HttpEngine.APACHE_HTTP_CLIENT5);
+    }
+
+    private void assertExchanges(final HttpEngine engine, final String name) {
+        try (final var builder = getTransporterBuilder().engine(engine)) {
+            final var greeting = builder.build()
+                    .sendAndReceive(demo("greeting/" + name), TransporterMethod.GET)
+                    .monoData(String.class);
+            StepVerifier.create(greeting)
+                    .expectNext("hello " + name)
+                    .verifyComplete();
+
+            final var header = builder.build()
+                    .withHeader("X-Engine", name)
+                    .sendAndReceive(demo("header/X-Engine"), TransporterMethod.GET)
+                    .monoData(String.class);
+            StepVerifier.create(header)
+                    .expectNext(name)
+                    .verifyComplete();
+
+            final var items = builder.build()
+                    .bodyValue(List.of("1", "2"))
+                    .sendAndReceive(demo("items/batch/" + name + "-engine"), TransporterMethod.POST)
+                    .fluxData(Item.class)
+                    .map(Item::getName);
+            StepVerifier.create(items)
+                    .expectNext("item 1 of call 1", "item 2 of call 1")
+                    .verifyComplete();
+        }
+    }
+
+    private void assertTimeoutAndDeadline(final HttpEngine engine) {
+        final var config = TransporterConfiguration.builder()
+                .timeoutEnabled(true)
+                .timeout(500L)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .engine(engine)
+                .build();
+        try (final var builder = TransporterBuilder.newBuilder(config)) {
+            StepVerifier.create(builder.build()
+                            .sendAndReceive(demo("slow/3000"), TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectError()
+                    .verify(Duration.ofSeconds(3));
+
+            final var firstByteOnly = builder.build()
+                    .withDeadline(Deadline.builder().firstByte(Duration.ofSeconds(2)).build())
+                    .sendAndReceive(demo("slow/50"), TransporterMethod.GET)
+                    .monoData(String.class);
+            StepVerifier.create(firstByteOnly)
+                    .expectNext("OK")
+                    .verifyComplete();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package dev.mfataka.transporter.test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.config.ConnectionPoolConfiguration;
+import dev.mfataka.transporter.config.EventLoopConfiguration;
+import dev.mfataka.transporter.config.SocketOptionsConfiguration;
+import dev.mfataka.transporter.config.TransporterConfiguration;
+import dev.mfataka.transporter.enums.TransportMode;
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.imp.TransporterBuilder;
+import dev.mfataka.transporter.resources.LoopResourcesRegistry;
+
+/**
+ * @author HAMMA FATAKA
+ * compares throughput and latency of nio and epoll event loops with and without tuned socket options against local demo server,
+ * run with {@code gradle test -Dtransporter.benchmark=true --tests '*EventLoopBenchmarkTest'}
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "transporter.benchmark", matches = "true")
+public class EventLoopBenchmarkTest extends AbstractTransporterTest {
+    private static final int WARM_UP_REQUESTS = 500;
+    private static final int REQUESTS = 5_000;
+    private static final int CONCURRENCY = 32;
+    private static final int WORKERS = 2;
+
+    private record Measurement(TransportMode transportMode, boolean tuned, double throughput, double p50Millis, double p99Millis) {
+    }
+
+    @Test
+    void shouldCompareTransports() {
+        final var transports = new ArrayList<>(List.of(TransportMode.NIO));
+        final var epoll = EventLoopConfiguration.builder().transportMode(TransportMode.EPOLL).build();
+        if (LoopResourcesRegistry.resolveTransportMode(epoll) == TransportMode.EPOLL) {
+            transports.add(TransportMode.EPOLL);
+        } else {
+            log.warn("epoll transport is not available on this machine, only nio is measured");
+        }
+        final var measurements = transports.stream()
+                .flatMap(transport -> List.of(measure(transport, false), measure(transport, true)).stream())
+                .toList();
+
+        log.info(String.format("%-10s %-8s %12s %10s %10s", "transport", "tuned", "req/s", "p50 ms", "p99 ms"));
+        measurements.forEach(measurement -> log.info(String.format("%-10s %-8s %12.0f %10.2f %10.2f",
+                measurement.transportMode(), measurement.tuned(), measurement.throughput(), measurement.p50Millis(), measurement.p99Millis())));
+        Assertions.assertTrue(measurements.stream().allMatch(measurement -> measurement.throughput() > 0));
+    }
+
+    private Measurement measure(final TransportMode transportMode, final boolean tuned) {
+        final var name = "benchmark-" + transportMode.name().toLowerCase() + (tuned ? "-tuned" : "");
+        final var config = TransporterConfiguration.builder()
+                .timeUnit(TimeUnit.SECONDS)
+                .eventLoop(EventLoopConfiguration.builder()
+                        .transportMode(transportMode)
+                        .workerCount(WORKERS)
+                        .threadPrefix(name)
+                        .build())
+                .socketOptions(tuned ? SocketOptionsConfiguration.builder()
+                        .tcpNoDelay(true)
+                        .keepAlive(true)
+                        .tcpFastOpenConnect(true)
+                        .receiveBufferSize(256 * 1024)
+                        .sendBufferSize(256 * 1024)
+                        .build() : null)
+                .connectionPool(ConnectionPoolConfiguration.builder().name(name).maxConnections(CONCURRENCY).build())
+                .build();
+        try (final var builder = TransporterBuilder.newBuilder(config)) {
+            final var url = "http://localhost:" + localPort + "/demo/greeting/" + name;
+            run(builder, url, new long[WARM_UP_REQUESTS]);
+
+            final var latencies = new long[REQUESTS];
+            final var start = System.nanoTime();
+            run(builder, url, latencies);
+            final var elapsed = System.nanoTime() - start;
+
+            Arrays.sort(latencies);
+            return new Measurement(transportMode, tuned,
+                    REQUESTS / (elapsed / 1_000_000_000d),
+                    latencies[REQUESTS / 2] / 1_000_000d,
+                    latencies[(int) (REQUESTS * 0.99)] / 1_000_000d);
+        }
+    }
+
+    private void run(final TransporterBuilder builder, final String url, final long[] latencies) {
+        final var completed = Flux.range(0, latencies.length)
+                .flatMap(index -> Mono.defer(() -> {
+                    final var start = System.nanoTime();
+                    return builder.build()
+                            .sendAndReceive(url, TransporterMethod.GET)
+                            .monoData(String.class)
+                            .doOnNext(ignored -> latencies[index] = System.nanoTime() - start);
+                }), CONCURRENCY)
+                .count()
+                .block(Duration.ofMinutes(2));
+        Assertions.assertEquals(latencies.length, completed);
+    }
+}
@@ -0,0 +1,47 @@
+package dev.mfataka.transporter.test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import reactor.test.StepVerifier;
+
+import dev.mfataka.transporter.config.EventLoopConfiguration;
+import dev.mfataka.transporter.config.SocketOptionsConfiguration;
+import dev.mfataka.transporter.enums.TransportMode;
+import dev.mfataka.transporter.enums.TransporterMethod;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class EventLoopTest extends AbstractTransporterTest {
+
+    @Test
+    void shouldRunOnDedicatedEventLoops() {
+        final var eventLoop = EventLoopConfiguration.builder()
+                .transportMode(TransportMode.EPOLL)
+                .workerCount(2)
+                .threadPrefix("event-loop-test")
+                .build();
+        final var socketOptions = SocketOptionsConfiguration.builder()
+                .tcpNoDelay(true)
+                .keepAlive(true)
+                .receiveBufferSize(64 * 1024)
+                .sendBufferSize(64 * 1024)
+                .build();
+        final var threadName = new AtomicReference<String>();
+
+        try (final var builder = getTransporterBuilder().eventLoop(eventLoop).socketOptions(socketOptions)) {
+            final var response = builder.build()
+                    .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                    .monoData(String.class)
+                    .doOnNext(ignored -> threadName.set(Thread.currentThread().getName()));
+
+            StepVerifier.create(response)
+                    .assertNext(s -> Assertions.assertEquals("OK", s))
+                    .verifyComplete();
+        }
+        Assertions.assertTrue(threadName.get().startsWith("event-loop-test"), threadName.get());
+    }
+}
@@ -0,0 +1,103 @@
+package dev.mfataka.transporter.test;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import reactor.test.StepVerifier;
+
+import dev.mfataka.transporter.config.HedgingConfiguration;
+import dev.mfataka.transporter.enums.TransporterMethod;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class HedgingTest extends AbstractTransporterTest {
+
+    @Test
+    void shouldAnswerWithHedgeWhenFirstRequestIsSlow() {
+        final var hedging = HedgingConfiguration.builder()
+                .delay(Duration.ofMillis(300))
+                .build();
+
+        try (final var builder = getTransporterBuilder().hedging(hedging)) {
+            final var transporter = builder.build();
+            transporter.withHedging(false)
+                    .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                    .monoData(String.class)
+                    .block();
+
+            StepVerifier.create(transporter
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/slow-first/hedged", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectNext("FAST")
+                    .verifyComplete();
+
+            Assertions.assertEquals(1L, builder.getMetrics().counter("hedge.sent"));
+            Assertions.assertEquals(1L, builder.getMetrics().counter("hedge.won"));
+        }
+    }
+
+    @Test
+    void shouldNotHedgeExcludedRequest() {
+        final var hedging = HedgingConfiguration.builder()
+                .delay(Duration.ofMillis(100))
+                .build();
+
+        try (final var builder = getTransporterBuilder().hedging(hedging)) {
+            StepVerifier.create(builder.build()
+                            .withHedging(false)
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/slow/300", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectNext("OK")
+                    .verifyComplete();
+
+            Assertions.assertEquals(0L, builder.getMetrics().counter("hedge.sent"));
+        }
+    }
+
+    @Test
+    void shouldNotHedgeWhenBudgetIsExhausted() {
+        final var hedging = HedgingConfiguration.builder()
+                .delay(Duration.ofMillis(50))
+                .budgetPercent(5D)
+                .build();
+
+        try (final var builder = getTransporterBuilder().hedging(hedging)) {
+            final var transporter = builder.build();
+            for (int i = 0; i < 11; i++) {
+                StepVerifier.create(transporter
+                                .sendAndReceive("http://localhost:" + localPort + "/demo/slow/150", TransporterMethod.GET)
+                                .monoData(String.class))
+                        .expectNext("OK")
+                        .verifyComplete();
+            }
+
+            Assertions.assertEquals(5L, builder.getMetrics().counter("hedge.sent"));
+            Assertions.assertEquals(6L, builder.getMetrics().counter("hedge.rejected"));
+        }
+    }
+
+    @Test
+    void shouldNeverHedgeWithZeroBudget() {
+        final var hedging = HedgingConfiguration.builder()
+                .delay(Duration.ofMillis(50))
+                .budgetPercent(0D)
+                .build();
+
+        try (final var builder = getTransporterBuilder().hedging(hedging)) {
+            final var transporter = builder.build();
+            for (int i = 0; i < 3; i++) {
+                StepVerifier.create(transporter
+                                .sendAndReceive("http://localhost:" + localPort + "/demo/slow/150", TransporterMethod.GET)
+                                .monoData(String.class))
+                        .expectNext("OK")
+                        .verifyComplete();
+            }
+
+            Assertions.assertEquals(0L, builder.getMetrics().counter("hedge.sent"));
+            Assertions.assertEquals(3L, builder.getMetrics().counter("hedge.rejected"));
+        }
+    }
+}
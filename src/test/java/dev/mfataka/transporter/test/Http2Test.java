@@ -0,0 +1,153 @@
+package dev.mfataka.transporter.test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+import reactor.test.StepVerifier;
+
+import lombok.SneakyThrows;
+
+import dev.mfataka.transporter.config.ConnectionPoolConfiguration;
+import dev.mfataka.transporter.config.Http2Configuration;
+import dev.mfataka.transporter.enums.HttpProtocolMode;
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.imp.TransporterBuilder;
+import dev.mfataka.transporter.metrics.Http2StreamMetrics;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class Http2Test extends AbstractTransporterTest {
+
+    @Test
+    void shouldFallbackToHttp11WhenServerDoesNotSpeakHttp2() {
+        final var http2 = Http2Configuration.builder()
+                .maxConcurrentStreams(100L)
+                .maxConnections(2)
+                .build();
+
+        try (final var builder = getTransporterBuilder()
+                .connectionPool(ConnectionPoolConfiguration.builder().name("http2-test").build())
+                .protocol(HttpProtocolMode.H2_OR_HTTP11)
+                .http2(http2)) {
+            final var response = builder.build()
+                    .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                    .monoData(String.class);
+
+            StepVerifier.create(response)
+                    .assertNext(s -> Assertions.assertEquals("OK", s))
+                    .verifyComplete();
+            Assertions.assertEquals(0L, builder.getMetrics().counter(Http2StreamMetrics.STREAMS));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldMultiplexConcurrentCallsOverOneH2cConnection() {
+        final var calls = 8;
+        final var server = new HeldServer(calls);
+        final var http2 = Http2Configuration.builder()
+                .maxConcurrentStreams(100L)
+                .maxConnections(1)
+                .build();
+
+        try (final var builder = h2cBuilder("h2c-multiplex-test", http2)) {
+            final var responses = send(builder, server, calls);
+
+            Assertions.assertTrue(server.arrived.await(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(1, builder.getMetrics().gaugeValue(Http2StreamMetrics.CONNECTIONS).intValue());
+            Assertions.assertEquals(calls, builder.getMetrics().gaugeValue(Http2StreamMetrics.MAX_STREAMS_PER_CONNECTION).intValue());
+            server.release.tryEmitEmpty();
+
+            Assertions.assertEquals(calls, responses.get(5, TimeUnit.SECONDS).size());
+            Assertions.assertEquals(calls, builder.getMetrics().counter(Http2StreamMetrics.STREAMS));
+        } finally {
+            server.disposable.disposeNow();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldNotExceedMaxConcurrentStreamsPerConnection() {
+        final var calls = 6;
+        final var server = new HeldServer(2);
+        final var http2 = Http2Configuration.builder()
+                .maxConcurrentStreams(2L)
+                .maxConnections(1)
+                .build();
+
+        try (final var builder = h2cBuilder("h2c-max-streams-test", http2)) {
+            final var responses = send(builder, server, calls);
+
+            Assertions.assertTrue(server.arrived.await(5, TimeUnit.SECONDS));
+            Thread.sleep(200);
+            Assertions.assertEquals(2, server.inFlight.get());
+            Assertions.assertEquals(2, builder.getMetrics().gaugeValue(Http2StreamMetrics.MAX_STREAMS_PER_CONNECTION).intValue());
+            server.release.tryEmitEmpty();
+
+            Assertions.assertEquals(calls, responses.get(5, TimeUnit.SECONDS).size());
+            Assertions.assertEquals(2, server.maxInFlight.get());
+            Assertions.assertEquals(calls, builder.getMetrics().counter(Http2StreamMetrics.STREAMS));
+        } finally {
+            server.disposable.disposeNow();
+        }
+    }
+
+    private TransporterBuilder h2cBuilder(final String poolName, final Http2Configuration http2) {
+        return getTransporterBuilder()
+                .connectionPool(ConnectionPoolConfiguration.builder().name(poolName).build())
+                .protocol(HttpProtocolMode.H2C)
+                .http2(http2);
+    }
+
+    private CompletableFuture<List<String>> send(final TransporterBuilder builder, final HeldServer server, final int calls) {
+        final var transporter = builder.build();
+        return Flux.range(0, calls)
+                .flatMap(ignored -> transporter
+                        .sendAndReceive("http://localhost:" + server.disposable.port() + "/held", TransporterMethod.GET)
+                        .monoData(String.class), calls)
+                .collectList()
+                .toFuture();
+    }
+
+    /**
+     * embedded h2c server holding responses until released, the spring test server speaks HTTP/1.1 only
+     */
+    private static final class HeldServer {
+        private final Sinks.Empty<Void> release = Sinks.empty();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private final CountDownLatch arrived;
+        private final DisposableServer disposable;
+
+        private HeldServer(final int heldCalls) {
+            this.arrived = new CountDownLatch(heldCalls);
+            this.disposable = HttpServer.create()
+                    .port(0)
+                    .protocol(HttpProtocol.H2C)
+                    .handle((request, response) -> {
+                        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                        arrived.countDown();
+                        return response.sendString(release.asMono()
+                                .then(Mono.fromSupplier(() -> {
+                                    inFlight.decrementAndGet();
+                                    return "OK";
+                                })));
+                    })
+                    .bindNow(Duration.ofSeconds(5));
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package dev.mfataka.transporter.test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import dev.mfataka.transporter.cache.CacheKey;
+import dev.mfataka.transporter.cache.CachedResponse;
+import dev.mfataka.transporter.cache.ResponseCache;
+import dev.mfataka.transporter.config.CacheConfiguration;
+import dev.mfataka.transporter.config.OffHeapCacheConfiguration;
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.imp.Transporter;
+import dev.mfataka.transporter.metrics.TransporterMetrics;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class HttpCacheTest extends AbstractTransporterTest {
+
+    private void expect(final Transporter transporter, final String path, final String expected) {
+        StepVerifier.create(transporter
+                        .sendAndReceive("http://localhost:" + localPort + "/demo/cached/" + path, TransporterMethod.GET)
+                        .monoData(String.class))
+                .expectNext(expected)
+                .verifyComplete();
+    }
+
+    private void expectLarge(final Transporter transporter, final String key, final int size, final String call) {
+        StepVerifier.create(transporter
+                        .sendAndReceive("http://localhost:" + localPort + "/demo/cached-large/" + key + "/" + size, TransporterMethod.GET)
+                        .monoData(String.class))
+                .assertNext(body -> {
+                    Assertions.assertEquals(size, body.length());
+                    Assertions.assertTrue(body.startsWith(call), body.substring(0, 10));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldServeFreshResponseFromCache() {
+        try (final var builder = getTransporterBuilder().cache(CacheConfiguration.builder().build())) {
+            final var transporter = builder.build();
+            expect(transporter, "cache-fresh/fresh", "CALL 1");
+            expect(transporter, "cache-fresh/fresh", "CALL 1");
+            expect(transporter, "cache-fresh/fresh", "CALL 1");
+
+            Assertions.assertEquals(1L, builder.getMetrics().counter("cache.miss"));
+            Assertions.assertEquals(2L, builder.getMetrics().counter("cache.hit"));
+            Assertions.assertEquals(1, builder.getMetrics().gaugeValue("cache.entries").intValue());
+        }
+    }
+
+    @Test
+    void shouldRevalidateWithEtag() {
+        try (final var builder = getTransporterBuilder().cache(CacheConfiguration.builder().build())) {
+            final var transporter = builder.build();
+            expect(transporter, "cache-revalidate/no-cache", "CALL 1");
+            expect(transporter, "cache-revalidate/no-cache", "CALL 1");
+
+            Assertions.assertEquals(1L, builder.getMetrics().counter("cache.revalidated"));
+            Assertions.assertEquals(0L, builder.getMetrics().counter("cache.hit"));
+        }
+    }
+
+    @Test
+    void shouldServeStaleWhileRevalidating() {
+        try (final var builder = getTransporterBuilder().cache(CacheConfiguration.builder().build())) {
+            final var transporter = builder.build();
+            expect(transporter, "cache-swr/swr", "CALL 1");
+            expect(transporter, "cache-swr/swr", "CALL 1");
+
+            Assertions.assertEquals(1L, builder.getMetrics().counter("cache.stale"));
+            StepVerifier.create(Mono.fromSupplier(() -> builder.getMetrics().counter("cache.revalidated"))
+                            .filter(count -> count == 1L)
+                            .repeatWhenEmpty(10, attempts -> attempts.delayElements(Duration.ofMillis(100))))
+                    .expectNext(1L)
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void shouldServeStaleWhenOriginFails() {
+        try (final var builder = getTransporterBuilder().cache(CacheConfiguration.builder().build())) {
+            final var transporter = builder.build();
+            expect(transporter, "cache-sie/sie", "CALL 1");
+            expect(transporter, "cache-sie/sie", "CALL 1");
+
+            Assertions.assertEquals(1L, builder.getMetrics().counter("cache.staleIfError"));
+        }
+    }
+
+    @Test
+    void shouldNotStoreNoStoreResponse() {
+        try (final var builder = getTransporterBuilder().cache(CacheConfiguration.builder().build())) {
+            final var transporter = builder.build();
+            expect(transporter, "cache-no-store/no-store", "CALL 1");
+            expect(transporter, "cache-no-store/no-store", "CALL 2");
+
+            Assertions.assertEquals(0, builder.getMetrics().gaugeValue("cache.entries").intValue());
+        }
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntries() {
+        try (final var builder = getTransporterBuilder().cache(CacheConfiguration.builder().maxEntries(2).build())) {
+            final var transporter = builder.build();
+            expect(transporter, "cache-evict-a/fresh", "CALL 1");
+            expect(transporter, "cache-evict-b/fresh", "CALL 1");
+            expect(transporter, "cache-evict-a/fresh", "CALL 1");
+            expect(transporter, "cache-evict-c/fresh", "CALL 1");
+            expect(transporter, "cache-evict-a/fresh", "CALL 1");
+            expect(transporter, "cache-evict-b/fresh", "CALL 2");
+
+            Assertions.assertEquals(2L, builder.getMetrics().counter("cache.evicted"));
+        }
+    }
+
+    @Test
+    void shouldKeepLargeResponsesOffHeap() {
+        final var cache = CacheConfiguration.builder()
+                .offHeap(OffHeapCacheConfiguration.builder().threshold(16L * 1024).build())
+                .build();
+        try (final var builder = getTransporterBuilder().cache(cache)) {
+            final var transporter = builder.build();
+            expectLarge(transporter, "cache-large-direct", 64 * 1024, "CALL 1");
+            expectLarge(transporter, "cache-large-direct", 64 * 1024, "CALL 1");
+            expect(transporter, "cache-small/fresh", "CALL 1");
+
+            Assertions.assertEquals(1L, builder.getMetrics().counter("cache.hit"));
+            Assertions.assertEquals(1, builder.getMetrics().gaugeValue("cache.offHeap.entries").intValue());
+            Assertions.assertEquals(64 * 1024, builder.getMetrics().gaugeValue("cache.offHeap.bytes").intValue(), 1024);
+            Assertions.assertEquals(1, builder.getMetrics().gaugeValue("cache.entries").intValue());
+        }
+    }
+
+    @Test
+    void shouldRebuildMappedEntriesAfterRestart(@TempDir final Path directory) throws IOException {
+        final var cache = CacheConfiguration.builder()
+                .offHeap(OffHeapCacheConfiguration.builder().threshold(16L * 1024).directory(directory.toString()).build())
+                .build();
+        try (final var builder = getTransporterBuilder().cache(cache)) {
+            expectLarge(builder.build(), "cache-large-mapped", 64 * 1024, "CALL 1");
+            StepVerifier.create(Mono.fromSupplier(() -> builder.getMetrics().gaugeValue("cache.offHeap.entries").intValue())
+                            .filter(count -> count == 1)
+                            .repeatWhenEmpty(20, attempts -> attempts.delayElements(Duration.ofMillis(100))))
+                    .expectNext(1)
+                    .verifyComplete();
+        }
+        final var corrupt = Files.write(directory.resolve("corrupt.entry"), new byte[]{1, 2, 3});
+        final var unfinished = Files.write(directory.resolve("unfinished.tmp"), new byte[]{1, 2, 3});
+
+        try (final var builder = getTransporterBuilder().cache(cache)) {
+            expectLarge(builder.build(), "cache-large-mapped", 64 * 1024, "CALL 1");
+
+            Assertions.assertEquals(1L, builder.getMetrics().counter("cache.hit"));
+            Assertions.assertEquals(1, builder.getMetrics().gaugeValue("cache.offHeap.entries").intValue());
+        }
+        Assertions.assertFalse(Files.exists(corrupt));
+        Assertions.assertFalse(Files.exists(unfinished));
+    }
+
+    @Test
+    void shouldDiscardMappedWritesInvalidatedMeanwhile(@TempDir final Path directory) throws InterruptedException {
+        final var config = CacheConfiguration.builder()
+                .offHeap(OffHeapCacheConfiguration.builder().threshold(16L * 1024).directory(directory.toString()).build())
+                .build();
+        final var metrics = new TransporterMetrics();
+        final var cache = new ResponseCache(config, metrics);
+        final var headers = new HttpHeaders();
+        headers.setCacheControl("max-age=60");
+        final var writes = 20;
+        for (int i = 0; i < writes; i++) {
+            final var uri = "http://localhost/invalidated/" + i;
+            cache.put(CacheKey.of(uri, null), new CachedResponse(200, headers, ByteBuffer.allocate(64 * 1024), Map.of(), System.currentTimeMillis()));
+            if (i % 2 == 0) {
+                cache.invalidate(uri);
+            } else {
+                cache.remove(CacheKey.of(uri, null));
+            }
+        }
+
+        final var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (metrics.counter("cache.offHeap.discarded") == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        Thread.sleep(500);
+        Assertions.assertTrue(metrics.counter("cache.offHeap.discarded") > 0);
+        Assertions.assertEquals(0, cache.getOffHeap().size());
+        Assertions.assertNull(cache.get(CacheKey.of("http://localhost/invalidated/0", null)));
+    }
+}
@@ -0,0 +1,149 @@
+package dev.mfataka.transporter.test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import dev.mfataka.transporter.config.LoadBalancerConfiguration;
+import dev.mfataka.transporter.enums.LoadBalancingStrategy;
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.loadbalancer.Endpoint;
+import dev.mfataka.transporter.loadbalancer.LoadBalancer;
+import dev.mfataka.transporter.loadbalancer.RoundRobinSelector;
+import dev.mfataka.transporter.metrics.TransporterMetrics;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class LoadBalancerTest extends AbstractTransporterTest {
+
+    @Test
+    void shouldSpreadRequestsRoundRobin() {
+        final var loadBalancer = LoadBalancerConfiguration.builder()
+                .endpoints(List.of("http://localhost:" + localPort, "http://127.0.0.1:" + localPort + "/"))
+                .strategy(LoadBalancingStrategy.ROUND_ROBIN)
+                .build();
+
+        try (final var builder = getTransporterBuilder().loadBalancer(loadBalancer)) {
+            final var transporter = builder.build();
+            final var responses = Flux.range(0, 4)
+                    .concatMap(ignored -> transporter
+                            .sendAndReceive("/demo/handshake", TransporterMethod.GET)
+                            .monoData(String.class));
+
+            StepVerifier.create(responses)
+                    .expectNext("OK", "OK", "OK", "OK")
+                    .verifyComplete();
+
+            final var endpoints = builder.getEndpoints();
+            Assertions.assertEquals(2, endpoints.size());
+            endpoints.forEach(endpoint -> {
+                Assertions.assertEquals(2L, endpoint.requests(), endpoint.toString());
+                Assertions.assertEquals(0, endpoint.inFlight(), endpoint.toString());
+                Assertions.assertTrue(endpoint.latencyEwmaMillis() > 0, endpoint.toString());
+            });
+        }
+    }
+
+    @Test
+    void shouldUseCustomSelector() {
+        final var loadBalancer = LoadBalancerConfiguration.builder()
+                .endpoints(List.of("http://localhost:1", "http://127.0.0.1:" + localPort))
+                .build();
+
+        try (final var builder = getTransporterBuilder().loadBalancer(loadBalancer, endpoints -> endpoints.get(1))) {
+            StepVerifier.create(builder.build()
+                            .sendAndReceive("/demo/handshake", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectNext("OK")
+                    .verifyComplete();
+
+            Assertions.assertEquals(List.of(0L, 1L), builder.getEndpoints().stream().map(Endpoint::requests).toList());
+        }
+    }
+
+    @Test
+    void shouldRouteOnlyUrlsUnderBaseUrl() {
+        final var configuration = LoadBalancerConfiguration.builder()
+                .endpoints(List.of("http://10.0.0.1:8080/api"))
+                .build();
+        final var loadBalancer = new LoadBalancer("http://svc/v1", configuration, new RoundRobinSelector(), new TransporterMetrics());
+        final var sent = new ArrayList<String>();
+        final ExchangeFunction next = request -> {
+            sent.add(request.url().toString());
+            return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+        };
+
+        List.of("http://svc/v1/orders?page=1", "http://svc:80/v1", "http://svc-other/v1/orders", "http://svc/v10/orders", "https://svc/v1/orders")
+                .forEach(url -> loadBalancer.filter(ClientRequest.create(HttpMethod.GET, URI.create(url)).build(), next).block());
+
+        Assertions.assertEquals(List.of("http://10.0.0.1:8080/api/orders?page=1", "http://10.0.0.1:8080/api",
+                "http://svc-other/v1/orders", "http://svc/v10/orders", "https://svc/v1/orders"), sent);
+    }
+
+    @Test
+    void shouldPreferEndpointWithFewerInFlightRequests() {
+        final var loadBalancer = LoadBalancerConfiguration.builder()
+                .endpoints(List.of("http://localhost:" + localPort, "http://127.0.0.1:" + localPort))
+                .strategy(LoadBalancingStrategy.POWER_OF_TWO_CHOICES)
+                .build();
+
+        try (final var builder = getTransporterBuilder().loadBalancer(loadBalancer)) {
+            final var transporter = builder.build();
+            final var slow = transporter.sendAndReceive("/demo/slow/2000", TransporterMethod.GET)
+                    .monoData(String.class)
+                    .subscribe();
+            try {
+                StepVerifier.create(Mono.fromSupplier(() -> builder.getEndpoints().stream().mapToInt(Endpoint::inFlight).sum())
+                                .filter(inFlight -> inFlight == 1)
+                                .repeatWhenEmpty(20, attempts -> attempts.delayElements(Duration.ofMillis(50))))
+                        .expectNext(1)
+                        .verifyComplete();
+                final var busy = builder.getEndpoints().stream().filter(endpoint -> endpoint.inFlight() == 1).findFirst().orElseThrow();
+
+                StepVerifier.create(Flux.range(0, 5)
+                                .concatMap(ignored -> transporter.sendAndReceive("/demo/handshake", TransporterMethod.GET).monoData(String.class)))
+                        .expectNextCount(5)
+                        .verifyComplete();
+                Assertions.assertEquals(1L, busy.requests(), busy.toString());
+            } finally {
+                slow.dispose();
+            }
+        }
+    }
+
+    @Test
+    void shouldKeepFastFailingEndpointOutOfLeastLatency() {
+        final var loadBalancer = LoadBalancerConfiguration.builder()
+                .endpoints(List.of("http://localhost:1", "http://127.0.0.1:" + localPort))
+                .strategy(LoadBalancingStrategy.LEAST_LATENCY)
+                .build();
+
+        try (final var builder = getTransporterBuilder().loadBalancer(loadBalancer)) {
+            final var transporter = builder.build();
+            Flux.range(0, 10)
+                    .concatMap(ignored -> transporter.sendAndReceive("/demo/handshake", TransporterMethod.GET)
+                            .monoData(String.class)
+                            .onErrorResume(e -> Mono.empty()))
+                    .blockLast();
+
+            final var refusing = builder.getEndpoints().get(0);
+            Assertions.assertEquals(1L, refusing.requests(), refusing.toString());
+            Assertions.assertEquals(9L, builder.getEndpoints().get(1).requests());
+            Assertions.assertTrue(refusing.latencyEwmaMillis() >= LoadBalancerConfiguration.DEFAULT_FAILURE_PENALTY.toMillis(), refusing.toString());
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package dev.mfataka.transporter.test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpLogWriter;
+import org.zalando.logbook.Logbook;
+import org.zalando.logbook.Precorrelation;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+import dev.mfataka.transporter.config.LoggingConfiguration;
+import dev.mfataka.transporter.enums.LoggingMode;
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.imp.TransporterBuilder;
+import dev.mfataka.transporter.logging.AsyncHttpLogWriter;
+import dev.mfataka.transporter.metrics.TransporterMetrics;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class LoggingTest extends AbstractTransporterTest {
+    private final Logger logbookLogger = (Logger) LoggerFactory.getLogger(Logbook.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level previousLevel;
+
+    @BeforeEach
+    void attachAppender() {
+        previousLevel = logbookLogger.getLevel();
+        logbookLogger.setLevel(Level.TRACE);
+        appender.start();
+        logbookLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void detachAppender() {
+        logbookLogger.detachAppender(appender);
+        logbookLogger.setLevel(previousLevel);
+    }
+
+    private String demo(final String path) {
+        return "http://localhost:" + localPort + "/demo/" + path;
+    }
+
+    private void send(final TransporterBuilder builder, final String path) {
+        builder.build()
+                .sendAndReceive(demo(path), TransporterMethod.GET)
+                .transporterDataBlock(String.class);
+    }
+
+    private List<ILoggingEvent> events() {
+        synchronized (appender) {
+            return List.copyOf(appender.list);
+        }
+    }
+
+    private void await(final BooleanSupplier condition) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void shouldWriteExchangesOffEventLoops() throws InterruptedException {
+        try (final var builder = getTransporterBuilder()) {
+            send(builder, "greeting/logging");
+
+            await(() -> builder.getMetrics().counter("logging.written") == 2);
+            Assertions.assertEquals(2, builder.getMetrics().counter("logging.written"));
+            Assertions.assertTrue(events().stream().allMatch(event -> AsyncHttpLogWriter.WRITER_THREAD_NAME.equals(event.getThreadName())));
+            Assertions.assertTrue(events().get(1).getFormattedMessage().contains("hello logging"));
+        }
+    }
+
+    @Test
+    void shouldLogBodiesOnlyOnErrors() throws InterruptedException {
+        try (final var builder = getTransporterBuilder().logging(LoggingConfiguration.builder().mode(LoggingMode.BODIES_ON_ERROR).build())) {
+            send(builder, "greeting/bodies-on-error");
+            send(builder, "unavailable/logging-bodies-on-error/1");
+
+            await(() -> builder.getMetrics().counter("logging.written") == 4);
+            Assertions.assertEquals(4, builder.getMetrics().counter("logging.written"));
+            final var success = events().get(1).getFormattedMessage();
+            Assertions.assertTrue(success.contains("200"), success);
+            Assertions.assertFalse(success.contains("hello bodies-on-error"), success);
+            Assertions.assertTrue(events().get(3).getFormattedMessage().contains("503"));
+        }
+    }
+
+    @Test
+    void shouldLogOnlyErrorsOfIncludedRoutes() throws InterruptedException {
+        final var logging = LoggingConfiguration.builder()
+                .mode(LoggingMode.ERRORS)
+                .includeRoutes(List.of("/demo/unavailable/**"))
+                .build();
+        try (final var builder = getTransporterBuilder().logging(logging)) {
+            send(builder, "greeting/not-included");
+            send(builder, "unavailable/logging-errors/1");
+            send(builder, "unavailable/logging-errors/1");
+
+            await(() -> builder.getMetrics().counter("logging.written") >= 2);
+            Thread.sleep(200);
+            Assertions.assertEquals(2, builder.getMetrics().counter("logging.written"));
+            Assertions.assertTrue(events().get(1).getFormattedMessage().contains("503"));
+            Assertions.assertTrue(events().stream().noneMatch(event -> event.getFormattedMessage().contains("not-included")));
+        }
+    }
+
+    @Test
+    void shouldTruncateBodiesAndSkipUnsampledExchanges() throws InterruptedException {
+        try (final var builder = getTransporterBuilder().logging(LoggingConfiguration.builder().maxBodySize(16).build())) {
+            send(builder, "cached-large/logging-truncated/4096");
+
+            await(() -> builder.getMetrics().counter("logging.written") == 2);
+            final var response = events().get(1).getFormattedMessage();
+            Assertions.assertTrue(response.contains("CALL 1xxxxxxxxxx..."), response);
+            Assertions.assertFalse(response.contains("x".repeat(100)));
+        }
+        try (final var builder = getTransporterBuilder().logging(LoggingConfiguration.builder().samplingRate(0.0).build())) {
+            send(builder, "greeting/unsampled");
+
+            Thread.sleep(200);
+            Assertions.assertEquals(0, builder.getMetrics().counter("logging.written"));
+        }
+    }
+
+    @Test
+    void shouldDropLinesWhenQueueIsFull() throws InterruptedException {
+        final var writing = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var slowWriter = new HttpLogWriter() {
+            @Override
+            public void write(final Precorrelation precorrelation, final String request) {
+                writing.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void write(final Correlation correlation, final String response) {
+            }
+        };
+        final var metrics = new TransporterMetrics();
+        final var writer = new AsyncHttpLogWriter(slowWriter, 1, metrics);
+        final var precorrelation = new Precorrelation() {
+            @Override
+            public String getId() {
+                return "drop";
+            }
+
+            @Override
+            public Instant getStart() {
+                return Instant.now();
+            }
+
+            @Override
+            public Correlation correlate() {
+                throw new UnsupportedOperationException();
+            }
+        };
+        try {
+            writer.write(precorrelation, "first");
+            Assertions.assertTrue(writing.await(5, TimeUnit.SECONDS));
+            writer.write(precorrelation, "queued");
+            writer.write(precorrelation, "dropped");
+
+            Assertions.assertEquals(1L, metrics.counter("logging.dropped"));
+            Assertions.assertEquals(1, metrics.gaugeValue("logging.queued").intValue());
+        } finally {
+            release.countDown();
+        }
+        await(() -> metrics.counter("logging.written") == 2);
+        Assertions.assertEquals(2L, metrics.counter("logging.written"));
+    }
+}
@@ -0,0 +1,101 @@
+package dev.mfataka.transporter.test;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import dev.mfataka.transporter.config.TransporterConfiguration;
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.imp.TransporterBuilder;
+import dev.mfataka.transporter.models.Item;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class PreparedRequestTest extends AbstractTransporterTest {
+
+    private String demo(final String path) {
+        return "http://localhost:" + localPort + "/demo/" + path;
+    }
+
+    @Test
+    void shouldShareOnePreparedRequestAcrossConcurrentCalls() {
+        try (final var builder = getTransporterBuilder()) {
+            final var transporter = builder.build();
+            final var prepared = transporter
+                    .withHeader("X-Tenant", "tenant-1")
+                    .bearerAuth("token")
+                    .prepare(TransporterMethod.GET, demo("header/{name}"));
+
+            final var calls = Flux.range(0, 200)
+                    .flatMap(i -> prepared.sendAndReceive(i % 2 == 0 ? "Authorization" : "X-Tenant")
+                            .monoData(String.class)
+                            .subscribeOn(Schedulers.parallel()), 32)
+                    .collectList();
+            StepVerifier.create(calls)
+                    .assertNext(values -> {
+                        Assertions.assertEquals(200, values.size());
+                        Assertions.assertEquals(100, values.stream().filter("Bearer token"::equals).count());
+                        Assertions.assertEquals(100, values.stream().filter("tenant-1"::equals).count());
+                    })
+                    .verifyComplete();
+
+            StepVerifier.create(transporter.sendAndReceive(demo("header/X-Tenant"), TransporterMethod.GET).monoData(String.class))
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void shouldBindAndEncodeUriVariables() {
+        final var config = TransporterConfiguration.builder()
+                .baseUrl("http://localhost:" + localPort)
+                .build();
+        try (final var builder = TransporterBuilder.newBuilder(config)) {
+            final var prepared = builder.build().prepare(TransporterMethod.GET, "/demo/greeting/{name}");
+
+            StepVerifier.create(prepared.sendAndReceive("prepared name").monoData(String.class))
+                    .expectNext("hello prepared name")
+                    .verifyComplete();
+            StepVerifier.create(prepared.sendAndReceive(Map.of("name", "a&b")).monoData(String.class))
+                    .expectNext("hello a&b")
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void shouldSendBodyPerCallAndCopyOnChange() {
+        try (final var builder = getTransporterBuilder()) {
+            final var prepared = builder.build().prepare(TransporterMethod.POST, demo("items/batch/{key}"));
+
+            StepVerifier.create(prepared.sendAndReceiveBody(List.of("1", "2"), "prepared-body").fluxData(Item.class).map(Item::getName))
+                    .expectNext("item 1 of call 1", "item 2 of call 1")
+                    .verifyComplete();
+
+            final var withBody = prepared.withBody(List.of("3"));
+            Assertions.assertNotSame(prepared, withBody);
+            Assertions.assertTrue(prepared.getHeaders().isEmpty());
+            StepVerifier.create(withBody.withHeader("X-Tenant", "tenant-2").sendAndReceive("prepared-body").fluxData(Item.class).map(Item::getName))
+                    .expectNext("item 3 of call 2")
+                    .verifyComplete();
+            Assertions.assertThrows(UnsupportedOperationException.class, () -> prepared.getHeaders().add("X-Tenant", "tenant-3"));
+        }
+    }
+
+    @Test
+    void shouldKeepReceiverFlagsToOneCall() {
+        try (final var builder = getTransporterBuilder()) {
+            final var prepared = builder.build().prepare(TransporterMethod.GET, demo("header/{name}"));
+            final var strict = prepared.sendAndReceive("X-Missing").requireNonNull(true);
+
+            final var lenient = prepared.sendAndReceive("X-Missing").transporterDataBlock(String.class);
+            Assertions.assertTrue(lenient.isOkAnd2xxStatus(), lenient::toString);
+            Assertions.assertTrue(strict.transporterDataBlock(String.class).isNotOk());
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package dev.mfataka.transporter.test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import dev.mfataka.transporter.config.CircuitBreakerConfiguration;
+import dev.mfataka.transporter.config.RateLimitConfiguration;
+import dev.mfataka.transporter.enums.CircuitState;
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.exceptions.RateLimitExceededException;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class RateLimitTest extends AbstractTransporterTest {
+
+    @Test
+    void shouldRejectRequestsOverRate() {
+        final var rateLimit = RateLimitConfiguration.builder()
+                .name("ratelimit-reject")
+                .permitsPerSecond(0.5D)
+                .burst(2)
+                .build();
+
+        try (final var builder = getTransporterBuilder().rateLimit(rateLimit)) {
+            final var transporter = builder.build();
+            for (int i = 0; i < 2; i++) {
+                StepVerifier.create(transporter
+                                .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                                .monoData(String.class))
+                        .expectNext("OK")
+                        .verifyComplete();
+            }
+            StepVerifier.create(transporter
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectError(RateLimitExceededException.class)
+                    .verify();
+
+            final var data = transporter
+                    .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                    .transporterData(String.class)
+                    .block();
+            Assertions.assertNotNull(data);
+            Assertions.assertEquals(HttpStatus.TOO_MANY_REQUESTS, data.asResponseEntity().getStatusCode());
+            Assertions.assertEquals(2L, builder.getMetrics().counter("ratelimit.transporter.rejected"));
+        }
+    }
+
+    @Test
+    void shouldDelayRequestsWithinWaitBudget() throws InterruptedException {
+        final var rateLimit = RateLimitConfiguration.builder()
+                .name("ratelimit-delay")
+                .permitsPerSecond(2D)
+                .burst(1)
+                .maxWait(Duration.ofSeconds(2))
+                .build();
+
+        try (final var builder = getTransporterBuilder().rateLimit(rateLimit)) {
+            final var transporter = builder.build();
+            // warm up connection, then let bucket refill
+            transporter.sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                    .monoData(String.class)
+                    .block();
+            Thread.sleep(600);
+            final var start = System.nanoTime();
+            final var responses = Flux.range(0, 3)
+                    .flatMap(ignored -> transporter
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                            .monoData(String.class));
+
+            StepVerifier.create(responses)
+                    .expectNextCount(3)
+                    .verifyComplete();
+            Assertions.assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 900);
+            Assertions.assertEquals(2L, builder.getMetrics().counter("ratelimit.delayed"));
+            Assertions.assertEquals(0L, builder.getMetrics().counter("ratelimit.transporter.rejected"));
+        }
+    }
+
+    @Test
+    void shouldLimitMatchingRouteOnly() {
+        final var rateLimit = RateLimitConfiguration.builder()
+                .name("ratelimit-route")
+                .routes(Map.of("/demo/greeting/**", RateLimitConfiguration.builder().permitsPerSecond(0.5D).burst(1).build()))
+                .build();
+
+        try (final var builder = getTransporterBuilder().rateLimit(rateLimit)) {
+            final var transporter = builder.build();
+            StepVerifier.create(transporter
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/greeting/first", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectNextCount(1)
+                    .verifyComplete();
+            StepVerifier.create(transporter
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/greeting/second", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectErrorSatisfies(e -> Assertions.assertEquals("/demo/greeting/**", ((RateLimitExceededException) e).getRoute()))
+                    .verify();
+            StepVerifier.create(Flux.range(0, 3)
+                            .concatMap(ignored -> transporter
+                                    .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                                    .monoData(String.class)))
+                    .expectNextCount(3)
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void shouldKeepCircuitClosedWhileRequestsAreThrottled() {
+        final var rateLimit = RateLimitConfiguration.builder()
+                .name("ratelimit-throttled")
+                .permitsPerSecond(0.5D)
+                .burst(1)
+                .build();
+        final var circuitBreaker = CircuitBreakerConfiguration.builder()
+                .name("ratelimit-throttled")
+                .windowSize(4)
+                .minimumCalls(2)
+                .failureRateThreshold(50D)
+                .build();
+
+        try (final var builder = getTransporterBuilder().rateLimit(rateLimit).circuitBreaker(circuitBreaker)) {
+            final var transporter = builder.build();
+            StepVerifier.create(transporter
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectNext("OK")
+                    .verifyComplete();
+            for (int i = 0; i < 4; i++) {
+                StepVerifier.create(transporter
+                                .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                                .monoData(String.class))
+                        .expectError(RateLimitExceededException.class)
+                        .verify();
+            }
+
+            Assertions.assertEquals(4L, builder.getMetrics().counter("ratelimit.transporter.rejected"));
+            Assertions.assertEquals(CircuitState.CLOSED, builder.getCircuitBreakers().iterator().next().state());
+            Assertions.assertEquals(0L, builder.getMetrics().counter("cb.localhost:" + localPort + ".transition.open"));
+        }
+    }
+
+    @Test
+    void shouldApplyMostSpecificRoute() {
+        final var rateLimit = RateLimitConfiguration.builder()
+                .name("ratelimit-specific")
+                .routes(Map.of(
+                        "/demo/**", RateLimitConfiguration.builder().permitsPerSecond(100D).burst(100).build(),
+                        "/demo/greeting/**", RateLimitConfiguration.builder().permitsPerSecond(0.5D).burst(1).build()))
+                .build();
+
+        try (final var builder = getTransporterBuilder().rateLimit(rateLimit)) {
+            final var transporter = builder.build();
+            StepVerifier.create(transporter
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/greeting/first", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectNextCount(1)
+                    .verifyComplete();
+            StepVerifier.create(transporter
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/greeting/second", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectErrorSatisfies(e -> Assertions.assertEquals("/demo/greeting/**", ((RateLimitExceededException) e).getRoute()))
+                    .verify();
+            StepVerifier.create(transporter
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectNext("OK")
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void shouldShareQuotaBetweenTransportersOfTheSameName() {
+        final var rateLimit = RateLimitConfiguration.builder()
+                .name("ratelimit-shared")
+                .permitsPerSecond(0.01D)
+                .burst(1)
+                .build();
+
+        try (final var first = getTransporterBuilder().rateLimit(rateLimit);
+             final var second = getTransporterBuilder().rateLimit(rateLimit);
+             final var other = getTransporterBuilder().rateLimit(RateLimitConfiguration.builder()
+                     .name("ratelimit-other")
+                     .permitsPerSecond(0.01D)
+                     .burst(1)
+                     .build())) {
+            StepVerifier.create(first.build()
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectNext("OK")
+                    .verifyComplete();
+            StepVerifier.create(second.build()
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectError(RateLimitExceededException.class)
+                    .verify();
+            StepVerifier.create(other.build()
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/handshake", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectNext("OK")
+                    .verifyComplete();
+        }
+    }
+}
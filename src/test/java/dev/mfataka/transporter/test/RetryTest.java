@@ -0,0 +1,178 @@
+package dev.mfataka.transporter.test;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import dev.mfataka.transporter.config.RetryConfiguration;
+import dev.mfataka.transporter.enums.TransporterMethod;
+import dev.mfataka.transporter.filters.RetryFilter;
+import dev.mfataka.transporter.metrics.TransporterMetrics;
+import dev.mfataka.transporter.model.Deadline;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class RetryTest extends AbstractTransporterTest {
+
+    private static RetryConfiguration retry() {
+        return RetryConfiguration.builder()
+                .initialBackoff(Duration.ofMillis(10))
+                .build();
+    }
+
+    @Test
+    void shouldRetryUnavailableGet() {
+        try (final var builder = getTransporterBuilder().retry(retry())) {
+            StepVerifier.create(builder.build()
+                            .sendAndReceive("http://localhost:" + localPort + "/demo/unavailable/retry-get/2?retryAfter=0", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectNext("OK 3")
+                    .verifyComplete();
+
+            Assertions.assertEquals(2L, builder.getMetrics().counter("retry.attempts"));
+        }
+    }
+
+    @Test
+    void shouldNotRetryPost() {
+        try (final var builder = getTransporterBuilder().retry(retry())) {
+            builder.post("body")
+                    .sendAndReceive("http://localhost:" + localPort + "/demo/unavailable/retry-post/1")
+                    .monoData(String.class)
+                    .onErrorResume(e -> Mono.empty())
+                    .block();
+
+            Assertions.assertEquals(0L, builder.getMetrics().counter("retry.attempts"));
+        }
+    }
+
+    @Test
+    void shouldNotWaitForTooLongRetryAfter() {
+        try (final var builder = getTransporterBuilder().retry(retry())) {
+            builder.build()
+                    .sendAndReceive("http://localhost:" + localPort + "/demo/unavailable/retry-after/1?retryAfter=60", TransporterMethod.GET)
+                    .monoData(String.class)
+                    .onErrorResume(e -> Mono.empty())
+                    .block();
+
+            Assertions.assertEquals(0L, builder.getMetrics().counter("retry.attempts"));
+        }
+    }
+
+    @Test
+    void shouldRetryConnectErrorsWithPerRequestConfiguration() {
+        try (final var builder = getTransporterBuilder()) {
+            StepVerifier.create(builder.build()
+                            .withRetry(retry())
+                            .sendAndReceive("http://localhost:1/closed", TransporterMethod.GET)
+                            .monoData(String.class))
+                    .expectError()
+                    .verify(Duration.ofSeconds(5));
+
+            Assertions.assertEquals(2L, builder.getMetrics().counter("retry.attempts"));
+            Assertions.assertEquals(1L, builder.getMetrics().counter("retry.exhausted"));
+        }
+    }
+
+    @Test
+    void shouldNotRetryBeyondDeadline() {
+        try (final var builder = getTransporterBuilder().retry(retry())) {
+            builder.build()
+                    .withDeadline(Deadline.of(Duration.ofMillis(500)))
+                    .sendAndReceive("http://localhost:" + localPort + "/demo/unavailable/retry-deadline/1?retryAfter=1", TransporterMethod.GET)
+                    .monoData(String.class)
+                    .onErrorResume(e -> Mono.empty())
+                    .block();
+
+            Assertions.assertEquals(0L, builder.getMetrics().counter("retry.attempts"));
+            Assertions.assertEquals(1L, builder.getMetrics().counter("retry.deadline"));
+        }
+    }
+
+    @Test
+    void shouldStopAfterMaxRetriesWhenStatusRetryIsFollowedByConnectErrors() {
+        final var exchanges = new AtomicInteger();
+        final ExchangeFunction next = request -> exchanges.getAndIncrement() == 0
+                ? Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build())
+                : Mono.error(new ConnectException("refused"));
+        final var metrics = new TransporterMetrics();
+        final var filter = new RetryFilter(retry(), metrics);
+        final var request = ClientRequest.create(HttpMethod.GET, URI.create("http://localhost:" + localPort + "/retry-mixed")).build();
+
+        StepVerifier.create(filter.filter(request, next))
+                .expectError(ConnectException.class)
+                .verify(Duration.ofSeconds(5));
+
+        Assertions.assertEquals(3, exchanges.get());
+        Assertions.assertEquals(2L, metrics.counter("retry.attempts"));
+        Assertions.assertEquals(1L, metrics.counter("retry.exhausted"));
+    }
+
+    @Test
+    void shouldNotRetryWithZeroBudget() {
+        final var exchanges = new AtomicInteger();
+        final ExchangeFunction next = request -> {
+            exchanges.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+        };
+        final var metrics = new TransporterMetrics();
+        final var filter = new RetryFilter(RetryConfiguration.builder()
+                .initialBackoff(Duration.ofMillis(10))
+                .budgetPercent(0D)
+                .build(), metrics);
+        final var request = ClientRequest.create(HttpMethod.GET, URI.create("http://localhost:" + localPort + "/retry-zero-budget")).build();
+
+        StepVerifier.create(filter.filter(request, next))
+                .expectNextMatches(response -> response.statusCode() == HttpStatus.SERVICE_UNAVAILABLE)
+                .verifyComplete();
+
+        Assertions.assertEquals(1, exchanges.get());
+        Assertions.assertEquals(0L, metrics.counter("retry.attempts"));
+        Assertions.assertEquals(1L, metrics.counter("retry.rejected"));
+    }
+
+    @Test
+    void shouldKeepBudgetOfPerRequestPercent() {
+        final var exchanges = new AtomicInteger();
+        final ExchangeFunction next = request -> {
+            exchanges.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+        };
+        final var metrics = new TransporterMetrics();
+        final var filter = new RetryFilter(RetryConfiguration.builder()
+                .initialBackoff(Duration.ofMillis(10))
+                .budgetPercent(0D)
+                .build(), metrics);
+        final var url = URI.create("http://localhost:" + localPort + "/retry-own-budget");
+
+        StepVerifier.create(filter.filter(ClientRequest.create(HttpMethod.GET, url).build(), next))
+                .expectNextMatches(response -> response.statusCode() == HttpStatus.SERVICE_UNAVAILABLE)
+                .verifyComplete();
+        StepVerifier.create(filter.filter(ClientRequest.create(HttpMethod.GET, url)
+                                .attribute(RetryFilter.RETRY_ATTRIBUTE, RetryConfiguration.builder()
+                                        .initialBackoff(Duration.ofMillis(10))
+                                        .maxRetries(1)
+                                        .budgetPercent(50D)
+                                        .build())
+                                .build(), next))
+                .expectNextMatches(response -> response.statusCode() == HttpStatus.SERVICE_UNAVAILABLE)
+                .verifyComplete();
+
+        Assertions.assertEquals(3, exchanges.get());
+        Assertions.assertEquals(1L, metrics.counter("retry.rejected"));
+        Assertions.assertEquals(1L, metrics.counter("retry.attempts"));
+    }
+}
@@ -0,0 +1,70 @@
+package dev.mfataka.transporter.test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+
+import lombok.SneakyThrows;
+
+import dev.mfataka.transporter.enums.HttpProtocolMode;
+import dev.mfataka.transporter.resources.SslContextCache;
+import dev.mfataka.transporter.resources.SslContextKey;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class SslContextCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @SneakyThrows
+    void shouldShareContextUntilStoreFileChanges() {
+        final var trustStore = Files.writeString(directory.resolve("trust.jks"), "first");
+        final var key = new SslContextKey("trustStore", trustStore.toString(), "changeit", null, null, null, null,
+                List.of("TLSv1.3"), HttpProtocolMode.HTTP11, null);
+        final var builds = new AtomicInteger();
+
+        final var first = SslContextCache.get(key, () -> newContext(builds));
+        final var second = SslContextCache.get(key, () -> newContext(builds));
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, builds.get());
+
+        Files.writeString(trustStore, "second store");
+        Files.setLastModifiedTime(trustStore, FileTime.from(Instant.now().plusSeconds(60)));
+
+        final var rebuilt = SslContextCache.get(key, () -> newContext(builds));
+        Assertions.assertNotSame(first, rebuilt);
+        Assertions.assertEquals(2, builds.get());
+    }
+
+    @Test
+    void shouldNotShareContextBetweenDifferentSettings() {
+        final var builds = new AtomicInteger();
+        final var http11 = new SslContextKey("cacheTest", null, null, null, null, null, null, List.of(), HttpProtocolMode.HTTP11, null);
+        final var h2 = new SslContextKey("cacheTest", null, null, null, null, null, null, List.of(), HttpProtocolMode.H2, null);
+
+        Assertions.assertNotSame(SslContextCache.get(http11, () -> newContext(builds)), SslContextCache.get(h2, () -> newContext(builds)));
+        Assertions.assertEquals(2, builds.get());
+    }
+
+    @SneakyThrows
+    private SslContext newContext(final AtomicInteger builds) {
+        builds.incrementAndGet();
+        return SslContextBuilder.forClient()
+                .trustManager(InsecureTrustManagerFactory.INSTANCE)
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package dev.mfataka.transporter.test;
+
+import java.io.FileInputStream;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.KeyManagerFactory;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.transporter.config.TlsConfiguration;
+import dev.mfataka.transporter.utils.SslUtils;
+
+/**
+ * @author HAMMA FATAKA
+ * compares full and resumed TLS handshake throughput of JDK and OpenSSL providers, handshakes run in memory so only TLS cost is measured,
+ * run with {@code gradle test -Dtransporter.benchmark=true --tests '*TlsHandshakeBenchmarkTest'}
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "transporter.benchmark", matches = "true")
+public class TlsHandshakeBenchmarkTest {
+    private static final int WARM_UP_HANDSHAKES = 200;
+    private static final int HANDSHAKES = 2_000;
+    private static final String PASSWORD = "changeit";
+    private static final String PEER_HOST = "benchmark.local";
+
+    @TempDir
+    static Path directory;
+    private static KeyManagerFactory keyManagerFactory;
+
+    private record Measurement(SslProvider provider, boolean resumed, double handshakesPerSecond, double meanMillis) {
+    }
+
+    @BeforeAll
+    @SneakyThrows
+    static void createKeyStore() {
+        final var keyStorePath = directory.resolve("server.p12");
+        final var keytool = Path.of(System.getProperty("java.home"), "bin", "keytool").toString();
+        final var process = new ProcessBuilder(keytool, "-genkeypair", "-alias", "server", "-keyalg", "EC", "-groupname", "secp256r1",
+                "-dname", "CN=" + PEER_HOST, "-validity", "1", "-storetype", "PKCS12",
+                "-keystore", keyStorePath.toString(), "-storepass", PASSWORD, "-keypass", PASSWORD)
+                .redirectErrorStream(true)
+                .start();
+        Assertions.assertTrue(process.waitFor(1, TimeUnit.MINUTES));
+        Assertions.assertEquals(0, process.exitValue());
+
+        final var keyStore = KeyStore.getInstance("PKCS12");
+        try (final var input = new FileInputStream(keyStorePath.toFile())) {
+            keyStore.load(input, PASSWORD.toCharArray());
+        }
+        keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, PASSWORD.toCharArray());
+    }
+
+    @Test
+    void shouldCompareProviders() {
+        final var providers = new ArrayList<>(List.of(SslProvider.JDK));
+        if (OpenSsl.isAvailable()) {
+            providers.add(SslProvider.OPENSSL);
+        } else {
+            log.warn("netty-tcnative is not available, only JDK provider is measured: {}", OpenSsl.unavailabilityCause());
+        }
+        final var measurements = providers.stream()
+                .flatMap(provider -> List.of(measure(provider, false), measure(provider, true)).stream())
+                .toList();
+
+        log.info(String.format("%-10s %-8s %14s %10s", "provider", "resumed", "handshakes/s", "mean ms"));
+        measurements.forEach(measurement -> log.info(String.format("%-10s %-8s %14.0f %10.3f",
+                measurement.provider(), measurement.resumed(), measurement.handshakesPerSecond(), measurement.meanMillis())));
+        Assertions.assertTrue(measurements.stream().allMatch(measurement -> measurement.handshakesPerSecond() > 0));
+    }
+
+    @SneakyThrows
+    private Measurement measure(final SslProvider provider, final boolean resumed) {
+        final var tls = TlsConfiguration.builder()
+                .provider(provider)
+                .sessionCacheSize(1024L)
+                .sessionTimeout(Duration.ofMinutes(10))
+                .sessionTickets(true)
+                .build();
+        final var client = SslUtils.applySessionTickets(SslUtils.applyTls(SslContextBuilder.forClient()
+                .protocols("TLSv1.3")
+                .trustManager(InsecureTrustManagerFactory.INSTANCE), tls).build(), tls);
+        final var server = SslUtils.applySessionTickets(SslUtils.applyTls(SslContextBuilder.forServer(keyManagerFactory)
+                .protocols("TLSv1.3"), tls).build(), tls);
+
+        for (var i = 0; i < WARM_UP_HANDSHAKES; i++) {
+            handshake(client, server, resumed);
+        }
+        final var start = System.nanoTime();
+        for (var i = 0; i < HANDSHAKES; i++) {
+            handshake(client, server, resumed);
+        }
+        final var elapsed = System.nanoTime() - start;
+        return new Measurement(provider, resumed, HANDSHAKES / (elapsed / 1_000_000_000d), elapsed / 1_000_000d / HANDSHAKES);
+    }
+
+    /**
+     * shakes hands between two embedded channels, peer host and port let client resume cached session
+     */
+    private void handshake(final SslContext client, final SslContext server, final boolean resumed) {
+        final var clientHandler = resumed
+                ? client.newHandler(ByteBufAllocator.DEFAULT, PEER_HOST, 443)
+                : client.newHandler(ByteBufAllocator.DEFAULT);
+        final var serverHandler = server.newHandler(ByteBufAllocator.DEFAULT);
+        final var clientChannel = new EmbeddedChannel(clientHandler);
+        final var serverChannel = new EmbeddedChannel(serverHandler);
+        try {
+            var transferred = true;
+            while (transferred) {
+                transferred = transfer(clientChannel, serverChannel) | transfer(serverChannel, clientChannel);
+            }
+            Assertions.assertTrue(clientHandler.handshakeFuture().isSuccess(), () -> String.valueOf(clientHandler.handshakeFuture().cause()));
+            Assertions.assertTrue(serverHandler.handshakeFuture().isSuccess(), () -> String.valueOf(serverHandler.handshakeFuture().cause()));
+        } finally {
+            clientChannel.finishAndReleaseAll();
+            serverChannel.finishAndReleaseAll();
+        }
+    }
+
+    private boolean transfer(final EmbeddedChannel from, final EmbeddedChannel to) {
+        var transferred = false;
+        ByteBuf buffer;
+        while ((buffer = from.readOutbound()) != null) {
+            to.writeInbound(buffer);
+            transferred = true;
+        }
+        return transferred;
+    }
+}
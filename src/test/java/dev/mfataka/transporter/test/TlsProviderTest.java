@@ -0,0 +1,57 @@
+package dev.mfataka.transporter.test;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.OpenSslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+
+import lombok.SneakyThrows;
+
+import dev.mfataka.transporter.config.TlsConfiguration;
+import dev.mfataka.transporter.utils.SslUtils;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class TlsProviderTest {
+
+    @Test
+    @SneakyThrows
+    void shouldBuildContextWithOpenSslProviderOrFallbackToJdk() {
+        final var tls = TlsConfiguration.builder()
+                .provider(SslProvider.OPENSSL)
+                .sessionCacheSize(1024L)
+                .sessionTimeout(Duration.ofMinutes(10))
+                .sessionTickets(true)
+                .ciphers(List.of("TLS_AES_128_GCM_SHA256", "TLS_AES_256_GCM_SHA384", "TLS_ECDHE_ECDSA_WITH_AES_128_GCM_SHA256"))
+                .build();
+        final var builder = SslContextBuilder.forClient()
+                .protocols("TLSv1.2", "TLSv1.3")
+                .trustManager(InsecureTrustManagerFactory.INSTANCE);
+
+        final var context = SslUtils.applySessionTickets(SslUtils.applyTls(builder, tls).build(), tls);
+
+        if (OpenSsl.isAvailable()) {
+            Assertions.assertInstanceOf(OpenSslContext.class, context);
+        } else {
+            Assertions.assertInstanceOf(JdkSslContext.class, context);
+        }
+        Assertions.assertEquals(1024L, context.sessionCacheSize());
+        Assertions.assertEquals(600L, context.sessionTimeout());
+        Assertions.assertEquals("TLS_AES_128_GCM_SHA256", context.cipherSuites().get(0));
+    }
+
+    @Test
+    void shouldKeepJdkProviderWhenRequested() {
+        Assertions.assertEquals(SslProvider.JDK, SslUtils.resolveProvider(null));
+        Assertions.assertEquals(SslProvider.JDK, SslUtils.resolveProvider(SslProvider.JDK));
+    }
+}
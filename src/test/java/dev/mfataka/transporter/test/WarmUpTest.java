@@ -0,0 +1,58 @@
+package dev.mfataka.transporter.test;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import reactor.test.StepVerifier;
+
+import dev.mfataka.transporter.config.ConnectionPoolConfiguration;
+import dev.mfataka.transporter.config.WarmUpConfiguration;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class WarmUpTest extends AbstractTransporterTest {
+
+    @Test
+    void shouldWarmUpConnectionsToBaseUrl() {
+        try (final var builder = getTransporterBuilder()
+                .withBaseUrl("http://localhost:" + localPort + "/demo/handshake")
+                .connectionPool(ConnectionPoolConfiguration.builder().name("warm-up-test").build())
+                .warmUp(3)) {
+            builder.build();
+
+            StepVerifier.create(builder.warmUpReadiness())
+                    .expectNext(true)
+                    .verifyComplete();
+            Assertions.assertEquals(3L, builder.getMetrics().counter("warmup.connections"));
+        }
+    }
+
+    @Test
+    void shouldReportNotReadyWhenHostIsUnreachable() {
+        final var warmUp = WarmUpConfiguration.builder()
+                .connections(2)
+                .hosts(List.of("http://localhost:1"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        try (final var builder = getTransporterBuilder().warmUp(warmUp)) {
+            builder.build();
+
+            StepVerifier.create(builder.warmUpReadiness())
+                    .expectNext(false)
+                    .verifyComplete();
+            Assertions.assertEquals(2L, builder.getMetrics().counter("warmup.failures"));
+        }
+    }
+
+    @Test
+    void shouldBeReadyWithoutWarmUp() {
+        StepVerifier.create(getTransporterBuilder().warmUpReadiness())
+                .expectNext(true)
+                .verifyComplete();
+    }
+}